@@ -31,10 +31,22 @@ export function setStoredToken(token: string | null) {
     else localStorage.setItem("access_token", token);
 }
 
+export type ApiResponse<TResponse> = {
+    body: TResponse;
+    headers: Headers;
+};
+
 export async function apiFetch<TResponse>(
     input: RequestInfo | URL,
     init?: RequestInit
 ): Promise<TResponse> {
+    return (await apiFetchWithHeaders<TResponse>(input, init)).body;
+}
+
+export async function apiFetchWithHeaders<TResponse>(
+    input: RequestInfo | URL,
+    init?: RequestInit
+): Promise<ApiResponse<TResponse>> {
     const headers: Record<string, string> = {
         "Content-Type": "application/json",
         ...(init?.headers as any),
@@ -59,5 +71,5 @@ export async function apiFetch<TResponse>(
         throw new ApiError(String(msg), res.status, details);
     }
 
-    return (await res.json()) as TResponse;
+    return { body: (await res.json()) as TResponse, headers: res.headers };
 }
@@ -1,4 +1,4 @@
-import { apiFetch } from "./client";
+import { apiFetchWithHeaders } from "./client";
 import type { ParseStatusResponse, SubmitUrlRequest, SubmitUrlResponse } from "../types/recipe";
 import { mockGetStatus, mockSubmit } from "../mocks/recipes.seed";
 
@@ -6,26 +6,61 @@ const API_BASE = ""; // jeśli używasz vite proxy
 
 const USE_MOCK = import.meta.env.VITE_USE_MOCK_API === "true";
 
+// Sent with unfinished parses: when to poll again and when the result is expected
+export type PollHint = {
+    retryAfterMs?: number;
+    estimatedCompletionAt?: number; // epoch millis
+};
+
+export type WithPollHint<T> = {
+    data: T;
+    hint: PollHint;
+};
+
+function readPollHint(headers: Headers): PollHint {
+    const hint: PollHint = {};
+
+    // Retry-After is either delay-seconds or an HTTP date
+    const retryAfter = headers.get("Retry-After");
+    if (retryAfter) {
+        const ms = /^\d+$/.test(retryAfter.trim())
+            ? Number(retryAfter) * 1000
+            : Date.parse(retryAfter) - Date.now();
+        if (Number.isFinite(ms)) hint.retryAfterMs = Math.max(0, ms);
+    }
+
+    const estimated = Date.parse(headers.get("X-Estimated-Completion") ?? "");
+    if (Number.isFinite(estimated)) hint.estimatedCompletionAt = estimated;
+
+    return hint;
+}
+
 export async function parseRecipe(payload: SubmitUrlRequest): Promise<SubmitUrlResponse> {
+    return (await submitParseRequest(payload)).data;
+}
+
+export async function submitParseRequest(payload: SubmitUrlRequest): Promise<WithPollHint<SubmitUrlResponse>> {
     if (USE_MOCK) {
         // symulacja opóźnienia
         await new Promise((r) => setTimeout(r, 600));
-        return mockSubmit(payload.url);
+        return { data: mockSubmit(payload.url), hint: {} };
     }
 
-    return apiFetch<SubmitUrlResponse>(`${API_BASE}/api/v1/recipes/parse`, {
+    const res = await apiFetchWithHeaders<SubmitUrlResponse>(`${API_BASE}/api/v1/recipes/parse`, {
         method: "POST",
         body: JSON.stringify(payload),
     });
+    return { data: res.body, hint: readPollHint(res.headers) };
 }
 
-export async function getParseRequest(id: string): Promise<ParseStatusResponse> {
+export async function getParseRequest(id: string): Promise<WithPollHint<ParseStatusResponse>> {
     if (USE_MOCK) {
         await new Promise((r) => setTimeout(r, 600));
-        return mockGetStatus(id);
+        return { data: mockGetStatus(id), hint: {} };
     }
 
-    return apiFetch<ParseStatusResponse>(`${API_BASE}/api/v1/recipes/parse-requests/${id}`, {
+    const res = await apiFetchWithHeaders<ParseStatusResponse>(`${API_BASE}/api/v1/recipes/parse-requests/${id}`, {
         method: "GET",
     });
+    return { data: res.body, hint: readPollHint(res.headers) };
 }
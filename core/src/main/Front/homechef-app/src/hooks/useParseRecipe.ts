@@ -1,10 +1,25 @@
 import { useEffect, useRef, useState } from "react";
-import { getParseRequest, parseRecipe } from "../api/recipes";
+import { getParseRequest, submitParseRequest, type PollHint } from "../api/recipes";
 import type { ParseStatusResponse, SubmitUrlResponse } from "../types/recipe";
 
 type Phase = "idle" | "submitting" | "polling" | "done" | "error";
 type AnyResponse = SubmitUrlResponse | ParseStatusResponse;
 
+const TIMEOUT_MS = 60_000;
+// Keep polling this long past the server's estimate before giving up
+const ESTIMATE_GRACE_MS = 30_000;
+const MAX_WAIT_MS = 10 * 60_000;
+const MIN_DELAY_MS = 500;
+const MAX_DELAY_MS = 30_000;
+const FALLBACK_DELAY_MS = 1_000;
+
+// Poll when the server says the result should be there, or every second if it does not know
+function nextPollDelay(hint: PollHint): number {
+    const delay = hint.retryAfterMs
+        ?? (hint.estimatedCompletionAt !== undefined ? hint.estimatedCompletionAt - Date.now() : FALLBACK_DELAY_MS);
+    return Math.min(MAX_DELAY_MS, Math.max(MIN_DELAY_MS, delay));
+}
+
 export function useParseRecipe() {
     const [data, setData] = useState<AnyResponse | null>(null);
     const [phase, setPhase] = useState<Phase>("idle");
@@ -33,7 +48,8 @@ export function useParseRecipe() {
         setPhase("submitting");
 
         try {
-            const initial = await parseRecipe({ url });
+            const submitted = await submitParseRequest({ url });
+            const initial = submitted.data;
             setData(initial);
 
             if (initial.status === "COMPLETED") {
@@ -43,7 +59,7 @@ export function useParseRecipe() {
 
             if (initial.status === "FAILED") {
                 setPhase("error");
-                setError("Parsing failed");
+                setError(initial.error ?? "Parsing failed");
                 return initial;
             }
 
@@ -51,17 +67,24 @@ export function useParseRecipe() {
 
             const requestId = initial.requestId;
             const startedAt = Date.now();
-            const timeoutMs = 60_000;
-            const intervalMs = 1_000;
+            // A long backlog may push the expected completion past the usual timeout
+            let deadline = startedAt + TIMEOUT_MS;
+            const extendDeadline = (hint: PollHint) => {
+                if (hint.estimatedCompletionAt !== undefined) {
+                    deadline = Math.min(startedAt + MAX_WAIT_MS,
+                        Math.max(deadline, hint.estimatedCompletionAt + ESTIMATE_GRACE_MS));
+                }
+            };
+            extendDeadline(submitted.hint);
 
             const poll = async (): Promise<ParseStatusResponse> => {
-                if (Date.now() - startedAt > timeoutMs) {
+                if (Date.now() > deadline) {
                     setPhase("error");
                     setError("Timeout: parsing took too long.");
                     throw new Error("Timeout");
                 }
 
-                const res = await getParseRequest(requestId);
+                const { data: res, hint } = await getParseRequest(requestId);
                 setData(res);
 
                 if (res.status === "COMPLETED") {
@@ -75,14 +98,18 @@ export function useParseRecipe() {
                     return res;
                 }
 
-                return new Promise((resolve, reject) => {
+                extendDeadline(hint);
+                return schedule(nextPollDelay(hint));
+            };
+
+            const schedule = (delayMs: number) =>
+                new Promise<ParseStatusResponse>((resolve, reject) => {
                     timerRef.current = window.setTimeout(() => {
                         poll().then(resolve).catch(reject);
-                    }, intervalMs);
+                    }, delayMs);
                 });
-            };
 
-            return await poll();
+            return await schedule(nextPollDelay(submitted.hint));
         } catch (e: any) {
             if (!error) setError(e?.message ?? "Request failed");
             setPhase("error");
@@ -20,6 +20,7 @@ export type RecipeResponse = {
 export type SubmitUrlResponse = {
     status: RecipeStatus;
     requestId: string;
+    error?: string;
     recipe?: RecipeResponse;
 };
 
@@ -0,0 +1,96 @@
+package org.homechef.core.adapter.in.kafka;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.homechef.core.application.port.out.ParseCompletionEstimator;
+import org.homechef.core.domain.recipe.ParseLane;
+import org.homechef.core.domain.recipe.ParseRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Records how long a user waits for a parse, split into the stages a result event lets us see:
+ * <ul>
+ *   <li>{@code queue} - request created until the parser picked it up</li>
+ *   <li>{@code llm} - parser start until parser finish</li>
+ *   <li>{@code total} - request created until the result is applied here</li>
+ * </ul>
+ * Queue and LLM time need the parser's timestamps; without them only the total is recorded.
+ * Successful parses with both timestamps also feed the completion estimator; failures are left out
+ * because most fail fast and would make the estimates optimistic.
+ */
+class ParseLatencyRecorder {
+
+    static final String METRIC = "parse.latency";
+
+    private static final String[] STAGES = {"queue", "llm", "total"};
+    private static final String[] OUTCOMES = {"success", "failure"};
+
+    private final Map<String, Timer> timers = new HashMap<>();
+    private final ParseCompletionEstimator completionEstimator;
+
+    ParseLatencyRecorder(MeterRegistry meterRegistry, ParseCompletionEstimator completionEstimator) {
+        this.completionEstimator = completionEstimator;
+        for (String stage : STAGES) {
+            for (ParseLane lane : ParseLane.values()) {
+                for (String outcome : OUTCOMES) {
+                    timers.put(key(stage, lane, outcome), Timer.builder(METRIC)
+                            .description("Parse latency by stage, from submission to result applied")
+                            .tag("stage", stage)
+                            .tag("lane", lane.tag())
+                            .tag("outcome", outcome)
+                            .publishPercentileHistogram()
+                            .serviceLevelObjectives(
+                                    Duration.ofSeconds(5),
+                                    Duration.ofSeconds(10),
+                                    Duration.ofSeconds(30),
+                                    Duration.ofMinutes(1),
+                                    Duration.ofMinutes(2),
+                                    Duration.ofMinutes(5))
+                            .minimumExpectedValue(Duration.ofMillis(100))
+                            .maximumExpectedValue(Duration.ofMinutes(30))
+                            .register(meterRegistry));
+                }
+            }
+        }
+    }
+
+    void record(ParseRequest request, ParseResultEvent event, Instant appliedAt) {
+        ParseLane lane = ParseLane.of(request);
+        String outcome = event.success() ? "success" : "failure";
+        Instant createdAt = request.getCreatedAt();
+        Instant startedAt = toInstant(event.startedAtMillis());
+        Instant completedAt = toInstant(event.completedAtMillis());
+
+        if (startedAt != null) {
+            timers.get(key("queue", lane, outcome)).record(between(createdAt, startedAt));
+            if (completedAt != null) {
+                timers.get(key("llm", lane, outcome)).record(between(startedAt, completedAt));
+                if (event.success()) {
+                    completionEstimator.recordCompletion(lane, between(createdAt, startedAt),
+                            between(startedAt, completedAt));
+                }
+            }
+        }
+        timers.get(key("total", lane, outcome)).record(between(createdAt, appliedAt));
+    }
+
+    private static String key(String stage, ParseLane lane, String outcome) {
+        return stage + ':' + lane + ':' + outcome;
+    }
+
+    private static Instant toInstant(Long epochMillis) {
+        return epochMillis != null ? Instant.ofEpochMilli(epochMillis) : null;
+    }
+
+    /**
+     * Clamped at zero: parser and core clocks are not synchronized.
+     */
+    private static Duration between(Instant from, Instant to) {
+        Duration elapsed = Duration.between(from, to);
+        return elapsed.isNegative() ? Duration.ZERO : elapsed;
+    }
+}
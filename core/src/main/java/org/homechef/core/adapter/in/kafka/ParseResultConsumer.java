@@ -2,10 +2,20 @@ package org.homechef.core.adapter.in.kafka;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import org.homechef.core.adapter.out.jfr.ParseResultAppliedEvent;
+import org.homechef.core.application.port.in.dto.ParseStatusResult;
+import org.homechef.core.application.port.out.ParseCompletionEstimator;
+import org.homechef.core.application.port.out.ParseFailureCache;
 import org.homechef.core.application.port.out.ParseRequestRepository;
+import org.homechef.core.application.port.out.ParseStatusProjection;
+import org.homechef.core.application.port.out.ParseStatusRegistry;
+import org.homechef.core.application.port.out.ReadYourWrites;
+import org.homechef.core.application.port.out.RecipeIngredientIndex;
 import org.homechef.core.application.port.out.RecipeRepository;
 import org.homechef.core.application.port.out.ResourceRepository;
+import org.homechef.core.application.port.out.WebhookDeliveryRepository;
 import org.homechef.core.domain.recipe.Ingredient;
+import org.homechef.core.domain.recipe.ParseRequest;
 import org.homechef.core.domain.recipe.ParseStatus;
 import org.homechef.core.domain.recipe.Recipe;
 import org.homechef.core.domain.recipe.UrlHash;
@@ -15,8 +25,11 @@ import org.slf4j.MDC;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 
 import static net.logstash.logback.argument.StructuredArguments.kv;
@@ -27,21 +40,42 @@ public class ParseResultConsumer {
     private static final Logger log = LoggerFactory.getLogger(ParseResultConsumer.class);
 
     private final ParseRequestRepository parseRequestRepository;
+    private final ParseStatusProjection parseStatusProjection;
+    private final ParseStatusRegistry parseStatusRegistry;
     private final RecipeRepository recipeRepository;
     private final ResourceRepository resourceRepository;
+    private final ParseFailureCache parseFailureCache;
+    private final RecipeIngredientIndex recipeIngredientIndex;
+    private final ReadYourWrites readYourWrites;
+    private final WebhookDeliveryRepository webhookDeliveryRepository;
     private final Counter successCounter;
     private final Counter failureCounter;
+    private final ParseLatencyRecorder latencyRecorder;
 
     public ParseResultConsumer(
             ParseRequestRepository parseRequestRepository,
+            ParseStatusProjection parseStatusProjection,
+            ParseStatusRegistry parseStatusRegistry,
             RecipeRepository recipeRepository,
             ResourceRepository resourceRepository,
+            ParseFailureCache parseFailureCache,
+            RecipeIngredientIndex recipeIngredientIndex,
+            ReadYourWrites readYourWrites,
+            WebhookDeliveryRepository webhookDeliveryRepository,
+            ParseCompletionEstimator completionEstimator,
             MeterRegistry meterRegistry) {
         this.parseRequestRepository = parseRequestRepository;
+        this.parseStatusProjection = parseStatusProjection;
+        this.parseStatusRegistry = parseStatusRegistry;
         this.recipeRepository = recipeRepository;
         this.resourceRepository = resourceRepository;
+        this.parseFailureCache = parseFailureCache;
+        this.recipeIngredientIndex = recipeIngredientIndex;
+        this.readYourWrites = readYourWrites;
+        this.webhookDeliveryRepository = webhookDeliveryRepository;
         this.successCounter = meterRegistry.counter("kafka.consume", "topic", "parse-results", "outcome", "success");
         this.failureCounter = meterRegistry.counter("kafka.consume", "topic", "parse-results", "outcome", "failure");
+        this.latencyRecorder = new ParseLatencyRecorder(meterRegistry, completionEstimator);
     }
 
     @KafkaListener(topics = "${homechef.kafka.topic.parse-result:parse-results}", groupId = "${spring.kafka.consumer.group-id:homechef-core}")
@@ -49,6 +83,8 @@ public class ParseResultConsumer {
     public void handleParseResult(ParseResultEvent event) {
         MDC.put("requestId", event.requestId().toString());
         MDC.put("urlHash", event.urlHash());
+        ParseResultAppliedEvent jfrEvent = new ParseResultAppliedEvent();
+        jfrEvent.begin();
 
         try {
             log.info("Received parse result event",
@@ -56,13 +92,15 @@ public class ParseResultConsumer {
                     kv("urlHash", event.urlHash()),
                     kv("success", event.success()));
 
+            ParseRequest applied;
             if (event.success()) {
-                handleSuccess(event);
+                applied = handleSuccess(event);
                 successCounter.increment();
             } else {
-                handleFailure(event);
+                applied = handleFailure(event);
                 failureCounter.increment();
             }
+            recordLatencyAfterCommit(applied, event);
         } catch (Exception e) {
             log.error("Error processing parse result event",
                     kv("requestId", event.requestId()),
@@ -71,12 +109,23 @@ public class ParseResultConsumer {
             failureCounter.increment();
             throw e; // Let Kafka handle retry
         } finally {
+            jfrEvent.end();
+            if (jfrEvent.shouldCommit()) {
+                jfrEvent.requestId = event.requestId().toString();
+                jfrEvent.urlHash = event.urlHash();
+                jfrEvent.success = event.success();
+                jfrEvent.ingredientCount = event.ingredients() != null ? event.ingredients().size() : 0;
+                jfrEvent.commit();
+            }
             MDC.remove("requestId");
             MDC.remove("urlHash");
         }
     }
 
-    private void handleSuccess(ParseResultEvent event) {
+    /**
+     * @return the updated parse request, null if the result was not applied
+     */
+    private ParseRequest handleSuccess(ParseResultEvent event) {
         UrlHash urlHash = UrlHash.fromHash(event.urlHash());
 
         // Verify resource exists
@@ -84,7 +133,7 @@ public class ParseResultConsumer {
             log.warn("Resource not found for parse result, skipping",
                     kv("requestId", event.requestId()),
                     kv("urlHash", event.urlHash()));
-            return;
+            return null;
         }
 
         // Convert ingredients
@@ -95,32 +144,92 @@ public class ParseResultConsumer {
         // Upsert recipe
         Recipe recipe = Recipe.create(urlHash, event.title(), ingredients);
         recipeRepository.save(recipe);
+        recipeIngredientIndex.index(recipe);
 
         // Update parse request status
-        parseRequestRepository.updateStatus(
+        ParseRequest applied = parseRequestRepository.updateStatus(
                 event.requestId(),
                 ParseStatus.COMPLETED.name(),
                 null
-        );
+        ).orElse(null);
+        parseStatusRegistry.put(parseStatusProjection.save(ParseStatusResult.completed(
+                event.requestId(),
+                urlHash.value(),
+                recipe.getTitle(),
+                recipe.getIngredients(),
+                recipe.getParsedAt())));
+        readYourWrites.recordWrite(event.requestId());
+        webhookDeliveryRepository.markResultReady(List.of(event.requestId()));
+
+        // A successful parse clears any failure history for this URL, but only once it has committed
+        afterCommit("evict_parse_failure", event, () -> parseFailureCache.evict(urlHash));
 
         log.info("Parse result processed successfully",
                 kv("requestId", event.requestId()),
                 kv("urlHash", event.urlHash()),
                 kv("title", event.title()),
                 kv("ingredientCount", ingredients.size()));
+        return applied;
     }
 
-    private void handleFailure(ParseResultEvent event) {
-        parseRequestRepository.updateStatus(
+    /**
+     * @return the updated parse request, null if it does not exist
+     */
+    private ParseRequest handleFailure(ParseResultEvent event) {
+        ParseRequest applied = parseRequestRepository.updateStatus(
                 event.requestId(),
                 ParseStatus.FAILED.name(),
                 event.errorMessage()
-        );
+        ).orElse(null);
+        parseStatusRegistry.put(parseStatusProjection.save(ParseStatusResult.failed(event.requestId(), event.errorMessage())));
+        readYourWrites.recordWrite(event.requestId());
+        webhookDeliveryRepository.markResultReady(List.of(event.requestId()));
+
+        // Memoize the failure so resubmissions are answered without another parse. After commit, so a
+        // rolled-back and redelivered result extends the backoff once
+        afterCommit("record_parse_failure", event,
+                () -> parseFailureCache.recordFailure(UrlHash.fromHash(event.urlHash()), event.errorMessage()));
 
         log.warn("Parse result failed",
                 kv("requestId", event.requestId()),
                 kv("urlHash", event.urlHash()),
                 kv("errorMessage", event.errorMessage()));
+        return applied;
+    }
+
+    private void recordLatencyAfterCommit(ParseRequest applied, ParseResultEvent event) {
+        if (applied == null) {
+            return;
+        }
+        Instant appliedAt = Instant.now();
+        afterCommit("record_parse_latency", event, () -> latencyRecorder.record(applied, event, appliedAt));
+    }
+
+    /**
+     * Runs work outside the database once the result has committed, so a result that is rolled back
+     * and redelivered applies it once. Failures are only logged: the result is already applied by then.
+     */
+    private void afterCommit(String action, ParseResultEvent event, Runnable task) {
+        Runnable guarded = () -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.warn("Post-commit action failed",
+                        kv("action", action),
+                        kv("requestId", event.requestId()),
+                        kv("error", e.getMessage()));
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            guarded.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                guarded.run();
+            }
+        });
     }
 
     private Ingredient toIngredient(ParseResultEvent.IngredientEvent e) {
@@ -12,7 +12,9 @@ public record ParseResultEvent(
         boolean success,
         String errorMessage,      // present if success=false
         String title,             // present if success=true
-        List<IngredientEvent> ingredients  // present if success=true
+        List<IngredientEvent> ingredients, // present if success=true
+        Long startedAtMillis,     // epoch millis when the parser picked the request up, optional
+        Long completedAtMillis    // epoch millis when the parser finished, optional
 ) {
     public record IngredientEvent(
             String quantity,
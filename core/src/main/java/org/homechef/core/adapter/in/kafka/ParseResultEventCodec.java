@@ -0,0 +1,91 @@
+package org.homechef.core.adapter.in.kafka;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.homechef.core.adapter.kafka.BinaryEventReader;
+import org.homechef.core.adapter.kafka.BinaryEventWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary schema of {@link ParseResultEvent}, for the parser to write and core to read.
+ * <p>
+ * Version 1: flags (byte: 1 success, 2 has ingredients, 4 has startedAt, 8 has completedAt),
+ * requestId (UUID), urlHash (hash), errorMessage (string), title (string),
+ * ingredients if flagged (varint count, then quantity, unit, name strings each),
+ * startedAtMillis and completedAtMillis if flagged (varint epoch millis).
+ */
+public final class ParseResultEventCodec {
+
+    static final int SCHEMA_VERSION = 1;
+
+    private static final int SUCCESS = 1;
+    private static final int HAS_INGREDIENTS = 2;
+    private static final int HAS_STARTED_AT = 4;
+    private static final int HAS_COMPLETED_AT = 8;
+
+    private ParseResultEventCodec() {
+    }
+
+    public static byte[] encode(ParseResultEvent event) {
+        int flags = (event.success() ? SUCCESS : 0)
+                | (event.ingredients() != null ? HAS_INGREDIENTS : 0)
+                | (event.startedAtMillis() != null ? HAS_STARTED_AT : 0)
+                | (event.completedAtMillis() != null ? HAS_COMPLETED_AT : 0);
+
+        BinaryEventWriter writer = new BinaryEventWriter(SCHEMA_VERSION);
+        writer.writeByte(flags);
+        writer.writeUuid(event.requestId());
+        writer.writeUrlHash(event.urlHash());
+        writer.writeString(event.errorMessage());
+        writer.writeString(event.title());
+        if (event.ingredients() != null) {
+            writer.writeVarLong(event.ingredients().size());
+            for (ParseResultEvent.IngredientEvent ingredient : event.ingredients()) {
+                writer.writeString(ingredient.quantity());
+                writer.writeString(ingredient.unit());
+                writer.writeString(ingredient.name());
+            }
+        }
+        if (event.startedAtMillis() != null) {
+            writer.writeVarLong(event.startedAtMillis());
+        }
+        if (event.completedAtMillis() != null) {
+            writer.writeVarLong(event.completedAtMillis());
+        }
+        return writer.toByteArray();
+    }
+
+    public static ParseResultEvent decode(byte[] data) {
+        BinaryEventReader reader = new BinaryEventReader(data);
+        if (reader.schemaVersion() != SCHEMA_VERSION) {
+            throw new SerializationException("Unsupported ParseResultEvent schema version " + reader.schemaVersion());
+        }
+        int flags = reader.readByte();
+        ParseResultEvent event = new ParseResultEvent(
+                reader.readUuid(),
+                reader.readUrlHash(),
+                (flags & SUCCESS) != 0,
+                reader.readString(),
+                reader.readString(),
+                (flags & HAS_INGREDIENTS) != 0 ? readIngredients(reader) : null,
+                (flags & HAS_STARTED_AT) != 0 ? reader.readVarLong() : null,
+                (flags & HAS_COMPLETED_AT) != 0 ? reader.readVarLong() : null);
+        reader.requireEnd();
+        return event;
+    }
+
+    private static List<ParseResultEvent.IngredientEvent> readIngredients(BinaryEventReader reader) {
+        long count = reader.readVarLong();
+        // Every ingredient takes at least three bytes, so a larger count cannot be genuine
+        if (count > Integer.MAX_VALUE / 3) {
+            throw new SerializationException("Implausible ingredient count " + count);
+        }
+        List<ParseResultEvent.IngredientEvent> ingredients = new ArrayList<>((int) Math.min(count, 64));
+        for (long i = 0; i < count; i++) {
+            ingredients.add(new ParseResultEvent.IngredientEvent(
+                    reader.readString(), reader.readString(), reader.readString()));
+        }
+        return List.copyOf(ingredients);
+    }
+}
@@ -0,0 +1,60 @@
+package org.homechef.core.adapter.in.kafka;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.homechef.core.adapter.kafka.BinaryEventReader;
+import org.homechef.core.adapter.kafka.WireFormat;
+import org.springframework.kafka.support.serializer.JacksonJsonDeserializer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads parse results in the topic's {@link WireFormat}. Each record says which encoding it is in
+ * (binary ones start with {@link org.homechef.core.adapter.kafka.BinaryEventWriter#MAGIC}),
+ * so COMPAT reads both; JSON and BINARY reject the other encoding.
+ * <p>
+ * JSON goes through Spring's {@link JacksonJsonDeserializer} with the consumer's trusted packages, and
+ * falls back to {@link ParseResultEvent} when a record has no type header.
+ */
+public class ParseResultEventDeserializer implements Deserializer<ParseResultEvent> {
+
+    private final JacksonJsonDeserializer<ParseResultEvent> json = new JacksonJsonDeserializer<>();
+    private WireFormat format = WireFormat.JSON;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        format = WireFormat.from(configs);
+        Map<String, Object> jsonConfigs = new HashMap<>(configs);
+        jsonConfigs.putIfAbsent(JacksonJsonDeserializer.VALUE_DEFAULT_TYPE, ParseResultEvent.class.getName());
+        json.configure(jsonConfigs, isKey);
+    }
+
+    @Override
+    public ParseResultEvent deserialize(String topic, byte[] data) {
+        return deserialize(topic, null, data);
+    }
+
+    @Override
+    public ParseResultEvent deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (BinaryEventReader.isBinary(data)) {
+            if (!format.readsBinary()) {
+                throw new SerializationException("Binary parse result on " + topic + ", which is configured for JSON");
+            }
+            return ParseResultEventCodec.decode(data);
+        }
+        if (!format.readsJson()) {
+            throw new SerializationException("JSON parse result on " + topic + ", which is configured for binary");
+        }
+        return headers != null ? json.deserialize(topic, headers, data) : json.deserialize(topic, data);
+    }
+
+    @Override
+    public void close() {
+        json.close();
+    }
+}
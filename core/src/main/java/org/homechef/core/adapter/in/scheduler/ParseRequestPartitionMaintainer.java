@@ -0,0 +1,55 @@
+package org.homechef.core.adapter.in.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.homechef.core.application.port.in.MaintainParseRequestPartitionsUseCase;
+import org.homechef.core.application.port.in.dto.PartitionMaintenanceResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Runs parse request partition maintenance at startup and then periodically on every replica;
+ * the use case's job lock lets only one of them do the work per run.
+ */
+@Component
+public class ParseRequestPartitionMaintainer {
+
+    private static final Logger log = LoggerFactory.getLogger(ParseRequestPartitionMaintainer.class);
+
+    private final MaintainParseRequestPartitionsUseCase maintainParseRequestPartitionsUseCase;
+    private final boolean enabled;
+    private final Counter createdCounter;
+    private final Counter droppedCounter;
+    private final Counter retainedCounter;
+
+    public ParseRequestPartitionMaintainer(MaintainParseRequestPartitionsUseCase maintainParseRequestPartitionsUseCase,
+                                           @Value("${homechef.partitions.maintenance-enabled:true}") boolean enabled,
+                                           MeterRegistry meterRegistry) {
+        this.maintainParseRequestPartitionsUseCase = maintainParseRequestPartitionsUseCase;
+        this.enabled = enabled;
+        this.createdCounter = meterRegistry.counter("parse.partitions.maintenance", "action", "created");
+        this.droppedCounter = meterRegistry.counter("parse.partitions.maintenance", "action", "dropped");
+        this.retainedCounter = meterRegistry.counter("parse.partitions.maintenance", "action", "retained");
+    }
+
+    @Scheduled(fixedDelayString = "${homechef.partitions.maintenance-interval:PT6H}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            PartitionMaintenanceResult result = maintainParseRequestPartitionsUseCase.execute();
+            createdCounter.increment(result.created().size());
+            droppedCounter.increment(result.dropped().size());
+            retainedCounter.increment(result.retained().size());
+        } catch (RuntimeException e) {
+            // Partitions are created months ahead, so a failed run is retried long before inserts need them
+            log.error("Parse request partition maintenance failed", kv("error", e.getMessage()), e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.homechef.core.adapter.in.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.homechef.core.application.port.in.ReapStuckParseRequestsUseCase;
+import org.homechef.core.application.port.in.dto.ReapResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Runs the stuck-request reaper on every replica; the use case's job lock lets only one of
+ * them do the work per run. A full batch is followed immediately by the next one, so a large
+ * backlog after an outage drains without waiting a whole interval per batch.
+ */
+@Component
+public class StuckParseRequestReaper {
+
+    private static final Logger log = LoggerFactory.getLogger(StuckParseRequestReaper.class);
+    private static final int MAX_BATCHES_PER_RUN = 50;
+
+    private final ReapStuckParseRequestsUseCase reapStuckParseRequestsUseCase;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Counter republishedCounter;
+    private final Counter failedCounter;
+
+    public StuckParseRequestReaper(ReapStuckParseRequestsUseCase reapStuckParseRequestsUseCase,
+                                   @Value("${homechef.reaper.enabled:true}") boolean enabled,
+                                   @Value("${homechef.reaper.batch-size:100}") int batchSize,
+                                   MeterRegistry meterRegistry) {
+        this.reapStuckParseRequestsUseCase = reapStuckParseRequestsUseCase;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.republishedCounter = meterRegistry.counter("parse.reaper.reaped", "outcome", "republished");
+        this.failedCounter = meterRegistry.counter("parse.reaper.reaped", "outcome", "failed");
+    }
+
+    @Scheduled(fixedDelayString = "${homechef.reaper.interval:PT1M}")
+    public void reap() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+                ReapResult result = reapStuckParseRequestsUseCase.execute();
+                republishedCounter.increment(result.republished());
+                failedCounter.increment(result.failed());
+                if (!result.leader() || result.total() < batchSize) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            // The batch rolled back; its rows are picked up again on the next run
+            log.warn("Stuck parse request reaper failed", kv("error", e.getMessage()));
+        }
+    }
+}
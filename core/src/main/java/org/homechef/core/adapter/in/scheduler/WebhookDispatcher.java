@@ -0,0 +1,68 @@
+package org.homechef.core.adapter.in.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.homechef.core.application.port.in.DeliverWebhooksUseCase;
+import org.homechef.core.application.port.in.dto.WebhookDeliveryResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Runs webhook delivery on every replica; claims keep replicas from sending the same delivery.
+ * A full batch is followed immediately by the next one, so a burst of completions is not spread
+ * over several intervals.
+ */
+@Component
+public class WebhookDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookDispatcher.class);
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final DeliverWebhooksUseCase deliverWebhooksUseCase;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Counter deliveredCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Counter deferredCounter;
+
+    public WebhookDispatcher(DeliverWebhooksUseCase deliverWebhooksUseCase,
+                             @Value("${homechef.webhook.enabled:false}") boolean enabled,
+                             @Value("${homechef.webhook.batch-size:100}") int batchSize,
+                             MeterRegistry meterRegistry) {
+        this.deliverWebhooksUseCase = deliverWebhooksUseCase;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.deliveredCounter = meterRegistry.counter("webhook.deliveries", "outcome", "delivered");
+        this.retriedCounter = meterRegistry.counter("webhook.deliveries", "outcome", "retried");
+        this.failedCounter = meterRegistry.counter("webhook.deliveries", "outcome", "failed");
+        this.deferredCounter = meterRegistry.counter("webhook.deliveries", "outcome", "deferred");
+    }
+
+    @Scheduled(fixedDelayString = "${homechef.webhook.poll-interval:PT2S}")
+    public void dispatch() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+                WebhookDeliveryResult result = deliverWebhooksUseCase.execute();
+                deliveredCounter.increment(result.delivered());
+                retriedCounter.increment(result.retried());
+                failedCounter.increment(result.failed());
+                deferredCounter.increment(result.deferred());
+                if (result.total() < batchSize) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            // Claimed deliveries are attempted again once their lease expires
+            log.warn("Webhook dispatch failed", kv("error", e.getMessage()));
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package org.homechef.core.adapter.in.web;
 
 import org.homechef.core.adapter.in.web.dto.ErrorResponse;
+import org.homechef.core.application.exception.PasswordHashingBusyException;
+import org.homechef.core.application.exception.PipelineOverloadedException;
+import org.homechef.core.application.exception.RateLimitExceededException;
+import org.homechef.core.application.exception.SearchTimeoutException;
 import org.homechef.core.domain.user.exception.EmailAlreadyExistsException;
 import org.homechef.core.domain.user.exception.InvalidCredentialsException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -36,6 +41,45 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse("INVALID_CREDENTIALS", e.getMessage()));
     }
 
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitExceeded(RateLimitExceededException e) {
+        long retryAfterSeconds = Math.max(1, (long) Math.ceil(e.getRetryAfter().toMillis() / 1000d));
+        log.warn("Rate limit exceeded", kv("retryAfterSeconds", retryAfterSeconds));
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(new ErrorResponse("RATE_LIMITED", e.getMessage()));
+    }
+
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingBusy(PasswordHashingBusyException e) {
+        long retryAfterSeconds = Math.max(1, e.getRetryAfter().toSeconds());
+        log.warn("Password hashing capacity exhausted", kv("retryAfterSeconds", retryAfterSeconds));
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(new ErrorResponse("AUTH_BUSY", e.getMessage()));
+    }
+
+    @ExceptionHandler(PipelineOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handlePipelineOverloaded(PipelineOverloadedException e) {
+        long retryAfterSeconds = Math.max(1, e.getRetryAfter().toSeconds());
+        log.warn("Parse pipeline overloaded", kv("retryAfterSeconds", retryAfterSeconds));
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(new ErrorResponse("PIPELINE_OVERLOADED", e.getMessage()));
+    }
+
+    @ExceptionHandler(SearchTimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleSearchTimeout(SearchTimeoutException e) {
+        log.warn("Recipe search exceeded its latency budget", kv("budgetMs", e.getBudget().toMillis()));
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponse("SEARCH_TIMEOUT", e.getMessage()));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidation(MethodArgumentNotValidException e) {
         String message = e.getBindingResult().getFieldErrors().stream()
@@ -0,0 +1,26 @@
+package org.homechef.core.adapter.in.web;
+
+import org.homechef.core.adapter.in.web.dto.ParseStatusResponse;
+import org.homechef.core.application.port.in.dto.ParseStatusResult;
+import org.homechef.core.application.port.out.ParseStatusRenderer;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Renders statuses as {@link ParseStatusResponse} with the web layer's JsonMapper, so a stored
+ * body is byte-for-byte what the endpoint would return.
+ */
+@Component
+public class JsonParseStatusRenderer implements ParseStatusRenderer {
+
+    private final JsonMapper jsonMapper;
+
+    public JsonParseStatusRenderer(JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public byte[] render(ParseStatusResult status) {
+        return jsonMapper.writeValueAsBytes(ParseStatusResponse.from(status));
+    }
+}
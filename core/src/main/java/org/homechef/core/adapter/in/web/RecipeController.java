@@ -3,26 +3,44 @@ package org.homechef.core.adapter.in.web;
 import io.micrometer.core.annotation.Timed;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.homechef.core.adapter.in.security.AuthenticatedUser;
-import org.homechef.core.adapter.in.web.dto.ParseStatusResponse;
+import org.homechef.core.adapter.in.web.dto.BulkParseStatusRequest;
+import org.homechef.core.adapter.in.web.dto.BulkParseStatusResponse;
+import org.homechef.core.adapter.in.web.dto.CookableRecipesResponse;
+import org.homechef.core.adapter.in.web.dto.RecipeSearchResponse;
 import org.homechef.core.adapter.in.web.dto.SubmitUrlRequest;
 import org.homechef.core.adapter.in.web.dto.SubmitUrlResponse;
+import org.homechef.core.adapter.out.jfr.UrlSubmissionEvent;
+import org.homechef.core.application.port.in.FindCookableRecipesUseCase;
+import org.homechef.core.application.port.in.GetBulkParseStatusUseCase;
 import org.homechef.core.application.port.in.GetParseStatusUseCase;
+import org.homechef.core.application.port.in.SearchRecipesUseCase;
 import org.homechef.core.application.port.in.SubmitUrlUseCase;
-import org.homechef.core.application.port.in.dto.ParseStatusResult;
+import org.homechef.core.application.port.in.dto.BulkParseStatusQuery;
+import org.homechef.core.application.port.in.dto.BulkParseStatusResult;
+import org.homechef.core.application.port.in.dto.CompletionEstimate;
+import org.homechef.core.application.port.in.dto.CookableRecipesQuery;
+import org.homechef.core.application.port.in.dto.RecipeSearchResult;
+import org.homechef.core.application.port.in.dto.SearchRecipesQuery;
 import org.homechef.core.application.port.in.dto.SubmitUrlCommand;
 import org.homechef.core.application.port.in.dto.SubmitUrlResult;
 import org.homechef.core.domain.recipe.ParseStatus;
+import org.homechef.core.domain.recipe.UrlHash;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 import static net.logstash.logback.argument.StructuredArguments.kv;
+import static org.homechef.core.config.logging.LogMarkers.SAMPLED;
 
 @RestController
 @RequestMapping("/api/v1/recipes")
@@ -30,37 +48,62 @@ public class RecipeController {
 
     private static final Logger log = LoggerFactory.getLogger(RecipeController.class);
 
+    /**
+     * Estimated completion of an unfinished parse request (ISO-8601 instant).
+     */
+    static final String ESTIMATED_COMPLETION_HEADER = "X-Estimated-Completion";
+
     private final SubmitUrlUseCase submitUrlUseCase;
     private final GetParseStatusUseCase getParseStatusUseCase;
+    private final GetBulkParseStatusUseCase getBulkParseStatusUseCase;
+    private final SearchRecipesUseCase searchRecipesUseCase;
+    private final FindCookableRecipesUseCase findCookableRecipesUseCase;
     private final Counter cacheHitCounter;
     private final Counter cacheMissCounter;
     private final Counter dedupCounter;
+    private final Counter negativeCacheCounter;
 
     public RecipeController(SubmitUrlUseCase submitUrlUseCase,
                             GetParseStatusUseCase getParseStatusUseCase,
+                            GetBulkParseStatusUseCase getBulkParseStatusUseCase,
+                            SearchRecipesUseCase searchRecipesUseCase,
+                            FindCookableRecipesUseCase findCookableRecipesUseCase,
                             MeterRegistry meterRegistry) {
         this.submitUrlUseCase = submitUrlUseCase;
         this.getParseStatusUseCase = getParseStatusUseCase;
+        this.getBulkParseStatusUseCase = getBulkParseStatusUseCase;
+        this.searchRecipesUseCase = searchRecipesUseCase;
+        this.findCookableRecipesUseCase = findCookableRecipesUseCase;
 
         // Metrics
         this.cacheHitCounter = meterRegistry.counter("recipe.submit", "outcome", "cache_hit");
         this.cacheMissCounter = meterRegistry.counter("recipe.submit", "outcome", "cache_miss");
         this.dedupCounter = meterRegistry.counter("recipe.submit", "outcome", "dedup");
+        this.negativeCacheCounter = meterRegistry.counter("recipe.submit", "outcome", "negative_cache");
     }
 
     @PostMapping("/parse")
     @Timed(value = "recipe.submit.duration", description = "Time to process URL submission")
-    public ResponseEntity<SubmitUrlResponse> submitUrl(@Valid @RequestBody SubmitUrlRequest request) {
+    public ResponseEntity<SubmitUrlResponse> submitUrl(@Valid @RequestBody SubmitUrlRequest request,
+                                                       HttpServletRequest httpRequest) {
         String requestId = UUID.randomUUID().toString();
         MDC.put("requestId", requestId);
+        UrlSubmissionEvent event = new UrlSubmissionEvent();
+        event.begin();
+        String outcome = "error";
 
         try {
             log.info("Received URL submission request",
                     kv("url", request.url()),
                     kv("endpoint", "POST /api/v1/recipes/parse"));
 
-            SubmitUrlCommand command = new SubmitUrlCommand(request.url(), AuthenticatedUser.currentUserIdOrNull());
+            SubmitUrlCommand command = new SubmitUrlCommand(
+                    request.url(),
+                    AuthenticatedUser.currentUserIdOrNull(),
+                    httpRequest.getRemoteAddr(),
+                    request.callbackUrl());
             SubmitUrlResult result = submitUrlUseCase.execute(command);
+            outcome = result.type().name().toLowerCase();
 
             // Update metrics based on outcome
             recordOutcomeMetric(result.status());
@@ -70,7 +113,13 @@ public class RecipeController {
             // Determine HTTP status based on result
             if (result.status() == ParseStatus.COMPLETED) {
                 // Cache hit - return 200 with recipe
-                log.info("Returning cached recipe",
+                log.info(SAMPLED, "Returning cached recipe",
+                        kv("status", result.status()),
+                        kv("httpStatus", 200));
+                return ResponseEntity.ok(response);
+            } else if (result.status() == ParseStatus.FAILED) {
+                // Negative cache hit - URL failed recently, return 200 with error
+                log.info(SAMPLED, "Returning recent parse failure",
                         kv("status", result.status()),
                         kv("httpStatus", 200));
                 return ResponseEntity.ok(response);
@@ -80,29 +129,36 @@ public class RecipeController {
                         kv("status", result.status()),
                         kv("parseRequestId", result.requestId()),
                         kv("httpStatus", 202));
-                return ResponseEntity.accepted().body(response);
+                return withEstimate(ResponseEntity.accepted(), result.estimate()).body(response);
             }
+        } catch (RuntimeException e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
         } finally {
+            commitSubmissionEvent(event, request.url(), outcome);
             MDC.remove("requestId");
         }
     }
 
     @GetMapping("/parse-requests/{id}")
     @Timed(value = "recipe.poll.duration", description = "Time to poll parse request status")
-    public ResponseEntity<ParseStatusResponse> getParseStatus(@PathVariable UUID id) {
+    public ResponseEntity<byte[]> getParseStatus(@PathVariable UUID id) {
         MDC.put("parseRequestId", id.toString());
 
         try {
-            log.debug("Polling parse request status",
+            log.debug(SAMPLED, "Polling parse request status",
                     kv("parseRequestId", id),
                     kv("endpoint", "GET /api/v1/recipes/parse-requests/{id}"));
 
             return getParseStatusUseCase.execute(id)
-                    .map(result -> {
-                        log.debug("Returning parse status",
+                    .map(view -> {
+                        log.debug(SAMPLED, "Returning parse status",
                                 kv("parseRequestId", id),
-                                kv("status", result.status()));
-                        return ResponseEntity.ok(ParseStatusResponse.from(result));
+                                kv("status", view.status()));
+                        // Body is a pre-rendered ParseStatusResponse
+                        return withEstimate(ResponseEntity.ok(), view.estimate())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .body(view.body());
                     })
                     .orElseGet(() -> {
                         log.warn("Parse request not found",
@@ -114,12 +170,83 @@ public class RecipeController {
         }
     }
 
+    @PostMapping("/parse-requests/statuses")
+    @Timed(value = "recipe.poll.bulk.duration", description = "Time to poll several parse request statuses")
+    public ResponseEntity<BulkParseStatusResponse> getParseStatuses(@Valid @RequestBody BulkParseStatusRequest request) {
+        log.debug(SAMPLED, "Polling parse request statuses",
+                kv("requestCount", request.ids().size()),
+                kv("since", request.since()),
+                kv("endpoint", "POST /api/v1/recipes/parse-requests/statuses"));
+
+        BulkParseStatusResult result = getBulkParseStatusUseCase.execute(
+                new BulkParseStatusQuery(request.ids(), request.since()));
+        return ResponseEntity.ok(BulkParseStatusResponse.from(result));
+    }
+
+    @GetMapping("/search")
+    @Timed(value = "recipe.search.duration", description = "Time to search stored recipes")
+    public ResponseEntity<RecipeSearchResponse> search(@RequestParam(name = "q", required = false) String text,
+                                                       @RequestParam(name = "ingredient", required = false) List<String> ingredients,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(required = false) Integer limit) {
+        log.debug("Searching recipes",
+                kv("text", text),
+                kv("ingredients", ingredients),
+                kv("endpoint", "GET /api/v1/recipes/search"));
+
+        RecipeSearchResult result = searchRecipesUseCase.execute(
+                new SearchRecipesQuery(text, ingredients, cursor, limit));
+        return ResponseEntity.ok(RecipeSearchResponse.from(result));
+    }
+
+    @GetMapping("/cookable")
+    @Timed(value = "recipe.cookable.duration", description = "Time to rank recipes by ingredients on hand")
+    public ResponseEntity<CookableRecipesResponse> cookable(@RequestParam(name = "ingredient") List<String> ingredients,
+                                                            @RequestParam(required = false) Integer limit) {
+        log.debug("Finding cookable recipes",
+                kv("ingredients", ingredients),
+                kv("endpoint", "GET /api/v1/recipes/cookable"));
+
+        return ResponseEntity.ok(CookableRecipesResponse.from(
+                findCookableRecipesUseCase.execute(new CookableRecipesQuery(ingredients, limit))));
+    }
+
+    /**
+     * Tells pollers of unfinished requests when to come back instead of leaving them to poll on a fixed schedule.
+     */
+    private static ResponseEntity.BodyBuilder withEstimate(ResponseEntity.BodyBuilder builder, CompletionEstimate estimate) {
+        if (estimate == null) {
+            return builder;
+        }
+        long retryAfterSeconds = Math.max(1, (long) Math.ceil(estimate.retryAfter().toMillis() / 1000d));
+        builder.header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        if (estimate.estimatedCompletionAt() != null) {
+            builder.header(ESTIMATED_COMPLETION_HEADER, estimate.estimatedCompletionAt().toString());
+        }
+        return builder;
+    }
+
+    private void commitSubmissionEvent(UrlSubmissionEvent event, String url, String outcome) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        try {
+            event.urlHash = UrlHash.fromUrl(url).value();
+        } catch (IllegalArgumentException e) {
+            event.urlHash = null;
+        }
+        event.outcome = outcome;
+        event.guest = AuthenticatedUser.currentUserIdOrNull() == null;
+        event.commit();
+    }
+
     private void recordOutcomeMetric(ParseStatus status) {
         switch (status) {
             case COMPLETED -> cacheHitCounter.increment();
             case PENDING -> cacheMissCounter.increment();
             case PROCESSING -> dedupCounter.increment();
-            default -> {} // FAILED handled elsewhere
+            case FAILED -> negativeCacheCounter.increment();
         }
     }
 }
\ No newline at end of file
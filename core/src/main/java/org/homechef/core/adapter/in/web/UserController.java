@@ -0,0 +1,52 @@
+package org.homechef.core.adapter.in.web;
+
+import io.micrometer.core.annotation.Timed;
+import org.homechef.core.adapter.in.security.AuthenticatedUser;
+import org.homechef.core.adapter.in.web.dto.ParseHistoryResponse;
+import org.homechef.core.application.port.in.GetParseHistoryUseCase;
+import org.homechef.core.application.port.in.dto.ParseHistoryQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Endpoints scoped to the authenticated user. Covered by the authenticated /api/** rule in SecurityConfig.
+ */
+@RestController
+@RequestMapping("/api/v1/users/me")
+public class UserController {
+
+    private static final Logger log = LoggerFactory.getLogger(UserController.class);
+
+    private final GetParseHistoryUseCase getParseHistoryUseCase;
+
+    public UserController(GetParseHistoryUseCase getParseHistoryUseCase) {
+        this.getParseHistoryUseCase = getParseHistoryUseCase;
+    }
+
+    @GetMapping("/parse-requests")
+    @Timed(value = "user.history.duration", description = "Time to load a page of parse history")
+    public ResponseEntity<ParseHistoryResponse> parseHistory(@RequestParam(required = false) String cursor,
+                                                             @RequestParam(required = false) Integer limit) {
+        UUID userId = AuthenticatedUser.currentUserIdOrNull();
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        log.debug("Loading parse history",
+                kv("userId", userId),
+                kv("endpoint", "GET /api/v1/users/me/parse-requests"));
+
+        return ResponseEntity.ok(ParseHistoryResponse.from(
+                getParseHistoryUseCase.execute(new ParseHistoryQuery(userId, cursor, limit))));
+    }
+}
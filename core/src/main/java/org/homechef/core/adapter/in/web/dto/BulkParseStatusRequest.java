@@ -0,0 +1,18 @@
+package org.homechef.core.adapter.in.web.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * REST request body for polling several parse requests. Pass the watermark of the previous response
+ * as since to receive only statuses that changed after it.
+ */
+public record BulkParseStatusRequest(
+        @NotEmpty(message = "At least one request ID is required")
+        Set<UUID> ids,
+        Instant since
+) {
+}
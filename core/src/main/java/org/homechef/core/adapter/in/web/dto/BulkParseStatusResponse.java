@@ -0,0 +1,28 @@
+package org.homechef.core.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.homechef.core.application.port.in.dto.BulkParseStatusResult;
+import tools.jackson.databind.util.RawValue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * REST response for a bulk status poll. Each status is the same pre-rendered ParseStatusResponse
+ * the single-request poll returns, written through without being parsed again.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkParseStatusResponse(
+        List<RawValue> statuses,
+        Instant watermark
+) {
+    public static BulkParseStatusResponse from(BulkParseStatusResult result) {
+        return new BulkParseStatusResponse(
+                result.changed().stream()
+                        .map(view -> new RawValue(new String(view.body(), StandardCharsets.UTF_8)))
+                        .toList(),
+                result.watermark()
+        );
+    }
+}
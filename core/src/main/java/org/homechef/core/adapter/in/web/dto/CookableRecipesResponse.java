@@ -0,0 +1,32 @@
+package org.homechef.core.adapter.in.web.dto;
+
+import org.homechef.core.application.port.in.dto.CookableRecipe;
+
+import java.util.List;
+
+/**
+ * REST response for "what can I cook", best match first.
+ */
+public record CookableRecipesResponse(
+        List<CookableRecipeResponse> recipes
+) {
+    public static CookableRecipesResponse from(List<CookableRecipe> recipes) {
+        return new CookableRecipesResponse(recipes.stream().map(CookableRecipeResponse::from).toList());
+    }
+
+    public record CookableRecipeResponse(
+            SubmitUrlResponse.RecipeResponse recipe,
+            double score,
+            List<String> matchedIngredients,
+            List<String> missingIngredients
+    ) {
+        public static CookableRecipeResponse from(CookableRecipe cookable) {
+            return new CookableRecipeResponse(
+                    SubmitUrlResponse.RecipeResponse.from(cookable.recipe()),
+                    cookable.score(),
+                    cookable.matchedIngredients(),
+                    cookable.missingIngredients()
+            );
+        }
+    }
+}
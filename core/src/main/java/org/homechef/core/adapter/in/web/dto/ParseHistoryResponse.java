@@ -0,0 +1,46 @@
+package org.homechef.core.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.homechef.core.application.port.in.dto.ParseHistoryResult;
+import org.homechef.core.domain.recipe.ParseStatus;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST response for the user's parse history. Pass nextCursor as the cursor parameter to fetch the next page.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ParseHistoryResponse(
+        List<EntryResponse> entries,
+        String nextCursor
+) {
+    public static ParseHistoryResponse from(ParseHistoryResult result) {
+        return new ParseHistoryResponse(
+                result.entries().stream().map(EntryResponse::from).toList(),
+                result.nextCursor()
+        );
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record EntryResponse(
+            UUID requestId,
+            String urlHash,
+            ParseStatus status,
+            String recipeTitle,
+            Instant createdAt,
+            Instant updatedAt
+    ) {
+        public static EntryResponse from(ParseHistoryResult.Entry entry) {
+            return new EntryResponse(
+                    entry.requestId(),
+                    entry.urlHash(),
+                    entry.status(),
+                    entry.recipeTitle(),
+                    entry.createdAt(),
+                    entry.updatedAt()
+            );
+        }
+    }
+}
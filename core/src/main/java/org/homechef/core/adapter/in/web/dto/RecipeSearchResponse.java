@@ -0,0 +1,22 @@
+package org.homechef.core.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.homechef.core.application.port.in.dto.RecipeSearchResult;
+
+import java.util.List;
+
+/**
+ * REST response for recipe search. Pass nextCursor as the cursor parameter to fetch the next page.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RecipeSearchResponse(
+        List<SubmitUrlResponse.RecipeResponse> recipes,
+        String nextCursor
+) {
+    public static RecipeSearchResponse from(RecipeSearchResult result) {
+        return new RecipeSearchResponse(
+                result.recipes().stream().map(SubmitUrlResponse.RecipeResponse::from).toList(),
+                result.nextCursor()
+        );
+    }
+}
@@ -9,6 +9,9 @@ import org.hibernate.validator.constraints.URL;
 public record SubmitUrlRequest(
         @NotBlank(message = "URL is required")
         @URL(message = "Must be a valid URL")
-        String url
+        String url,
+
+        @URL(message = "Must be a valid URL")
+        String callbackUrl  // optional; receives the result instead of polling
 ) {
 }
\ No newline at end of file
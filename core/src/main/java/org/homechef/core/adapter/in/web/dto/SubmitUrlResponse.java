@@ -15,13 +15,17 @@ import java.util.UUID;
 public record SubmitUrlResponse(
         ParseStatus status,
         UUID requestId,
-        RecipeResponse recipe
+        String error,
+        RecipeResponse recipe,
+        Instant estimatedCompletionAt
 ) {
     public static SubmitUrlResponse from(SubmitUrlResult result) {
         return new SubmitUrlResponse(
                 result.status(),
                 result.requestId(),
-                result.recipe() != null ? RecipeResponse.from(result.recipe()) : null
+                result.errorMessage(),
+                result.recipe() != null ? RecipeResponse.from(result.recipe()) : null,
+                result.estimate() != null ? result.estimate().estimatedCompletionAt() : null
         );
     }
 
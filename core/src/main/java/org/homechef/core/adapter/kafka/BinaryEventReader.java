@@ -0,0 +1,111 @@
+package org.homechef.core.adapter.kafka;
+
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Reads records written by {@link BinaryEventWriter}. Truncated or malformed input fails with a
+ * {@link SerializationException} rather than yielding a partial event.
+ */
+public final class BinaryEventReader {
+
+    private static final int URL_HASH_BYTES = 32;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final byte[] data;
+    private final int schemaVersion;
+    private int position;
+
+    public BinaryEventReader(byte[] data) {
+        if (!isBinary(data) || data.length < 2) {
+            throw new SerializationException("Not a binary parse event");
+        }
+        this.data = data;
+        this.position = 2;
+        this.schemaVersion = data[1] & 0xFF;
+    }
+
+    /**
+     * Returns true if the record is in the binary format rather than JSON.
+     */
+    public static boolean isBinary(byte[] data) {
+        return data != null && data.length > 0 && data[0] == BinaryEventWriter.MAGIC;
+    }
+
+    public int schemaVersion() {
+        return schemaVersion;
+    }
+
+    public int readByte() {
+        require(1);
+        return data[position++] & 0xFF;
+    }
+
+    public long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new SerializationException("Malformed varint in binary parse event");
+    }
+
+    public UUID readUuid() {
+        return new UUID(readLong(), readLong());
+    }
+
+    public String readString() {
+        long length = readVarLong() - 1;
+        if (length < 0) {
+            return null;
+        }
+        if (length > data.length - position) {
+            throw truncated();
+        }
+        String value = new String(data, position, (int) length, StandardCharsets.UTF_8);
+        position += (int) length;
+        return value;
+    }
+
+    public String readUrlHash() {
+        require(URL_HASH_BYTES);
+        String value = HEX.formatHex(data, position, position + URL_HASH_BYTES);
+        position += URL_HASH_BYTES;
+        return value;
+    }
+
+    /**
+     * Fails if bytes are left over, which means the record was written with a different schema.
+     */
+    public void requireEnd() {
+        if (position != data.length) {
+            throw new SerializationException("Unexpected trailing bytes in binary parse event (schema v"
+                    + schemaVersion + ")");
+        }
+    }
+
+    private long readLong() {
+        require(8);
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (data[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    private void require(int bytes) {
+        if (data.length - position < bytes) {
+            throw truncated();
+        }
+    }
+
+    private SerializationException truncated() {
+        return new SerializationException("Truncated binary parse event (schema v" + schemaVersion + ")");
+    }
+}
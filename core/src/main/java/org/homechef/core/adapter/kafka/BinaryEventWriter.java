@@ -0,0 +1,98 @@
+package org.homechef.core.adapter.kafka;
+
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Writes the binary wire format of parse events. Every record starts with {@link #MAGIC}, which
+ * no JSON document starts with, followed by the event's schema version. Fields follow in the order
+ * the version's schema defines:
+ * <ul>
+ *   <li>integers as unsigned LEB128 varints</li>
+ *   <li>strings as a varint of length + 1 (0 for null) and UTF-8 bytes</li>
+ *   <li>UUIDs as 16 big-endian bytes, URL hashes as their 32 raw SHA-256 bytes</li>
+ * </ul>
+ * A schema version never changes once released; adding or changing a field means a new version,
+ * and readers keep decoding the older ones.
+ */
+public final class BinaryEventWriter {
+
+    public static final byte MAGIC = 0x00;
+    private static final int URL_HASH_BYTES = 32;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private byte[] buffer = new byte[128];
+    private int size;
+
+    public BinaryEventWriter(int schemaVersion) {
+        writeByte(MAGIC);
+        writeByte(schemaVersion);
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) value;
+    }
+
+    public void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[size++] = (byte) value;
+    }
+
+    public void writeUuid(UUID value) {
+        writeLong(value.getMostSignificantBits());
+        writeLong(value.getLeastSignificantBits());
+    }
+
+    public void writeString(String value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length + 1L);
+        writeBytes(bytes);
+    }
+
+    public void writeUrlHash(String value) {
+        if (value == null || value.length() != URL_HASH_BYTES * 2 || !value.equals(value.toLowerCase())) {
+            throw new SerializationException("URL hash must be 64 lowercase hex characters: " + value);
+        }
+        try {
+            writeBytes(HEX.parseHex(value));
+        } catch (IllegalArgumentException e) {
+            throw new SerializationException("URL hash must be 64 lowercase hex characters: " + value, e);
+        }
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    private void writeLong(long value) {
+        ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[size++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (size + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.homechef.core.adapter.kafka;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Value encoding of a parse topic, chosen per topic with {@code homechef.kafka.wire-format.*}.
+ * <ul>
+ *   <li>{@code JSON} - Spring's JSON serde with type headers, as before</li>
+ *   <li>{@code BINARY} - compact, schema-versioned encoding written by {@link BinaryEventWriter}</li>
+ *   <li>{@code COMPAT} - rollout mode: writes JSON, reads JSON and binary</li>
+ * </ul>
+ * Roll a topic over by switching its consumers to COMPAT, then its producers to BINARY, then the
+ * consumers to BINARY once no JSON records are left to read.
+ */
+public enum WireFormat {
+
+    JSON,
+    BINARY,
+    COMPAT;
+
+    /**
+     * Serializer/deserializer config key carrying the topic's format.
+     */
+    public static final String CONFIG = "homechef.wire-format";
+
+    /**
+     * Reads the format from serializer/deserializer configs, defaulting to JSON.
+     */
+    public static WireFormat from(Map<String, ?> configs) {
+        Object value = configs.get(CONFIG);
+        if (value == null || value.toString().isBlank()) {
+            return JSON;
+        }
+        return value instanceof WireFormat format ? format : valueOf(value.toString().trim().toUpperCase(Locale.ROOT));
+    }
+
+    public boolean writesBinary() {
+        return this == BINARY;
+    }
+
+    public boolean readsBinary() {
+        return this != JSON;
+    }
+
+    public boolean readsJson() {
+        return this != BINARY;
+    }
+}
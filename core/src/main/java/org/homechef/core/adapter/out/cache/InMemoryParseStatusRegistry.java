@@ -0,0 +1,143 @@
+package org.homechef.core.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.homechef.core.application.port.in.dto.ParseStatusView;
+import org.homechef.core.application.port.out.ParseStatusRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Recent parse request states held in a Caffeine cache bounded by an estimate of their size in bytes.
+ * Reads take no locks, so polls answered from here never touch the database.
+ * <p>
+ * With several instances, a parse result may be applied on another instance than the one the client
+ * polls. Every put is therefore announced on a Redis channel, and other instances drop their copy so
+ * their next poll reads the status view. While the subscription is down, in-flight states may be
+ * outdated and are not served; COMPLETED and FAILED states are still served.
+ */
+@Component
+public class InMemoryParseStatusRegistry implements ParseStatusRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryParseStatusRegistry.class);
+
+    /** Key, record, array header and cache node, on top of the body itself. */
+    private static final int ENTRY_OVERHEAD_BYTES = 160;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Cache<UUID, ParseStatusView> recent;
+    private final Policy.Eviction<UUID, ParseStatusView> eviction;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ChannelTopic channel;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter bypassCounter;
+
+    public InMemoryParseStatusRegistry(
+            StringRedisTemplate redisTemplate,
+            ObjectProvider<RedisMessageListenerContainer> parseStatusListenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${homechef.status-registry.ttl:PT2M}") Duration ttl,
+            @Value("${homechef.status-registry.max-size:32MB}") DataSize maxSize,
+            @Value("${homechef.status-registry.channel:homechef:parse-status}") String channel) {
+        this.recent = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumWeight(maxSize.toBytes())
+                .weigher((UUID requestId, ParseStatusView status) -> status.body().length + ENTRY_OVERHEAD_BYTES)
+                .build();
+        this.eviction = recent.policy().eviction().orElseThrow();
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = parseStatusListenerContainer.getIfAvailable();
+        this.channel = new ChannelTopic(channel);
+        if (listenerContainer != null) {
+            listenerContainer.addMessageListener((message, pattern) -> onRemotePut(message.getBody()), this.channel);
+        }
+
+        this.hitCounter = meterRegistry.counter("parse.status.registry.lookups", "result", "hit");
+        this.missCounter = meterRegistry.counter("parse.status.registry.lookups", "result", "miss");
+        this.bypassCounter = meterRegistry.counter("parse.status.registry.lookups", "result", "bypass");
+        Gauge.builder("parse.status.registry.entries", recent, Cache::estimatedSize)
+                .description("Parse request states held in memory")
+                .register(meterRegistry);
+        Gauge.builder("parse.status.registry.size", eviction, e -> e.weightedSize().orElse(0))
+                .description("Estimated memory held by in-memory parse request states")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void put(ParseStatusView status) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(status);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(status);
+            }
+        });
+    }
+
+    @Override
+    public Optional<ParseStatusView> find(UUID requestId) {
+        ParseStatusView status = recent.getIfPresent(requestId);
+        if (status == null) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+        if (status.status().isInFlight() && listenerContainer != null && !listenerContainer.isListening()) {
+            // Another instance may have completed it without us hearing about it
+            bypassCounter.increment();
+            return Optional.empty();
+        }
+        hitCounter.increment();
+        return Optional.of(status);
+    }
+
+    private void apply(ParseStatusView status) {
+        recent.put(status.requestId(), status);
+        if (listenerContainer == null) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(channel.getTopic(), instanceId + " " + status.requestId());
+        } catch (DataAccessException e) {
+            log.debug("Redis unavailable, parse status change not announced: {}", e.getMessage());
+        }
+    }
+
+    private void onRemotePut(byte[] message) {
+        String[] parts = new String(message, StandardCharsets.UTF_8).split(" ", 2);
+        if (parts.length != 2 || parts[0].equals(instanceId)) {
+            return;
+        }
+        try {
+            recent.invalidate(UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException e) {
+            log.warn("Malformed parse status announcement, ignoring", kv("message", parts[1]));
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package org.homechef.core.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.homechef.core.application.port.out.ParseFailureCache;
+import org.homechef.core.domain.recipe.ParseFailure;
+import org.homechef.core.domain.recipe.UrlHash;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Two-tier negative cache: a bounded in-process Caffeine cache in front of Redis.
+ * Redis shares failure history across replicas; if it is unavailable the cache
+ * degrades to local-only instead of failing the submission.
+ */
+@Component
+public class ParseFailureCacheAdapter implements ParseFailureCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ParseFailureCacheAdapter.class);
+    private static final String KEY_PREFIX = "homechef:parse-failure:";
+    private static final String FIELD_ERROR = "error";
+    private static final String FIELD_ATTEMPTS = "attempts";
+    private static final String FIELD_BLOCKED_UNTIL = "blockedUntil";
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean redisEnabled;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final Cache<String, ParseFailure> local;
+
+    public ParseFailureCacheAdapter(
+            StringRedisTemplate redisTemplate,
+            @Value("${homechef.negative-cache.redis-enabled:true}") boolean redisEnabled,
+            @Value("${homechef.negative-cache.base-backoff:PT5M}") Duration baseBackoff,
+            @Value("${homechef.negative-cache.max-backoff:PT24H}") Duration maxBackoff,
+            @Value("${homechef.negative-cache.local-max-entries:10000}") long localMaxEntries) {
+        this.redisTemplate = redisTemplate;
+        this.redisEnabled = redisEnabled;
+        this.baseBackoff = baseBackoff;
+        this.maxBackoff = maxBackoff;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxEntries)
+                .expireAfter(Expiry.creating((String key, ParseFailure failure) -> retentionFor(failure)))
+                .build();
+    }
+
+    @Override
+    public Optional<ParseFailure> findBlocked(UrlHash urlHash) {
+        Instant now = Instant.now();
+        ParseFailure failure = local.getIfPresent(urlHash.value());
+        if (failure == null) {
+            failure = readRemote(urlHash).orElse(null);
+            if (failure != null) {
+                local.put(urlHash.value(), failure);
+            }
+        }
+        return Optional.ofNullable(failure).filter(f -> f.isBlocked(now));
+    }
+
+    @Override
+    public ParseFailure recordFailure(UrlHash urlHash, String errorMessage) {
+        Instant now = Instant.now();
+        ParseFailure previous = local.getIfPresent(urlHash.value());
+        if (previous == null) {
+            previous = readRemote(urlHash).orElse(null);
+        }
+
+        ParseFailure failure = previous == null
+                ? ParseFailure.first(urlHash, errorMessage, baseBackoff, maxBackoff, now)
+                : previous.next(errorMessage, baseBackoff, maxBackoff, now);
+
+        local.put(urlHash.value(), failure);
+        writeRemote(failure);
+
+        log.info("Parse failure memoized",
+                kv("urlHash", urlHash.value()),
+                kv("attempts", failure.attempts()),
+                kv("blockedUntil", failure.blockedUntil()));
+        return failure;
+    }
+
+    @Override
+    public void evict(UrlHash urlHash) {
+        local.invalidate(urlHash.value());
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.delete(KEY_PREFIX + urlHash.value());
+        } catch (DataAccessException e) {
+            log.debug("Redis unavailable, negative cache evicted locally only: {}", e.getMessage());
+        }
+    }
+
+    private Optional<ParseFailure> readRemote(UrlHash urlHash) {
+        if (!redisEnabled) {
+            return Optional.empty();
+        }
+        try {
+            Map<Object, Object> fields = redisTemplate.opsForHash().entries(KEY_PREFIX + urlHash.value());
+            if (fields.isEmpty()) {
+                return Optional.empty();
+            }
+            String error = (String) fields.get(FIELD_ERROR);
+            return Optional.of(new ParseFailure(
+                    urlHash,
+                    error == null || error.isEmpty() ? null : error,
+                    Integer.parseInt((String) fields.get(FIELD_ATTEMPTS)),
+                    Instant.ofEpochMilli(Long.parseLong((String) fields.get(FIELD_BLOCKED_UNTIL)))
+            ));
+        } catch (DataAccessException e) {
+            log.debug("Redis unavailable, negative cache lookup is local only: {}", e.getMessage());
+            return Optional.empty();
+        } catch (RuntimeException e) {
+            log.warn("Malformed negative cache entry in Redis, ignoring",
+                    kv("urlHash", urlHash.value()),
+                    kv("error", e.getMessage()));
+            return Optional.empty();
+        }
+    }
+
+    private void writeRemote(ParseFailure failure) {
+        if (!redisEnabled) {
+            return;
+        }
+        String key = KEY_PREFIX + failure.urlHash().value();
+        try {
+            redisTemplate.opsForHash().putAll(key, Map.of(
+                    FIELD_ERROR, failure.errorMessage() != null ? failure.errorMessage() : "",
+                    FIELD_ATTEMPTS, Integer.toString(failure.attempts()),
+                    FIELD_BLOCKED_UNTIL, Long.toString(failure.blockedUntil().toEpochMilli())
+            ));
+            redisTemplate.expire(key, retentionFor(failure));
+        } catch (DataAccessException e) {
+            log.debug("Redis unavailable, negative cache stored locally only: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Entries outlive their backoff window by {@code maxBackoff} so consecutive
+     * failures keep escalating instead of restarting at the base backoff.
+     */
+    private Duration retentionFor(ParseFailure failure) {
+        Duration untilUnblocked = Duration.between(Instant.now(), failure.blockedUntil());
+        return (untilUnblocked.isNegative() ? Duration.ZERO : untilUnblocked).plus(maxBackoff);
+    }
+}
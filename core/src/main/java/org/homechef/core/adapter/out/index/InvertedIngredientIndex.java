@@ -0,0 +1,138 @@
+package org.homechef.core.adapter.out.index;
+
+import org.homechef.core.application.port.out.RecipeIngredientIndex.Match;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntConsumer;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index: a dictionary assigns each normalized ingredient name a dense id,
+ * and each id has a compressed bitmap (posting list) of the dense ids of recipes using it.
+ * <p>
+ * Ranking counts, per candidate recipe, how many query ingredients it uses by walking the
+ * query's posting lists, then keeps the top K by Jaccard similarity in a bounded heap.
+ * Cost grows with the total size of the query's posting lists, not with the number of recipes.
+ */
+final class InvertedIngredientIndex {
+
+    private static final int[] NO_INGREDIENTS = new int[0];
+
+    /** Best first: higher score, then more matched ingredients, then url hash for a stable order. */
+    static final Comparator<Match> RANKING = Comparator.comparingDouble(Match::score).reversed()
+            .thenComparing(Comparator.comparingInt(Match::matched).reversed())
+            .thenComparing(Match::urlHash);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> ingredientIds = new HashMap<>();
+    private final List<RoaringBitmap> postings = new ArrayList<>();
+    private final Map<String, Integer> recipeIds = new HashMap<>();
+    private final List<String> urlHashes = new ArrayList<>();
+    private final List<int[]> recipeIngredients = new ArrayList<>();
+
+    /**
+     * Indexes a recipe under the given normalized ingredient names, replacing any previous entry.
+     */
+    void put(String urlHash, Collection<String> ingredientNames) {
+        lock.writeLock().lock();
+        try {
+            int recipeId = recipeIds.computeIfAbsent(urlHash, hash -> {
+                urlHashes.add(hash);
+                recipeIngredients.add(NO_INGREDIENTS);
+                return urlHashes.size() - 1;
+            });
+            for (int previous : recipeIngredients.get(recipeId)) {
+                postings.get(previous).remove(recipeId);
+            }
+            int[] ingredients = ingredientNames.stream()
+                    .filter(name -> !name.isEmpty())
+                    .distinct()
+                    .mapToInt(this::ingredientId)
+                    .sorted()
+                    .toArray();
+            for (int ingredient : ingredients) {
+                postings.get(ingredient).add(recipeId);
+            }
+            recipeIngredients.set(recipeId, ingredients);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    List<Match> topMatches(Set<String> ingredientNames, int limit) {
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> lists = ingredientNames.stream()
+                    .map(ingredientIds::get)
+                    .filter(Objects::nonNull)
+                    .map(postings::get)
+                    .toList();
+            if (lists.isEmpty() || limit <= 0) {
+                return List.of();
+            }
+
+            // A query has at most a few dozen ingredients, so a byte per recipe is enough
+            byte[] overlap = new byte[urlHashes.size()];
+            for (RoaringBitmap list : lists) {
+                list.forEach((IntConsumer) recipeId -> overlap[recipeId]++);
+            }
+
+            int querySize = ingredientNames.size();
+            PriorityQueue<Match> worstFirst = new PriorityQueue<>(limit + 1, RANKING.reversed());
+            FastAggregation.or(lists.iterator()).forEach((IntConsumer) recipeId -> {
+                int matched = overlap[recipeId];
+                int ingredientCount = recipeIngredients.get(recipeId).length;
+                double score = (double) matched / (querySize + ingredientCount - matched);
+                if (worstFirst.size() == limit && score < worstFirst.peek().score()) {
+                    return;
+                }
+                worstFirst.add(new Match(urlHashes.get(recipeId), score, matched, ingredientCount));
+                if (worstFirst.size() > limit) {
+                    worstFirst.poll();
+                }
+            });
+
+            List<Match> ranked = new ArrayList<>(worstFirst);
+            ranked.sort(RANKING);
+            return ranked;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int recipeCount() {
+        lock.readLock().lock();
+        try {
+            return urlHashes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int ingredientCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int ingredientId(String name) {
+        return ingredientIds.computeIfAbsent(name, key -> {
+            postings.add(new RoaringBitmap());
+            return postings.size() - 1;
+        });
+    }
+}
@@ -0,0 +1,149 @@
+package org.homechef.core.adapter.out.index;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.homechef.core.application.port.out.RecipeIngredientIndex;
+import org.homechef.core.domain.recipe.Ingredient;
+import org.homechef.core.domain.recipe.Recipe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * "What can I cook" index held in memory as RoaringBitmap posting lists.
+ * <p>
+ * Recipes saved on this instance are indexed right after their transaction commits.
+ * A scheduled sync also reads recipes whose parsed_at moved past the last watermark, which
+ * builds the index at startup and picks up recipes saved by other replicas. The sync
+ * re-reads a short overlap window because a transaction may commit after a later one.
+ */
+@Component
+public class RoaringRecipeIngredientIndex implements RecipeIngredientIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(RoaringRecipeIngredientIndex.class);
+    private static final String SYNC_QUERY =
+            "SELECT url_hash, ingredient_names, parsed_at FROM recipe WHERE parsed_at > ? ORDER BY parsed_at";
+
+    private final InvertedIngredientIndex index = new InvertedIngredientIndex();
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final JsonMapper jsonMapper;
+    private final Duration syncOverlap;
+    private volatile Instant watermark = Instant.EPOCH;
+
+    public RoaringRecipeIngredientIndex(DataSource dataSource,
+                                        PlatformTransactionManager transactionManager,
+                                        JsonMapper jsonMapper,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${homechef.cookable.sync-overlap:PT1M}") Duration syncOverlap,
+                                        @Value("${homechef.cookable.sync-fetch-size:2000}") int fetchSize) {
+        // Postgres only streams rows with a fetch size inside a transaction
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.jsonMapper = jsonMapper;
+        this.syncOverlap = syncOverlap;
+
+        Gauge.builder("recipe.ingredient.index.size", index, InvertedIngredientIndex::recipeCount)
+                .description("Entries in the in-memory ingredient index by kind")
+                .tag("kind", "recipes")
+                .register(meterRegistry);
+        Gauge.builder("recipe.ingredient.index.size", index, InvertedIngredientIndex::ingredientCount)
+                .description("Entries in the in-memory ingredient index by kind")
+                .tag("kind", "ingredients")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void index(Recipe recipe) {
+        List<String> names = recipe.getIngredients().stream().map(Ingredient::normalizedName).toList();
+        String urlHash = recipe.getUrlHash().value();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            index.put(urlHash, names);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                index.put(urlHash, names);
+            }
+        });
+    }
+
+    @Override
+    public List<Match> topMatches(Set<String> ingredientNames, int limit) {
+        return index.topMatches(ingredientNames, limit);
+    }
+
+    @Scheduled(fixedDelayString = "${homechef.cookable.sync-interval:PT30S}")
+    public void sync() {
+        Instant since = watermark.equals(Instant.EPOCH) ? Instant.EPOCH : watermark.minus(syncOverlap);
+        long startedAt = System.nanoTime();
+        try {
+            SyncProgress progress = readOnlyTransaction.execute(status -> {
+                SyncProgress p = new SyncProgress(watermark);
+                streamingJdbcTemplate.query(SYNC_QUERY, rs -> {
+                    index.put(rs.getString("url_hash"), normalize(rs.getString("ingredient_names")));
+                    p.advance(rs.getObject("parsed_at", OffsetDateTime.class).toInstant());
+                }, Timestamp.from(since));
+                return p;
+            });
+            watermark = progress.latest;
+            if (progress.rows > 0) {
+                log.info("Synced ingredient index",
+                        kv("rows", progress.rows),
+                        kv("recipes", index.recipeCount()),
+                        kv("ingredients", index.ingredientCount()),
+                        kv("durationMs", Duration.ofNanos(System.nanoTime() - startedAt).toMillis()));
+            }
+        } catch (RuntimeException e) {
+            // Keep serving the current index; the next run retries from the same watermark
+            log.warn("Failed to sync ingredient index", kv("error", e.getMessage()));
+        }
+    }
+
+    private List<String> normalize(String ingredientNamesJson) {
+        if (ingredientNamesJson == null) {
+            return List.of();
+        }
+        return Arrays.stream(jsonMapper.readValue(ingredientNamesJson, String[].class))
+                .map(Ingredient::normalizeName)
+                .toList();
+    }
+
+    private static final class SyncProgress {
+        private Instant latest;
+        private long rows;
+
+        private SyncProgress(Instant latest) {
+            this.latest = latest;
+        }
+
+        private void advance(Instant parsedAt) {
+            rows++;
+            if (parsedAt.isAfter(latest)) {
+                latest = parsedAt;
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.homechef.core.adapter.out.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for converting a recipe's ingredients to or from their JSONB column.
+ */
+@Name("org.homechef.IngredientMapping")
+@Label("Ingredient (De)serialization")
+@Category({"HomeChef", "Persistence"})
+@Description("Ingredient list converted to or from JSON in RecipeMapper")
+@StackTrace(false)
+public class IngredientMappingEvent extends Event {
+
+    @Label("Direction")
+    @Description("serialize or deserialize")
+    public String direction;
+
+    @Label("Ingredient Count")
+    public int ingredientCount;
+
+    @Label("JSON Length")
+    @Description("Length of the JSON document in characters")
+    public int jsonLength;
+}
@@ -0,0 +1,25 @@
+package org.homechef.core.adapter.out.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for validating a bearer token. The token itself is never recorded.
+ */
+@Name("org.homechef.JwtValidation")
+@Label("JWT Validation")
+@Category({"HomeChef", "Security"})
+@Description("Bearer token validated by JwtTokenProvider")
+@StackTrace(false)
+public class JwtValidationEvent extends Event {
+
+    @Label("Cache Hit")
+    public boolean cacheHit;
+
+    @Label("Valid")
+    public boolean valid;
+}
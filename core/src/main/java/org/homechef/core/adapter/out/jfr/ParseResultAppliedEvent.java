@@ -0,0 +1,31 @@
+package org.homechef.core.adapter.out.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for applying a parse result from Kafka (recipe upsert and status update).
+ */
+@Name("org.homechef.ParseResultApplied")
+@Label("Parse Result Applied")
+@Category({"HomeChef", "Kafka"})
+@Description("Parse result event consumed and written to the database")
+@StackTrace(false)
+public class ParseResultAppliedEvent extends Event {
+
+    @Label("Request ID")
+    public String requestId;
+
+    @Label("URL Hash")
+    public String urlHash;
+
+    @Label("Success")
+    public boolean success;
+
+    @Label("Ingredient Count")
+    public int ingredientCount;
+}
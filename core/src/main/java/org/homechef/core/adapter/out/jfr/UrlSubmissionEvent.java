@@ -0,0 +1,29 @@
+package org.homechef.core.adapter.out.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a recipe URL submission, from request to response.
+ */
+@Name("org.homechef.UrlSubmission")
+@Label("URL Submission")
+@Category({"HomeChef", "Recipes"})
+@Description("Recipe URL submission handled by the API")
+@StackTrace(false)
+public class UrlSubmissionEvent extends Event {
+
+    @Label("URL Hash")
+    public String urlHash;
+
+    @Label("Outcome")
+    @Description("cached, pending, deduped, failed, or the exception raised")
+    public String outcome;
+
+    @Label("Guest")
+    public boolean guest;
+}
@@ -3,66 +3,93 @@ package org.homechef.core.adapter.out.kafka;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.homechef.core.application.port.out.ParseEventPublisher;
+import org.homechef.core.domain.recipe.ParseLane;
 import org.homechef.core.domain.recipe.ParseRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static net.logstash.logback.argument.StructuredArguments.kv;
 
+/**
+ * Publishes parse requests, routing authenticated users to a priority topic when lanes are enabled.
+ * With lanes disabled every request goes to the standard topic, as before.
+ */
 @Component
 public class KafkaParseEventPublisher implements ParseEventPublisher {
 
     private static final Logger log = LoggerFactory.getLogger(KafkaParseEventPublisher.class);
 
     private final KafkaTemplate<String, ParseRequestEvent> kafkaTemplate;
-    private final String topic;
-    private final Counter publishSuccessCounter;
-    private final Counter publishFailureCounter;
+    private final Executor callbackExecutor;
+    private final Map<ParseLane, String> topics = new EnumMap<>(ParseLane.class);
+    private final Map<ParseLane, Counter> publishSuccessCounters = new EnumMap<>(ParseLane.class);
+    private final Map<ParseLane, Counter> publishFailureCounters = new EnumMap<>(ParseLane.class);
 
     public KafkaParseEventPublisher(
             KafkaTemplate<String, ParseRequestEvent> kafkaTemplate,
             @Value("${homechef.kafka.topic.parse-request:parse-requests}") String topic,
+            @Value("${homechef.kafka.topic.parse-request-priority:parse-requests-priority}") String priorityTopic,
+            @Value("${homechef.kafka.priority-lanes.enabled:false}") boolean priorityLanesEnabled,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled,
+            @Qualifier("applicationTaskExecutor") Executor applicationTaskExecutor,
             MeterRegistry meterRegistry) {
         this.kafkaTemplate = kafkaTemplate;
-        this.topic = topic;
-        this.publishSuccessCounter = meterRegistry.counter("kafka.publish", "topic", topic, "outcome", "success");
-        this.publishFailureCounter = meterRegistry.counter("kafka.publish", "topic", topic, "outcome", "failure");
+        // With virtual threads, send callbacks leave the producer I/O thread; otherwise they run inline on it
+        this.callbackExecutor = virtualThreadsEnabled ? applicationTaskExecutor : Runnable::run;
+        topics.put(ParseLane.STANDARD, topic);
+        topics.put(ParseLane.PRIORITY, priorityLanesEnabled ? priorityTopic : topic);
+
+        for (ParseLane lane : ParseLane.values()) {
+            String laneTopic = topics.get(lane);
+            publishSuccessCounters.put(lane, meterRegistry.counter("kafka.publish",
+                    "topic", laneTopic, "lane", lane.tag(), "outcome", "success"));
+            publishFailureCounters.put(lane, meterRegistry.counter("kafka.publish",
+                    "topic", laneTopic, "lane", lane.tag(), "outcome", "failure"));
+        }
     }
 
     @Override
     public void publishParseRequest(ParseRequest parseRequest, String url) {
+        ParseLane lane = ParseLane.of(parseRequest);
+        String topic = topics.get(lane);
         ParseRequestEvent event = new ParseRequestEvent(
                 parseRequest.getId(),
                 url,
                 parseRequest.getUrlHash().value(),
-                Instant.now()
+                Instant.now(),
+                lane.tag()
         );
 
         log.info("Publishing parse request event to Kafka",
                 kv("requestId", event.requestId()),
                 kv("urlHash", event.urlHash()),
-                kv("topic", topic));
+                kv("topic", topic),
+                kv("lane", lane.tag()));
 
         CompletableFuture<SendResult<String, ParseRequestEvent>> future =
                 kafkaTemplate.send(topic, event.urlHash(), event);
 
-        future.whenComplete((result, ex) -> {
+        future.whenCompleteAsync((result, ex) -> {
             if (ex != null) {
-                publishFailureCounter.increment();
+                publishFailureCounters.get(lane).increment();
                 log.error("Failed to publish parse request event",
                         kv("requestId", event.requestId()),
                         kv("urlHash", event.urlHash()),
                         kv("topic", topic),
                         kv("error", ex.getMessage()));
             } else {
-                publishSuccessCounter.increment();
+                publishSuccessCounters.get(lane).increment();
                 log.debug("Parse request event published successfully",
                         kv("requestId", event.requestId()),
                         kv("urlHash", event.urlHash()),
@@ -70,6 +97,6 @@ public class KafkaParseEventPublisher implements ParseEventPublisher {
                         kv("partition", result.getRecordMetadata().partition()),
                         kv("offset", result.getRecordMetadata().offset()));
             }
-        });
+        }, callbackExecutor);
     }
-}
\ No newline at end of file
+}
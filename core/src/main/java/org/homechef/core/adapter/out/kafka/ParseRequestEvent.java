@@ -11,6 +11,7 @@ public record ParseRequestEvent(
         UUID requestId,
         String url,
         String urlHash,
-        Instant requestedAt
+        Instant requestedAt,
+        String lane // "priority" or "standard"
 ) {
-}
\ No newline at end of file
+}
@@ -0,0 +1,72 @@
+package org.homechef.core.adapter.out.kafka;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.homechef.core.adapter.kafka.BinaryEventReader;
+import org.homechef.core.adapter.kafka.BinaryEventWriter;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Binary schema of {@link ParseRequestEvent}.
+ * <p>
+ * Version 1: requestId (UUID), url (string), urlHash (hash), requestedAt (varint epoch seconds,
+ * varint nanos), lane (byte: 0 absent, 1 standard, 2 priority).
+ */
+public final class ParseRequestEventCodec {
+
+    static final int SCHEMA_VERSION = 1;
+
+    // Wire values of the lane byte, index + 1; append only
+    private static final List<String> LANES = List.of("standard", "priority");
+
+    private ParseRequestEventCodec() {
+    }
+
+    public static byte[] encode(ParseRequestEvent event) {
+        BinaryEventWriter writer = new BinaryEventWriter(SCHEMA_VERSION);
+        writer.writeUuid(event.requestId());
+        writer.writeString(event.url());
+        writer.writeUrlHash(event.urlHash());
+        writer.writeVarLong(event.requestedAt().getEpochSecond());
+        writer.writeVarLong(event.requestedAt().getNano());
+        writer.writeByte(laneCode(event.lane()));
+        return writer.toByteArray();
+    }
+
+    public static ParseRequestEvent decode(byte[] data) {
+        BinaryEventReader reader = new BinaryEventReader(data);
+        if (reader.schemaVersion() != SCHEMA_VERSION) {
+            throw new SerializationException("Unsupported ParseRequestEvent schema version " + reader.schemaVersion());
+        }
+        ParseRequestEvent event = new ParseRequestEvent(
+                reader.readUuid(),
+                reader.readString(),
+                reader.readUrlHash(),
+                Instant.ofEpochSecond(reader.readVarLong(), reader.readVarLong()),
+                lane(reader.readByte()));
+        reader.requireEnd();
+        return event;
+    }
+
+    private static int laneCode(String lane) {
+        if (lane == null) {
+            return 0;
+        }
+        int index = LANES.indexOf(lane);
+        if (index < 0) {
+            throw new SerializationException("Unknown parse lane: " + lane);
+        }
+        return index + 1;
+    }
+
+    private static String lane(int code) {
+        if (code == 0) {
+            return null;
+        }
+        if (code > LANES.size()) {
+            throw new SerializationException("Unknown parse lane code: " + code);
+        }
+        return LANES.get(code - 1);
+    }
+}
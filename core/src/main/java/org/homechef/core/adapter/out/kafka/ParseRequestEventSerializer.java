@@ -0,0 +1,53 @@
+package org.homechef.core.adapter.out.kafka;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.homechef.core.adapter.kafka.WireFormat;
+import org.springframework.kafka.support.JacksonMapperUtils;
+import org.springframework.kafka.support.serializer.JacksonJsonSerializer;
+import tools.jackson.databind.cfg.DateTimeFeature;
+
+import java.util.Map;
+
+/**
+ * Writes parse requests in the topic's {@link WireFormat}: binary via {@link ParseRequestEventCodec},
+ * otherwise JSON exactly as Spring's {@link JacksonJsonSerializer} writes it.
+ * <p>
+ * Jackson 3 writes instants as ISO strings by default. {@code requestedAt} stays a numeric epoch
+ * timestamp, as parsers have always received it.
+ */
+public class ParseRequestEventSerializer implements Serializer<ParseRequestEvent> {
+
+    private final JacksonJsonSerializer<ParseRequestEvent> json = new JacksonJsonSerializer<>(
+            JacksonMapperUtils.enhancedJsonMapper().rebuild()
+                    .enable(DateTimeFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .build());
+    private WireFormat format = WireFormat.JSON;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        format = WireFormat.from(configs);
+        json.configure(configs, isKey);
+    }
+
+    @Override
+    public byte[] serialize(String topic, ParseRequestEvent event) {
+        return serialize(topic, null, event);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, ParseRequestEvent event) {
+        if (event == null) {
+            return null;
+        }
+        if (format.writesBinary()) {
+            return ParseRequestEventCodec.encode(event);
+        }
+        return headers != null ? json.serialize(topic, headers, event) : json.serialize(topic, event);
+    }
+
+    @Override
+    public void close() {
+        json.close();
+    }
+}
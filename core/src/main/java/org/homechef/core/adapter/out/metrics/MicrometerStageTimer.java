@@ -0,0 +1,73 @@
+package org.homechef.core.adapter.out.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.homechef.core.application.port.out.StageTimer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Micrometer implementation of the StageTimer port, published as {@code usecase.stage.duration}.
+ * The outcome tag is {@code present}/{@code empty} for Optional results, {@code error} when the
+ * call throws, and {@code success} otherwise. When disabled, calls run directly with no clock reads.
+ */
+@Component
+public class MicrometerStageTimer implements StageTimer {
+
+    static final String METRIC = "usecase.stage.duration";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final ConcurrentMap<StageKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public MicrometerStageTimer(
+            MeterRegistry meterRegistry,
+            @Value("${homechef.metrics.stage-timing.enabled:true}") boolean enabled) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public <T> T time(String useCase, String stage, Supplier<T> call) {
+        if (!enabled) {
+            return call.get();
+        }
+
+        long start = System.nanoTime();
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            record(useCase, stage, "error", start);
+            throw e;
+        }
+        record(useCase, stage, outcomeOf(result), start);
+        return result;
+    }
+
+    private void record(String useCase, String stage, String outcome, long startNanos) {
+        timers.computeIfAbsent(new StageKey(useCase, stage, outcome), key -> Timer.builder(METRIC)
+                        .description("Duration of a single stage within a use case")
+                        .tag("usecase", key.useCase())
+                        .tag("stage", key.stage())
+                        .tag("outcome", key.outcome())
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static String outcomeOf(Object result) {
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? "present" : "empty";
+        }
+        return "success";
+    }
+
+    private record StageKey(String useCase, String stage, String outcome) {}
+}
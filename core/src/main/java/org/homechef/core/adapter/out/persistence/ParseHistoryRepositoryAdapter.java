@@ -0,0 +1,57 @@
+package org.homechef.core.adapter.out.persistence;
+
+import org.homechef.core.application.port.out.ParseHistoryRepository;
+import org.homechef.core.domain.recipe.ParseStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Parse history pages read through idx_parse_request_user_history (V5). The predicate and
+ * ORDER BY match the index key, so each page is one index range scan of {@code limit} rows
+ * however deep the user pages, plus a primary key lookup per row for the recipe title.
+ */
+@Repository
+public class ParseHistoryRepositoryAdapter implements ParseHistoryRepository {
+
+    private static final String SELECT = """
+            SELECT p.id, p.url_hash, p.status, p.created_at, p.updated_at, r.title
+            FROM parse_request p
+            LEFT JOIN recipe r ON r.url_hash = p.url_hash
+            WHERE p.user_id = :userId
+            """;
+    private static final String AFTER = " AND (p.created_at, p.id) < (:afterCreatedAt, :afterId)";
+    private static final String ORDER = " ORDER BY p.created_at DESC, p.id DESC LIMIT :limit";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ParseHistoryRepositoryAdapter(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Entry> findByUser(UUID userId, Instant afterCreatedAt, UUID afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("limit", limit);
+        String sql = SELECT + ORDER;
+        if (afterCreatedAt != null) {
+            sql = SELECT + AFTER + ORDER;
+            params.addValue("afterCreatedAt", OffsetDateTime.ofInstant(afterCreatedAt, ZoneOffset.UTC));
+            params.addValue("afterId", afterId);
+        }
+        return jdbcTemplate.query(sql, params, (rs, rowNum) -> new Entry(
+                rs.getObject("id", UUID.class),
+                rs.getString("url_hash"),
+                ParseStatus.valueOf(rs.getString("status")),
+                rs.getString("title"),
+                rs.getObject("created_at", OffsetDateTime.class).toInstant(),
+                rs.getObject("updated_at", OffsetDateTime.class).toInstant()));
+    }
+}
@@ -5,9 +5,12 @@ import org.homechef.core.adapter.out.persistence.mapper.ParseRequestMapper;
 import org.homechef.core.adapter.out.persistence.repository.SpringDataParseRequestRepository;
 import org.homechef.core.application.port.out.ParseRequestRepository;
 import org.homechef.core.domain.recipe.ParseRequest;
+import org.homechef.core.domain.recipe.ParseStatus;
 import org.homechef.core.domain.recipe.UrlHash;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -29,12 +32,33 @@ public class ParseRequestRepositoryAdapter implements ParseRequestRepository {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public List<ParseRequest> findAllById(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return springDataRepository.findAllByIdIn(ids.toArray(UUID[]::new)).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<ParseRequest> findInFlightByUrlHash(UrlHash urlHash) {
         return springDataRepository.findInFlightByUrlHash(urlHash.value())
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public Optional<ParseRequest> findOldestInFlight() {
+        return springDataRepository.findOldestInFlight()
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public long countByStatus(ParseStatus status) {
+        return springDataRepository.countByStatus(status.name());
+    }
+
     @Override
     public ParseRequest save(ParseRequest parseRequest) {
         ParseRequestEntity entity = mapper.toEntity(parseRequest);
@@ -52,7 +76,8 @@ public class ParseRequestRepositoryAdapter implements ParseRequestRepository {
     }
 
     @Override
-    public void updateStatus(UUID id, String status, String errorMessage) {
-        springDataRepository.updateStatus(id, status, errorMessage);
+    public Optional<ParseRequest> updateStatus(UUID id, String status, String errorMessage) {
+        return springDataRepository.updateStatus(id, status, errorMessage)
+                .map(mapper::toDomain);
     }
 }
\ No newline at end of file
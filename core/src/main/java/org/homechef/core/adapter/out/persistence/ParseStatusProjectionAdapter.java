@@ -0,0 +1,110 @@
+package org.homechef.core.adapter.out.persistence;
+
+import org.homechef.core.application.port.in.dto.ParseStatusResult;
+import org.homechef.core.application.port.in.dto.ParseStatusView;
+import org.homechef.core.application.port.out.ParseStatusProjection;
+import org.homechef.core.application.port.out.ParseStatusRenderer;
+import org.homechef.core.domain.recipe.ParseStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * parse_status_view (V8). Bodies are rendered by the {@link ParseStatusRenderer}, so a stored body
+ * is byte-for-byte what the endpoint would return.
+ * <p>
+ * The row's created_at is copied from parse_request, and nothing is written for a request id
+ * that does not exist.
+ */
+@Repository
+public class ParseStatusProjectionAdapter implements ParseStatusProjection {
+
+    private static final String UPSERT = """
+            INSERT INTO parse_status_view (request_id, status, body, created_at, updated_at)
+            SELECT id, :status, :body, created_at, now()
+            FROM parse_request
+            WHERE id = :requestId
+            ON CONFLICT (request_id) DO UPDATE
+            SET status = EXCLUDED.status, body = EXCLUDED.body, updated_at = EXCLUDED.updated_at
+            """;
+
+    // Bodies of statuses the caller already has are not worth sending over the wire
+    private static final String FIND_ALL = """
+            SELECT request_id, status, updated_at,
+                   CASE WHEN updated_at > :updatedAfter THEN body END AS body
+            FROM parse_status_view
+            WHERE request_id = ANY(:requestIds)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ParseStatusRenderer renderer;
+
+    public ParseStatusProjectionAdapter(NamedParameterJdbcTemplate jdbcTemplate, ParseStatusRenderer renderer) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.renderer = renderer;
+    }
+
+    @Override
+    public ParseStatusView save(ParseStatusResult status) {
+        return saveAll(List.of(status)).get(0);
+    }
+
+    @Override
+    public List<ParseStatusView> saveAll(Collection<ParseStatusResult> statuses) {
+        if (statuses.isEmpty()) {
+            return List.of();
+        }
+        List<ParseStatusView> views = statuses.stream().map(this::render).toList();
+        MapSqlParameterSource[] batch = views.stream()
+                .map(view -> new MapSqlParameterSource()
+                        .addValue("requestId", view.requestId())
+                        .addValue("status", view.status().name())
+                        .addValue("body", view.body()))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(UPSERT, batch);
+        return views;
+    }
+
+    @Override
+    public Optional<ParseStatusView> findById(UUID requestId) {
+        return jdbcTemplate.query(
+                "SELECT status, body FROM parse_status_view WHERE request_id = :requestId",
+                new MapSqlParameterSource("requestId", requestId),
+                (rs, rowNum) -> new ParseStatusView(
+                        requestId,
+                        ParseStatus.valueOf(rs.getString("status")),
+                        rs.getBytes("body"))
+        ).stream().findFirst();
+    }
+
+    @Override
+    public List<StoredStatus> findAllById(Collection<UUID> requestIds, Instant updatedAfter) {
+        if (requestIds.isEmpty()) {
+            return List.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("requestIds", requestIds.toArray(UUID[]::new))
+                .addValue("updatedAfter", OffsetDateTime.ofInstant(updatedAfter, ZoneOffset.UTC));
+        return jdbcTemplate.query(FIND_ALL, params, (rs, rowNum) -> new StoredStatus(
+                rs.getObject("request_id", UUID.class),
+                ParseStatus.valueOf(rs.getString("status")),
+                rs.getObject("updated_at", OffsetDateTime.class).toInstant(),
+                rs.getBytes("body")));
+    }
+
+    @Override
+    public ParseStatusView render(ParseStatusResult status) {
+        return new ParseStatusView(
+                status.requestId(),
+                status.status(),
+                renderer.render(status));
+    }
+}
@@ -0,0 +1,29 @@
+package org.homechef.core.adapter.out.persistence;
+
+import org.homechef.core.application.port.out.JobLock;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Job lock on a Postgres transaction-level advisory lock keyed by the job name, so replicas
+ * coordinate through the database they already share. A crashed holder's lock is released
+ * with its connection.
+ */
+@Component
+public class PostgresAdvisoryJobLock implements JobLock {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostgresAdvisoryJobLock(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean tryLockForTransaction(String jobName) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(hashtext(?))", Boolean.class, jobName));
+    }
+}
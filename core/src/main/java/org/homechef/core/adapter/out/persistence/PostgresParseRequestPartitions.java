@@ -0,0 +1,112 @@
+package org.homechef.core.adapter.out.persistence;
+
+import org.homechef.core.application.port.out.ParseRequestPartitions;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Partitions named parse_request_YYYY_MM, created by the parse_request_ensure_partition
+ * function from V7. Partition names are built from a YearMonth only, never from input.
+ * <p>
+ * parse_status_view (V8) and webhook_delivery (V9) are not partitioned; their rows of a dropped
+ * month are deleted by created_at range, in batches by primary key.
+ */
+@Repository
+public class PostgresParseRequestPartitions implements ParseRequestPartitions {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Pattern PARTITION_NAME = Pattern.compile("parse_request_(\\d{4})_(\\d{2})");
+    private static final String[][] DERIVED_TABLES = {
+            {"parse_status_view", "request_id"},
+            {"webhook_delivery", "id"}
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostgresParseRequestPartitions(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean ensure(YearMonth month) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT parse_request_ensure_partition(?)", Boolean.class, month.atDay(1)));
+    }
+
+    @Override
+    public List<YearMonth> list() {
+        return jdbcTemplate.queryForList("""
+                        SELECT c.relname
+                        FROM pg_inherits i
+                        JOIN pg_class c ON c.oid = i.inhrelid
+                        WHERE i.inhparent = 'parse_request'::regclass
+                        """, String.class).stream()
+                .map(PostgresParseRequestPartitions::toMonth)
+                .filter(Objects::nonNull)
+                .sorted()
+                .toList();
+    }
+
+    @Override
+    public boolean hasInFlight(YearMonth month) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + name(month) + " WHERE status IN ('PENDING', 'PROCESSING'))",
+                Boolean.class));
+    }
+
+    @Override
+    public void drop(YearMonth month) {
+        // No rows are scanned or deleted one by one, but the DETACH locks parse_request exclusively
+        // until the transaction ends, so nothing else belongs in it
+        jdbcTemplate.execute("ALTER TABLE parse_request DETACH PARTITION " + name(month));
+        jdbcTemplate.execute("DROP TABLE " + name(month));
+    }
+
+    @Override
+    public Optional<YearMonth> oldestDerived() {
+        // Both are index-only lookups on the created_at indexes
+        Timestamp oldest = jdbcTemplate.queryForObject("""
+                SELECT least((SELECT min(created_at) FROM parse_status_view),
+                             (SELECT min(created_at) FROM webhook_delivery))
+                """, Timestamp.class);
+        return Optional.ofNullable(oldest)
+                .map(timestamp -> YearMonth.from(timestamp.toInstant().atOffset(ZoneOffset.UTC)));
+    }
+
+    @Override
+    public int purgeDerived(YearMonth month, int limit) {
+        OffsetDateTime from = month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+        OffsetDateTime to = month.plusMonths(1).atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+        int deleted = 0;
+        for (String[] table : DERIVED_TABLES) {
+            deleted += jdbcTemplate.update("DELETE FROM " + table[0] + " WHERE " + table[1] + " IN ("
+                            + "SELECT " + table[1] + " FROM " + table[0]
+                            + " WHERE created_at >= ? AND created_at < ? LIMIT ?)",
+                    from, to, limit);
+        }
+        return deleted;
+    }
+
+    private static String name(YearMonth month) {
+        return "parse_request_" + month.format(SUFFIX);
+    }
+
+    private static YearMonth toMonth(String partitionName) {
+        Matcher matcher = PARTITION_NAME.matcher(partitionName);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+    }
+}
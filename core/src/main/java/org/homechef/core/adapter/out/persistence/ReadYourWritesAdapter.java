@@ -0,0 +1,62 @@
+package org.homechef.core.adapter.out.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.homechef.core.application.port.out.ReadYourWrites;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Remembers requests written by this instance for a window longer than normal replica lag.
+ * Without replicas every read already goes to the primary, so this only passes reads through.
+ */
+@Component
+public class ReadYourWritesAdapter implements ReadYourWrites {
+
+    private final boolean replicasEnabled;
+    private final Cache<UUID, Boolean> recentWrites;
+    private final TransactionTemplate primaryReadTransaction;
+
+    public ReadYourWritesAdapter(PlatformTransactionManager transactionManager,
+                                 @Value("${homechef.datasource.replicas.enabled:false}") boolean replicasEnabled,
+                                 @Value("${homechef.datasource.replicas.read-your-writes-window:PT10S}") Duration window,
+                                 @Value("${homechef.datasource.replicas.read-your-writes-max-entries:100000}") long maxEntries) {
+        this.replicasEnabled = replicasEnabled;
+        this.recentWrites = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maxEntries)
+                .build();
+        // A new transaction fetches a fresh connection, so the primary is used even when the
+        // caller's transaction already holds a replica connection
+        this.primaryReadTransaction = new TransactionTemplate(transactionManager);
+        this.primaryReadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.primaryReadTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public void recordWrite(UUID requestId) {
+        if (replicasEnabled) {
+            recentWrites.put(requestId, Boolean.TRUE);
+        }
+    }
+
+    @Override
+    public boolean isRecentWrite(UUID requestId) {
+        return replicasEnabled && recentWrites.getIfPresent(requestId) != null;
+    }
+
+    @Override
+    public <T> T readFromPrimary(Supplier<T> read) {
+        if (!replicasEnabled) {
+            return read.get();
+        }
+        return ReplicaRoutingDataSource.onPrimary(() -> primaryReadTransaction.execute(status -> read.get()));
+    }
+}
@@ -9,7 +9,10 @@ import org.homechef.core.domain.recipe.UrlHash;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.StreamSupport;
 
 @Repository
 public class RecipeRepositoryAdapter implements RecipeRepository {
@@ -32,6 +35,17 @@ public class RecipeRepositoryAdapter implements RecipeRepository {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public List<Recipe> findAllByUrlHash(Collection<UrlHash> urlHashes) {
+        if (urlHashes.isEmpty()) {
+            return List.of();
+        }
+        List<String> ids = urlHashes.stream().map(UrlHash::value).toList();
+        return StreamSupport.stream(springDataRepository.findAllById(ids).spliterator(), false)
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<Recipe> findFreshByUrlHash(UrlHash urlHash) {
         return springDataRepository.findFreshByUrlHash(urlHash.value(), recipeTtlDays)
@@ -53,4 +67,9 @@ public class RecipeRepositoryAdapter implements RecipeRepository {
         }
         return recipe;
     }
+
+    @Override
+    public long estimateCount() {
+        return springDataRepository.estimateCount();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+package org.homechef.core.adapter.out.persistence;
+
+import org.homechef.core.adapter.out.persistence.entity.RecipeEntity;
+import org.homechef.core.adapter.out.persistence.mapper.RecipeMapper;
+import org.homechef.core.application.exception.SearchTimeoutException;
+import org.homechef.core.application.port.out.RecipeSearchRepository;
+import org.homechef.core.domain.recipe.Recipe;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Recipe search over the generated title_tsv and ingredient_names columns (V4).
+ * Each search runs with a Postgres statement_timeout so a broad query fails fast
+ * instead of holding a connection.
+ */
+@Repository
+public class RecipeSearchRepositoryAdapter implements RecipeSearchRepository {
+
+    private static final String QUERY_CANCELED = "57014";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final RecipeMapper mapper;
+    private final JsonMapper jsonMapper;
+    private final Duration timeout;
+
+    public RecipeSearchRepositoryAdapter(NamedParameterJdbcTemplate jdbcTemplate,
+                                         RecipeMapper mapper,
+                                         JsonMapper jsonMapper,
+                                         @Value("${homechef.search.timeout:PT0.5S}") Duration timeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.mapper = mapper;
+        this.jsonMapper = jsonMapper;
+        this.timeout = timeout;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Recipe> search(Criteria criteria) {
+        StringBuilder sql = new StringBuilder("SELECT url_hash, title, ingredients, parsed_at FROM recipe WHERE true");
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", criteria.limit());
+
+        if (criteria.text() != null) {
+            sql.append(" AND title_tsv @@ websearch_to_tsquery('english', :text)");
+            params.addValue("text", criteria.text());
+        }
+        if (!criteria.ingredients().isEmpty()) {
+            sql.append(" AND ingredient_names @> CAST(:ingredients AS JSONB)");
+            params.addValue("ingredients", jsonMapper.writeValueAsString(criteria.ingredients()));
+        }
+        if (criteria.afterParsedAt() != null) {
+            sql.append(" AND (parsed_at, url_hash) < (:afterParsedAt, :afterUrlHash)");
+            params.addValue("afterParsedAt", OffsetDateTime.ofInstant(criteria.afterParsedAt(), ZoneOffset.UTC));
+            params.addValue("afterUrlHash", criteria.afterUrlHash());
+        }
+        sql.append(" ORDER BY parsed_at DESC, url_hash DESC LIMIT :limit");
+
+        try {
+            // SET LOCAL lasts until the end of the surrounding transaction
+            jdbcTemplate.getJdbcOperations().execute("SET LOCAL statement_timeout = " + timeout.toMillis());
+            return jdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> mapper.toDomain(new RecipeEntity(
+                    rs.getString("url_hash"),
+                    rs.getString("title"),
+                    rs.getString("ingredients"),
+                    rs.getObject("parsed_at", OffsetDateTime.class).toInstant())));
+        } catch (DataAccessException e) {
+            if (isStatementTimeout(e)) {
+                throw new SearchTimeoutException(timeout, e);
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isStatementTimeout(DataAccessException e) {
+        return e instanceof QueryTimeoutException
+                || (e.getMostSpecificCause() instanceof SQLException sqlException
+                        && QUERY_CANCELED.equals(sqlException.getSQLState()));
+    }
+}
@@ -0,0 +1,163 @@
+package org.homechef.core.adapter.out.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Connection source for read-only transactions: round-robins over healthy replicas and falls back
+ * to the primary when none is healthy. A replica is unhealthy while it is unreachable or replaying
+ * more than {@code maxLag} behind; a failed connection attempt marks it unhealthy at once, and the
+ * periodic health check brings it back.
+ * <p>
+ * Lag is the age of the last replayed transaction, but only while the replica has received WAL it
+ * has not replayed yet. A caught-up replica of an idle primary has an old last transaction and is
+ * still not behind.
+ * <p>
+ * Used as the read-only target of a LazyConnectionDataSourceProxy, which only asks for a connection
+ * once the transaction's read-only flag is known. Owns the replica pools and closes them on close.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+    static final String LAG_QUERY = """
+            SELECT pg_is_in_recovery(),
+                   CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                        ELSE extract(epoch FROM now() - pg_last_xact_replay_timestamp())
+                   END""";
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicas, Duration maxLag,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.maxLag = maxLag;
+        for (Replica replica : this.replicas) {
+            Gauge.builder("db.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .description("1 while the read replica receives read-only transactions")
+                    .tag("replica", replica.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Runs {@code read} with connections for read-only transactions taken from the primary.
+     * Only affects transactions that have not fetched their connection yet.
+     */
+    public static <T> T onPrimary(Supplier<T> read) {
+        Boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            if (previous == null) {
+                FORCE_PRIMARY.remove();
+            } else {
+                FORCE_PRIMARY.set(previous);
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (FORCE_PRIMARY.get() == null) {
+            int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+            for (int i = 0; i < replicas.size(); i++) {
+                Replica replica = replicas.get((start + i) % replicas.size());
+                if (!replica.healthy) {
+                    continue;
+                }
+                try {
+                    return replica.dataSource.getConnection();
+                } catch (SQLException e) {
+                    replica.markUnhealthy("connection failed: " + e.getMessage());
+                }
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Credentials are configured per pool");
+    }
+
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            replica.dataSource.close();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${homechef.datasource.replicas.health-check-interval:PT5S}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+                rs.next();
+                double lagSeconds = rs.getDouble(2);
+                // Caught up reads as 0; no replayed transaction yet (fresh replica) reads as NULL: not lagging
+                boolean lagging = !rs.wasNull() && lagSeconds * 1000 > maxLag.toMillis();
+                if (!rs.getBoolean(1)) {
+                    replica.markUnhealthy("not in recovery, refusing to read from a promoted or misconfigured node");
+                } else if (lagging) {
+                    replica.markUnhealthy("replay lag " + Math.round(lagSeconds * 1000) + "ms");
+                } else {
+                    replica.markHealthy();
+                }
+            } catch (SQLException | RuntimeException e) {
+                replica.markUnhealthy("health check failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private static final class Replica {
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private String name() {
+            return dataSource.getPoolName();
+        }
+
+        private void markUnhealthy(String reason) {
+            if (healthy) {
+                healthy = false;
+                log.warn("Read replica taken out of rotation", kv("replica", name()), kv("reason", reason));
+            }
+        }
+
+        private void markHealthy() {
+            if (!healthy) {
+                healthy = true;
+                log.info("Read replica back in rotation", kv("replica", name()));
+            }
+        }
+    }
+}
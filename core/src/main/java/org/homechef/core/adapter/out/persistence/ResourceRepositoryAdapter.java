@@ -47,4 +47,9 @@ public class ResourceRepositoryAdapter implements ResourceRepository {
     public boolean existsByUrlHash(UrlHash urlHash) {
         return springDataRepository.existsById(urlHash.value());
     }
+
+    @Override
+    public long estimateCount() {
+        return springDataRepository.estimateCount();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,98 @@
+package org.homechef.core.adapter.out.persistence;
+
+import org.homechef.core.application.port.out.StuckParseRequestRepository;
+import org.homechef.core.domain.recipe.ParseRequest;
+import org.homechef.core.domain.recipe.ParseStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Stuck request queries. The status predicate matches idx_parse_request_dedup's partial
+ * predicate, so the scan only touches in-flight rows (V6).
+ * <p>
+ * Updates bound created_at by the locked rows' range, so they only probe the partitions those rows
+ * live in (V7) rather than every month's primary key for every id.
+ */
+@Repository
+public class StuckParseRequestRepositoryAdapter implements StuckParseRequestRepository {
+
+    private static final String LOCK_STUCK = """
+            SELECT p.id, p.user_id, p.url_hash, p.status, p.created_at, p.updated_at, p.attempts, r.url
+            FROM parse_request p
+            JOIN resource r ON r.url_hash = p.url_hash
+            WHERE p.status IN ('PENDING', 'PROCESSING')
+              AND p.updated_at < :updatedBefore
+            ORDER BY p.updated_at
+            LIMIT :limit
+            FOR UPDATE OF p SKIP LOCKED
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public StuckParseRequestRepositoryAdapter(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<StuckParseRequest> lockStuck(Instant updatedBefore, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("updatedBefore", OffsetDateTime.ofInstant(updatedBefore, ZoneOffset.UTC))
+                .addValue("limit", limit);
+        return jdbcTemplate.query(LOCK_STUCK, params, (rs, rowNum) -> new StuckParseRequest(
+                ParseRequest.reconstitute(
+                        rs.getObject("id", UUID.class),
+                        rs.getObject("user_id", UUID.class),
+                        rs.getString("url_hash"),
+                        ParseStatus.valueOf(rs.getString("status")),
+                        null,
+                        rs.getObject("created_at", OffsetDateTime.class).toInstant(),
+                        rs.getObject("updated_at", OffsetDateTime.class).toInstant()),
+                rs.getString("url"),
+                rs.getInt("attempts")));
+    }
+
+    @Override
+    public void markRepublished(Collection<StuckParseRequest> requests) {
+        if (requests.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("""
+                UPDATE parse_request
+                SET attempts = attempts + 1, updated_at = now()
+                WHERE id IN (:ids)
+                  AND created_at BETWEEN :createdFrom AND :createdTo
+                """, params(requests));
+    }
+
+    @Override
+    public void markFailed(Collection<StuckParseRequest> requests, String errorMessage) {
+        if (requests.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("""
+                UPDATE parse_request
+                SET status = 'FAILED', error_message = :errorMessage, updated_at = now()
+                WHERE id IN (:ids)
+                  AND created_at BETWEEN :createdFrom AND :createdTo
+                """, params(requests).addValue("errorMessage", errorMessage));
+    }
+
+    private static MapSqlParameterSource params(Collection<StuckParseRequest> requests) {
+        List<ParseRequest> locked = requests.stream().map(StuckParseRequest::request).toList();
+        Instant createdFrom = locked.stream().map(ParseRequest::getCreatedAt).min(Comparator.naturalOrder()).orElseThrow();
+        Instant createdTo = locked.stream().map(ParseRequest::getCreatedAt).max(Comparator.naturalOrder()).orElseThrow();
+        return new MapSqlParameterSource()
+                .addValue("ids", locked.stream().map(ParseRequest::getId).toList())
+                .addValue("createdFrom", OffsetDateTime.ofInstant(createdFrom, ZoneOffset.UTC))
+                .addValue("createdTo", OffsetDateTime.ofInstant(createdTo, ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,129 @@
+package org.homechef.core.adapter.out.persistence;
+
+import org.homechef.core.application.port.out.WebhookDeliveryRepository;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * webhook_delivery (V9). Registration share-locks the parse_request row, so it either runs before
+ * a concurrent status change (which then makes the new row due) or sees its result.
+ * <p>
+ * Claims push next_attempt_at out by the lease instead of holding row locks, so HTTP calls run
+ * without an open transaction and a crashed instance's deliveries are picked up once it expires.
+ */
+@Repository
+public class WebhookDeliveryRepositoryAdapter implements WebhookDeliveryRepository {
+
+    private static final String REGISTER = """
+            INSERT INTO webhook_delivery (id, request_id, callback_url, status, next_attempt_at)
+            SELECT :id, p.id, :callbackUrl,
+                   CASE WHEN p.status IN ('COMPLETED', 'FAILED') THEN 'PENDING' ELSE 'AWAITING_RESULT' END,
+                   CASE WHEN p.status IN ('COMPLETED', 'FAILED') THEN now() END
+            FROM (SELECT id, status FROM parse_request WHERE id = :requestId FOR SHARE) p
+            ON CONFLICT (request_id, callback_url) DO NOTHING
+            """;
+
+    private static final String MARK_RESULT_READY = """
+            UPDATE webhook_delivery
+            SET status = 'PENDING', next_attempt_at = now(), updated_at = now()
+            WHERE request_id = ANY(:requestIds)
+              AND status = 'AWAITING_RESULT'
+            """;
+
+    private static final String CLAIM_DUE = """
+            WITH due AS (
+                SELECT id
+                FROM webhook_delivery
+                WHERE status = 'PENDING'
+                  AND next_attempt_at <= now()
+                ORDER BY next_attempt_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            UPDATE webhook_delivery d
+            SET next_attempt_at = now() + :leaseMillis * interval '1 millisecond', updated_at = now()
+            FROM due
+            WHERE d.id = due.id
+            RETURNING d.id, d.request_id, d.callback_url, d.attempts,
+                      (SELECT v.body FROM parse_status_view v WHERE v.request_id = d.request_id) AS payload
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public WebhookDeliveryRepositoryAdapter(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void register(UUID requestId, String callbackUrl) {
+        jdbcTemplate.update(REGISTER, new MapSqlParameterSource()
+                .addValue("id", UUID.randomUUID())
+                .addValue("requestId", requestId)
+                .addValue("callbackUrl", callbackUrl));
+    }
+
+    @Override
+    public void markResultReady(Collection<UUID> requestIds) {
+        if (requestIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(MARK_RESULT_READY,
+                new MapSqlParameterSource("requestIds", requestIds.toArray(UUID[]::new)));
+    }
+
+    @Override
+    public List<DueDelivery> claimDue(int limit, Duration lease) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("limit", limit)
+                .addValue("leaseMillis", lease.toMillis());
+        return jdbcTemplate.query(CLAIM_DUE, params, (rs, rowNum) -> new DueDelivery(
+                rs.getObject("id", UUID.class),
+                rs.getObject("request_id", UUID.class),
+                rs.getString("callback_url"),
+                rs.getBytes("payload"),
+                rs.getInt("attempts")));
+    }
+
+    @Override
+    public void markDelivered(UUID id) {
+        jdbcTemplate.update("""
+                UPDATE webhook_delivery
+                SET status = 'DELIVERED', attempts = attempts + 1, next_attempt_at = NULL,
+                    last_error = NULL, updated_at = now()
+                WHERE id = :id
+                """, new MapSqlParameterSource("id", id));
+    }
+
+    @Override
+    public void markRetry(UUID id, int attempts, Instant nextAttemptAt, String error) {
+        jdbcTemplate.update("""
+                UPDATE webhook_delivery
+                SET attempts = :attempts, next_attempt_at = :nextAttemptAt, last_error = :error, updated_at = now()
+                WHERE id = :id
+                """, new MapSqlParameterSource("id", id)
+                .addValue("attempts", attempts)
+                .addValue("nextAttemptAt", OffsetDateTime.ofInstant(nextAttemptAt, ZoneOffset.UTC))
+                .addValue("error", error));
+    }
+
+    @Override
+    public void markFailed(UUID id, int attempts, String error) {
+        jdbcTemplate.update("""
+                UPDATE webhook_delivery
+                SET status = 'FAILED', attempts = :attempts, next_attempt_at = NULL, last_error = :error,
+                    updated_at = now()
+                WHERE id = :id
+                """, new MapSqlParameterSource("id", id)
+                .addValue("attempts", attempts)
+                .addValue("error", error));
+    }
+}
@@ -1,5 +1,6 @@
 package org.homechef.core.adapter.out.persistence.mapper;
 
+import org.homechef.core.adapter.out.jfr.IngredientMappingEvent;
 import org.homechef.core.adapter.out.persistence.entity.RecipeEntity;
 import org.homechef.core.domain.recipe.Ingredient;
 import org.homechef.core.domain.recipe.Recipe;
@@ -45,30 +46,52 @@ public class RecipeMapper {
     }
 
     private String serializeIngredients(List<Ingredient> ingredients) {
+        IngredientMappingEvent event = new IngredientMappingEvent();
+        event.begin();
+        String json;
         try {
             List<IngredientJson> jsonList = ingredients.stream()
                     .map(i -> new IngredientJson(i.quantity(), i.unit(), i.name()))
                     .toList();
-            return jsonMapper.writeValueAsString(jsonList);
+            json = jsonMapper.writeValueAsString(jsonList);
         } catch (DatabindException e) {
             log.error("Failed to serialize ingredients", e);
-            return "[]";
+            json = "[]";
         }
+        event.end();
+        if (event.shouldCommit()) {
+            event.direction = "serialize";
+            event.ingredientCount = ingredients.size();
+            event.jsonLength = json.length();
+            event.commit();
+        }
+        return json;
     }
 
     private List<Ingredient> deserializeIngredients(String json) {
         if (json == null || json.isBlank()) {
             return List.of();
         }
+        IngredientMappingEvent event = new IngredientMappingEvent();
+        event.begin();
+        List<Ingredient> ingredients;
         try {
             List<IngredientJson> jsonList = jsonMapper.readValue(json, INGREDIENT_LIST_TYPE);
-            return jsonList.stream()
+            ingredients = jsonList.stream()
                     .map(j -> Ingredient.of(j.quantity(), j.unit(), j.name()))
                     .toList();
         } catch (DatabindException e) {
             log.error("Failed to deserialize ingredients: {}", json, e);
-            return List.of();
+            ingredients = List.of();
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.direction = "deserialize";
+            event.ingredientCount = ingredients.size();
+            event.jsonLength = json.length();
+            event.commit();
         }
+        return ingredients;
     }
 
     /**
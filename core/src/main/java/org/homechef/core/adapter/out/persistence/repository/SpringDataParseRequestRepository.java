@@ -7,6 +7,7 @@ import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,6 +16,12 @@ import java.util.UUID;
  */
 public interface SpringDataParseRequestRepository extends CrudRepository<ParseRequestEntity, UUID> {
 
+    /**
+     * Finds the requests with the given IDs in one statement, whatever the number of IDs.
+     */
+    @Query("SELECT * FROM parse_request WHERE id = ANY(:ids)")
+    List<ParseRequestEntity> findAllByIdIn(@Param("ids") UUID[] ids);
+
     /**
      * Finds an in-flight (PENDING or PROCESSING) request for the given URL hash.
      * Used for deduplication.
@@ -23,11 +30,24 @@ public interface SpringDataParseRequestRepository extends CrudRepository<ParseRe
     Optional<ParseRequestEntity> findInFlightByUrlHash(@Param("urlHash") String urlHash);
 
     /**
-     * Updates the status of a parse request.
+     * Finds the oldest in-flight (PENDING or PROCESSING) request.
+     * Used to measure how far behind the parse pipeline is.
      */
-    @Modifying
-    @Query("UPDATE parse_request SET status = :status, error_message = :errorMessage, updated_at = now() WHERE id = :id")
-    void updateStatus(@Param("id") UUID id, @Param("status") String status, @Param("errorMessage") String errorMessage);
+    @Query("SELECT * FROM parse_request WHERE status IN ('PENDING', 'PROCESSING') ORDER BY created_at ASC LIMIT 1")
+    Optional<ParseRequestEntity> findOldestInFlight();
+
+    /**
+     * Counts parse requests in the given status.
+     */
+    @Query("SELECT count(*) FROM parse_request WHERE status = :status")
+    long countByStatus(@Param("status") String status);
+
+    /**
+     * Updates the status of a parse request and returns the updated row.
+     */
+    @Query("UPDATE parse_request SET status = :status, error_message = :errorMessage, updated_at = now() WHERE id = :id RETURNING *")
+    Optional<ParseRequestEntity> updateStatus(@Param("id") UUID id, @Param("status") String status,
+                                              @Param("errorMessage") String errorMessage);
 
     /**
      * Inserts a new parse request (used for assigned IDs to bypass Spring Data JDBC's isNew() logic).
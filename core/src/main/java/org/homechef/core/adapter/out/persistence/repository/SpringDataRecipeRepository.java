@@ -37,4 +37,10 @@ public interface SpringDataRecipeRepository extends CrudRepository<RecipeEntity,
     @Query("UPDATE recipe SET title = :title, ingredients = CAST(:ingredients AS JSONB), parsed_at = :parsedAt WHERE url_hash = :urlHash")
     void updateRecipe(@Param("urlHash") String urlHash, @Param("title") String title,
                       @Param("ingredients") String ingredients, @Param("parsedAt") Instant parsedAt);
+
+    /**
+     * Planner's row estimate, kept current by autovacuum. -1 until the table is first analyzed.
+     */
+    @Query("SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = CAST('recipe' AS REGCLASS)")
+    long estimateCount();
 }
\ No newline at end of file
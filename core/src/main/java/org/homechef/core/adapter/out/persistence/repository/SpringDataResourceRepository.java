@@ -18,4 +18,10 @@ public interface SpringDataResourceRepository extends CrudRepository<ResourceEnt
     @Modifying
     @Query("INSERT INTO resource (url_hash, url, created_at) VALUES (:urlHash, :url, :createdAt)")
     void insertResource(String urlHash, String url, Instant createdAt);
+
+    /**
+     * Planner's row estimate, kept current by autovacuum. -1 until the table is first analyzed.
+     */
+    @Query("SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = CAST('resource' AS REGCLASS)")
+    long estimateCount();
 }
\ No newline at end of file
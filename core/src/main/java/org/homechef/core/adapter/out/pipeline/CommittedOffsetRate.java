@@ -0,0 +1,69 @@
+package org.homechef.core.adapter.out.pipeline;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Rate at which a consumer group commits offsets, over a trailing window of samples. Every
+ * committed parse-results offset is a consumed result, so this is the completion rate of all
+ * instances together.
+ * <p>
+ * Only partitions present in two consecutive samples count, so a partition committing for the
+ * first time does not show up as a burst of its whole history, and offsets moving backwards
+ * (a reset) count as nothing. Not thread-safe; used from the sampling thread only.
+ */
+final class CommittedOffsetRate {
+
+    private final Duration window;
+    private final Deque<Sample> samples = new ArrayDeque<>();
+    private Map<Integer, Long> previous = Map.of();
+    private long consumed;
+
+    CommittedOffsetRate(Duration window) {
+        this.window = window;
+    }
+
+    void add(Instant at, Map<Integer, Long> committedByPartition) {
+        for (Map.Entry<Integer, Long> entry : committedByPartition.entrySet()) {
+            Long before = previous.get(entry.getKey());
+            if (before != null) {
+                consumed += Math.max(0, entry.getValue() - before);
+            }
+        }
+        previous = Map.copyOf(committedByPartition);
+        samples.addLast(new Sample(at, consumed));
+        // Keep one sample at or beyond the window start, so the rate always covers the whole window
+        Instant windowStart = at.minus(window);
+        while (samples.size() > 2) {
+            Iterator<Sample> oldest = samples.iterator();
+            oldest.next();
+            if (oldest.next().at().isAfter(windowStart)) {
+                break;
+            }
+            samples.removeFirst();
+        }
+    }
+
+    /**
+     * @return offsets committed per second over the window, -1 until two samples are apart in time
+     */
+    double perSecond() {
+        if (samples.size() < 2) {
+            return -1;
+        }
+        Sample first = samples.peekFirst();
+        Sample last = samples.peekLast();
+        long spanMillis = Duration.between(first.at(), last.at()).toMillis();
+        if (spanMillis <= 0) {
+            return -1;
+        }
+        return (last.consumed() - first.consumed()) * 1000d / spanMillis;
+    }
+
+    private record Sample(Instant at, long consumed) {
+    }
+}
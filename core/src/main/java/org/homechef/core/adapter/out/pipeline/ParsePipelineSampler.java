@@ -0,0 +1,216 @@
+package org.homechef.core.adapter.out.pipeline;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.homechef.core.application.port.out.ParseRequestRepository;
+import org.homechef.core.application.port.out.RecipeRepository;
+import org.homechef.core.application.port.out.ResourceRepository;
+import org.homechef.core.domain.recipe.ParseStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Periodically samples parse pipeline health (backlog, consumer lag, oldest in-flight age,
+ * group-wide result throughput) and, less often, catalog size. Readers and gauges get the last sample from memory,
+ * so neither health checks nor Prometheus scrapes hit the database or broker.
+ */
+@Component
+public class ParsePipelineSampler {
+
+    private static final Logger log = LoggerFactory.getLogger(ParsePipelineSampler.class);
+    private static final long KAFKA_TIMEOUT_MS = 2_000;
+
+    private final ParseRequestRepository parseRequestRepository;
+    private final RecipeRepository recipeRepository;
+    private final ResourceRepository resourceRepository;
+    private final AdminClient adminClient;
+    private final String resultTopic;
+    private final String groupId;
+    private final MultiGauge consumerLagGauge;
+    private final CommittedOffsetRate resultRate;
+    private volatile PipelineSnapshot snapshot = PipelineSnapshot.empty();
+    private volatile long recipeCount = -1;
+    private volatile long resourceCount = -1;
+
+    public ParsePipelineSampler(
+            ParseRequestRepository parseRequestRepository,
+            RecipeRepository recipeRepository,
+            ResourceRepository resourceRepository,
+            KafkaAdmin kafkaAdmin,
+            MeterRegistry meterRegistry,
+            @Value("${homechef.kafka.topic.parse-result:parse-results}") String resultTopic,
+            @Value("${spring.kafka.consumer.group-id:homechef-core}") String groupId,
+            @Value("${homechef.pipeline.throughput-window:PT2M}") Duration throughputWindow) {
+        this.parseRequestRepository = parseRequestRepository;
+        this.recipeRepository = recipeRepository;
+        this.resourceRepository = resourceRepository;
+        this.adminClient = AdminClient.create(kafkaAdmin.getConfigurationProperties());
+        this.resultTopic = resultTopic;
+        this.groupId = groupId;
+        this.resultRate = new CommittedOffsetRate(throughputWindow);
+
+        Gauge.builder("parse.pipeline.requests", this, s -> s.snapshot.pendingCount())
+                .description("Parse requests by status, as of the last sample")
+                .tag("status", "pending")
+                .register(meterRegistry);
+        Gauge.builder("parse.pipeline.requests", this, s -> s.snapshot.processingCount())
+                .description("Parse requests by status, as of the last sample")
+                .tag("status", "processing")
+                .register(meterRegistry);
+        TimeGauge.builder("parse.pipeline.oldest.in.flight.age", this, TimeUnit.SECONDS,
+                        s -> s.snapshot.oldestInFlightAge().toSeconds())
+                .description("Age of the oldest PENDING or PROCESSING parse request")
+                .register(meterRegistry);
+        TimeGauge.builder("parse.pipeline.sample.age", this, TimeUnit.SECONDS,
+                        s -> Duration.between(s.snapshot.sampledAt(), Instant.now()).toSeconds())
+                .description("Time since the pipeline was last sampled successfully")
+                .register(meterRegistry);
+        this.consumerLagGauge = MultiGauge.builder("parse.pipeline.consumer.lag")
+                .description("parse-results consumer lag per partition")
+                .baseUnit("messages")
+                .register(meterRegistry);
+
+        // -1 until the first catalog sample completes and the tables are analyzed
+        Gauge.builder("homechef.catalog.size", this, s -> s.recipeCount)
+                .description("Estimated stored rows by kind, as of the last catalog sample")
+                .tag("kind", "recipes")
+                .register(meterRegistry);
+        Gauge.builder("homechef.catalog.size", this, s -> s.resourceCount)
+                .description("Estimated stored rows by kind, as of the last catalog sample")
+                .tag("kind", "resources")
+                .register(meterRegistry);
+    }
+
+    public PipelineSnapshot current() {
+        return snapshot;
+    }
+
+    @Scheduled(fixedDelayString = "${homechef.pipeline.sample-interval:PT5S}")
+    public void sample() {
+        Instant now = Instant.now();
+        try {
+            long pending = parseRequestRepository.countByStatus(ParseStatus.PENDING);
+            long processing = parseRequestRepository.countByStatus(ParseStatus.PROCESSING);
+            Duration oldestAge = parseRequestRepository.findOldestInFlight()
+                    .map(r -> Duration.between(r.getCreatedAt(), now))
+                    .orElse(Duration.ZERO);
+
+            ConsumerOffsets offsets = sampleConsumerOffsets();
+            if (offsets.committedByPartition() != null) {
+                resultRate.add(now, offsets.committedByPartition());
+            }
+            snapshot = new PipelineSnapshot(pending, processing, offsets.lagByPartition(), oldestAge,
+                    resultRate.perSecond(), now);
+            publishConsumerLag(snapshot.consumerLagByPartition());
+
+            log.debug("Sampled parse pipeline",
+                    kv("pending", pending),
+                    kv("processing", processing),
+                    kv("consumerLag", snapshot.consumerLag()),
+                    kv("resultsPerSecond", snapshot.resultsPerSecond()),
+                    kv("oldestInFlightSeconds", oldestAge.toSeconds()));
+        } catch (RuntimeException e) {
+            // Keep the previous snapshot; consumers treat it as stale after a while
+            log.warn("Failed to sample parse pipeline", kv("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Catalog sizes are the planner's row estimates rather than counts, so a sample reads two pg_class
+     * rows instead of scanning both tables on every instance. They trail inserts until autovacuum
+     * next analyzes the table, which is close enough for a size gauge.
+     */
+    @Scheduled(fixedDelayString = "${homechef.pipeline.catalog-sample-interval:PT1M}")
+    public void sampleCatalog() {
+        try {
+            recipeCount = recipeRepository.estimateCount();
+            resourceCount = resourceRepository.estimateCount();
+        } catch (RuntimeException e) {
+            log.warn("Failed to sample catalog size", kv("error", e.getMessage()));
+        }
+    }
+
+    private void publishConsumerLag(Map<Integer, Long> lagByPartition) {
+        List<MultiGauge.Row<?>> rows = lagByPartition.entrySet().stream()
+                .<MultiGauge.Row<?>>map(e -> MultiGauge.Row.of(
+                        Tags.of("topic", resultTopic, "partition", Integer.toString(e.getKey())),
+                        e.getValue()))
+                .toList();
+        consumerLagGauge.register(rows, true);
+    }
+
+    /**
+     * Committed offsets and lag per partition of the parse-results topic for our consumer group.
+     * Only partitions with committed offsets are reported. If the broker cannot be asked, the
+     * previous lag is kept and the committed offsets are null.
+     */
+    private ConsumerOffsets sampleConsumerOffsets() {
+        try {
+            Map<TopicPartition, OffsetAndMetadata> committed = adminClient
+                    .listConsumerGroupOffsets(groupId)
+                    .partitionsToOffsetAndMetadata()
+                    .get(KAFKA_TIMEOUT_MS, TimeUnit.MILLISECONDS)
+                    .entrySet().stream()
+                    .filter(e -> e.getKey().topic().equals(resultTopic) && e.getValue() != null)
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            if (committed.isEmpty()) {
+                return new ConsumerOffsets(Map.of(), Map.of());
+            }
+
+            Map<TopicPartition, OffsetSpec> request = committed.keySet().stream()
+                    .collect(Collectors.toMap(tp -> tp, tp -> OffsetSpec.latest()));
+            Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> latest = adminClient
+                    .listOffsets(request)
+                    .all()
+                    .get(KAFKA_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+            Map<Integer, Long> lag = new HashMap<>();
+            Map<Integer, Long> committedByPartition = new HashMap<>();
+            committed.forEach((tp, offset) -> {
+                committedByPartition.put(tp.partition(), offset.offset());
+                ListOffsetsResult.ListOffsetsResultInfo end = latest.get(tp);
+                if (end != null) {
+                    lag.put(tp.partition(), Math.max(0, end.offset() - offset.offset()));
+                }
+            });
+            return new ConsumerOffsets(Map.copyOf(lag), committedByPartition);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new ConsumerOffsets(snapshot.consumerLagByPartition(), null);
+        } catch (Exception e) {
+            log.debug("Could not sample consumer lag: {}", e.getMessage());
+            return new ConsumerOffsets(snapshot.consumerLagByPartition(), null);
+        }
+    }
+
+    private record ConsumerOffsets(Map<Integer, Long> lagByPartition, Map<Integer, Long> committedByPartition) {
+    }
+
+    @PreDestroy
+    void close() {
+        adminClient.close(Duration.ofSeconds(1));
+    }
+}
@@ -0,0 +1,107 @@
+package org.homechef.core.adapter.out.pipeline;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.homechef.core.application.port.out.ParseAdmissionControl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Sheds new parse requests when the pipeline lags.
+ * Load is the worst of three ratios against their limits: PENDING backlog,
+ * parse-results consumer lag and age of the oldest in-flight request.
+ * Guests are shed once load crosses the guest threshold, everyone at 100%.
+ * The age signal only counts once the backlog is non-trivial, so a single stuck
+ * request cannot shed all traffic on its own.
+ * A stale snapshot (sampler failing) admits everything rather than blocking submissions.
+ */
+@Component
+public class PipelineAdmissionController implements ParseAdmissionControl {
+
+    private static final Logger log = LoggerFactory.getLogger(PipelineAdmissionController.class);
+
+    private final ParsePipelineSampler sampler;
+    private final boolean enabled;
+    private final long maxPending;
+    private final long maxConsumerLag;
+    private final Duration maxOldestAge;
+    private final long ageMinBacklog;
+    private final double guestShedRatio;
+    private final Duration retryAfter;
+    private final Duration staleAfter;
+    private final Counter admittedCounter;
+    private final Counter shedGuestCounter;
+    private final Counter shedUserCounter;
+
+    public PipelineAdmissionController(
+            ParsePipelineSampler sampler,
+            MeterRegistry meterRegistry,
+            @Value("${homechef.admission.enabled:true}") boolean enabled,
+            @Value("${homechef.admission.max-pending:5000}") long maxPending,
+            @Value("${homechef.admission.max-consumer-lag:10000}") long maxConsumerLag,
+            @Value("${homechef.admission.max-oldest-age:PT5M}") Duration maxOldestAge,
+            @Value("${homechef.admission.age-min-backlog:100}") long ageMinBacklog,
+            @Value("${homechef.admission.guest-shed-ratio:0.8}") double guestShedRatio,
+            @Value("${homechef.admission.retry-after:PT30S}") Duration retryAfter,
+            @Value("${homechef.admission.stale-after:PT30S}") Duration staleAfter) {
+        this.sampler = sampler;
+        this.enabled = enabled;
+        this.maxPending = maxPending;
+        this.maxConsumerLag = maxConsumerLag;
+        this.maxOldestAge = maxOldestAge;
+        this.ageMinBacklog = ageMinBacklog;
+        this.guestShedRatio = guestShedRatio;
+        this.retryAfter = retryAfter;
+        this.staleAfter = staleAfter;
+        this.admittedCounter = meterRegistry.counter("recipe.admission", "outcome", "admitted");
+        this.shedGuestCounter = meterRegistry.counter("recipe.admission", "outcome", "shed", "tier", "guest");
+        this.shedUserCounter = meterRegistry.counter("recipe.admission", "outcome", "shed", "tier", "user");
+        meterRegistry.gauge("recipe.admission.load", this, PipelineAdmissionController::load);
+    }
+
+    @Override
+    public Optional<Duration> checkAdmission(UUID userId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        double load = load();
+        boolean guest = userId == null;
+        if (load >= 1.0 || (guest && load >= guestShedRatio)) {
+            (guest ? shedGuestCounter : shedUserCounter).increment();
+            log.warn("Shedding parse request, pipeline overloaded",
+                    kv("load", load),
+                    kv("tier", guest ? "guest" : "user"),
+                    kv("retryAfterSeconds", retryAfter.toSeconds()));
+            return Optional.of(retryAfter);
+        }
+
+        admittedCounter.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Pipeline load as the worst ratio against configured limits (1.0 = at limit).
+     */
+    double load() {
+        PipelineSnapshot snapshot = sampler.current();
+        if (snapshot.isStale(Instant.now(), staleAfter)) {
+            return 0.0;
+        }
+        double pendingRatio = (double) snapshot.pendingCount() / maxPending;
+        double lagRatio = (double) snapshot.consumerLag() / maxConsumerLag;
+        double ageRatio = snapshot.pendingCount() + snapshot.processingCount() >= ageMinBacklog
+                ? (double) snapshot.oldestInFlightAge().toMillis() / maxOldestAge.toMillis()
+                : 0.0;
+        return Math.max(pendingRatio, Math.max(lagRatio, ageRatio));
+    }
+}
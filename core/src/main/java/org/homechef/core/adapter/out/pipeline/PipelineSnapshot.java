@@ -0,0 +1,35 @@
+package org.homechef.core.adapter.out.pipeline;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Point-in-time view of parse pipeline health, refreshed by {@link ParsePipelineSampler}.
+ */
+public record PipelineSnapshot(
+        long pendingCount,
+        long processingCount,
+        Map<Integer, Long> consumerLagByPartition, // parse-results lag, empty if unknown
+        Duration oldestInFlightAge,               // ZERO if nothing is in flight
+        double resultsPerSecond,                  // parse-results consumed by all instances, -1 if unknown
+        Instant sampledAt
+) {
+    public static PipelineSnapshot empty() {
+        return new PipelineSnapshot(0, 0, Map.of(), Duration.ZERO, -1, Instant.EPOCH);
+    }
+
+    /**
+     * Total parse-results consumer lag across partitions.
+     */
+    public long consumerLag() {
+        return consumerLagByPartition.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Returns true if the snapshot is too old to base decisions on.
+     */
+    public boolean isStale(Instant now, Duration maxAge) {
+        return sampledAt.plus(maxAge).isBefore(now);
+    }
+}
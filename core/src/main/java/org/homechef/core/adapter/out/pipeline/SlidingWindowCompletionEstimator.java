@@ -0,0 +1,266 @@
+package org.homechef.core.adapter.out.pipeline;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.homechef.core.application.port.in.dto.CompletionEstimate;
+import org.homechef.core.application.port.out.ParseCompletionEstimator;
+import org.homechef.core.domain.recipe.ParseLane;
+import org.homechef.core.domain.recipe.ParseStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Estimates parse completion from a sliding window of recently completed parses, kept in memory
+ * and fed by the parse-results consumer. Each instance only sees the results of its own partitions.
+ * Their queue and parse times are representative of the pipeline, because partitions are not
+ * assigned by content, but their count is only this instance's share of the throughput.
+ * <p>
+ * A PENDING request is expected to wait its lane's recent queue time, or longer when the backlog
+ * as last sampled takes longer to drain, and then to parse for the recent parse time. The backlog
+ * drains at the rate all instances consume results together, as sampled from the consumer group's
+ * committed offsets; the local completion count would make it N times too slow with N instances.
+ * A PROCESSING request only has the parse left. Both use the configured percentile of the window.
+ * Priority requests skip the guest backlog, so only their lane's own queue time counts for them.
+ * <p>
+ * Retry-After is the remaining time clamped to [min, max], so pollers come back about when the
+ * result should be there. Until the window holds enough samples there is no estimate and pollers
+ * are told to retry after the cold default.
+ * <p>
+ * Percentiles are recomputed when a sample arrives or the last computation is a second old, so
+ * polls read a precomputed snapshot.
+ */
+@Component
+public class SlidingWindowCompletionEstimator implements ParseCompletionEstimator {
+
+    private static final Duration RECOMPUTE_AFTER = Duration.ofSeconds(1);
+    private static final Duration STALE_SNAPSHOT_AFTER = Duration.ofSeconds(30);
+
+    private final ParsePipelineSampler sampler;
+    private final Duration window;
+    private final int minSamples;
+    private final double percentile;
+    private final Duration minRetryAfter;
+    private final Duration maxRetryAfter;
+    private final Duration coldRetryAfter;
+    private final Map<ParseLane, Samples> samples = new EnumMap<>(ParseLane.class);
+    // A lock rather than synchronized, so a virtual thread waiting for it does not pin its carrier
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Stats stats = Stats.EMPTY;
+
+    public SlidingWindowCompletionEstimator(
+            ParsePipelineSampler sampler,
+            MeterRegistry meterRegistry,
+            @Value("${homechef.eta.window-size:500}") int windowSize,
+            @Value("${homechef.eta.window:PT10M}") Duration window,
+            @Value("${homechef.eta.min-samples:5}") int minSamples,
+            @Value("${homechef.eta.percentile:0.5}") double percentile,
+            @Value("${homechef.eta.min-retry-after:PT1S}") Duration minRetryAfter,
+            @Value("${homechef.eta.max-retry-after:PT30S}") Duration maxRetryAfter,
+            @Value("${homechef.eta.cold-retry-after:PT2S}") Duration coldRetryAfter) {
+        if (percentile <= 0 || percentile > 1) {
+            throw new IllegalStateException("homechef.eta.percentile must be in (0, 1]");
+        }
+        this.sampler = sampler;
+        this.window = window;
+        this.minSamples = minSamples;
+        this.percentile = percentile;
+        this.minRetryAfter = minRetryAfter;
+        this.maxRetryAfter = maxRetryAfter;
+        this.coldRetryAfter = coldRetryAfter;
+        for (ParseLane lane : ParseLane.values()) {
+            samples.put(lane, new Samples(windowSize));
+        }
+
+        for (ParseLane lane : ParseLane.values()) {
+            TimeGauge.builder("parse.eta.remaining", this, TimeUnit.SECONDS, e -> e.remainingSeconds(lane))
+                    .description("Estimated time until a request submitted now completes, -1 until estimable")
+                    .tag("lane", lane.tag())
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public void recordCompletion(ParseLane lane, Duration queueTime, Duration parseTime) {
+        recordCompletion(lane, queueTime, parseTime, Instant.now());
+    }
+
+    void recordCompletion(ParseLane lane, Duration queueTime, Duration parseTime, Instant now) {
+        lock.lock();
+        try {
+            samples.get(lane).add(queueTime.toMillis(), parseTime.toMillis(), now.toEpochMilli());
+            stats = compute(now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CompletionEstimate estimate(ParseStatus status, ParseLane lane) {
+        return estimate(status, lane, Instant.now());
+    }
+
+    CompletionEstimate estimate(ParseStatus status, ParseLane lane, Instant now) {
+        Duration remaining = remaining(status, lane, now);
+        if (remaining == null) {
+            return new CompletionEstimate(null, coldRetryAfter);
+        }
+        Duration retryAfter = remaining.compareTo(minRetryAfter) < 0 ? minRetryAfter
+                : remaining.compareTo(maxRetryAfter) > 0 ? maxRetryAfter
+                : remaining;
+        return new CompletionEstimate(now.plus(remaining), retryAfter);
+    }
+
+    /**
+     * @return null if there are too few recent samples to estimate from
+     */
+    private Duration remaining(ParseStatus status, ParseLane lane, Instant now) {
+        Stats current = currentStats(now);
+        LaneStats all = current.all();
+        if (all.count() < minSamples) {
+            return null;
+        }
+        LaneStats own = lane != null && current.byLane().get(lane).count() >= minSamples
+                ? current.byLane().get(lane)
+                : all;
+
+        long parseMillis = own.parseMillis();
+        if (status != ParseStatus.PENDING) {
+            return Duration.ofMillis(parseMillis);
+        }
+        long queueMillis = own.queueMillis();
+        if (lane != ParseLane.PRIORITY) {
+            queueMillis = Math.max(queueMillis, backlogDrainMillis(now));
+        }
+        return Duration.ofMillis(queueMillis + parseMillis);
+    }
+
+    /**
+     * Time to work through the sampled PENDING backlog at the group-wide result rate.
+     */
+    private long backlogDrainMillis(Instant now) {
+        PipelineSnapshot snapshot = sampler.current();
+        if (snapshot.isStale(now, STALE_SNAPSHOT_AFTER) || snapshot.resultsPerSecond() <= 0) {
+            return 0;
+        }
+        return (long) (snapshot.pendingCount() / snapshot.resultsPerSecond() * 1000);
+    }
+
+    private Stats currentStats(Instant now) {
+        Stats current = stats;
+        if (current.computedAt().plus(RECOMPUTE_AFTER).isAfter(now)) {
+            return current;
+        }
+        // Samples age out of the window even when no results arrive
+        lock.lock();
+        try {
+            stats = compute(now);
+            return stats;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Stats compute(Instant now) {
+        long since = now.minus(window).toEpochMilli();
+        Map<ParseLane, LaneStats> byLane = new EnumMap<>(ParseLane.class);
+        long[][] allQueue = new long[ParseLane.values().length][];
+        long[][] allParse = new long[ParseLane.values().length][];
+        for (ParseLane lane : ParseLane.values()) {
+            Samples laneSamples = samples.get(lane);
+            long[] queue = laneSamples.queueSince(since);
+            long[] parse = laneSamples.parseSince(since);
+            allQueue[lane.ordinal()] = queue;
+            allParse[lane.ordinal()] = parse;
+            byLane.put(lane, LaneStats.of(queue, parse, percentile));
+        }
+        return new Stats(now, LaneStats.of(concat(allQueue), concat(allParse), percentile), byLane);
+    }
+
+    private long remainingSeconds(ParseLane lane) {
+        Duration remaining = remaining(ParseStatus.PENDING, lane, Instant.now());
+        return remaining != null ? remaining.toSeconds() : -1;
+    }
+
+    private static long[] concat(long[][] arrays) {
+        return Arrays.stream(arrays).flatMapToLong(Arrays::stream).toArray();
+    }
+
+    private record Stats(Instant computedAt, LaneStats all, Map<ParseLane, LaneStats> byLane) {
+
+        static final Stats EMPTY = new Stats(Instant.EPOCH, LaneStats.EMPTY, Map.of(
+                ParseLane.PRIORITY, LaneStats.EMPTY,
+                ParseLane.STANDARD, LaneStats.EMPTY));
+    }
+
+    private record LaneStats(int count, long queueMillis, long parseMillis) {
+
+        static final LaneStats EMPTY = new LaneStats(0, 0, 0);
+
+        static LaneStats of(long[] queue, long[] parse, double percentile) {
+            return new LaneStats(queue.length, percentile(queue, percentile), percentile(parse, percentile));
+        }
+
+        private static long percentile(long[] values, double percentile) {
+            if (values.length == 0) {
+                return 0;
+            }
+            long[] sorted = values.clone();
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, index)];
+        }
+    }
+
+    /**
+     * Ring buffer of the most recent completions of one lane. Guarded by the estimator's lock.
+     */
+    private static final class Samples {
+
+        private final long[] queueMillis;
+        private final long[] parseMillis;
+        private final long[] completedAtMillis;
+        private int next;
+        private int size;
+
+        Samples(int capacity) {
+            this.queueMillis = new long[capacity];
+            this.parseMillis = new long[capacity];
+            this.completedAtMillis = new long[capacity];
+        }
+
+        void add(long queue, long parse, long completedAt) {
+            queueMillis[next] = queue;
+            parseMillis[next] = parse;
+            completedAtMillis[next] = completedAt;
+            next = (next + 1) % queueMillis.length;
+            size = Math.min(size + 1, queueMillis.length);
+        }
+
+        long[] queueSince(long since) {
+            return select(queueMillis, since);
+        }
+
+        long[] parseSince(long since) {
+            return select(parseMillis, since);
+        }
+
+        private long[] select(long[] values, long since) {
+            long[] selected = new long[size];
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (completedAtMillis[i] >= since) {
+                    selected[count++] = values[i];
+                }
+            }
+            return Arrays.copyOf(selected, count);
+        }
+    }
+}
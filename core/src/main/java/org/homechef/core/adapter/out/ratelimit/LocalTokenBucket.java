@@ -0,0 +1,42 @@
+package org.homechef.core.adapter.out.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free token bucket. State is swapped atomically with CAS, so concurrent
+ * requests for the same key never block each other.
+ */
+class LocalTokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final AtomicReference<State> state;
+
+    LocalTokenBucket(long capacity, double tokensPerSecond, long nowNanos) {
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerSecond / 1_000_000_000d;
+        this.state = new AtomicReference<>(new State(capacity, nowNanos));
+    }
+
+    /**
+     * Tries to take one token.
+     *
+     * @return 0 if a token was taken, otherwise nanos until one becomes available
+     */
+    long tryConsume(long nowNanos) {
+        while (true) {
+            State current = state.get();
+            double refilled = Math.min(capacity,
+                    current.tokens() + Math.max(0, nowNanos - current.refilledAtNanos()) * tokensPerNano);
+
+            if (refilled < 1d) {
+                return (long) Math.ceil((1d - refilled) / tokensPerNano);
+            }
+            if (state.compareAndSet(current, new State(refilled - 1d, nowNanos))) {
+                return 0L;
+            }
+        }
+    }
+
+    private record State(double tokens, long refilledAtNanos) {}
+}
@@ -0,0 +1,121 @@
+package org.homechef.core.adapter.out.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.homechef.core.application.port.out.SubmitRateLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Token-bucket rate limiter for parse submissions.
+ * A lock-free local bucket per key rejects bursts without any I/O; requests it lets
+ * through are then checked against a Redis bucket so the quota holds across replicas.
+ * If Redis is unavailable the limiter falls back to local buckets only.
+ */
+@Component
+public class TokenBucketRateLimiter implements SubmitRateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenBucketRateLimiter.class);
+    private static final String KEY_PREFIX = "homechef:rate-limit:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisScript<Long> tokenBucketScript;
+    private final boolean enabled;
+    private final boolean redisEnabled;
+    private final TierLimit userLimit;
+    private final TierLimit guestLimit;
+    private final Cache<String, LocalTokenBucket> localBuckets;
+    private final Counter allowedCounter;
+    private final Counter rejectedCounter;
+
+    public TokenBucketRateLimiter(
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${homechef.rate-limit.enabled:true}") boolean enabled,
+            @Value("${homechef.rate-limit.redis-enabled:true}") boolean redisEnabled,
+            @Value("${homechef.rate-limit.user.capacity:30}") long userCapacity,
+            @Value("${homechef.rate-limit.user.refill-per-minute:30}") double userRefillPerMinute,
+            @Value("${homechef.rate-limit.guest.capacity:10}") long guestCapacity,
+            @Value("${homechef.rate-limit.guest.refill-per-minute:10}") double guestRefillPerMinute,
+            @Value("${homechef.rate-limit.local-max-keys:100000}") long localMaxKeys) {
+        this.redisTemplate = redisTemplate;
+        this.tokenBucketScript = RedisScript.of(new ClassPathResource("redis/token-bucket.lua"), Long.class);
+        this.enabled = enabled;
+        this.redisEnabled = redisEnabled;
+        this.userLimit = new TierLimit("user", userCapacity, userRefillPerMinute / 60d);
+        this.guestLimit = new TierLimit("guest", guestCapacity, guestRefillPerMinute / 60d);
+        this.localBuckets = Caffeine.newBuilder()
+                .maximumSize(localMaxKeys)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+        this.allowedCounter = meterRegistry.counter("recipe.ratelimit", "outcome", "allowed");
+        this.rejectedCounter = meterRegistry.counter("recipe.ratelimit", "outcome", "rejected");
+    }
+
+    @Override
+    public Optional<Duration> tryAcquire(UUID userId, String clientAddress) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        TierLimit limit = userId != null ? userLimit : guestLimit;
+        String key = userId != null ? "user:" + userId : "ip:" + (clientAddress != null ? clientAddress : "unknown");
+
+        LocalTokenBucket bucket = localBuckets.get(key,
+                k -> new LocalTokenBucket(limit.capacity(), limit.tokensPerSecond(), System.nanoTime()));
+        long localWaitNanos = bucket.tryConsume(System.nanoTime());
+        if (localWaitNanos > 0) {
+            return reject(key, limit, Duration.ofNanos(localWaitNanos));
+        }
+
+        long sharedWaitMillis = consumeShared(key, limit);
+        if (sharedWaitMillis > 0) {
+            return reject(key, limit, Duration.ofMillis(sharedWaitMillis));
+        }
+
+        allowedCounter.increment();
+        return Optional.empty();
+    }
+
+    private long consumeShared(String key, TierLimit limit) {
+        if (!redisEnabled) {
+            return 0L;
+        }
+        try {
+            Long wait = redisTemplate.execute(tokenBucketScript, List.of(KEY_PREFIX + key),
+                    Long.toString(limit.capacity()),
+                    Double.toString(limit.tokensPerSecond() / 1000d),
+                    Long.toString(System.currentTimeMillis()));
+            return wait != null ? wait : 0L;
+        } catch (DataAccessException e) {
+            log.debug("Redis unavailable, rate limiting with local buckets only: {}", e.getMessage());
+            return 0L;
+        }
+    }
+
+    private Optional<Duration> reject(String key, TierLimit limit, Duration retryAfter) {
+        rejectedCounter.increment();
+        log.info("Rate limit exceeded",
+                kv("rateLimitKey", key),
+                kv("tier", limit.tier()),
+                kv("retryAfterMs", retryAfter.toMillis()));
+        return Optional.of(retryAfter);
+    }
+
+    private record TierLimit(String tier, long capacity, double tokensPerSecond) {}
+}
@@ -0,0 +1,54 @@
+package org.homechef.core.adapter.out.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * Picks a BCrypt cost for the current hardware. Each cost step doubles the work,
+ * so one measurement at the lowest cost is enough to estimate the others.
+ */
+final class BCryptCostCalibrator {
+
+    static final int MIN_STRENGTH = 10;
+    static final int MAX_STRENGTH = 14;
+
+    private static final int SAMPLES = 3;
+
+    private BCryptCostCalibrator() {
+    }
+
+    /**
+     * Measures hashing at {@link #MIN_STRENGTH} and returns the highest cost that stays within the target.
+     */
+    static int calibrate(Duration targetHashTime) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(MIN_STRENGTH);
+        encoder.encode("calibration-warmup");
+
+        long fastestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode("calibration-sample-" + i);
+            fastestNanos = Math.min(fastestNanos, System.nanoTime() - start);
+        }
+        return chooseStrength(Duration.ofNanos(fastestNanos), MIN_STRENGTH, targetHashTime);
+    }
+
+    /**
+     * Highest cost in [MIN_STRENGTH, MAX_STRENGTH] whose estimated hash time fits the target.
+     * Never returns less than MIN_STRENGTH, even on hardware too slow to meet the target.
+     */
+    static int chooseStrength(Duration measured, int measuredStrength, Duration targetHashTime) {
+        int chosen = MIN_STRENGTH;
+        for (int strength = MIN_STRENGTH; strength <= MAX_STRENGTH; strength++) {
+            int shift = strength - measuredStrength;
+            long estimatedNanos = shift >= 0
+                    ? measured.toNanos() << shift
+                    : measured.toNanos() >> -shift;
+            if (estimatedNanos <= targetHashTime.toNanos()) {
+                chosen = strength;
+            }
+        }
+        return chosen;
+    }
+}
@@ -1,30 +1,142 @@
 package org.homechef.core.adapter.out.security;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.homechef.core.application.exception.PasswordHashingBusyException;
 import org.homechef.core.application.port.out.PasswordEncoder;
 import org.homechef.core.domain.user.HashedPassword;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
 /**
  * BCrypt implementation of the PasswordEncoder port.
+ * Hashing runs on a small dedicated pool with a bounded queue, so a login burst
+ * is rejected quickly instead of tying up every request thread.
+ * <p>
+ * A hash cannot be interrupted, so a caller that gives up after {@code max-wait} leaves its
+ * work running. Each submission holds a permit until its hash has actually finished, which keeps
+ * abandoned work counted against capacity instead of letting new requests pile up behind it.
  */
 @Component
 public class BCryptPasswordEncoderAdapter implements PasswordEncoder {
 
+    private static final Logger log = LoggerFactory.getLogger(BCryptPasswordEncoderAdapter.class);
+
     private final BCryptPasswordEncoder bcrypt;
+    private final ThreadPoolExecutor executor;
+    private final Semaphore permits;
+    private final Duration maxWait;
+    private final Duration retryAfter;
+    private final Counter rejectedCounter;
 
-    public BCryptPasswordEncoderAdapter() {
-        this.bcrypt = new BCryptPasswordEncoder();
+    public BCryptPasswordEncoderAdapter(
+            MeterRegistry meterRegistry,
+            @Value("${homechef.password-hashing.strength:10}") int strength,
+            @Value("${homechef.password-hashing.calibrate:false}") boolean calibrate,
+            @Value("${homechef.password-hashing.target-hash-time:PT0.25S}") Duration targetHashTime,
+            @Value("${homechef.password-hashing.threads:0}") int threads,
+            @Value("${homechef.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${homechef.password-hashing.max-wait:PT2S}") Duration maxWait,
+            @Value("${homechef.password-hashing.retry-after:PT1S}") Duration retryAfter) {
+        int effectiveStrength = calibrate ? BCryptCostCalibrator.calibrate(targetHashTime) : strength;
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        this.bcrypt = new BCryptPasswordEncoder(effectiveStrength);
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.permits = new Semaphore(poolSize + queueCapacity);
+        this.maxWait = maxWait;
+        this.retryAfter = retryAfter;
+        this.rejectedCounter = meterRegistry.counter("auth.password_hashing", "outcome", "rejected");
+        new ExecutorServiceMetrics(executor, "password-hashing", List.of()).bindTo(meterRegistry);
+
+        log.info("Password hashing configured",
+                kv("bcryptStrength", effectiveStrength),
+                kv("calibrated", calibrate),
+                kv("threads", poolSize),
+                kv("queueCapacity", queueCapacity));
     }
 
     @Override
     public HashedPassword encode(String rawPassword) {
-        String encoded = bcrypt.encode(rawPassword);
+        String encoded = runBounded(() -> bcrypt.encode(rawPassword));
         return HashedPassword.of(encoded);
     }
 
     @Override
     public boolean matches(String rawPassword, HashedPassword encoded) {
-        return bcrypt.matches(rawPassword, encoded.value());
+        return runBounded(() -> bcrypt.matches(rawPassword, encoded.value()));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    <T> T runBounded(Callable<T> task) {
+        if (!permits.tryAcquire()) {
+            throw busy("queue_full");
+        }
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                try {
+                    return task.call();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw busy("queue_full");
+        }
+
+        // Not cancelled on timeout: a queued task would never release its permit, a running one keeps hashing anyway
+        try {
+            return future.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw busy("timeout");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private PasswordHashingBusyException busy(String reason) {
+        rejectedCounter.increment();
+        log.warn("Password hashing rejected",
+                kv("reason", reason),
+                kv("queued", executor.getQueue().size()),
+                kv("available", permits.availablePermits()));
+        return new PasswordHashingBusyException(retryAfter);
     }
 }
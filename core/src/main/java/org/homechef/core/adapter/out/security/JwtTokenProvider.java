@@ -1,9 +1,14 @@
 package org.homechef.core.adapter.out.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import org.homechef.core.adapter.out.jfr.JwtValidationEvent;
 import org.homechef.core.application.port.out.TokenProvider;
 import org.homechef.core.domain.user.User;
 import org.homechef.core.domain.user.UserId;
@@ -14,6 +19,7 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 import java.util.Optional;
@@ -21,6 +27,8 @@ import java.util.UUID;
 
 /**
  * JWT implementation of the TokenProvider port.
+ * The parser is built once; validated tokens are cached until they expire so
+ * repeated polls with the same token skip signature verification and claims parsing.
  */
 @Component
 public class JwtTokenProvider implements TokenProvider {
@@ -29,11 +37,24 @@ public class JwtTokenProvider implements TokenProvider {
 
     private final SecretKey key;
     private final long expirationSeconds;
+    private final JwtParser parser;
+    private final Cache<String, ValidatedToken> validatedTokens;
 
     public JwtTokenProvider(@Value("${app.jwt.secret}") String secret,
-                            @Value("${app.jwt.expiration-seconds:3600}") long expirationSeconds) {
+                            @Value("${app.jwt.expiration-seconds:3600}") long expirationSeconds,
+                            @Value("${app.jwt.validation-cache.max-size:10000}") long validationCacheMaxSize) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.expirationSeconds = expirationSeconds;
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+        this.validatedTokens = validationCacheMaxSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(validationCacheMaxSize)
+                        .expireAfter(Expiry.creating((String token, ValidatedToken validated) ->
+                                validated.remainingLifetime(Instant.now())))
+                        .build()
+                : null;
     }
 
     @Override
@@ -50,13 +71,44 @@ public class JwtTokenProvider implements TokenProvider {
 
     @Override
     public Optional<UserId> validateToken(String token) {
+        JwtValidationEvent event = new JwtValidationEvent();
+        event.begin();
+
+        Optional<UserId> userId = findCached(token);
+        boolean cacheHit = userId.isPresent();
+        if (!cacheHit) {
+            userId = parseAndCache(token);
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.cacheHit = cacheHit;
+            event.valid = userId.isPresent();
+            event.commit();
+        }
+        return userId;
+    }
+
+    private Optional<UserId> findCached(String token) {
+        if (validatedTokens == null) {
+            return Optional.empty();
+        }
+        ValidatedToken cached = validatedTokens.getIfPresent(token);
+        // Entries are evicted at expiry; the check covers the window before eviction runs
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return Optional.of(cached.userId());
+        }
+        return Optional.empty();
+    }
+
+    private Optional<UserId> parseAndCache(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-            return Optional.of(UserId.of(UUID.fromString(claims.getSubject())));
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            UserId userId = UserId.of(UUID.fromString(claims.getSubject()));
+            if (validatedTokens != null && claims.getExpiration() != null) {
+                validatedTokens.put(token, new ValidatedToken(userId, claims.getExpiration().toInstant()));
+            }
+            return Optional.of(userId);
         } catch (JwtException e) {
             log.debug("Invalid JWT token: {}", e.getMessage());
             return Optional.empty();
@@ -70,4 +122,12 @@ public class JwtTokenProvider implements TokenProvider {
     public long getExpirationSeconds() {
         return expirationSeconds;
     }
+
+    private record ValidatedToken(UserId userId, Instant expiresAt) {
+
+        Duration remainingLifetime(Instant now) {
+            Duration remaining = Duration.between(now, expiresAt);
+            return remaining.isNegative() ? Duration.ZERO : remaining;
+        }
+    }
 }
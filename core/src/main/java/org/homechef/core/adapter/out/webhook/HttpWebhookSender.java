@@ -0,0 +1,173 @@
+package org.homechef.core.adapter.out.webhook;
+
+import org.homechef.core.application.exception.WebhookDeliveryException;
+import org.homechef.core.application.port.out.WebhookSender;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * POSTs completion callbacks with the JDK HTTP client, which keeps connections to a host open
+ * between the deliveries of a batch.
+ * <p>
+ * Every request is signed: {@value #SIGNATURE_HEADER} is {@code sha256=} followed by the hex
+ * HMAC-SHA256 of {@code <timestamp>.<body>} under the shared secret, where the timestamp is the
+ * {@value #TIMESTAMP_HEADER} header (epoch seconds). Receivers should reject stale timestamps.
+ * <p>
+ * Callback URLs come from submitters, so the host is resolved right before each delivery and the
+ * delivery is given up if any of its addresses is not public: loopback, link-local, private,
+ * carrier-grade NAT, unique local, multicast or reserved. The client connects to the address just
+ * cached by that lookup. Redirects are never followed. allow-private-addresses lifts the check for
+ * local development.
+ */
+@Component
+public class HttpWebhookSender implements WebhookSender {
+
+    static final String SIGNATURE_HEADER = "X-HomeChef-Signature";
+    static final String TIMESTAMP_HEADER = "X-HomeChef-Timestamp";
+    static final String DELIVERY_HEADER = "X-HomeChef-Delivery";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final HttpClient httpClient;
+    private final SecretKeySpec signingKey;
+    private final Duration timeout;
+    private final boolean allowPrivateAddresses;
+
+    public HttpWebhookSender(@Value("${homechef.webhook.enabled:false}") boolean enabled,
+                             @Value("${homechef.webhook.secret:}") String secret,
+                             @Value("${homechef.webhook.timeout:PT10S}") Duration timeout,
+                             @Value("${homechef.webhook.allow-private-addresses:false}") boolean allowPrivateAddresses) {
+        if (enabled && secret.isBlank()) {
+            throw new IllegalStateException("homechef.webhook.secret must be set when webhooks are enabled");
+        }
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        this.signingKey = secret.isBlank() ? null : new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        this.timeout = timeout;
+        this.allowPrivateAddresses = allowPrivateAddresses;
+    }
+
+    @Override
+    public void send(UUID deliveryId, String callbackUrl, byte[] payload) {
+        if (signingKey == null) {
+            throw new WebhookDeliveryException("Webhooks are not configured", false);
+        }
+        String timestamp = String.valueOf(Instant.now().getEpochSecond());
+        URI uri;
+        HttpRequest request;
+        try {
+            uri = URI.create(callbackUrl);
+            request = HttpRequest.newBuilder(uri)
+                    .timeout(timeout)
+                    .header("Content-Type", "application/json")
+                    .header(DELIVERY_HEADER, deliveryId.toString())
+                    .header(TIMESTAMP_HEADER, timestamp)
+                    .header(SIGNATURE_HEADER, "sha256=" + sign(timestamp, payload))
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(payload))
+                    .build();
+        } catch (IllegalArgumentException e) {
+            throw new WebhookDeliveryException("Invalid callback URL: " + e.getMessage(), false);
+        }
+        if (!allowPrivateAddresses) {
+            requirePublicHost(uri.getHost());
+        }
+
+        HttpResponse<Void> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (IOException e) {
+            throw new WebhookDeliveryException("Callback request failed: " + e, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebhookDeliveryException("Interrupted while sending callback", e);
+        }
+
+        int status = response.statusCode();
+        if (status / 100 != 2) {
+            // Timeouts, throttling and server errors are worth another try; other rejections are not
+            boolean retryable = status == 408 || status == 429 || status >= 500;
+            throw new WebhookDeliveryException("Callback answered HTTP " + status, retryable);
+        }
+    }
+
+    private static void requirePublicHost(String host) {
+        InetAddress[] addresses;
+        try {
+            addresses = InetAddress.getAllByName(host);
+        } catch (UnknownHostException e) {
+            throw new WebhookDeliveryException("Callback host does not resolve: " + host, e);
+        }
+        for (InetAddress address : addresses) {
+            if (!isPublic(address)) {
+                throw new WebhookDeliveryException(
+                        "Callback host resolves to non-public address " + address.getHostAddress(), false);
+            }
+        }
+    }
+
+    static boolean isPublic(InetAddress address) {
+        if (address.isAnyLocalAddress() || address.isLoopbackAddress() || address.isLinkLocalAddress()
+                || address.isSiteLocalAddress() || address.isMulticastAddress()) {
+            return false;
+        }
+        byte[] bytes = address.getAddress();
+        if (address instanceof Inet4Address) {
+            return isPublicIpv4(bytes, 0);
+        }
+        if ((bytes[0] & 0xfe) == 0xfc) {
+            // Unique local fc00::/7
+            return false;
+        }
+        if (bytes[0] == 0x00 && bytes[1] == 0x64 && (bytes[2] & 0xff) == 0xff && (bytes[3] & 0xff) == 0x9b) {
+            // NAT64 64:ff9b::/96 reaches the embedded IPv4 address
+            return isPublicIpv4(bytes, 12);
+        }
+        return true;
+    }
+
+    private static boolean isPublicIpv4(byte[] bytes, int offset) {
+        int first = bytes[offset] & 0xff;
+        int second = bytes[offset + 1] & 0xff;
+        int third = bytes[offset + 2] & 0xff;
+        return first != 0                                  // this network 0.0.0.0/8
+                && first != 10 && first != 127              // private, loopback
+                && !(first == 100 && (second & 0xc0) == 64) // carrier-grade NAT 100.64.0.0/10
+                && !(first == 169 && second == 254)         // link-local
+                && !(first == 172 && (second & 0xf0) == 16) // private 172.16.0.0/12
+                && !(first == 192 && second == 168)         // private
+                && !(first == 192 && second == 0 && third == 0) // IETF protocol assignments
+                && !(first == 198 && (second & 0xfe) == 18) // benchmarking 198.18.0.0/15
+                && first < 224;                             // multicast, reserved, broadcast
+    }
+
+    private String sign(String timestamp, byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            mac.update(timestamp.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) '.');
+            return HexFormat.of().formatHex(mac.doFinal(payload));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 unavailable", e);
+        }
+    }
+}
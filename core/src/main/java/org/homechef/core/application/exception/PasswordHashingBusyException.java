@@ -0,0 +1,21 @@
+package org.homechef.core.application.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when password hashing capacity is exhausted, e.g. during a login storm.
+ * Rejecting early keeps request threads free for the rest of the API.
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public PasswordHashingBusyException(Duration retryAfter) {
+        super("Too many sign-in attempts in progress, retry in " + Math.max(1, retryAfter.toSeconds()) + "s");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
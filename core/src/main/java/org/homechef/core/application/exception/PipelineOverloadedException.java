@@ -0,0 +1,21 @@
+package org.homechef.core.application.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when the parse pipeline is too far behind to accept new work.
+ * Only raised for submissions that would trigger a new parse; cache hits are always served.
+ */
+public class PipelineOverloadedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public PipelineOverloadedException(Duration retryAfter) {
+        super("Recipe parsing is temporarily overloaded, retry in " + Math.max(1, retryAfter.toSeconds()) + "s");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
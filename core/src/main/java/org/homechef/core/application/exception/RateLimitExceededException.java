@@ -0,0 +1,21 @@
+package org.homechef.core.application.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a requester has exhausted their parse quota.
+ * Only raised for submissions that would trigger a new parse; cache hits are never limited.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(Duration retryAfter) {
+        super("Too many parse requests, retry in " + Math.max(1, retryAfter.toSeconds()) + "s");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,20 @@
+package org.homechef.core.application.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a recipe search is cancelled for exceeding its latency budget.
+ */
+public class SearchTimeoutException extends RuntimeException {
+
+    private final Duration budget;
+
+    public SearchTimeoutException(Duration budget, Throwable cause) {
+        super("Search took longer than " + budget.toMillis() + "ms, try a more specific query", cause);
+        this.budget = budget;
+    }
+
+    public Duration getBudget() {
+        return budget;
+    }
+}
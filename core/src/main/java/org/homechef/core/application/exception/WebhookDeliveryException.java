@@ -0,0 +1,24 @@
+package org.homechef.core.application.exception;
+
+/**
+ * Thrown when a completion callback could not be delivered. Deliveries that are not retryable
+ * (the receiver rejected the payload itself) are given up right away.
+ */
+public class WebhookDeliveryException extends RuntimeException {
+
+    private final boolean retryable;
+
+    public WebhookDeliveryException(String message, boolean retryable) {
+        super(message);
+        this.retryable = retryable;
+    }
+
+    public WebhookDeliveryException(String message, Throwable cause) {
+        super(message, cause);
+        this.retryable = true;
+    }
+
+    public boolean isRetryable() {
+        return retryable;
+    }
+}
@@ -0,0 +1,14 @@
+package org.homechef.core.application.port.in;
+
+import org.homechef.core.application.port.in.dto.WebhookDeliveryResult;
+
+/**
+ * Driving port for POSTing completion callbacks whose parse request completed or failed.
+ */
+public interface DeliverWebhooksUseCase {
+
+    /**
+     * Claims one batch of due deliveries and attempts each. Safe to run on every replica at once.
+     */
+    WebhookDeliveryResult execute();
+}
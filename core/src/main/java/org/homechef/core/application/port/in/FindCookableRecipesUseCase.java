@@ -0,0 +1,18 @@
+package org.homechef.core.application.port.in;
+
+import org.homechef.core.application.port.in.dto.CookableRecipe;
+import org.homechef.core.application.port.in.dto.CookableRecipesQuery;
+
+import java.util.List;
+
+/**
+ * Driving port for "what can I cook": ranks stored recipes by how well their ingredients
+ * overlap with the ingredients the user has on hand.
+ */
+public interface FindCookableRecipesUseCase {
+
+    /**
+     * Returns the best matching recipes, best first. Recipes sharing no ingredient are not returned.
+     */
+    List<CookableRecipe> execute(CookableRecipesQuery query);
+}
@@ -0,0 +1,16 @@
+package org.homechef.core.application.port.in;
+
+import org.homechef.core.application.port.in.dto.BulkParseStatusQuery;
+import org.homechef.core.application.port.in.dto.BulkParseStatusResult;
+
+/**
+ * Driving port for polling many parse requests in one call.
+ */
+public interface GetBulkParseStatusUseCase {
+
+    /**
+     * Returns the statuses among the queried requests that changed after the query's watermark.
+     * Pass the returned watermark back in the next query to receive only later changes.
+     */
+    BulkParseStatusResult execute(BulkParseStatusQuery query);
+}
@@ -0,0 +1,16 @@
+package org.homechef.core.application.port.in;
+
+import org.homechef.core.application.port.in.dto.ParseHistoryQuery;
+import org.homechef.core.application.port.in.dto.ParseHistoryResult;
+
+/**
+ * Driving port for listing the URLs a user has submitted for parsing.
+ */
+public interface GetParseHistoryUseCase {
+
+    /**
+     * Returns one page of the user's parse requests, newest first.
+     * Pass the returned cursor back in the next query to continue.
+     */
+    ParseHistoryResult execute(ParseHistoryQuery query);
+}
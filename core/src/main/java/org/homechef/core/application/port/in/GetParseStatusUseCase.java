@@ -1,6 +1,6 @@
 package org.homechef.core.application.port.in;
 
-import org.homechef.core.application.port.in.dto.ParseStatusResult;
+import org.homechef.core.application.port.in.dto.ParseStatusView;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -11,8 +11,8 @@ import java.util.UUID;
 public interface GetParseStatusUseCase {
 
     /**
-     * Gets the current status of a parse request.
+     * Gets the current status of a parse request, rendered as the poll response.
      * Returns empty if request not found.
      */
-    Optional<ParseStatusResult> execute(UUID requestId);
+    Optional<ParseStatusView> execute(UUID requestId);
 }
\ No newline at end of file
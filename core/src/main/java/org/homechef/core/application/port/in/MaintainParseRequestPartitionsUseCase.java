@@ -0,0 +1,15 @@
+package org.homechef.core.application.port.in;
+
+import org.homechef.core.application.port.in.dto.PartitionMaintenanceResult;
+
+/**
+ * Driving port for keeping parse request partitions ahead of time and dropping expired ones.
+ */
+public interface MaintainParseRequestPartitionsUseCase {
+
+    /**
+     * Creates partitions for the coming months and drops months past retention.
+     * Does nothing on replicas that are not currently running maintenance.
+     */
+    PartitionMaintenanceResult execute();
+}
@@ -0,0 +1,16 @@
+package org.homechef.core.application.port.in;
+
+import org.homechef.core.application.port.in.dto.ReapResult;
+
+/**
+ * Driving port for resolving parse requests whose result never arrived
+ * (parser crash, lost result event), so their URL can be parsed again.
+ */
+public interface ReapStuckParseRequestsUseCase {
+
+    /**
+     * Republishes or fails one batch of stuck requests. Does nothing on replicas
+     * that are not currently running the reaper.
+     */
+    ReapResult execute();
+}
@@ -0,0 +1,16 @@
+package org.homechef.core.application.port.in;
+
+import org.homechef.core.application.port.in.dto.RecipeSearchResult;
+import org.homechef.core.application.port.in.dto.SearchRecipesQuery;
+
+/**
+ * Driving port for searching recipes that have already been parsed.
+ */
+public interface SearchRecipesUseCase {
+
+    /**
+     * Returns one page of recipes matching the query, newest first.
+     * Pass the returned cursor back in the next query to continue.
+     */
+    RecipeSearchResult execute(SearchRecipesQuery query);
+}
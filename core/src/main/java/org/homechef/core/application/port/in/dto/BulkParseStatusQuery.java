@@ -0,0 +1,18 @@
+package org.homechef.core.application.port.in.dto;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Query for the statuses of several parse requests.
+ */
+public record BulkParseStatusQuery(
+        Set<UUID> requestIds,
+        Instant since  // watermark from the previous response, null for every status
+) {
+    public BulkParseStatusQuery {
+        Objects.requireNonNull(requestIds, "requestIds cannot be null");
+    }
+}
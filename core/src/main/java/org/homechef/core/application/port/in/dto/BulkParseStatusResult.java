@@ -0,0 +1,13 @@
+package org.homechef.core.application.port.in.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Statuses that changed after the query's watermark. Unknown request IDs are left out.
+ */
+public record BulkParseStatusResult(
+        List<ParseStatusView> changed,
+        Instant watermark  // pass back as since on the next query; null until a status has been seen
+) {
+}
@@ -0,0 +1,14 @@
+package org.homechef.core.application.port.in.dto;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * When an unfinished parse request is expected to complete, and how long a poller should wait
+ * before asking again.
+ */
+public record CompletionEstimate(
+        Instant estimatedCompletionAt, // null until enough parses have completed to estimate from
+        Duration retryAfter
+) {
+}
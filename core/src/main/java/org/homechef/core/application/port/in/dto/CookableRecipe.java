@@ -0,0 +1,14 @@
+package org.homechef.core.application.port.in.dto;
+
+import java.util.List;
+
+/**
+ * A recipe ranked against the ingredients on hand.
+ */
+public record CookableRecipe(
+        SubmitUrlResult.RecipeData recipe,
+        double score,                    // Jaccard similarity of the ingredient sets, 0..1
+        List<String> matchedIngredients, // normalized names the user has
+        List<String> missingIngredients  // normalized names the user still needs
+) {
+}
@@ -0,0 +1,15 @@
+package org.homechef.core.application.port.in.dto;
+
+import java.util.List;
+
+/**
+ * Query for "what can I cook".
+ */
+public record CookableRecipesQuery(
+        List<String> ingredients, // ingredients on hand, as typed by the user
+        Integer limit             // maximum number of recipes, null for the default
+) {
+    public CookableRecipesQuery {
+        ingredients = ingredients != null ? List.copyOf(ingredients) : List.of();
+    }
+}
@@ -0,0 +1,17 @@
+package org.homechef.core.application.port.in.dto;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Query for one page of a user's parse history.
+ */
+public record ParseHistoryQuery(
+        UUID userId,
+        String cursor, // opaque cursor from the previous page, null for the first page
+        Integer limit  // page size, null for the default
+) {
+    public ParseHistoryQuery {
+        Objects.requireNonNull(userId, "userId cannot be null");
+    }
+}
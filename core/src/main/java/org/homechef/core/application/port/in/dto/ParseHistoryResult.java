@@ -0,0 +1,24 @@
+package org.homechef.core.application.port.in.dto;
+
+import org.homechef.core.domain.recipe.ParseStatus;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One page of a user's parse history.
+ */
+public record ParseHistoryResult(
+        List<Entry> entries,
+        String nextCursor // null on the last page
+) {
+    public record Entry(
+            UUID requestId,
+            String urlHash,
+            ParseStatus status,
+            String recipeTitle, // present once the URL has been parsed
+            Instant createdAt,
+            Instant updatedAt
+    ) {}
+}
@@ -0,0 +1,23 @@
+package org.homechef.core.application.port.in.dto;
+
+import org.homechef.core.domain.recipe.ParseStatus;
+
+import java.util.UUID;
+
+/**
+ * Parse request status with its poll response already rendered.
+ */
+public record ParseStatusView(
+        UUID requestId,
+        ParseStatus status,
+        byte[] body,                  // JSON body served as is
+        CompletionEstimate estimate   // present on polls for unfinished requests, never stored
+) {
+    public ParseStatusView(UUID requestId, ParseStatus status, byte[] body) {
+        this(requestId, status, body, null);
+    }
+
+    public ParseStatusView withEstimate(CompletionEstimate estimate) {
+        return new ParseStatusView(requestId, status, body, estimate);
+    }
+}
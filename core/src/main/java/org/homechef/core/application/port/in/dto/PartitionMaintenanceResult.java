@@ -0,0 +1,19 @@
+package org.homechef.core.application.port.in.dto;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Outcome of one partition maintenance run.
+ */
+public record PartitionMaintenanceResult(
+        boolean leader,           // false if another replica holds the maintenance lock
+        List<YearMonth> created,  // partitions created ahead of time
+        List<YearMonth> dropped,  // expired partitions dropped
+        List<YearMonth> retained, // expired partitions kept because they still hold in-flight requests
+        long purged               // status view and webhook delivery rows of dropped months deleted
+) {
+    public static PartitionMaintenanceResult notLeader() {
+        return new PartitionMaintenanceResult(false, List.of(), List.of(), List.of(), 0);
+    }
+}
@@ -0,0 +1,18 @@
+package org.homechef.core.application.port.in.dto;
+
+/**
+ * Outcome of one reaper run.
+ */
+public record ReapResult(
+        boolean leader,  // false if another replica holds the reaper lock
+        int republished, // requests sent to the parser again
+        int failed       // requests given up on and marked FAILED
+) {
+    public static ReapResult notLeader() {
+        return new ReapResult(false, 0, 0);
+    }
+
+    public int total() {
+        return republished + failed;
+    }
+}
@@ -0,0 +1,12 @@
+package org.homechef.core.application.port.in.dto;
+
+import java.util.List;
+
+/**
+ * One page of recipe search results.
+ */
+public record RecipeSearchResult(
+        List<SubmitUrlResult.RecipeData> recipes,
+        String nextCursor // null on the last page
+) {
+}
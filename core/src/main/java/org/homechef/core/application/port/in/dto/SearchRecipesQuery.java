@@ -0,0 +1,17 @@
+package org.homechef.core.application.port.in.dto;
+
+import java.util.List;
+
+/**
+ * Query for recipe search. All filters are optional and combined with AND.
+ */
+public record SearchRecipesQuery(
+        String text,              // full-text query on the title, may be null
+        List<String> ingredients, // ingredient names that must all be present, may be null
+        String cursor,            // opaque cursor from the previous page, null for the first page
+        Integer limit             // page size, null for the default
+) {
+    public SearchRecipesQuery {
+        ingredients = ingredients != null ? List.copyOf(ingredients) : List.of();
+    }
+}
@@ -1,5 +1,6 @@
 package org.homechef.core.application.port.in.dto;
 
+import java.net.URI;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -8,20 +9,28 @@ import java.util.UUID;
  */
 public record SubmitUrlCommand(
         String url,
-        UUID userId
+        UUID userId,         // null for guests
+        String clientAddress, // used to rate limit guests, may be null
+        String callbackUrl    // https URL POSTed the result once the request completes or fails, may be null
 ) {
     public SubmitUrlCommand {
         Objects.requireNonNull(url, "url cannot be null");
         if (url.isBlank()) {
             throw new IllegalArgumentException("url cannot be blank");
         }
+        if (callbackUrl != null) {
+            URI callback = URI.create(callbackUrl);
+            if (!"https".equalsIgnoreCase(callback.getScheme()) || callback.getHost() == null) {
+                throw new IllegalArgumentException("callbackUrl must be an absolute https URL");
+            }
+        }
     }
 
     public static SubmitUrlCommand forGuest(String url) {
-        return new SubmitUrlCommand(url, null);
+        return new SubmitUrlCommand(url, null, null, null);
     }
 
     public static SubmitUrlCommand forUser(String url, UUID userId) {
-        return new SubmitUrlCommand(url, userId);
+        return new SubmitUrlCommand(url, userId, null, null);
     }
 }
\ No newline at end of file
@@ -15,12 +15,15 @@ public record SubmitUrlResult(
         ResultType type,
         UUID requestId,      // present for PENDING/PROCESSING
         ParseStatus status,  // present for PENDING/PROCESSING
-        RecipeData recipe    // present for CACHED
+        RecipeData recipe,   // present for CACHED
+        String errorMessage,  // present for FAILED
+        CompletionEstimate estimate  // present for PENDING/PROCESSING
 ) {
     public enum ResultType {
         CACHED,     // Fresh recipe found, returned immediately
         PENDING,    // New request created, poll for result
-        DEDUPED     // Existing in-flight request found, poll for result
+        DEDUPED,    // Existing in-flight request found, poll for result
+        FAILED      // URL failed to parse recently, backoff still active
     }
 
     /**
@@ -55,15 +58,21 @@ public record SubmitUrlResult(
                 ResultType.CACHED,
                 null,
                 ParseStatus.COMPLETED,
-                new RecipeData(urlHash, title, ingredientData, parsedAt)
+                new RecipeData(urlHash, title, ingredientData, parsedAt),
+                null,
+                null
         );
     }
 
-    public static SubmitUrlResult pending(UUID requestId) {
-        return new SubmitUrlResult(ResultType.PENDING, requestId, ParseStatus.PENDING, null);
+    public static SubmitUrlResult pending(UUID requestId, CompletionEstimate estimate) {
+        return new SubmitUrlResult(ResultType.PENDING, requestId, ParseStatus.PENDING, null, null, estimate);
+    }
+
+    public static SubmitUrlResult deduped(UUID requestId, ParseStatus status, CompletionEstimate estimate) {
+        return new SubmitUrlResult(ResultType.DEDUPED, requestId, status, null, null, estimate);
     }
 
-    public static SubmitUrlResult deduped(UUID requestId, ParseStatus status) {
-        return new SubmitUrlResult(ResultType.DEDUPED, requestId, status, null);
+    public static SubmitUrlResult failed(String errorMessage) {
+        return new SubmitUrlResult(ResultType.FAILED, null, ParseStatus.FAILED, null, errorMessage, null);
     }
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package org.homechef.core.application.port.in.dto;
+
+/**
+ * Outcome of one webhook delivery run.
+ */
+public record WebhookDeliveryResult(
+        int delivered, // acknowledged by the receiver
+        int retried,   // attempt failed, scheduled again with backoff
+        int failed,    // given up on
+        int deferred   // not attempted because an earlier delivery to the same host failed
+) {
+    public int total() {
+        return delivered + retried + failed + deferred;
+    }
+}
@@ -0,0 +1,15 @@
+package org.homechef.core.application.port.out;
+
+/**
+ * Driven port for running a scheduled job on one replica at a time.
+ */
+public interface JobLock {
+
+    /**
+     * Tries to take the named lock for the current transaction without waiting.
+     * The lock is released when the transaction ends.
+     *
+     * @return true if this replica holds the lock, false if another one does
+     */
+    boolean tryLockForTransaction(String jobName);
+}
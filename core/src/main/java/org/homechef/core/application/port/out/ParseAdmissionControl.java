@@ -0,0 +1,20 @@
+package org.homechef.core.application.port.out;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Driven port deciding whether the parse pipeline can take a new request.
+ */
+public interface ParseAdmissionControl {
+
+    /**
+     * Checks whether a new parse request should be admitted given current pipeline health.
+     * Guests are shed before authenticated users as the pipeline degrades.
+     *
+     * @param userId the authenticated user, or null for guests
+     * @return empty if admitted, otherwise how long the caller should wait before retrying
+     */
+    Optional<Duration> checkAdmission(UUID userId);
+}
@@ -0,0 +1,28 @@
+package org.homechef.core.application.port.out;
+
+import org.homechef.core.application.port.in.dto.CompletionEstimate;
+import org.homechef.core.domain.recipe.ParseLane;
+import org.homechef.core.domain.recipe.ParseStatus;
+
+import java.time.Duration;
+
+/**
+ * Driven port estimating when unfinished parse requests complete, from recently completed ones.
+ */
+public interface ParseCompletionEstimator {
+
+    /**
+     * Feeds the stage durations of a parse whose result was just applied.
+     *
+     * @param queueTime request created until the parser picked it up
+     * @param parseTime parser start until parser finish
+     */
+    void recordCompletion(ParseLane lane, Duration queueTime, Duration parseTime);
+
+    /**
+     * Estimates the completion of a PENDING or PROCESSING request.
+     *
+     * @param lane the request's lane, or null if unknown
+     */
+    CompletionEstimate estimate(ParseStatus status, ParseLane lane);
+}
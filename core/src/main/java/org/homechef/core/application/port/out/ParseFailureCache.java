@@ -0,0 +1,28 @@
+package org.homechef.core.application.port.out;
+
+import org.homechef.core.domain.recipe.ParseFailure;
+import org.homechef.core.domain.recipe.UrlHash;
+
+import java.util.Optional;
+
+/**
+ * Driven port for the negative cache of URLs that recently failed to parse.
+ */
+public interface ParseFailureCache {
+
+    /**
+     * Finds a failure for the given URL hash that is still inside its backoff window.
+     * Returns empty if the URL never failed or the backoff has elapsed.
+     */
+    Optional<ParseFailure> findBlocked(UrlHash urlHash);
+
+    /**
+     * Records a parse failure, extending the backoff if the URL already failed before.
+     */
+    ParseFailure recordFailure(UrlHash urlHash, String errorMessage);
+
+    /**
+     * Forgets any failure history for the URL (e.g. after a successful parse).
+     */
+    void evict(UrlHash urlHash);
+}
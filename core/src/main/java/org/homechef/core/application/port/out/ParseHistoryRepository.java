@@ -0,0 +1,29 @@
+package org.homechef.core.application.port.out;
+
+import org.homechef.core.domain.recipe.ParseStatus;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Driven port for reading a user's parse request history.
+ */
+public interface ParseHistoryRepository {
+
+    /**
+     * Finds the user's parse requests, newest first (created_at, then id, descending),
+     * starting after the given keyset position.
+     *
+     * @param afterCreatedAt keyset position of the last entry on the previous page, null for the first page
+     * @param afterId        keyset tie-breaker, set together with afterCreatedAt
+     */
+    List<Entry> findByUser(UUID userId, Instant afterCreatedAt, UUID afterId, int limit);
+
+    /**
+     * @param recipeTitle title of the parsed recipe, null until the URL has been parsed
+     */
+    record Entry(UUID requestId, String urlHash, ParseStatus status, String recipeTitle,
+                 Instant createdAt, Instant updatedAt) {
+    }
+}
@@ -0,0 +1,46 @@
+package org.homechef.core.application.port.out;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Driven port for the monthly partitions of parse request storage (months are UTC).
+ */
+public interface ParseRequestPartitions {
+
+    /**
+     * Creates the partition for the month if missing.
+     *
+     * @return true if it was created, false if it already existed
+     */
+    boolean ensure(YearMonth month);
+
+    /**
+     * Lists the months that currently have a partition, oldest first.
+     */
+    List<YearMonth> list();
+
+    /**
+     * Returns true if the month's partition still holds PENDING or PROCESSING requests.
+     */
+    boolean hasInFlight(YearMonth month);
+
+    /**
+     * Detaches and drops the month's partition together with all its rows. Status views and webhook
+     * deliveries of those requests stay until purged with {@link #purgeDerived}.
+     */
+    void drop(YearMonth month);
+
+    /**
+     * Returns the month of the oldest status view or webhook delivery, if there is any.
+     */
+    Optional<YearMonth> oldestDerived();
+
+    /**
+     * Deletes up to {@code limit} status views and up to {@code limit} webhook deliveries created in the month.
+     *
+     * @return the number of rows deleted, 0 once none are left
+     */
+    int purgeDerived(YearMonth month, int limit);
+}
@@ -1,8 +1,11 @@
 package org.homechef.core.application.port.out;
 
 import org.homechef.core.domain.recipe.ParseRequest;
+import org.homechef.core.domain.recipe.ParseStatus;
 import org.homechef.core.domain.recipe.UrlHash;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -21,14 +24,31 @@ public interface ParseRequestRepository {
      */
     Optional<ParseRequest> findById(UUID id);
 
+    /**
+     * Finds the parse requests with the given IDs; unknown IDs are skipped.
+     */
+    List<ParseRequest> findAllById(Collection<UUID> ids);
+
     /**
      * Finds an in-flight (PENDING or PROCESSING) request for the given URL hash.
      * Used for deduplication.
      */
     Optional<ParseRequest> findInFlightByUrlHash(UrlHash urlHash);
 
+    /**
+     * Finds the oldest in-flight (PENDING or PROCESSING) request, if any.
+     */
+    Optional<ParseRequest> findOldestInFlight();
+
+    /**
+     * Counts parse requests in the given status.
+     */
+    long countByStatus(ParseStatus status);
+
     /**
      * Updates the status of a parse request.
+     *
+     * @return the request as updated, empty if it does not exist
      */
-    void updateStatus(UUID id, String status, String errorMessage);
+    Optional<ParseRequest> updateStatus(UUID id, String status, String errorMessage);
 }
\ No newline at end of file
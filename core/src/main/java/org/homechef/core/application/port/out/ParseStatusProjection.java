@@ -0,0 +1,53 @@
+package org.homechef.core.application.port.out;
+
+import org.homechef.core.application.port.in.dto.ParseStatusResult;
+import org.homechef.core.application.port.in.dto.ParseStatusView;
+import org.homechef.core.domain.recipe.ParseStatus;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Driven port for the parse status read model: one pre-rendered poll response per parse request,
+ * kept up to date by whoever changes the request's status.
+ */
+public interface ParseStatusProjection {
+
+    /**
+     * Renders and stores the status of an existing parse request, replacing any previous one.
+     * Call it in the transaction that changes the request so both commit together.
+     *
+     * @return the rendered status
+     */
+    ParseStatusView save(ParseStatusResult status);
+
+    /**
+     * Batch form of {@link #save(ParseStatusResult)}.
+     */
+    List<ParseStatusView> saveAll(Collection<ParseStatusResult> statuses);
+
+    /**
+     * Finds the stored status of a parse request.
+     */
+    Optional<ParseStatusView> findById(UUID requestId);
+
+    /**
+     * Returns the stored statuses of the given requests in one query. Only statuses updated after
+     * {@code updatedAfter} carry their body; the others only show that the request has a stored status.
+     */
+    List<StoredStatus> findAllById(Collection<UUID> requestIds, Instant updatedAfter);
+
+    /**
+     * Renders a status the way {@link #save(ParseStatusResult)} stores it, without storing it.
+     */
+    ParseStatusView render(ParseStatusResult status);
+
+    /**
+     * @param body rendered poll response, null if the status was not updated after the requested instant
+     */
+    record StoredStatus(UUID requestId, ParseStatus status, Instant updatedAt, byte[] body) {
+    }
+}
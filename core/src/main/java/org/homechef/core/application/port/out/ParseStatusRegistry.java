@@ -0,0 +1,24 @@
+package org.homechef.core.application.port.out;
+
+import org.homechef.core.application.port.in.dto.ParseStatusView;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Driven port for the in-memory registry of recently written parse request states.
+ * Holds only states this application wrote, never states read back from the database.
+ */
+public interface ParseStatusRegistry {
+
+    /**
+     * Records the request's latest state. Inside a transaction the change becomes visible after
+     * commit; other instances drop their copy of the request so their next poll reads the database.
+     */
+    void put(ParseStatusView status);
+
+    /**
+     * Returns the request's state if it is known to be current, empty to fall back to the database.
+     */
+    Optional<ParseStatusView> find(UUID requestId);
+}
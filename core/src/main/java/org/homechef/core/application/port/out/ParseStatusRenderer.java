@@ -0,0 +1,15 @@
+package org.homechef.core.application.port.out;
+
+import org.homechef.core.application.port.in.dto.ParseStatusResult;
+
+/**
+ * Renders a parse status as the poll response body, so the read model can store bodies without
+ * knowing the wire contract. Implemented by the web layer, which owns that contract.
+ */
+public interface ParseStatusRenderer {
+
+    /**
+     * Returns the body the status endpoint serves for the status.
+     */
+    byte[] render(ParseStatusResult status);
+}
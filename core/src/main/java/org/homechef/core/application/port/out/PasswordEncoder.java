@@ -5,6 +5,8 @@ import org.homechef.core.domain.user.HashedPassword;
 /**
  * Output port for password encoding operations.
  * Abstracts the actual hashing algorithm from the application layer.
+ * Implementations may throw {@link org.homechef.core.application.exception.PasswordHashingBusyException}
+ * when hashing capacity is exhausted.
  */
 public interface PasswordEncoder {
 
@@ -0,0 +1,26 @@
+package org.homechef.core.application.port.out;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Driven port that keeps reads consistent with recent writes when read-only transactions
+ * are served by asynchronously replicated read replicas.
+ */
+public interface ReadYourWrites {
+
+    /**
+     * Records that the parse request was just written, so replicas may not have it yet.
+     */
+    void recordWrite(UUID requestId);
+
+    /**
+     * Returns true if the parse request was written recently enough that replicas may lag behind it.
+     */
+    boolean isRecentWrite(UUID requestId);
+
+    /**
+     * Runs the read in its own read-only transaction on the primary.
+     */
+    <T> T readFromPrimary(Supplier<T> read);
+}
@@ -0,0 +1,32 @@
+package org.homechef.core.application.port.out;
+
+import org.homechef.core.domain.recipe.Recipe;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Driven port for the inverted index from normalized ingredient names to recipes.
+ */
+public interface RecipeIngredientIndex {
+
+    /**
+     * Adds a recipe to the index, or replaces its ingredients if already indexed.
+     * Inside a transaction the change becomes visible after commit.
+     */
+    void index(Recipe recipe);
+
+    /**
+     * Returns up to {@code limit} recipes sharing at least one ingredient with the given
+     * normalized names, best overlap first.
+     */
+    List<Match> topMatches(Set<String> ingredientNames, int limit);
+
+    /**
+     * @param score            Jaccard similarity between the query and the recipe's ingredient sets
+     * @param matched          number of query ingredients the recipe uses
+     * @param ingredientCount  number of distinct ingredients in the recipe
+     */
+    record Match(String urlHash, double score, int matched, int ingredientCount) {
+    }
+}
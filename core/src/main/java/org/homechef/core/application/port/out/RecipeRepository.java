@@ -3,6 +3,8 @@ package org.homechef.core.application.port.out;
 import org.homechef.core.domain.recipe.Recipe;
 import org.homechef.core.domain.recipe.UrlHash;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -20,9 +22,22 @@ public interface RecipeRepository {
      */
     Optional<Recipe> findByUrlHash(UrlHash urlHash);
 
+    /**
+     * Finds the recipes with the given URL hashes, in no particular order.
+     * Hashes without a stored recipe are skipped.
+     */
+    List<Recipe> findAllByUrlHash(Collection<UrlHash> urlHashes);
+
     /**
      * Finds a fresh (non-stale) recipe by URL hash.
      * Returns empty if recipe doesn't exist or is stale.
      */
     Optional<Recipe> findFreshByUrlHash(UrlHash urlHash);
+
+    /**
+     * Estimates the number of stored recipes, fresh or stale, without scanning them.
+     *
+     * @return the estimate as of the table's last vacuum or analyze, -1 if there is none yet
+     */
+    long estimateCount();
 }
\ No newline at end of file
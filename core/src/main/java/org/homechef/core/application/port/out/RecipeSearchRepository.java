@@ -0,0 +1,29 @@
+package org.homechef.core.application.port.out;
+
+import org.homechef.core.domain.recipe.Recipe;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Driven port for searching stored recipes.
+ */
+public interface RecipeSearchRepository {
+
+    /**
+     * Finds recipes matching all given criteria, newest first (parsed_at, then url_hash, descending).
+     *
+     * @throws org.homechef.core.application.exception.SearchTimeoutException if the search exceeds its latency budget
+     */
+    List<Recipe> search(Criteria criteria);
+
+    /**
+     * @param text          free-text title query, null for none
+     * @param ingredients   lower-cased ingredient names that must all be present, may be empty
+     * @param afterParsedAt keyset position of the last recipe on the previous page, null for the first page
+     * @param afterUrlHash  keyset tie-breaker, set together with afterParsedAt
+     * @param limit         maximum number of recipes to return
+     */
+    record Criteria(String text, List<String> ingredients, Instant afterParsedAt, String afterUrlHash, int limit) {
+    }
+}
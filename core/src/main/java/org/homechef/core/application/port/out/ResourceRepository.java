@@ -24,4 +24,11 @@ public interface ResourceRepository {
      * Checks if a resource exists for the given URL hash.
      */
     boolean existsByUrlHash(UrlHash urlHash);
+
+    /**
+     * Estimates the number of known resources without scanning them.
+     *
+     * @return the estimate as of the table's last vacuum or analyze, -1 if there is none yet
+     */
+    long estimateCount();
 }
\ No newline at end of file
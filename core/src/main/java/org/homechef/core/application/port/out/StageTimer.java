@@ -0,0 +1,38 @@
+package org.homechef.core.application.port.out;
+
+import java.util.function.Supplier;
+
+/**
+ * Driven port for timing the individual stages of a use case (repository lookups,
+ * inserts, event publishing) so a latency regression can be traced to one call.
+ */
+public interface StageTimer {
+
+    /**
+     * Runs the call, timing it under the given use case and stage.
+     * Exceptions are recorded and rethrown unchanged.
+     */
+    <T> T time(String useCase, String stage, Supplier<T> call);
+
+    /**
+     * Runs a call without a result, timing it under the given use case and stage.
+     */
+    default void run(String useCase, String stage, Runnable call) {
+        time(useCase, stage, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    /**
+     * A timer that runs every call untimed.
+     */
+    static StageTimer untimed() {
+        return new StageTimer() {
+            @Override
+            public <T> T time(String useCase, String stage, Supplier<T> call) {
+                return call.get();
+            }
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package org.homechef.core.application.port.out;
+
+import org.homechef.core.domain.recipe.ParseRequest;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Driven port for finding and resolving parse requests whose result never arrived.
+ */
+public interface StuckParseRequestRepository {
+
+    /**
+     * Locks up to {@code limit} in-flight requests not updated since {@code updatedBefore}, oldest first.
+     * Rows locked by another transaction are skipped. Must run inside a transaction.
+     */
+    List<StuckParseRequest> lockStuck(Instant updatedBefore, int limit);
+
+    /**
+     * Increments the attempt count of requests returned by {@link #lockStuck} and restarts their
+     * deadline. The status is left as is.
+     */
+    void markRepublished(Collection<StuckParseRequest> requests);
+
+    /**
+     * Marks requests returned by {@link #lockStuck} FAILED, which frees the URL for new submissions.
+     */
+    void markFailed(Collection<StuckParseRequest> requests, String errorMessage);
+
+    /**
+     * @param url      original URL, needed to republish the request
+     * @param attempts how often the request was already republished
+     */
+    record StuckParseRequest(ParseRequest request, String url, int attempts) {
+    }
+}
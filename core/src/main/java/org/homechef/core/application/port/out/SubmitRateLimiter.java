@@ -0,0 +1,21 @@
+package org.homechef.core.application.port.out;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Driven port for rate limiting submissions that would trigger a new parse.
+ */
+public interface SubmitRateLimiter {
+
+    /**
+     * Tries to take one parse token for the requester.
+     * Authenticated users are keyed by user ID, guests by client address.
+     *
+     * @param userId        the authenticated user, or null for guests
+     * @param clientAddress the client IP, may be null if unknown
+     * @return empty if allowed, otherwise how long the requester should wait
+     */
+    Optional<Duration> tryAcquire(UUID userId, String clientAddress);
+}
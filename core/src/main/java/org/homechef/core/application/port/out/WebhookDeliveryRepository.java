@@ -0,0 +1,50 @@
+package org.homechef.core.application.port.out;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Driven port for completion callbacks registered on parse requests and their delivery state.
+ */
+public interface WebhookDeliveryRepository {
+
+    /**
+     * Registers a callback for the parse request. If the request already completed or failed, the
+     * delivery is due right away. Registering the same URL twice for a request has no effect.
+     */
+    void register(UUID requestId, String callbackUrl);
+
+    /**
+     * Makes the callbacks of requests that just completed or failed due. Must run in the
+     * transaction that changes their status.
+     */
+    void markResultReady(Collection<UUID> requestIds);
+
+    /**
+     * Claims up to {@code limit} due deliveries, oldest first, and hides them from other claims for
+     * {@code lease}. A delivery that is neither resolved nor retried within the lease is claimed again.
+     */
+    List<DueDelivery> claimDue(int limit, Duration lease);
+
+    void markDelivered(UUID id);
+
+    /**
+     * Schedules another attempt; {@code attempts} is the number of attempts made so far.
+     */
+    void markRetry(UUID id, int attempts, Instant nextAttemptAt, String error);
+
+    /**
+     * Gives up on the delivery.
+     */
+    void markFailed(UUID id, int attempts, String error);
+
+    /**
+     * @param payload  status body to POST, null if the parse request no longer exists
+     * @param attempts attempts made before this one
+     */
+    record DueDelivery(UUID id, UUID requestId, String callbackUrl, byte[] payload, int attempts) {
+    }
+}
@@ -0,0 +1,19 @@
+package org.homechef.core.application.port.out;
+
+import org.homechef.core.application.exception.WebhookDeliveryException;
+
+import java.util.UUID;
+
+/**
+ * Driven port that POSTs a signed completion callback.
+ */
+public interface WebhookSender {
+
+    /**
+     * Sends the payload and returns once the receiver acknowledged it with a 2xx status.
+     *
+     * @param deliveryId sent along so receivers can drop duplicates of a retried delivery
+     * @throws WebhookDeliveryException if the receiver could not be reached or rejected the payload
+     */
+    void send(UUID deliveryId, String callbackUrl, byte[] payload);
+}
@@ -0,0 +1,203 @@
+package org.homechef.core.application.service;
+
+import jakarta.annotation.PreDestroy;
+import org.homechef.core.application.exception.WebhookDeliveryException;
+import org.homechef.core.application.port.in.DeliverWebhooksUseCase;
+import org.homechef.core.application.port.in.dto.WebhookDeliveryResult;
+import org.homechef.core.application.port.out.StageTimer;
+import org.homechef.core.application.port.out.WebhookDeliveryRepository;
+import org.homechef.core.application.port.out.WebhookDeliveryRepository.DueDelivery;
+import org.homechef.core.application.port.out.WebhookSender;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Delivers completion callbacks outside of any transaction, so a slow receiver never holds a
+ * database connection. Deliveries are grouped by host: each host's batch is sent one after the other
+ * by a single worker, at most {@code concurrency} hosts at a time. A host that fails one delivery is
+ * assumed down and the rest of its batch waits for the next attempt without being charged an attempt.
+ */
+@Service
+public class DeliverWebhooksService implements DeliverWebhooksUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(DeliverWebhooksService.class);
+    private static final String USE_CASE = "deliver_webhooks";
+
+    private final WebhookDeliveryRepository webhookDeliveryRepository;
+    private final WebhookSender webhookSender;
+    private final StageTimer stageTimer;
+    private final ExecutorService executor;
+    private final int batchSize;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    public DeliverWebhooksService(WebhookDeliveryRepository webhookDeliveryRepository,
+                                  WebhookSender webhookSender,
+                                  StageTimer stageTimer,
+                                  @Value("${homechef.webhook.concurrency:8}") int concurrency,
+                                  @Value("${homechef.webhook.batch-size:100}") int batchSize,
+                                  @Value("${homechef.webhook.lease:PT5M}") Duration lease,
+                                  @Value("${homechef.webhook.max-attempts:8}") int maxAttempts,
+                                  @Value("${homechef.webhook.initial-backoff:PT10S}") Duration initialBackoff,
+                                  @Value("${homechef.webhook.max-backoff:PT1H}") Duration maxBackoff) {
+        this.webhookDeliveryRepository = webhookDeliveryRepository;
+        this.webhookSender = webhookSender;
+        this.stageTimer = stageTimer;
+        this.executor = new ThreadPoolExecutor(
+                concurrency, concurrency,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory("webhook-"));
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public WebhookDeliveryResult execute() {
+        List<DueDelivery> due = stageTimer.time(USE_CASE, "claim",
+                () -> webhookDeliveryRepository.claimDue(batchSize, lease));
+        if (due.isEmpty()) {
+            return new WebhookDeliveryResult(0, 0, 0, 0);
+        }
+
+        // Stop well inside the lease, so nothing is claimed again while it is still being attempted
+        Instant deadline = Instant.now().plus(lease.dividedBy(2));
+        Map<String, List<DueDelivery>> byHost = due.stream()
+                .collect(Collectors.groupingBy(delivery -> host(delivery.callbackUrl()),
+                        LinkedHashMap::new, Collectors.toList()));
+        Tally tally = new Tally();
+        CompletableFuture.allOf(byHost.values().stream()
+                .map(batch -> CompletableFuture.runAsync(() -> deliverAll(batch, deadline, tally), executor))
+                .toArray(CompletableFuture[]::new)
+        ).join();
+
+        WebhookDeliveryResult result = tally.toResult();
+        log.info("Delivered webhooks",
+                kv("hosts", byHost.size()),
+                kv("delivered", result.delivered()),
+                kv("retried", result.retried()),
+                kv("failed", result.failed()),
+                kv("deferred", result.deferred()));
+        return result;
+    }
+
+    private void deliverAll(List<DueDelivery> batch, Instant deadline, Tally tally) {
+        for (int i = 0; i < batch.size(); i++) {
+            if (Instant.now().isAfter(deadline)) {
+                defer(batch.subList(i, batch.size()), Instant.now(), "Deferred: delivery run ran out of time", tally);
+                return;
+            }
+            if (!deliver(batch.get(i), tally)) {
+                // The host is likely down; do not spend an attempt of every queued delivery on it
+                defer(batch.subList(i + 1, batch.size()), Instant.now().plus(initialBackoff),
+                        "Deferred: an earlier delivery to the same host failed", tally);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns false if the host could not take the delivery.
+     */
+    private boolean deliver(DueDelivery delivery, Tally tally) {
+        if (delivery.payload() == null) {
+            webhookDeliveryRepository.markFailed(delivery.id(), delivery.attempts(), "Parse request no longer exists");
+            tally.failed.incrementAndGet();
+            return true;
+        }
+
+        int attempt = delivery.attempts() + 1;
+        try {
+            webhookSender.send(delivery.id(), delivery.callbackUrl(), delivery.payload());
+            webhookDeliveryRepository.markDelivered(delivery.id());
+            tally.delivered.incrementAndGet();
+            return true;
+        } catch (WebhookDeliveryException e) {
+            if (!e.isRetryable() || attempt >= maxAttempts) {
+                log.warn("Giving up on webhook delivery",
+                        kv("deliveryId", delivery.id()),
+                        kv("requestId", delivery.requestId()),
+                        kv("attempt", attempt),
+                        kv("error", e.getMessage()));
+                webhookDeliveryRepository.markFailed(delivery.id(), attempt, e.getMessage());
+                tally.failed.incrementAndGet();
+            } else {
+                Duration backoff = backoff(attempt);
+                log.info("Webhook delivery failed, retrying",
+                        kv("deliveryId", delivery.id()),
+                        kv("requestId", delivery.requestId()),
+                        kv("attempt", attempt),
+                        kv("retryInMs", backoff.toMillis()),
+                        kv("error", e.getMessage()));
+                webhookDeliveryRepository.markRetry(delivery.id(), attempt, Instant.now().plus(backoff), e.getMessage());
+                tally.retried.incrementAndGet();
+            }
+            return !e.isRetryable();
+        }
+    }
+
+    private void defer(List<DueDelivery> deliveries, Instant nextAttemptAt, String reason, Tally tally) {
+        for (DueDelivery delivery : deliveries) {
+            webhookDeliveryRepository.markRetry(delivery.id(), delivery.attempts(), nextAttemptAt, reason);
+            tally.deferred.incrementAndGet();
+        }
+    }
+
+    /**
+     * Doubles from initial-backoff with every failed attempt, up to max-backoff.
+     */
+    Duration backoff(int attempt) {
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempt - 1, 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private static String host(String callbackUrl) {
+        try {
+            String authority = URI.create(callbackUrl).getAuthority();
+            return authority != null ? authority.toLowerCase(Locale.ROOT) : callbackUrl;
+        } catch (IllegalArgumentException e) {
+            return callbackUrl;
+        }
+    }
+
+    private static final class Tally {
+        final AtomicInteger delivered = new AtomicInteger();
+        final AtomicInteger retried = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+        final AtomicInteger deferred = new AtomicInteger();
+
+        WebhookDeliveryResult toResult() {
+            return new WebhookDeliveryResult(delivered.get(), retried.get(), failed.get(), deferred.get());
+        }
+    }
+}
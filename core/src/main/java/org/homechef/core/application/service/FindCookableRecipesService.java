@@ -0,0 +1,109 @@
+package org.homechef.core.application.service;
+
+import org.homechef.core.application.port.in.FindCookableRecipesUseCase;
+import org.homechef.core.application.port.in.dto.CookableRecipe;
+import org.homechef.core.application.port.in.dto.CookableRecipesQuery;
+import org.homechef.core.application.port.in.dto.SubmitUrlResult;
+import org.homechef.core.application.port.out.RecipeIngredientIndex;
+import org.homechef.core.application.port.out.RecipeRepository;
+import org.homechef.core.application.port.out.StageTimer;
+import org.homechef.core.domain.recipe.Ingredient;
+import org.homechef.core.domain.recipe.Recipe;
+import org.homechef.core.domain.recipe.UrlHash;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+@Service
+@Transactional(readOnly = true)
+public class FindCookableRecipesService implements FindCookableRecipesUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(FindCookableRecipesService.class);
+    private static final String USE_CASE = "find_cookable_recipes";
+    private static final int MAX_INGREDIENTS = 30;
+
+    private final RecipeIngredientIndex recipeIngredientIndex;
+    private final RecipeRepository recipeRepository;
+    private final StageTimer stageTimer;
+    private final int defaultLimit;
+    private final int maxLimit;
+
+    public FindCookableRecipesService(RecipeIngredientIndex recipeIngredientIndex,
+                                      RecipeRepository recipeRepository,
+                                      StageTimer stageTimer,
+                                      @Value("${homechef.cookable.default-limit:20}") int defaultLimit,
+                                      @Value("${homechef.cookable.max-limit:50}") int maxLimit) {
+        this.recipeIngredientIndex = recipeIngredientIndex;
+        this.recipeRepository = recipeRepository;
+        this.stageTimer = stageTimer;
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    @Override
+    public List<CookableRecipe> execute(CookableRecipesQuery query) {
+        Set<String> onHand = normalizeIngredients(query.ingredients());
+        int limit = query.limit() != null ? Math.max(1, Math.min(query.limit(), maxLimit)) : defaultLimit;
+
+        log.debug("Finding cookable recipes",
+                kv("ingredients", onHand),
+                kv("limit", limit));
+
+        List<RecipeIngredientIndex.Match> matches = stageTimer.time(USE_CASE, "rank",
+                () -> recipeIngredientIndex.topMatches(onHand, limit));
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+
+        List<UrlHash> urlHashes = matches.stream().map(match -> UrlHash.fromHash(match.urlHash())).toList();
+        Map<String, Recipe> recipes = stageTimer.time(USE_CASE, "load_recipes",
+                () -> recipeRepository.findAllByUrlHash(urlHashes)).stream()
+                .collect(Collectors.toMap(recipe -> recipe.getUrlHash().value(), Function.identity()));
+
+        // Keep the index's ranking; a recipe deleted since it was indexed is skipped
+        return matches.stream()
+                .filter(match -> recipes.containsKey(match.urlHash()))
+                .map(match -> toCookableRecipe(recipes.get(match.urlHash()), match.score(), onHand))
+                .toList();
+    }
+
+    private static Set<String> normalizeIngredients(List<String> ingredients) {
+        Set<String> names = ingredients.stream()
+                .filter(name -> name != null && !name.isBlank())
+                .map(Ingredient::normalizeName)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (names.isEmpty()) {
+            throw new IllegalArgumentException("At least one ingredient is required");
+        }
+        if (names.size() > MAX_INGREDIENTS) {
+            throw new IllegalArgumentException("At most " + MAX_INGREDIENTS + " ingredients can be given at once");
+        }
+        return names;
+    }
+
+    private static CookableRecipe toCookableRecipe(Recipe recipe, double score, Set<String> onHand) {
+        Map<Boolean, List<String>> byAvailability = recipe.getIngredients().stream()
+                .map(Ingredient::normalizedName)
+                .filter(name -> !name.isEmpty())
+                .distinct()
+                .collect(Collectors.partitioningBy(onHand::contains));
+        SubmitUrlResult.RecipeData data = new SubmitUrlResult.RecipeData(
+                recipe.getUrlHash().value(),
+                recipe.getTitle(),
+                recipe.getIngredients().stream().map(SubmitUrlResult.IngredientData::from).toList(),
+                recipe.getParsedAt());
+        return new CookableRecipe(data, score, byAvailability.get(true), byAvailability.get(false));
+    }
+}
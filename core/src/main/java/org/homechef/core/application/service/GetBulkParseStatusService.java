@@ -0,0 +1,152 @@
+package org.homechef.core.application.service;
+
+import org.homechef.core.application.port.in.GetBulkParseStatusUseCase;
+import org.homechef.core.application.port.in.dto.BulkParseStatusQuery;
+import org.homechef.core.application.port.in.dto.BulkParseStatusResult;
+import org.homechef.core.application.port.in.dto.ParseStatusView;
+import org.homechef.core.application.port.out.ParseRequestRepository;
+import org.homechef.core.application.port.out.ParseStatusProjection;
+import org.homechef.core.application.port.out.ParseStatusProjection.StoredStatus;
+import org.homechef.core.application.port.out.ReadYourWrites;
+import org.homechef.core.application.port.out.RecipeRepository;
+import org.homechef.core.application.port.out.StageTimer;
+import org.homechef.core.domain.recipe.ParseRequest;
+import org.homechef.core.domain.recipe.ParseStatus;
+import org.homechef.core.domain.recipe.Recipe;
+import org.homechef.core.domain.recipe.UrlHash;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Answers a poll for many parse requests with one query against the status view. Requests without a
+ * view row are built from the source tables with one parse request query and one recipe query, however
+ * many IDs were asked for.
+ * <p>
+ * Statuses are compared against the client's watermark minus an overlap, so a change committed shortly
+ * after a later one (or not yet on a replica) is sent again rather than missed.
+ */
+@Service
+public class GetBulkParseStatusService implements GetBulkParseStatusUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(GetBulkParseStatusService.class);
+    private static final String USE_CASE = "bulk_parse_status";
+
+    private final ParseStatusProjection parseStatusProjection;
+    private final ParseRequestRepository parseRequestRepository;
+    private final RecipeRepository recipeRepository;
+    private final ReadYourWrites readYourWrites;
+    private final TransactionTemplate readOnlyTransaction;
+    private final StageTimer stageTimer;
+    private final int maxIds;
+    private final Duration watermarkOverlap;
+
+    public GetBulkParseStatusService(ParseStatusProjection parseStatusProjection,
+                                     ParseRequestRepository parseRequestRepository,
+                                     RecipeRepository recipeRepository,
+                                     ReadYourWrites readYourWrites,
+                                     PlatformTransactionManager transactionManager,
+                                     StageTimer stageTimer,
+                                     @Value("${homechef.bulk-status.max-ids:100}") int maxIds,
+                                     @Value("${homechef.bulk-status.watermark-overlap:PT5S}") Duration watermarkOverlap) {
+        this.parseStatusProjection = parseStatusProjection;
+        this.parseRequestRepository = parseRequestRepository;
+        this.recipeRepository = recipeRepository;
+        this.readYourWrites = readYourWrites;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.stageTimer = stageTimer;
+        this.maxIds = maxIds;
+        this.watermarkOverlap = watermarkOverlap;
+    }
+
+    @Override
+    public BulkParseStatusResult execute(BulkParseStatusQuery query) {
+        Set<UUID> requestIds = query.requestIds();
+        if (requestIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one request ID is required");
+        }
+        if (requestIds.size() > maxIds) {
+            throw new IllegalArgumentException("At most " + maxIds + " request IDs can be polled at once");
+        }
+
+        log.debug("Polling parse request statuses",
+                kv("requestCount", requestIds.size()),
+                kv("since", query.since()));
+
+        Instant updatedAfter = query.since() == null ? Instant.EPOCH : query.since().minus(watermarkOverlap);
+        // A replica may not have this instance's latest writes for some of the requests yet
+        List<Changed> changed = requestIds.stream().anyMatch(readYourWrites::isRecentWrite)
+                ? readYourWrites.readFromPrimary(() -> findChanged(requestIds, updatedAfter))
+                : readOnlyTransaction.execute(status -> findChanged(requestIds, updatedAfter));
+
+        Instant watermark = query.since();
+        for (Changed c : changed) {
+            if (watermark == null || c.updatedAt().isAfter(watermark)) {
+                watermark = c.updatedAt();
+            }
+        }
+        return new BulkParseStatusResult(changed.stream().map(Changed::view).toList(), watermark);
+    }
+
+    private List<Changed> findChanged(Set<UUID> requestIds, Instant updatedAfter) {
+        List<StoredStatus> stored = stageTimer.time(USE_CASE, "find_views",
+                () -> parseStatusProjection.findAllById(requestIds, updatedAfter));
+
+        List<Changed> changed = new ArrayList<>();
+        Set<UUID> missing = new HashSet<>(requestIds);
+        for (StoredStatus s : stored) {
+            missing.remove(s.requestId());
+            if (s.body() != null) {
+                changed.add(new Changed(new ParseStatusView(s.requestId(), s.status(), s.body()), s.updatedAt()));
+            }
+        }
+        if (!missing.isEmpty()) {
+            // Requests created before the projection existed have no row; build their status from the source tables
+            changed.addAll(buildChanged(missing, updatedAfter));
+        }
+        return changed;
+    }
+
+    private List<Changed> buildChanged(Set<UUID> requestIds, Instant updatedAfter) {
+        List<ParseRequest> requests = stageTimer.time(USE_CASE, "find_requests",
+                () -> parseRequestRepository.findAllById(requestIds)).stream()
+                .filter(request -> request.getUpdatedAt().isAfter(updatedAfter))
+                .toList();
+
+        Set<UrlHash> completed = requests.stream()
+                .filter(request -> request.getStatus() == ParseStatus.COMPLETED)
+                .map(ParseRequest::getUrlHash)
+                .collect(Collectors.toSet());
+        Map<UrlHash, Recipe> recipes = completed.isEmpty() ? Map.of()
+                : stageTimer.time(USE_CASE, "find_recipes", () -> recipeRepository.findAllByUrlHash(completed)).stream()
+                .collect(Collectors.toMap(Recipe::getUrlHash, Function.identity(), (a, b) -> a));
+
+        return requests.stream()
+                .map(request -> new Changed(
+                        parseStatusProjection.render(GetParseStatusService.toResult(request,
+                                Optional.ofNullable(recipes.get(request.getUrlHash())))),
+                        request.getUpdatedAt()))
+                .toList();
+    }
+
+    private record Changed(ParseStatusView view, Instant updatedAt) {
+    }
+}
@@ -0,0 +1,85 @@
+package org.homechef.core.application.service;
+
+import org.homechef.core.application.port.in.GetParseHistoryUseCase;
+import org.homechef.core.application.port.in.dto.ParseHistoryQuery;
+import org.homechef.core.application.port.in.dto.ParseHistoryResult;
+import org.homechef.core.application.port.out.ParseHistoryRepository;
+import org.homechef.core.application.port.out.StageTimer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+@Service
+@Transactional(readOnly = true)
+public class GetParseHistoryService implements GetParseHistoryUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(GetParseHistoryService.class);
+    private static final String USE_CASE = "parse_history";
+
+    private final ParseHistoryRepository parseHistoryRepository;
+    private final StageTimer stageTimer;
+    private final int defaultLimit;
+    private final int maxLimit;
+
+    public GetParseHistoryService(ParseHistoryRepository parseHistoryRepository,
+                                  StageTimer stageTimer,
+                                  @Value("${homechef.history.default-limit:20}") int defaultLimit,
+                                  @Value("${homechef.history.max-limit:100}") int maxLimit) {
+        this.parseHistoryRepository = parseHistoryRepository;
+        this.stageTimer = stageTimer;
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    @Override
+    public ParseHistoryResult execute(ParseHistoryQuery query) {
+        int limit = query.limit() != null ? Math.max(1, Math.min(query.limit(), maxLimit)) : defaultLimit;
+        KeysetCursor after = query.cursor() != null ? KeysetCursor.decode(query.cursor()) : null;
+        UUID afterId = after != null ? parseId(after.tieBreaker()) : null;
+
+        log.debug("Loading parse history",
+                kv("userId", query.userId()),
+                kv("limit", limit),
+                kv("paged", after != null));
+
+        // Fetch one extra row to learn whether another page exists
+        List<ParseHistoryRepository.Entry> entries = stageTimer.time(USE_CASE, "load", () ->
+                parseHistoryRepository.findByUser(
+                        query.userId(), after != null ? after.position() : null, afterId, limit + 1));
+
+        boolean hasMore = entries.size() > limit;
+        List<ParseHistoryRepository.Entry> page = hasMore ? entries.subList(0, limit) : entries;
+        String nextCursor = null;
+        if (hasMore) {
+            ParseHistoryRepository.Entry last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.createdAt(), last.requestId().toString()).encode();
+        }
+
+        return new ParseHistoryResult(page.stream().map(GetParseHistoryService::toResultEntry).toList(), nextCursor);
+    }
+
+    private static UUID parseId(String id) {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    private static ParseHistoryResult.Entry toResultEntry(ParseHistoryRepository.Entry entry) {
+        return new ParseHistoryResult.Entry(
+                entry.requestId(),
+                entry.urlHash(),
+                entry.status(),
+                entry.recipeTitle(),
+                entry.createdAt(),
+                entry.updatedAt());
+    }
+}
@@ -2,61 +2,152 @@ package org.homechef.core.application.service;
 
 import org.homechef.core.application.port.in.GetParseStatusUseCase;
 import org.homechef.core.application.port.in.dto.ParseStatusResult;
+import org.homechef.core.application.port.in.dto.ParseStatusView;
+import org.homechef.core.application.port.out.ParseCompletionEstimator;
 import org.homechef.core.application.port.out.ParseRequestRepository;
+import org.homechef.core.application.port.out.ParseStatusProjection;
+import org.homechef.core.application.port.out.ParseStatusRegistry;
+import org.homechef.core.application.port.out.ReadYourWrites;
 import org.homechef.core.application.port.out.RecipeRepository;
+import org.homechef.core.application.port.out.StageTimer;
 import org.homechef.core.domain.recipe.ParseRequest;
 import org.homechef.core.domain.recipe.ParseStatus;
 import org.homechef.core.domain.recipe.Recipe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
 import java.util.UUID;
 
 import static net.logstash.logback.argument.StructuredArguments.kv;
+import static org.homechef.core.config.logging.LogMarkers.SAMPLED;
 
+/**
+ * Answers polls from the in-memory registry when it can. Only misses open a read-only transaction,
+ * so the common case does not even borrow a pooled connection.
+ * <p>
+ * Unfinished requests also get a completion estimate. It is computed per poll rather than stored
+ * with the rendered body, since it changes as the pipeline drains.
+ */
 @Service
-@Transactional(readOnly = true)
 public class GetParseStatusService implements GetParseStatusUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(GetParseStatusService.class);
+    private static final String USE_CASE = "get_parse_status";
 
+    private final ParseStatusRegistry parseStatusRegistry;
+    private final ParseStatusProjection parseStatusProjection;
     private final ParseRequestRepository parseRequestRepository;
     private final RecipeRepository recipeRepository;
+    private final ReadYourWrites readYourWrites;
+    private final ParseCompletionEstimator completionEstimator;
+    private final TransactionTemplate readOnlyTransaction;
+    private final StageTimer stageTimer;
 
-    public GetParseStatusService(ParseRequestRepository parseRequestRepository,
-                                 RecipeRepository recipeRepository) {
+    public GetParseStatusService(ParseStatusRegistry parseStatusRegistry,
+                                 ParseStatusProjection parseStatusProjection,
+                                 ParseRequestRepository parseRequestRepository,
+                                 RecipeRepository recipeRepository,
+                                 ReadYourWrites readYourWrites,
+                                 ParseCompletionEstimator completionEstimator,
+                                 PlatformTransactionManager transactionManager,
+                                 StageTimer stageTimer) {
+        this.parseStatusRegistry = parseStatusRegistry;
+        this.parseStatusProjection = parseStatusProjection;
         this.parseRequestRepository = parseRequestRepository;
         this.recipeRepository = recipeRepository;
+        this.readYourWrites = readYourWrites;
+        this.completionEstimator = completionEstimator;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.stageTimer = stageTimer;
     }
 
     @Override
-    public Optional<ParseStatusResult> execute(UUID requestId) {
-        log.debug("Polling parse request status", kv("requestId", requestId));
+    public Optional<ParseStatusView> execute(UUID requestId) {
+        log.debug(SAMPLED, "Polling parse request status", kv("requestId", requestId));
+        return findView(requestId).map(this::withEstimate);
+    }
 
-        Optional<ParseRequest> maybeRequest = parseRequestRepository.findById(requestId);
-        if (maybeRequest.isEmpty()) {
+    private Optional<ParseStatusView> findView(UUID requestId) {
+
+        // Most polls are for requests this instance wrote moments ago
+        Optional<ParseStatusView> recent = parseStatusRegistry.find(requestId);
+        if (recent.isPresent()) {
+            return recent;
+        }
+
+        // A replica may not have this instance's latest write for the request yet
+        if (readYourWrites.isRecentWrite(requestId)) {
+            return readYourWrites.readFromPrimary(() -> findStatus(requestId));
+        }
+        Optional<ParseStatusView> result = readOnlyTransaction.execute(status -> findStatus(requestId));
+        if (result.isEmpty()) {
+            // Possibly submitted through another instance moments ago; confirm on the primary
+            result = readYourWrites.readFromPrimary(() -> findStatus(requestId));
+        }
+        if (result.isEmpty()) {
             log.warn("Parse request not found", kv("requestId", requestId));
+        }
+        return result;
+    }
+
+    /**
+     * The view does not carry the request's lane, so the estimate is drawn from both lanes.
+     */
+    private ParseStatusView withEstimate(ParseStatusView view) {
+        if (view.status() != ParseStatus.PENDING && view.status() != ParseStatus.PROCESSING) {
+            return view;
+        }
+        return view.withEstimate(completionEstimator.estimate(view.status(), null));
+    }
+
+    private Optional<ParseStatusView> findStatus(UUID requestId) {
+        Optional<ParseStatusView> view = stageTimer.time(USE_CASE, "find_view",
+                () -> parseStatusProjection.findById(requestId));
+        if (view.isPresent()) {
+            return view;
+        }
+        // Requests created before the projection existed have no row; build their status from the source tables
+        return buildStatus(requestId).map(parseStatusProjection::render);
+    }
+
+    private Optional<ParseStatusResult> buildStatus(UUID requestId) {
+        Optional<ParseRequest> maybeRequest = stageTimer.time(USE_CASE, "find_request",
+                () -> parseRequestRepository.findById(requestId));
+        if (maybeRequest.isEmpty()) {
             return Optional.empty();
         }
 
         ParseRequest request = maybeRequest.get();
         ParseStatus status = request.getStatus();
 
-        log.debug("Parse request found",
+        log.debug(SAMPLED, "Parse request found",
                 kv("requestId", requestId),
                 kv("status", status),
                 kv("urlHash", request.getUrlHash().value()));
 
-        return Optional.of(switch (status) {
+        // Fetch the recipe for completed requests
+        Optional<Recipe> recipe = status == ParseStatus.COMPLETED
+                ? stageTimer.time(USE_CASE, "find_recipe", () -> recipeRepository.findByUrlHash(request.getUrlHash()))
+                : Optional.empty();
+        return Optional.of(toResult(request, recipe));
+    }
+
+    /**
+     * Builds the poll response of a request from the source tables; {@code recipe} is only consulted
+     * for COMPLETED requests.
+     */
+    static ParseStatusResult toResult(ParseRequest request, Optional<Recipe> recipe) {
+        UUID requestId = request.getId();
+        return switch (request.getStatus()) {
             case PENDING -> ParseStatusResult.pending(requestId);
             case PROCESSING -> ParseStatusResult.processing(requestId);
             case FAILED -> ParseStatusResult.failed(requestId, request.getErrorMessage());
             case COMPLETED -> {
-                // Fetch the recipe for completed requests
-                Optional<Recipe> recipe = recipeRepository.findByUrlHash(request.getUrlHash());
                 if (recipe.isEmpty()) {
                     log.error("Inconsistent state: COMPLETED request but no recipe found",
                             kv("requestId", requestId),
@@ -72,6 +163,6 @@ public class GetParseStatusService implements GetParseStatusUseCase {
                         r.getParsedAt()
                 );
             }
-        });
+        };
     }
 }
\ No newline at end of file
@@ -0,0 +1,138 @@
+package org.homechef.core.application.service;
+
+import org.homechef.core.application.port.in.MaintainParseRequestPartitionsUseCase;
+import org.homechef.core.application.port.in.dto.PartitionMaintenanceResult;
+import org.homechef.core.application.port.out.JobLock;
+import org.homechef.core.application.port.out.ParseRequestPartitions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Creates upcoming partitions and drops expired ones under the maintenance lock, in one transaction.
+ * The DETACH holds an ACCESS EXCLUSIVE lock on parse_request until that transaction commits, so the
+ * status views and webhook deliveries of dropped months are deleted afterwards, in short batch
+ * transactions of their own. A purge interrupted by a crash is finished by the next run.
+ */
+@Service
+public class MaintainParseRequestPartitionsService implements MaintainParseRequestPartitionsUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(MaintainParseRequestPartitionsService.class);
+    private static final String JOB_NAME = "parse-request-partitions";
+
+    private final ParseRequestPartitions parseRequestPartitions;
+    private final JobLock jobLock;
+    private final int premakeMonths;
+    private final int retentionMonths;
+    private final int purgeBatchSize;
+    private final TransactionTemplate transaction;
+
+    public MaintainParseRequestPartitionsService(ParseRequestPartitions parseRequestPartitions,
+                                                 JobLock jobLock,
+                                                 PlatformTransactionManager transactionManager,
+                                                 @Value("${homechef.partitions.premake-months:3}") int premakeMonths,
+                                                 @Value("${homechef.partitions.retention-months:6}") int retentionMonths,
+                                                 @Value("${homechef.partitions.purge-batch-size:1000}") int purgeBatchSize) {
+        if (retentionMonths < 1) {
+            throw new IllegalArgumentException("Partition retention must be at least one month");
+        }
+        this.parseRequestPartitions = parseRequestPartitions;
+        this.jobLock = jobLock;
+        this.premakeMonths = premakeMonths;
+        this.retentionMonths = retentionMonths;
+        this.purgeBatchSize = purgeBatchSize;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public PartitionMaintenanceResult execute() {
+        PartitionMaintenanceResult result = transaction.execute(status -> maintainPartitions());
+        if (!result.leader()) {
+            return result;
+        }
+        long purged = purgeDerived(YearMonth.now(ZoneOffset.UTC).minusMonths(retentionMonths));
+        return new PartitionMaintenanceResult(true, result.created(), result.dropped(), result.retained(), purged);
+    }
+
+    private PartitionMaintenanceResult maintainPartitions() {
+        if (!jobLock.tryLockForTransaction(JOB_NAME)) {
+            return PartitionMaintenanceResult.notLeader();
+        }
+
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        List<YearMonth> created = new ArrayList<>();
+        for (int ahead = 0; ahead <= premakeMonths; ahead++) {
+            YearMonth month = current.plusMonths(ahead);
+            if (parseRequestPartitions.ensure(month)) {
+                created.add(month);
+            }
+        }
+
+        // A month expires once all of it is older than the retention window
+        YearMonth oldestKept = current.minusMonths(retentionMonths);
+        List<YearMonth> dropped = new ArrayList<>();
+        List<YearMonth> retained = new ArrayList<>();
+        for (YearMonth month : parseRequestPartitions.list()) {
+            if (!month.isBefore(oldestKept)) {
+                break;
+            }
+            if (parseRequestPartitions.hasInFlight(month)) {
+                retained.add(month);
+                continue;
+            }
+            parseRequestPartitions.drop(month);
+            dropped.add(month);
+        }
+
+        if (!retained.isEmpty()) {
+            log.warn("Kept expired parse request partitions with in-flight requests",
+                    kv("months", retained));
+        }
+        if (!created.isEmpty() || !dropped.isEmpty()) {
+            log.info("Maintained parse request partitions",
+                    kv("created", created),
+                    kv("dropped", dropped));
+        }
+        return new PartitionMaintenanceResult(true, created, dropped, retained, 0);
+    }
+
+    /**
+     * Deletes the status views and webhook deliveries of expired months that no longer have a partition.
+     */
+    private long purgeDerived(YearMonth oldestKept) {
+        Optional<YearMonth> oldest = parseRequestPartitions.oldestDerived();
+        if (oldest.isEmpty()) {
+            return 0;
+        }
+        Set<YearMonth> partitioned = new HashSet<>(parseRequestPartitions.list());
+        long purged = 0;
+        for (YearMonth month = oldest.get(); month.isBefore(oldestKept); month = month.plusMonths(1)) {
+            if (partitioned.contains(month)) {
+                continue;
+            }
+            YearMonth expired = month;
+            int deleted;
+            do {
+                deleted = transaction.execute(status -> parseRequestPartitions.purgeDerived(expired, purgeBatchSize));
+                purged += deleted;
+            } while (deleted > 0);
+        }
+        if (purged > 0) {
+            log.info("Purged rows of dropped parse request partitions", kv("rows", purged));
+        }
+        return purged;
+    }
+}
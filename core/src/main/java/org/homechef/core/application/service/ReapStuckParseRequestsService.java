@@ -0,0 +1,149 @@
+package org.homechef.core.application.service;
+
+import org.homechef.core.application.port.in.ReapStuckParseRequestsUseCase;
+import org.homechef.core.application.port.in.dto.ParseStatusResult;
+import org.homechef.core.application.port.in.dto.ReapResult;
+import org.homechef.core.application.port.out.JobLock;
+import org.homechef.core.application.port.out.ParseEventPublisher;
+import org.homechef.core.application.port.out.ParseFailureCache;
+import org.homechef.core.application.port.out.ParseStatusProjection;
+import org.homechef.core.application.port.out.ParseStatusRegistry;
+import org.homechef.core.application.port.out.StageTimer;
+import org.homechef.core.application.port.out.StuckParseRequestRepository;
+import org.homechef.core.application.port.out.StuckParseRequestRepository.StuckParseRequest;
+import org.homechef.core.application.port.out.WebhookDeliveryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+@Service
+@Transactional
+public class ReapStuckParseRequestsService implements ReapStuckParseRequestsUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ReapStuckParseRequestsService.class);
+    private static final String USE_CASE = "reap_stuck_requests";
+    private static final String JOB_NAME = "parse-request-reaper";
+    static final String TIMEOUT_MESSAGE = "Parse timed out: no result received";
+
+    private final StuckParseRequestRepository stuckParseRequestRepository;
+    private final ParseStatusProjection parseStatusProjection;
+    private final ParseStatusRegistry parseStatusRegistry;
+    private final ParseEventPublisher parseEventPublisher;
+    private final ParseFailureCache parseFailureCache;
+    private final WebhookDeliveryRepository webhookDeliveryRepository;
+    private final JobLock jobLock;
+    private final StageTimer stageTimer;
+    private final Duration deadline;
+    private final int maxAttempts;
+    private final int batchSize;
+
+    public ReapStuckParseRequestsService(StuckParseRequestRepository stuckParseRequestRepository,
+                                         ParseStatusProjection parseStatusProjection,
+                                         ParseStatusRegistry parseStatusRegistry,
+                                         ParseEventPublisher parseEventPublisher,
+                                         ParseFailureCache parseFailureCache,
+                                         WebhookDeliveryRepository webhookDeliveryRepository,
+                                         JobLock jobLock,
+                                         StageTimer stageTimer,
+                                         @Value("${homechef.reaper.deadline:PT10M}") Duration deadline,
+                                         @Value("${homechef.reaper.max-attempts:2}") int maxAttempts,
+                                         @Value("${homechef.reaper.batch-size:100}") int batchSize) {
+        this.stuckParseRequestRepository = stuckParseRequestRepository;
+        this.parseStatusProjection = parseStatusProjection;
+        this.parseStatusRegistry = parseStatusRegistry;
+        this.parseEventPublisher = parseEventPublisher;
+        this.parseFailureCache = parseFailureCache;
+        this.webhookDeliveryRepository = webhookDeliveryRepository;
+        this.jobLock = jobLock;
+        this.stageTimer = stageTimer;
+        this.deadline = deadline;
+        this.maxAttempts = maxAttempts;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public ReapResult execute() {
+        if (!jobLock.tryLockForTransaction(JOB_NAME)) {
+            return ReapResult.notLeader();
+        }
+
+        List<StuckParseRequest> stuck = stageTimer.time(USE_CASE, "find_stuck",
+                () -> stuckParseRequestRepository.lockStuck(Instant.now().minus(deadline), batchSize));
+        if (stuck.isEmpty()) {
+            return new ReapResult(true, 0, 0);
+        }
+
+        Map<Boolean, List<StuckParseRequest>> byRetry = stuck.stream()
+                .collect(Collectors.partitioningBy(request -> request.attempts() < maxAttempts));
+        List<StuckParseRequest> toRepublish = byRetry.get(true);
+        List<StuckParseRequest> toFail = byRetry.get(false);
+
+        stageTimer.run(USE_CASE, "republish", () -> {
+            stuckParseRequestRepository.markRepublished(toRepublish);
+            toRepublish.forEach(request -> parseEventPublisher.publishParseRequest(request.request(), request.url()));
+        });
+
+        stageTimer.run(USE_CASE, "fail", () -> {
+            stuckParseRequestRepository.markFailed(toFail, TIMEOUT_MESSAGE);
+            parseStatusProjection.saveAll(ids(toFail).stream()
+                    .map(id -> ParseStatusResult.failed(id, TIMEOUT_MESSAGE))
+                    .toList()
+            ).forEach(parseStatusRegistry::put);
+            webhookDeliveryRepository.markResultReady(ids(toFail));
+        });
+        // Back off like a parser-reported failure so the URL is not resubmitted in a tight loop
+        recordFailuresAfterCommit(toFail);
+
+        log.info("Reaped stuck parse requests",
+                kv("republished", toRepublish.size()),
+                kv("failed", toFail.size()),
+                kv("deadline", deadline));
+        return new ReapResult(true, toRepublish.size(), toFail.size());
+    }
+
+    /**
+     * Records the timeouts in the failure cache once they have committed, so a rolled-back reap that is
+     * retried does not back the URLs off twice.
+     */
+    private void recordFailuresAfterCommit(List<StuckParseRequest> failed) {
+        if (failed.isEmpty()) {
+            return;
+        }
+        Runnable record = () -> {
+            try {
+                failed.forEach(request -> parseFailureCache.recordFailure(request.request().getUrlHash(), TIMEOUT_MESSAGE));
+            } catch (RuntimeException e) {
+                log.warn("Failed to record reaped parse failures",
+                        kv("failed", failed.size()),
+                        kv("error", e.getMessage()));
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record.run();
+            }
+        });
+    }
+
+    private static List<UUID> ids(List<StuckParseRequest> requests) {
+        return requests.stream().map(request -> request.request().getId()).toList();
+    }
+}
@@ -0,0 +1,107 @@
+package org.homechef.core.application.service;
+
+import org.homechef.core.application.port.in.SearchRecipesUseCase;
+import org.homechef.core.application.port.in.dto.RecipeSearchResult;
+import org.homechef.core.application.port.in.dto.SearchRecipesQuery;
+import org.homechef.core.application.port.in.dto.SubmitUrlResult;
+import org.homechef.core.application.port.out.RecipeSearchRepository;
+import org.homechef.core.application.port.out.StageTimer;
+import org.homechef.core.domain.recipe.Recipe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Locale;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+@Service
+@Transactional(readOnly = true)
+public class SearchRecipesService implements SearchRecipesUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchRecipesService.class);
+    private static final String USE_CASE = "search_recipes";
+    private static final int MAX_TEXT_LENGTH = 200;
+    private static final int MAX_INGREDIENTS = 10;
+
+    private final RecipeSearchRepository recipeSearchRepository;
+    private final StageTimer stageTimer;
+    private final int defaultLimit;
+    private final int maxLimit;
+
+    public SearchRecipesService(RecipeSearchRepository recipeSearchRepository,
+                                StageTimer stageTimer,
+                                @Value("${homechef.search.default-limit:20}") int defaultLimit,
+                                @Value("${homechef.search.max-limit:50}") int maxLimit) {
+        this.recipeSearchRepository = recipeSearchRepository;
+        this.stageTimer = stageTimer;
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    @Override
+    public RecipeSearchResult execute(SearchRecipesQuery query) {
+        String text = normalizeText(query.text());
+        List<String> ingredients = normalizeIngredients(query.ingredients());
+        int limit = query.limit() != null ? Math.max(1, Math.min(query.limit(), maxLimit)) : defaultLimit;
+        KeysetCursor after = query.cursor() != null ? KeysetCursor.decode(query.cursor()) : null;
+
+        log.debug("Searching recipes",
+                kv("text", text),
+                kv("ingredients", ingredients),
+                kv("limit", limit),
+                kv("paged", after != null));
+
+        // Fetch one extra row to learn whether another page exists
+        RecipeSearchRepository.Criteria criteria = new RecipeSearchRepository.Criteria(
+                text, ingredients,
+                after != null ? after.position() : null,
+                after != null ? after.tieBreaker() : null,
+                limit + 1);
+        List<Recipe> recipes = stageTimer.time(USE_CASE, "search", () -> recipeSearchRepository.search(criteria));
+
+        boolean hasMore = recipes.size() > limit;
+        List<Recipe> page = hasMore ? recipes.subList(0, limit) : recipes;
+        String nextCursor = null;
+        if (hasMore) {
+            Recipe last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getParsedAt(), last.getUrlHash().value()).encode();
+        }
+
+        return new RecipeSearchResult(page.stream().map(SearchRecipesService::toRecipeData).toList(), nextCursor);
+    }
+
+    private static String normalizeText(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        String trimmed = text.trim();
+        if (trimmed.length() > MAX_TEXT_LENGTH) {
+            throw new IllegalArgumentException("Search text must be at most " + MAX_TEXT_LENGTH + " characters");
+        }
+        return trimmed;
+    }
+
+    private static List<String> normalizeIngredients(List<String> ingredients) {
+        List<String> names = ingredients.stream()
+                .filter(name -> name != null && !name.isBlank())
+                .map(name -> name.trim().toLowerCase(Locale.ROOT))
+                .distinct()
+                .toList();
+        if (names.size() > MAX_INGREDIENTS) {
+            throw new IllegalArgumentException("At most " + MAX_INGREDIENTS + " ingredients can be searched at once");
+        }
+        return names;
+    }
+
+    private static SubmitUrlResult.RecipeData toRecipeData(Recipe recipe) {
+        return new SubmitUrlResult.RecipeData(
+                recipe.getUrlHash().value(),
+                recipe.getTitle(),
+                recipe.getIngredients().stream().map(SubmitUrlResult.IngredientData::from).toList(),
+                recipe.getParsedAt());
+    }
+}
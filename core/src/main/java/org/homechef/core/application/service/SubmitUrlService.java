@@ -1,43 +1,92 @@
 package org.homechef.core.application.service;
 
+import org.homechef.core.application.exception.PipelineOverloadedException;
+import org.homechef.core.application.exception.RateLimitExceededException;
 import org.homechef.core.application.port.in.SubmitUrlUseCase;
+import org.homechef.core.application.port.in.dto.ParseStatusResult;
 import org.homechef.core.application.port.in.dto.SubmitUrlCommand;
 import org.homechef.core.application.port.in.dto.SubmitUrlResult;
+import org.homechef.core.application.port.out.ParseAdmissionControl;
+import org.homechef.core.application.port.out.ParseCompletionEstimator;
 import org.homechef.core.application.port.out.ParseEventPublisher;
+import org.homechef.core.application.port.out.ParseFailureCache;
 import org.homechef.core.application.port.out.ParseRequestRepository;
+import org.homechef.core.application.port.out.ParseStatusProjection;
+import org.homechef.core.application.port.out.ParseStatusRegistry;
+import org.homechef.core.application.port.out.ReadYourWrites;
 import org.homechef.core.application.port.out.RecipeRepository;
 import org.homechef.core.application.port.out.ResourceRepository;
+import org.homechef.core.application.port.out.StageTimer;
+import org.homechef.core.application.port.out.SubmitRateLimiter;
+import org.homechef.core.application.port.out.WebhookDeliveryRepository;
+import org.homechef.core.domain.recipe.ParseFailure;
+import org.homechef.core.domain.recipe.ParseLane;
 import org.homechef.core.domain.recipe.ParseRequest;
+import org.homechef.core.domain.recipe.ParseStatus;
 import org.homechef.core.domain.recipe.Recipe;
 import org.homechef.core.domain.recipe.Resource;
 import org.homechef.core.domain.recipe.UrlHash;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import static net.logstash.logback.argument.StructuredArguments.kv;
+import static org.homechef.core.config.logging.LogMarkers.SAMPLED;
 
 @Service
 public class SubmitUrlService implements SubmitUrlUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(SubmitUrlService.class);
+    private static final String USE_CASE = "submit_url";
 
     private final ResourceRepository resourceRepository;
     private final RecipeRepository recipeRepository;
     private final ParseRequestRepository parseRequestRepository;
+    private final ParseStatusProjection parseStatusProjection;
+    private final ParseStatusRegistry parseStatusRegistry;
     private final ParseEventPublisher parseEventPublisher;
+    private final ParseFailureCache parseFailureCache;
+    private final SubmitRateLimiter submitRateLimiter;
+    private final ParseAdmissionControl parseAdmissionControl;
+    private final ReadYourWrites readYourWrites;
+    private final WebhookDeliveryRepository webhookDeliveryRepository;
+    private final ParseCompletionEstimator completionEstimator;
+    private final StageTimer stageTimer;
+    private final boolean webhooksEnabled;
 
     public SubmitUrlService(ResourceRepository resourceRepository,
                             RecipeRepository recipeRepository,
                             ParseRequestRepository parseRequestRepository,
-                            ParseEventPublisher parseEventPublisher) {
+                            ParseStatusProjection parseStatusProjection,
+                            ParseStatusRegistry parseStatusRegistry,
+                            ParseEventPublisher parseEventPublisher,
+                            ParseFailureCache parseFailureCache,
+                            SubmitRateLimiter submitRateLimiter,
+                            ParseAdmissionControl parseAdmissionControl,
+                            ReadYourWrites readYourWrites,
+                            WebhookDeliveryRepository webhookDeliveryRepository,
+                            ParseCompletionEstimator completionEstimator,
+                            StageTimer stageTimer,
+                            @Value("${homechef.webhook.enabled:false}") boolean webhooksEnabled) {
         this.resourceRepository = resourceRepository;
         this.recipeRepository = recipeRepository;
         this.parseRequestRepository = parseRequestRepository;
+        this.parseStatusProjection = parseStatusProjection;
+        this.parseStatusRegistry = parseStatusRegistry;
         this.parseEventPublisher = parseEventPublisher;
+        this.parseFailureCache = parseFailureCache;
+        this.submitRateLimiter = submitRateLimiter;
+        this.parseAdmissionControl = parseAdmissionControl;
+        this.readYourWrites = readYourWrites;
+        this.webhookDeliveryRepository = webhookDeliveryRepository;
+        this.completionEstimator = completionEstimator;
+        this.stageTimer = stageTimer;
+        this.webhooksEnabled = webhooksEnabled;
     }
 
     @Override
@@ -50,11 +99,20 @@ public class SubmitUrlService implements SubmitUrlUseCase {
                 kv("urlHash", urlHash.value()),
                 kv("userId", command.userId()));
 
+        if (command.callbackUrl() != null && !webhooksEnabled) {
+            throw new IllegalArgumentException("Completion callbacks are not enabled");
+        }
+        // Guests are anonymous, so callbacks they register could not be traced back to anyone
+        if (command.callbackUrl() != null && command.userId() == null) {
+            throw new IllegalArgumentException("Completion callbacks require a signed-in user");
+        }
+
         // 1. Check for fresh cached recipe
-        Optional<Recipe> freshRecipe = recipeRepository.findFreshByUrlHash(urlHash);
+        Optional<Recipe> freshRecipe = stageTimer.time(USE_CASE, "find_fresh_recipe",
+                () -> recipeRepository.findFreshByUrlHash(urlHash));
         if (freshRecipe.isPresent()) {
             Recipe recipe = freshRecipe.get();
-            log.info("Cache HIT: returning fresh recipe",
+            log.info(SAMPLED, "Cache HIT: returning fresh recipe",
                     kv("urlHash", urlHash.value()),
                     kv("outcome", "cache_hit"),
                     kv("recipeTitle", recipe.getTitle()));
@@ -66,42 +124,102 @@ public class SubmitUrlService implements SubmitUrlUseCase {
             );
         }
 
-        // 2. Check for in-flight request (dedup)
-        Optional<ParseRequest> inFlightRequest = parseRequestRepository.findInFlightByUrlHash(urlHash);
+        // 2. Check negative cache (URL failed recently, backoff still active)
+        Optional<ParseFailure> recentFailure = stageTimer.time(USE_CASE, "find_recent_failure",
+                () -> parseFailureCache.findBlocked(urlHash));
+        if (recentFailure.isPresent()) {
+            ParseFailure failure = recentFailure.get();
+            log.info(SAMPLED, "Negative cache HIT: returning recent failure",
+                    kv("urlHash", urlHash.value()),
+                    kv("outcome", "negative_cache"),
+                    kv("attempts", failure.attempts()),
+                    kv("blockedUntil", failure.blockedUntil()));
+            return SubmitUrlResult.failed(failure.errorMessage());
+        }
+
+        // 3. Check for in-flight request (dedup)
+        Optional<ParseRequest> inFlightRequest = stageTimer.time(USE_CASE, "find_in_flight",
+                () -> parseRequestRepository.findInFlightByUrlHash(urlHash));
         if (inFlightRequest.isPresent()) {
             ParseRequest existing = inFlightRequest.get();
-            log.info("Dedup: returning existing request",
+            log.info(SAMPLED, "Dedup: returning existing request",
                     kv("urlHash", urlHash.value()),
                     kv("outcome", "dedup"),
                     kv("existingRequestId", existing.getId()),
                     kv("existingStatus", existing.getStatus()));
-            return SubmitUrlResult.deduped(existing.getId(), existing.getStatus());
+            registerCallback(existing, command);
+            return SubmitUrlResult.deduped(existing.getId(), existing.getStatus(),
+                    completionEstimator.estimate(existing.getStatus(), ParseLane.of(existing)));
         }
 
-        // 3. Cache miss - create new request
+        // 4. Cache miss - shed if the parse pipeline is too far behind (before charging quota)
+        Optional<Duration> shedFor = stageTimer.time(USE_CASE, "check_admission",
+                () -> parseAdmissionControl.checkAdmission(command.userId()));
+        if (shedFor.isPresent()) {
+            log.info("Pipeline overloaded: shedding new parse request",
+                    kv("urlHash", urlHash.value()),
+                    kv("outcome", "shed"),
+                    kv("retryAfterMs", shedFor.get().toMillis()));
+            throw new PipelineOverloadedException(shedFor.get());
+        }
+
+        // 5. Charge the requester's parse quota (cache hits and dedups are free)
+        Optional<Duration> retryAfter = stageTimer.time(USE_CASE, "acquire_quota",
+                () -> submitRateLimiter.tryAcquire(command.userId(), command.clientAddress()));
+        if (retryAfter.isPresent()) {
+            log.info("Rate limited: rejecting new parse request",
+                    kv("urlHash", urlHash.value()),
+                    kv("outcome", "rate_limited"),
+                    kv("retryAfterMs", retryAfter.get().toMillis()));
+            throw new RateLimitExceededException(retryAfter.get());
+        }
+
+        // 6. Create new request
         log.info("Cache MISS: creating new parse request",
                 kv("urlHash", urlHash.value()),
                 kv("outcome", "cache_miss"));
 
         // Ensure resource exists
-        Resource resource = resourceRepository.findByUrlHash(urlHash)
+        Resource resource = stageTimer.time(USE_CASE, "find_resource",
+                        () -> resourceRepository.findByUrlHash(urlHash))
                 .orElseGet(() -> {
                     Resource newResource = Resource.create(url);
-                    return resourceRepository.save(newResource);
+                    return stageTimer.time(USE_CASE, "save_resource",
+                            () -> resourceRepository.save(newResource));
                 });
 
         // Create parse request
-        ParseRequest parseRequest = ParseRequest.create(urlHash, command.userId());
-        parseRequest = parseRequestRepository.save(parseRequest);
+        ParseRequest newRequest = ParseRequest.create(urlHash, command.userId());
+        ParseRequest parseRequest = stageTimer.time(USE_CASE, "save_parse_request",
+                () -> parseRequestRepository.save(newRequest));
+        stageTimer.run(USE_CASE, "save_status_view",
+                () -> parseStatusRegistry.put(parseStatusProjection.save(ParseStatusResult.pending(parseRequest.getId()))));
+        // The client polls for this request next; keep those polls off replicas that lag behind
+        readYourWrites.recordWrite(parseRequest.getId());
+        registerCallback(parseRequest, command);
 
         // Emit Kafka event
-        parseEventPublisher.publishParseRequest(parseRequest, resource.getUrl());
+        stageTimer.run(USE_CASE, "publish_event",
+                () -> parseEventPublisher.publishParseRequest(parseRequest, resource.getUrl()));
 
         log.info("Parse request created and event published",
                 kv("requestId", parseRequest.getId()),
                 kv("urlHash", urlHash.value()),
                 kv("outcome", "request_created"));
 
-        return SubmitUrlResult.pending(parseRequest.getId());
+        return SubmitUrlResult.pending(parseRequest.getId(),
+                completionEstimator.estimate(ParseStatus.PENDING, ParseLane.of(parseRequest)));
+    }
+
+    /**
+     * Cached recipes and recent failures are answered in full right away, so only requests the
+     * client would otherwise poll get a callback.
+     */
+    private void registerCallback(ParseRequest request, SubmitUrlCommand command) {
+        if (command.callbackUrl() == null) {
+            return;
+        }
+        stageTimer.run(USE_CASE, "register_callback",
+                () -> webhookDeliveryRepository.register(request.getId(), command.callbackUrl()));
     }
 }
\ No newline at end of file
@@ -3,13 +3,14 @@ package org.homechef.core.config;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.homechef.core.adapter.out.kafka.ParseRequestEvent;
+import org.homechef.core.adapter.out.kafka.ParseRequestEventSerializer;
+import org.homechef.core.adapter.kafka.WireFormat;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -20,12 +21,16 @@ public class KafkaConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    @Value("${homechef.kafka.wire-format.parse-request:json}")
+    private String parseRequestWireFormat;
+
     @Bean
     public ProducerFactory<String, ParseRequestEvent> parseRequestProducerFactory() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ParseRequestEventSerializer.class);
+        configProps.put(WireFormat.CONFIG, parseRequestWireFormat);
         return new DefaultKafkaProducerFactory<>(configProps);
     }
 
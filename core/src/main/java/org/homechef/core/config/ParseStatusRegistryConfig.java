@@ -0,0 +1,26 @@
+package org.homechef.core.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Subscribes to parse status announcements from other instances when
+ * homechef.status-registry.redis-enabled is set. Without it the in-memory
+ * status registry assumes a single instance.
+ */
+@Configuration
+@ConditionalOnBooleanProperty("homechef.status-registry.redis-enabled")
+public class ParseStatusRegistryConfig {
+
+    @Bean
+    public RedisMessageListenerContainer parseStatusListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        // Keep trying to resubscribe while Redis is down; in-flight states are not served meanwhile
+        container.setRecoveryInterval(5000);
+        return container;
+    }
+}
@@ -0,0 +1,75 @@
+package org.homechef.core.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.homechef.core.adapter.out.persistence.ReplicaRoutingDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends read-only transactions to read replicas when homechef.datasource.replicas.enabled is set.
+ * Otherwise Spring Boot's single auto-configured DataSource is used unchanged.
+ * <p>
+ * The application DataSource is a LazyConnectionDataSourceProxy: it fetches the physical connection
+ * on the first statement, after the transaction manager has marked the transaction read-only, and
+ * takes it from the replica router for read-only transactions and from the primary otherwise.
+ */
+@Configuration
+@ConditionalOnBooleanProperty("homechef.datasource.replicas.enabled")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * The replica pools are owned by the router, which closes them when the context shuts down.
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${homechef.datasource.replicas.urls}") List<String> urls,
+            @Value("${homechef.datasource.replicas.pool-size:10}") int poolSize,
+            @Value("${homechef.datasource.replicas.max-lag:PT5S}") Duration maxLag) {
+        List<String> jdbcUrls = urls.stream().map(String::trim).filter(url -> !url.isEmpty()).toList();
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < jdbcUrls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(jdbcUrls.get(i));
+            replica.setUsername(properties.determineUsername());
+            replica.setPassword(properties.determinePassword());
+            replica.setMaximumPoolSize(poolSize);
+            replica.setReadOnly(true);
+            // Start even if a replica is down; the router skips it until a health check passes
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, maxLag, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+}
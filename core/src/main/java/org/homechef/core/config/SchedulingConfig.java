@@ -0,0 +1,12 @@
+package org.homechef.core.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (pipeline sampling, maintenance).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -2,6 +2,7 @@ package org.homechef.core.config.imports;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.homechef.core.application.port.out.RecipeIngredientIndex;
 import org.homechef.core.application.port.out.RecipeRepository;
 import org.homechef.core.application.port.out.ResourceRepository;
 import org.homechef.core.domain.recipe.Ingredient;
@@ -56,6 +57,7 @@ public class RecipeImporter implements ApplicationRunner {
 
     private final ResourceRepository resourceRepository;
     private final RecipeRepository recipeRepository;
+    private final RecipeIngredientIndex recipeIngredientIndex;
     private final ResourceLoader resourceLoader;
     private final ObjectMapper objectMapper;
     private final String recipesFilePath;
@@ -64,6 +66,7 @@ public class RecipeImporter implements ApplicationRunner {
     public RecipeImporter(
             ResourceRepository resourceRepository,
             RecipeRepository recipeRepository,
+            RecipeIngredientIndex recipeIngredientIndex,
             ResourceLoader resourceLoader,
             ObjectMapper objectMapper,
             @Value("${homechef.import.recipes-file:}") String recipesFilePath,
@@ -71,6 +74,7 @@ public class RecipeImporter implements ApplicationRunner {
     ) {
         this.resourceRepository = resourceRepository;
         this.recipeRepository = recipeRepository;
+        this.recipeIngredientIndex = recipeIngredientIndex;
         this.resourceLoader = resourceLoader;
         this.objectMapper = objectMapper;
         this.recipesFilePath = recipesFilePath;
@@ -141,6 +145,7 @@ public class RecipeImporter implements ApplicationRunner {
                 String title = resolveTitle(data.title(), data.url());
                 Recipe recipe = Recipe.create(resource.getUrlHash(), title, ingredients);
                 recipeRepository.save(recipe);
+                recipeIngredientIndex.index(recipe);
 
                 importedCount++;
                 log.info("RecipeImporter: Imported '{}' from {}", title, data.url());
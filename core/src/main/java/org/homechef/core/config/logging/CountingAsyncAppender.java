@@ -0,0 +1,21 @@
+package org.homechef.core.config.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * Logback AsyncAppender that counts the events it discards. When the queue is nearly full
+ * (below {@code discardingThreshold}), TRACE/DEBUG/INFO events are dropped while WARN/ERROR still wait.
+ */
+public class CountingAsyncAppender extends AsyncAppender {
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        // Only consulted when the queue is below the discarding threshold
+        boolean discardable = super.isDiscardable(event);
+        if (discardable) {
+            DroppedLogEvents.recordQueueFull();
+        }
+        return discardable;
+    }
+}
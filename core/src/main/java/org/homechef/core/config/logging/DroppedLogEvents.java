@@ -0,0 +1,32 @@
+package org.homechef.core.config.logging;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts log events dropped before reaching an appender. Logback components are created
+ * before the Spring context, so they report here and {@link DroppedLogEventsMetrics} exports the totals.
+ */
+public final class DroppedLogEvents {
+
+    private static final LongAdder QUEUE_FULL = new LongAdder();
+    private static final LongAdder SAMPLED = new LongAdder();
+
+    private DroppedLogEvents() {
+    }
+
+    static void recordQueueFull() {
+        QUEUE_FULL.increment();
+    }
+
+    static void recordSampled() {
+        SAMPLED.increment();
+    }
+
+    static long queueFull() {
+        return QUEUE_FULL.sum();
+    }
+
+    static long sampled() {
+        return SAMPLED.sum();
+    }
+}
@@ -0,0 +1,25 @@
+package org.homechef.core.config.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exports {@code logging.events.dropped}, tagged by why the event was dropped.
+ */
+@Component
+public class DroppedLogEventsMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("logging.events.dropped", DroppedLogEvents.class, c -> DroppedLogEvents.queueFull())
+                .description("Log events discarded because the async appender queue was nearly full")
+                .tag("reason", "queue_full")
+                .register(registry);
+        FunctionCounter.builder("logging.events.dropped", DroppedLogEvents.class, c -> DroppedLogEvents.sampled())
+                .description("Log events skipped by per-logger sampling")
+                .tag("reason", "sampled")
+                .register(registry);
+    }
+}
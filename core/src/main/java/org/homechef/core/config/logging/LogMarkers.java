@@ -0,0 +1,19 @@
+package org.homechef.core.config.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+/**
+ * Markers that logback-spring.xml routes on.
+ */
+public final class LogMarkers {
+
+    /**
+     * High-volume lines, such as cache hits and polls. The {@link SamplingTurboFilter} keeps one in N
+     * of them per configured logger and leaves the logger's unmarked lines alone.
+     */
+    public static final Marker SAMPLED = MarkerFactory.getMarker("SAMPLED");
+
+    private LogMarkers() {
+    }
+}
@@ -0,0 +1,99 @@
+package org.homechef.core.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps one in N high-volume events, at or below {@code maxLevel}.
+ * Runs before the event is built, so skipped lines cost no formatting or encoding.
+ * <pre>
+ * &lt;turboFilter class="org.homechef.core.config.logging.SamplingTurboFilter"&gt;
+ *     &lt;maxLevel&gt;INFO&lt;/maxLevel&gt;
+ *     &lt;marker&gt;SAMPLED&lt;/marker&gt;
+ *     &lt;sample&gt;org.homechef.core.application.service.GetParseStatusService=10&lt;/sample&gt;
+ * &lt;/turboFilter&gt;
+ * </pre>
+ * Only events logged with {@code marker} are sampled, so a logger's other lines are always kept.
+ * A rule matches the named logger and its children. WARN and ERROR are never sampled
+ * unless {@code maxLevel} is raised.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private static final Rule NO_RULE = new Rule("", 1);
+
+    private final List<Rule> rules = new ArrayList<>();
+    private final Map<String, Rule> rulesByLogger = new ConcurrentHashMap<>();
+    private Level maxLevel = Level.INFO;
+    private String markerName = LogMarkers.SAMPLED.getName();
+
+    public void setMaxLevel(String level) {
+        this.maxLevel = Level.toLevel(level, Level.INFO);
+    }
+
+    public void setMarker(String markerName) {
+        this.markerName = markerName;
+    }
+
+    /**
+     * Adds a rule in the form {@code loggerName=N} (keep one in N).
+     */
+    public void addSample(String rule) {
+        int separator = rule.lastIndexOf('=');
+        if (separator <= 0) {
+            addError("Invalid sample rule '" + rule + "', expected loggerName=N");
+            return;
+        }
+        try {
+            int keepOneIn = Integer.parseInt(rule.substring(separator + 1).trim());
+            rules.add(new Rule(rule.substring(0, separator).trim(), Math.max(1, keepOneIn)));
+        } catch (NumberFormatException e) {
+            addError("Invalid sample rate in rule '" + rule + "'");
+        }
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || level == null || !maxLevel.isGreaterOrEqual(level)
+                || marker == null || !marker.contains(markerName)) {
+            return FilterReply.NEUTRAL;
+        }
+        // Skip events the logger would reject anyway so they are not counted as sampled
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        Rule rule = rulesByLogger.computeIfAbsent(logger.getName(), this::findRule);
+        if (rule.keepOneIn() <= 1 || rule.counter().getAndIncrement() % rule.keepOneIn() == 0) {
+            return FilterReply.NEUTRAL;
+        }
+        DroppedLogEvents.recordSampled();
+        return FilterReply.DENY;
+    }
+
+    private Rule findRule(String loggerName) {
+        Rule best = NO_RULE;
+        for (Rule rule : rules) {
+            boolean matches = loggerName.equals(rule.loggerName())
+                    || loggerName.startsWith(rule.loggerName() + ".");
+            if (matches && rule.loggerName().length() > best.loggerName().length()) {
+                best = rule;
+            }
+        }
+        return best;
+    }
+
+    private record Rule(String loggerName, int keepOneIn, AtomicLong counter) {
+        Rule(String loggerName, int keepOneIn) {
+            this(loggerName, keepOneIn, new AtomicLong());
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package org.homechef.core.domain.recipe;
 
 import java.math.BigDecimal;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 /**
  * Value Object representing a single ingredient.
@@ -12,6 +14,11 @@ public record Ingredient(
         String unit,
         String name
 ) {
+    private static final Pattern PARENTHESIZED = Pattern.compile("\\([^)]*\\)");
+    private static final Pattern NON_LETTER = Pattern.compile("[^\\p{L}\\s-]|(?<!\\p{L})-|-(?!\\p{L})");
+    private static final Pattern QUALIFIER = Pattern.compile("\\b(to taste|for (garnish|serving|greasing|dusting)|optional)\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
     public Ingredient {
         Objects.requireNonNull(name, "Ingredient name cannot be null");
         if (name.isBlank()) {
@@ -41,6 +48,48 @@ public record Ingredient(
         return new Ingredient(null, null, name);
     }
 
+    /**
+     * Returns the normalized name used to match ingredients across recipes.
+     */
+    public String normalizedName() {
+        return normalizeName(name);
+    }
+
+    /**
+     * Normalizes a free-text ingredient name for matching, e.g. "Tomatoes (ripe), diced" -> "tomato".
+     * Lower-cases, drops parenthesized notes and everything after the first comma, keeps only
+     * letters, removes qualifiers such as "to taste", and singularizes the last word.
+     * Returns an empty string if nothing is left.
+     */
+    public static String normalizeName(String name) {
+        if (name == null) {
+            return "";
+        }
+        String normalized = PARENTHESIZED.matcher(name.toLowerCase(Locale.ROOT)).replaceAll(" ");
+        int comma = normalized.indexOf(',');
+        if (comma >= 0) {
+            normalized = normalized.substring(0, comma);
+        }
+        normalized = NON_LETTER.matcher(normalized).replaceAll(" ");
+        normalized = QUALIFIER.matcher(normalized).replaceAll(" ");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+        return singularizeLastWord(normalized);
+    }
+
+    private static String singularizeLastWord(String name) {
+        int start = name.lastIndexOf(' ') + 1;
+        String word = name.substring(start);
+        String singular = word;
+        if (word.length() > 4 && word.endsWith("ies")) {
+            singular = word.substring(0, word.length() - 3) + "y";
+        } else if (word.length() > 4 && word.endsWith("oes")) {
+            singular = word.substring(0, word.length() - 2);
+        } else if (word.length() > 3 && word.endsWith("s") && !word.endsWith("ss") && !word.endsWith("us")) {
+            singular = word.substring(0, word.length() - 1);
+        }
+        return name.substring(0, start) + singular;
+    }
+
     /**
      * Returns a human-readable representation (e.g., "2 cups flour").
      */
@@ -0,0 +1,58 @@
+package org.homechef.core.domain.recipe;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Value Object memoizing repeated parse failures for a URL.
+ * Immutable. Each consecutive failure doubles the backoff window, up to a cap.
+ */
+public record ParseFailure(
+        UrlHash urlHash,
+        String errorMessage,
+        int attempts,
+        Instant blockedUntil
+) {
+    public ParseFailure {
+        Objects.requireNonNull(urlHash, "urlHash cannot be null");
+        Objects.requireNonNull(blockedUntil, "blockedUntil cannot be null");
+        if (attempts < 1) {
+            throw new IllegalArgumentException("attempts must be at least 1");
+        }
+        // errorMessage can be null (parser did not report a reason)
+    }
+
+    /**
+     * Records the first failure for a URL, blocked for the base backoff.
+     */
+    public static ParseFailure first(UrlHash urlHash, String errorMessage,
+                                     Duration baseBackoff, Duration maxBackoff, Instant now) {
+        return new ParseFailure(urlHash, errorMessage, 1, now.plus(backoffFor(1, baseBackoff, maxBackoff)));
+    }
+
+    /**
+     * Records another consecutive failure, doubling the backoff window.
+     */
+    public ParseFailure next(String newErrorMessage, Duration baseBackoff, Duration maxBackoff, Instant now) {
+        int nextAttempts = attempts + 1;
+        return new ParseFailure(urlHash, newErrorMessage, nextAttempts,
+                now.plus(backoffFor(nextAttempts, baseBackoff, maxBackoff)));
+    }
+
+    /**
+     * Returns true if new parse attempts for this URL should still be rejected.
+     */
+    public boolean isBlocked(Instant now) {
+        return now.isBefore(blockedUntil);
+    }
+
+    /**
+     * Backoff for the given attempt: base * 2^(attempts - 1), capped at max.
+     */
+    public static Duration backoffFor(int attempts, Duration baseBackoff, Duration maxBackoff) {
+        int shift = Math.min(attempts - 1, 30);
+        Duration backoff = baseBackoff.multipliedBy(1L << shift);
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+}
@@ -0,0 +1,41 @@
+package org.homechef.core.domain.recipe;
+
+import java.util.UUID;
+
+/**
+ * Priority lane a parse request is queued in.
+ * Authenticated users are not delayed behind bulk guest traffic.
+ */
+public enum ParseLane {
+
+    /**
+     * Requests from authenticated users.
+     */
+    PRIORITY,
+
+    /**
+     * Guest requests.
+     */
+    STANDARD;
+
+    /**
+     * Chooses the lane for a requester (null userId = guest).
+     */
+    public static ParseLane forUser(UUID userId) {
+        return userId != null ? PRIORITY : STANDARD;
+    }
+
+    /**
+     * Chooses the lane for an existing parse request.
+     */
+    public static ParseLane of(ParseRequest parseRequest) {
+        return forUser(parseRequest.getUserId());
+    }
+
+    /**
+     * Lowercase name for metric tags and event payloads.
+     */
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,27 @@
+-- V4: Recipe search (full-text on title, ingredient containment)
+
+-- Title search vector, maintained by Postgres on insert/update
+ALTER TABLE recipe
+    ADD COLUMN title_tsv tsvector
+        GENERATED ALWAYS AS (to_tsvector('english', coalesce(title, ''))) STORED;
+
+-- Lower-cased ingredient names, e.g. ["garlic", "olive oil"], so containment is case-insensitive
+-- and the index does not carry quantities and units
+ALTER TABLE recipe
+    ADD COLUMN ingredient_names JSONB
+        GENERATED ALWAYS AS (lower(jsonb_path_query_array(ingredients, '$[*].name')::text)::jsonb) STORED;
+
+COMMENT ON COLUMN recipe.title_tsv IS 'Generated: English tsvector of title for full-text search';
+COMMENT ON COLUMN recipe.ingredient_names IS 'Generated: lower-cased array of ingredient names for @> search';
+
+-- Index: full-text search on title
+CREATE INDEX idx_recipe_title_tsv
+    ON recipe USING GIN (title_tsv);
+
+-- Index: ingredient containment (ingredient_names @> '["garlic"]')
+CREATE INDEX idx_recipe_ingredient_names
+    ON recipe USING GIN (ingredient_names jsonb_path_ops);
+
+-- Index: keyset pagination, newest first
+CREATE INDEX idx_recipe_parsed_at_keyset
+    ON recipe (parsed_at DESC, url_hash DESC);
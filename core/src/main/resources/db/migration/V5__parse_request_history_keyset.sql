@@ -0,0 +1,10 @@
+-- V5: Keyset pagination for user parse history
+
+-- Rebuild the Phase 2 history index so it matches the (created_at, id) keyset exactly and
+-- covers every parse_request column the history page reads, allowing index-only scans
+DROP INDEX idx_parse_request_user_history;
+
+CREATE INDEX idx_parse_request_user_history
+    ON parse_request (user_id, created_at DESC, id DESC)
+    INCLUDE (url_hash, status, updated_at)
+    WHERE user_id IS NOT NULL;
@@ -0,0 +1,16 @@
+-- V6: Stuck parse request reaper
+
+-- Number of times the reaper republished a request whose result never arrived
+ALTER TABLE parse_request
+    ADD COLUMN attempts INT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN parse_request.attempts IS 'Republish count by the stuck-request reaper';
+
+-- Rebuild the dedup index so the reaper's age filter is answered from the (small) partial index
+-- without visiting completed rows
+DROP INDEX idx_parse_request_dedup;
+
+CREATE INDEX idx_parse_request_dedup
+    ON parse_request (url_hash, status)
+    INCLUDE (updated_at)
+    WHERE status IN ('PENDING', 'PROCESSING');
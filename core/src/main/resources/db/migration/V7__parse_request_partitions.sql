@@ -0,0 +1,89 @@
+-- V7: Monthly range partitions for parse_request
+--
+-- Terminal rows are never updated again, so old months only matter for history. Partitioning on
+-- created_at lets retention drop a whole month at once instead of DELETE + vacuum, and keeps the
+-- dedup and history indexes per-partition so the current month's indexes stay small.
+
+-- Move the existing table aside; index names are schema-wide, so free them for the new table
+ALTER TABLE parse_request RENAME TO parse_request_unpartitioned;
+ALTER TABLE parse_request_unpartitioned RENAME CONSTRAINT parse_request_pkey TO parse_request_unpartitioned_pkey;
+DROP INDEX idx_parse_request_dedup;
+DROP INDEX idx_parse_request_user_history;
+
+CREATE TABLE parse_request (
+    id              UUID NOT NULL DEFAULT gen_random_uuid(),
+    user_id         UUID,
+    url_hash        VARCHAR(64) NOT NULL REFERENCES resource(url_hash) ON DELETE CASCADE,
+    status          VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    error_message   TEXT,
+    created_at      TIMESTAMPTZ NOT NULL DEFAULT now(),
+    updated_at      TIMESTAMPTZ NOT NULL DEFAULT now(),
+    attempts        INT NOT NULL DEFAULT 0,
+
+    -- A partitioned table's primary key must contain the partition key; id alone stays unique as a UUID
+    PRIMARY KEY (id, created_at),
+    CONSTRAINT parse_request_valid_status CHECK (
+        status IN ('PENDING', 'PROCESSING', 'COMPLETED', 'FAILED')
+    )
+) PARTITION BY RANGE (created_at);
+
+COMMENT ON TABLE parse_request IS 'Lifecycle tracking for parse requests, partitioned by month of created_at';
+COMMENT ON COLUMN parse_request.user_id IS 'NULL for guest users';
+COMMENT ON COLUMN parse_request.status IS 'State machine: PENDING -> PROCESSING -> COMPLETED|FAILED';
+COMMENT ON COLUMN parse_request.attempts IS 'Republish count by the stuck-request reaper';
+
+-- Creates the partition holding the given month (UTC), named parse_request_YYYY_MM.
+-- Returns false if it already exists. Called by the partition maintenance job.
+CREATE FUNCTION parse_request_ensure_partition(for_month DATE) RETURNS BOOLEAN
+LANGUAGE plpgsql AS $$
+DECLARE
+    month_start    TIMESTAMP := date_trunc('month', for_month);
+    partition_name TEXT := 'parse_request_' || to_char(month_start, 'YYYY_MM');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN false;
+    END IF;
+    EXECUTE format('CREATE TABLE %I PARTITION OF parse_request FOR VALUES FROM (%L) TO (%L)',
+                   partition_name,
+                   month_start AT TIME ZONE 'UTC',
+                   (month_start + INTERVAL '1 month') AT TIME ZONE 'UTC');
+    RETURN true;
+END
+$$;
+
+-- Partitions from the oldest existing row through three months ahead
+DO $$
+DECLARE
+    partition_month DATE;
+BEGIN
+    FOR partition_month IN
+        SELECT generate_series(
+                       date_trunc('month', coalesce(oldest, now()) AT TIME ZONE 'UTC'),
+                       date_trunc('month', now() AT TIME ZONE 'UTC') + INTERVAL '3 months',
+                       INTERVAL '1 month')::date
+        FROM (SELECT min(created_at) AS oldest FROM parse_request_unpartitioned) existing
+    LOOP
+        PERFORM parse_request_ensure_partition(partition_month);
+    END LOOP;
+END
+$$;
+
+INSERT INTO parse_request (id, user_id, url_hash, status, error_message, created_at, updated_at, attempts)
+SELECT id, user_id, url_hash, status, error_message, created_at, updated_at, attempts
+FROM parse_request_unpartitioned;
+
+DROP TABLE parse_request_unpartitioned;
+
+-- Indexes are declared on the parent and created on every partition, present and future
+
+-- Index: dedup query and stuck-request reaper (V6)
+CREATE INDEX idx_parse_request_dedup
+    ON parse_request (url_hash, status)
+    INCLUDE (updated_at)
+    WHERE status IN ('PENDING', 'PROCESSING');
+
+-- Index: user history keyset (V5)
+CREATE INDEX idx_parse_request_user_history
+    ON parse_request (user_id, created_at DESC, id DESC)
+    INCLUDE (url_hash, status, updated_at)
+    WHERE user_id IS NOT NULL;
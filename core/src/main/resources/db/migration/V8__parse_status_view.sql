@@ -0,0 +1,20 @@
+-- V8: Read model for status polls
+
+-- One row per parse request with the poll response already rendered, so a poll is a single
+-- primary-key lookup instead of parse_request + recipe reads and JSON mapping.
+-- Written in the same transaction as the parse_request change it reflects.
+CREATE TABLE parse_status_view (
+    request_id  UUID PRIMARY KEY,
+    status      VARCHAR(20) NOT NULL,
+    body        BYTEA NOT NULL,
+    created_at  TIMESTAMPTZ NOT NULL,
+    updated_at  TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+COMMENT ON TABLE parse_status_view IS 'Denormalized poll responses keyed by parse request id';
+COMMENT ON COLUMN parse_status_view.body IS 'JSON body of GET /api/v1/recipes/parse-requests/{id}';
+COMMENT ON COLUMN parse_status_view.created_at IS 'Copied from parse_request; rows go when its month partition is dropped';
+
+-- Index: retention - delete the rows of a dropped parse_request month
+CREATE INDEX idx_parse_status_view_created_at
+    ON parse_status_view (created_at);
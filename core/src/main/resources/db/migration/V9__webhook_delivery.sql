@@ -0,0 +1,31 @@
+-- V9: Completion webhooks
+
+-- One row per callback URL registered on a parse request. AWAITING_RESULT until the request
+-- completes or fails, then PENDING (set in the same transaction as the status change) until
+-- DELIVERED or FAILED. The payload is the request's parse_status_view body, read at delivery time.
+CREATE TABLE webhook_delivery (
+    id               UUID PRIMARY KEY,
+    request_id       UUID NOT NULL,
+    callback_url     TEXT NOT NULL,
+    status           VARCHAR(20) NOT NULL,
+    attempts         INT NOT NULL DEFAULT 0,
+    next_attempt_at  TIMESTAMPTZ,
+    last_error       TEXT,
+    created_at       TIMESTAMPTZ NOT NULL DEFAULT now(),
+    updated_at       TIMESTAMPTZ NOT NULL DEFAULT now(),
+    -- Also serves the lookup by request_id when a result arrives
+    CONSTRAINT uq_webhook_delivery_request_callback UNIQUE (request_id, callback_url)
+);
+
+COMMENT ON TABLE webhook_delivery IS 'Completion callbacks registered on parse requests and their delivery state';
+COMMENT ON COLUMN webhook_delivery.next_attempt_at IS 'Due time while PENDING; pushed out by the claim lease while a delivery is in progress';
+COMMENT ON COLUMN webhook_delivery.created_at IS 'Rows go with the parse_request month partition covering this timestamp';
+
+-- Index: dispatcher - due deliveries only
+CREATE INDEX idx_webhook_delivery_due
+    ON webhook_delivery (next_attempt_at)
+    WHERE status = 'PENDING';
+
+-- Index: retention - delete the rows of a dropped parse_request month
+CREATE INDEX idx_webhook_delivery_created_at
+    ON webhook_delivery (created_at);
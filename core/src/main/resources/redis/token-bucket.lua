@@ -0,0 +1,31 @@
+-- Shared token bucket (one hash per rate-limit key).
+-- KEYS[1]  bucket key
+-- ARGV[1]  capacity (tokens)
+-- ARGV[2]  refill rate (tokens per millisecond)
+-- ARGV[3]  current time (epoch millis)
+-- Returns 0 if a token was taken, otherwise milliseconds until one is available.
+
+local capacity = tonumber(ARGV[1])
+local rate = tonumber(ARGV[2])
+local now = tonumber(ARGV[3])
+
+local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(state[1])
+local ts = tonumber(state[2])
+if tokens == nil or ts == nil then
+    tokens = capacity
+    ts = now
+end
+
+tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+
+local wait = 0
+if tokens >= 1 then
+    tokens = tokens - 1
+else
+    wait = math.ceil((1 - tokens) / rate)
+end
+
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate))
+return wait
@@ -0,0 +1,102 @@
+package org.homechef.core.adapter.in.kafka;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.homechef.core.application.port.out.ParseCompletionEstimator;
+import org.homechef.core.domain.recipe.ParseLane;
+import org.homechef.core.domain.recipe.ParseRequest;
+import org.homechef.core.domain.recipe.ParseStatus;
+import org.homechef.core.domain.recipe.UrlHash;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ParseLatencyRecorder")
+class ParseLatencyRecorderTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2026-01-01T12:00:00Z");
+    private static final String URL_HASH = UrlHash.fromUrl("https://example.com/recipe").value();
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ParseCompletionEstimator completionEstimator = mock(ParseCompletionEstimator.class);
+    private final ParseLatencyRecorder recorder = new ParseLatencyRecorder(registry, completionEstimator);
+
+    @Test
+    @DisplayName("splits latency into queue, llm and total stages when parser timestamps are present")
+    void recordsAllStages() {
+        // Given
+        ParseRequest request = request(UUID.randomUUID());
+        ParseResultEvent event = event(request, CREATED_AT.plusSeconds(4), CREATED_AT.plusSeconds(10));
+
+        // When
+        recorder.record(request, event, CREATED_AT.plusSeconds(11));
+
+        // Then
+        assertEquals(4, seconds("queue", "priority"));
+        assertEquals(6, seconds("llm", "priority"));
+        assertEquals(11, seconds("total", "priority"));
+        verify(completionEstimator).recordCompletion(ParseLane.PRIORITY, Duration.ofSeconds(4), Duration.ofSeconds(6));
+    }
+
+    @Test
+    @DisplayName("records only the total without parser timestamps")
+    void recordsTotalOnly() {
+        // Given
+        ParseRequest request = request(null);
+        ParseResultEvent event = event(request, null, null);
+
+        // When
+        recorder.record(request, event, CREATED_AT.plusSeconds(30));
+
+        // Then
+        assertEquals(0, timer("queue", "standard").count());
+        assertEquals(0, timer("llm", "standard").count());
+        assertEquals(30, seconds("total", "standard"));
+        verify(completionEstimator, never()).recordCompletion(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("clamps negative intervals caused by clock skew to zero")
+    void clampsClockSkew() {
+        // Given
+        ParseRequest request = request(null);
+        ParseResultEvent event = event(request, CREATED_AT.minusSeconds(2), CREATED_AT.plusSeconds(3));
+
+        // When
+        recorder.record(request, event, CREATED_AT.plusSeconds(5));
+
+        // Then
+        assertEquals(1, timer("queue", "standard").count());
+        assertEquals(0, seconds("queue", "standard"));
+    }
+
+    private double seconds(String stage, String lane) {
+        return timer(stage, lane).totalTime(TimeUnit.SECONDS);
+    }
+
+    private Timer timer(String stage, String lane) {
+        return registry.get(ParseLatencyRecorder.METRIC)
+                .tags("stage", stage, "lane", lane, "outcome", "success")
+                .timer();
+    }
+
+    private static ParseRequest request(UUID userId) {
+        return ParseRequest.reconstitute(UUID.randomUUID(), userId, URL_HASH, ParseStatus.PENDING,
+                null, CREATED_AT, CREATED_AT);
+    }
+
+    private static ParseResultEvent event(ParseRequest request, Instant startedAt, Instant completedAt) {
+        return new ParseResultEvent(request.getId(), URL_HASH, true, null, "Pancakes", List.of(),
+                startedAt != null ? startedAt.toEpochMilli() : null,
+                completedAt != null ? completedAt.toEpochMilli() : null);
+    }
+}
@@ -0,0 +1,174 @@
+package org.homechef.core.adapter.in.kafka;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.homechef.core.application.port.out.ParseCompletionEstimator;
+import org.homechef.core.application.port.out.ParseFailureCache;
+import org.homechef.core.application.port.out.ParseRequestRepository;
+import org.homechef.core.application.port.out.ParseStatusProjection;
+import org.homechef.core.application.port.out.ParseStatusRegistry;
+import org.homechef.core.application.port.out.ReadYourWrites;
+import org.homechef.core.application.port.out.RecipeIngredientIndex;
+import org.homechef.core.application.port.out.RecipeRepository;
+import org.homechef.core.application.port.out.ResourceRepository;
+import org.homechef.core.application.port.out.WebhookDeliveryRepository;
+import org.homechef.core.domain.recipe.ParseLane;
+import org.homechef.core.domain.recipe.ParseRequest;
+import org.homechef.core.domain.recipe.ParseStatus;
+import org.homechef.core.domain.recipe.UrlHash;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ParseResultConsumer")
+class ParseResultConsumerTest {
+
+    private static final String URL_HASH = UrlHash.fromUrl("https://example.com/recipe").value();
+
+    @Mock
+    private ParseRequestRepository parseRequestRepository;
+    @Mock
+    private ParseStatusProjection parseStatusProjection;
+    @Mock
+    private ParseStatusRegistry parseStatusRegistry;
+    @Mock
+    private RecipeRepository recipeRepository;
+    @Mock
+    private ResourceRepository resourceRepository;
+    @Mock
+    private ParseFailureCache parseFailureCache;
+    @Mock
+    private RecipeIngredientIndex recipeIngredientIndex;
+    @Mock
+    private ReadYourWrites readYourWrites;
+    @Mock
+    private WebhookDeliveryRepository webhookDeliveryRepository;
+    @Mock
+    private ParseCompletionEstimator completionEstimator;
+
+    private ParseResultConsumer consumer;
+    private ParseRequest request;
+    private ParseResultEvent event;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new ParseResultConsumer(parseRequestRepository, parseStatusProjection, parseStatusRegistry,
+                recipeRepository, resourceRepository, parseFailureCache, recipeIngredientIndex, readYourWrites,
+                webhookDeliveryRepository, completionEstimator, new SimpleMeterRegistry());
+        Instant createdAt = Instant.now().minusSeconds(10);
+        request = ParseRequest.reconstitute(UUID.randomUUID(), null, URL_HASH, ParseStatus.FAILED,
+                "boom", createdAt, Instant.now());
+        event = new ParseResultEvent(request.getId(), URL_HASH, false, "boom", null, null,
+                createdAt.plusSeconds(2).toEpochMilli(), createdAt.plusSeconds(3).toEpochMilli());
+        lenient().when(parseRequestRepository.updateStatus(request.getId(), ParseStatus.FAILED.name(), "boom"))
+                .thenReturn(Optional.of(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("records latency from the updated request without loading it again")
+    void reusesUpdatedRequest() {
+        // When
+        consumer.handleParseResult(event);
+
+        // Then
+        verify(parseRequestRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("records latency only once the transaction has committed")
+    void recordsAfterCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        ParseResultEvent success = new ParseResultEvent(request.getId(), URL_HASH, true, null, "Soup",
+                List.of(), event.startedAtMillis(), event.completedAtMillis());
+        when(resourceRepository.existsByUrlHash(any())).thenReturn(true);
+        when(parseRequestRepository.updateStatus(request.getId(), ParseStatus.COMPLETED.name(), null))
+                .thenReturn(Optional.of(request));
+
+        // When
+        consumer.handleParseResult(success);
+
+        // Then
+        verifyNoInteractions(completionEstimator);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(completionEstimator).recordCompletion(eq(ParseLane.STANDARD), any(), any());
+    }
+
+    @Test
+    @DisplayName("does not fail the applied result when recording latency fails")
+    void survivesMetricsFailure() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        when(resourceRepository.existsByUrlHash(any())).thenReturn(true);
+        when(parseRequestRepository.updateStatus(request.getId(), ParseStatus.COMPLETED.name(), null))
+                .thenReturn(Optional.of(request));
+        doThrow(new IllegalStateException("registry closed"))
+                .when(completionEstimator).recordCompletion(any(), any(), any());
+        ParseResultEvent success = new ParseResultEvent(request.getId(), URL_HASH, true, null, "Soup",
+                List.of(), event.startedAtMillis(), event.completedAtMillis());
+
+        // When
+        consumer.handleParseResult(success);
+
+        // Then
+        assertDoesNotThrow(() -> TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit));
+        verify(parseStatusRegistry).put(any());
+    }
+
+    @Test
+    @DisplayName("records a parse failure in the failure cache only once the transaction has committed")
+    void recordsFailureAfterCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        consumer.handleParseResult(event);
+
+        // Then
+        verifyNoInteractions(parseFailureCache);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(parseFailureCache).recordFailure(UrlHash.fromHash(URL_HASH), "boom");
+    }
+
+    @Test
+    @DisplayName("keeps the failure history of a URL whose successful result rolled back")
+    void evictsAfterCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        when(resourceRepository.existsByUrlHash(any())).thenReturn(true);
+        ParseResultEvent success = new ParseResultEvent(request.getId(), URL_HASH, true, null, "Soup",
+                List.of(), event.startedAtMillis(), event.completedAtMillis());
+
+        // When
+        consumer.handleParseResult(success);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        verify(parseFailureCache, never()).evict(any());
+    }
+}
@@ -0,0 +1,95 @@
+package org.homechef.core.adapter.in.kafka;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.homechef.core.adapter.kafka.WireFormat;
+import org.homechef.core.domain.recipe.UrlHash;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JacksonJsonDeserializer;
+import org.springframework.kafka.support.serializer.JacksonJsonSerializer;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ParseResultEventDeserializer")
+class ParseResultEventDeserializerTest {
+
+    private static final String TOPIC = "parse-results";
+    private static final String URL_HASH = UrlHash.fromUrl("https://example.com/recipe").value();
+    private static final ParseResultEvent SUCCESS = new ParseResultEvent(UUID.randomUUID(), URL_HASH, true, null,
+            "Crêpes", List.of(
+                    new ParseResultEvent.IngredientEvent("250", "g", "flour"),
+                    new ParseResultEvent.IngredientEvent(null, null, "salt")),
+            1_767_268_800_000L, 1_767_268_806_500L);
+    private static final ParseResultEvent FAILURE = new ParseResultEvent(UUID.randomUUID(), URL_HASH, false,
+            "Page not found", null, null, null, null);
+
+    private static ParseResultEventDeserializer deserializer(WireFormat format) {
+        ParseResultEventDeserializer deserializer = new ParseResultEventDeserializer();
+        deserializer.configure(Map.of(
+                WireFormat.CONFIG, format.name(),
+                JacksonJsonDeserializer.TRUSTED_PACKAGES, "org.homechef.core.adapter.in.kafka"), false);
+        return deserializer;
+    }
+
+    private static byte[] json(ParseResultEvent event, RecordHeaders headers) {
+        return new JacksonJsonSerializer<ParseResultEvent>().serialize(TOPIC, headers, event);
+    }
+
+    @Test
+    @DisplayName("reads JSON and binary records side by side in COMPAT mode")
+    void compatReadsBoth() {
+        // Given
+        ParseResultEventDeserializer deserializer = deserializer(WireFormat.COMPAT);
+        RecordHeaders headers = new RecordHeaders();
+
+        // When / Then
+        assertEquals(SUCCESS, deserializer.deserialize(TOPIC, headers, json(SUCCESS, headers)));
+        assertEquals(SUCCESS, deserializer.deserialize(TOPIC, new RecordHeaders(), ParseResultEventCodec.encode(SUCCESS)));
+        assertEquals(FAILURE, deserializer.deserialize(TOPIC, new RecordHeaders(), ParseResultEventCodec.encode(FAILURE)));
+    }
+
+    @Test
+    @DisplayName("reads JSON without type headers as a parse result")
+    void jsonWithoutTypeHeader() {
+        // Given
+        byte[] json = json(FAILURE, new RecordHeaders());
+
+        // When
+        ParseResultEvent event = deserializer(WireFormat.JSON).deserialize(TOPIC, new RecordHeaders(), json);
+
+        // Then
+        assertEquals(FAILURE, event);
+    }
+
+    @Test
+    @DisplayName("rejects the other encoding in strict modes")
+    void strictModes() {
+        byte[] binary = ParseResultEventCodec.encode(SUCCESS);
+        assertThrows(SerializationException.class,
+                () -> deserializer(WireFormat.JSON).deserialize(TOPIC, new RecordHeaders(), binary));
+
+        byte[] json = json(SUCCESS, new RecordHeaders());
+        assertThrows(SerializationException.class,
+                () -> deserializer(WireFormat.BINARY).deserialize(TOPIC, new RecordHeaders(), json));
+    }
+
+    @Test
+    @DisplayName("rejects truncated records and unknown schema versions")
+    void malformedBinary() {
+        ParseResultEventDeserializer deserializer = deserializer(WireFormat.BINARY);
+        byte[] binary = ParseResultEventCodec.encode(SUCCESS);
+
+        byte[] truncated = Arrays.copyOf(binary, binary.length - 3);
+        assertThrows(SerializationException.class, () -> deserializer.deserialize(TOPIC, truncated));
+
+        byte[] futureVersion = binary.clone();
+        futureVersion[1] = 9;
+        assertThrows(SerializationException.class, () -> deserializer.deserialize(TOPIC, futureVersion));
+    }
+}
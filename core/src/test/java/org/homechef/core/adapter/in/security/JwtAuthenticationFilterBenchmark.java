@@ -0,0 +1,129 @@
+package org.homechef.core.adapter.in.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import org.homechef.core.adapter.out.security.JwtTokenProvider;
+import org.homechef.core.application.port.out.TokenProvider;
+import org.homechef.core.domain.user.User;
+import org.homechef.core.domain.user.UserId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request overhead of JwtAuthenticationFilter for a repeatedly presented token.
+ * <ul>
+ *   <li>{@code per-request-parser} - previous behaviour, a new JWT parser on every request</li>
+ *   <li>{@code shared-parser} - parser built once, validation cache disabled</li>
+ *   <li>{@code cached} - parser built once, validated tokens cached until expiry</li>
+ * </ul>
+ * Not part of the test suite; run from the IDE or the {@code main} method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-filter-min-32-chars";
+    private static final FilterChain NOOP_CHAIN = (request, response) -> { };
+
+    @Param({"per-request-parser", "shared-parser", "cached"})
+    public String mode;
+
+    private JwtAuthenticationFilter filter;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, 3600, "cached".equals(mode) ? 10_000 : 0);
+        User user = User.reconstitute(UUID.randomUUID(), "bench@example.com", "$2a$10$hash", Instant.now());
+        authorizationHeader = "Bearer " + provider.generateToken(user);
+
+        TokenProvider tokenProvider = "per-request-parser".equals(mode)
+                ? new PerRequestParserTokenProvider(provider)
+                : provider;
+        filter = new JwtAuthenticationFilter(tokenProvider);
+    }
+
+    @Benchmark
+    public Object filterAuthenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/recipes/parse-requests/x");
+        request.addHeader("Authorization", authorizationHeader);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), NOOP_CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtAuthenticationFilterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    /**
+     * Validation as it was before the parser was shared: one parser per call, no cache.
+     */
+    private static final class PerRequestParserTokenProvider implements TokenProvider {
+
+        private final JwtTokenProvider delegate;
+        private final SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+
+        private PerRequestParserTokenProvider(JwtTokenProvider delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String generateToken(User user) {
+            return delegate.generateToken(user);
+        }
+
+        @Override
+        public Optional<UserId> validateToken(String token) {
+            try {
+                Claims claims = Jwts.parser()
+                        .verifyWith(key)
+                        .build()
+                        .parseSignedClaims(token)
+                        .getPayload();
+                return Optional.of(UserId.of(UUID.fromString(claims.getSubject())));
+            } catch (JwtException | IllegalArgumentException e) {
+                return Optional.empty();
+            }
+        }
+
+        @Override
+        public long getExpirationSeconds() {
+            return delegate.getExpirationSeconds();
+        }
+    }
+}
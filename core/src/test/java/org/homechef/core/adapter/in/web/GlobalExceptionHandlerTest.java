@@ -0,0 +1,49 @@
+package org.homechef.core.adapter.in.web;
+
+import org.homechef.core.adapter.in.web.dto.ErrorResponse;
+import org.homechef.core.application.exception.PasswordHashingBusyException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GlobalExceptionHandler")
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Nested
+    @DisplayName("PasswordHashingBusyException")
+    class PasswordHashingBusy {
+
+        @Test
+        @DisplayName("returns 429 with the suggested Retry-After in seconds")
+        void tooManyRequests() {
+            // When
+            ResponseEntity<ErrorResponse> response =
+                    handler.handlePasswordHashingBusy(new PasswordHashingBusyException(Duration.ofSeconds(3)));
+
+            // Then
+            assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+            assertEquals("3", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+            assertEquals("AUTH_BUSY", response.getBody().code());
+        }
+
+        @Test
+        @DisplayName("never suggests retrying in under a second")
+        void atLeastOneSecond() {
+            // When
+            ResponseEntity<ErrorResponse> response =
+                    handler.handlePasswordHashingBusy(new PasswordHashingBusyException(Duration.ofMillis(200)));
+
+            // Then
+            assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        }
+    }
+}
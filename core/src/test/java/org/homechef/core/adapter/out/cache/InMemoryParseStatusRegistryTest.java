@@ -0,0 +1,137 @@
+package org.homechef.core.adapter.out.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.homechef.core.application.port.in.dto.ParseStatusView;
+import org.homechef.core.domain.recipe.ParseStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("InMemoryParseStatusRegistry")
+class InMemoryParseStatusRegistryTest {
+
+    private static final String CHANNEL = "homechef:parse-status";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final StaticListableBeanFactory beans = new StaticListableBeanFactory();
+
+    private InMemoryParseStatusRegistry registry() {
+        return new InMemoryParseStatusRegistry(redisTemplate,
+                beans.getBeanProvider(RedisMessageListenerContainer.class), meterRegistry,
+                Duration.ofMinutes(2), DataSize.ofMegabytes(1), CHANNEL);
+    }
+
+    private static ParseStatusView view(ParseStatus status) {
+        return new ParseStatusView(UUID.randomUUID(), status, "{}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("parse.status.registry.lookups").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("serves states put outside a transaction and counts hits and misses")
+    void servesAndCounts() {
+        // Given
+        InMemoryParseStatusRegistry registry = registry();
+        ParseStatusView pending = view(ParseStatus.PENDING);
+
+        // When
+        registry.put(pending);
+
+        // Then
+        assertSame(pending, registry.find(pending.requestId()).orElseThrow());
+        assertTrue(registry.find(UUID.randomUUID()).isEmpty());
+        assertEquals(1, lookups("hit"));
+        assertEquals(1, lookups("miss"));
+    }
+
+    @Test
+    @DisplayName("applies a put made inside a transaction only after commit")
+    void appliesAfterCommit() {
+        // Given
+        InMemoryParseStatusRegistry registry = registry();
+        ParseStatusView completed = view(ParseStatus.COMPLETED);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            registry.put(completed);
+
+            // Then
+            assertTrue(registry.find(completed.requestId()).isEmpty());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertTrue(registry.find(completed.requestId()).isPresent());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("announces puts and drops states announced by other instances")
+    void dropsRemoteUpdates() {
+        // Given
+        RedisMessageListenerContainer container = mock(RedisMessageListenerContainer.class);
+        when(container.isListening()).thenReturn(true);
+        beans.addBean("parseStatusListenerContainer", container);
+        InMemoryParseStatusRegistry registry = registry();
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(container).addMessageListener(listener.capture(), any(Topic.class));
+
+        ParseStatusView pending = view(ParseStatus.PENDING);
+        registry.put(pending);
+        ArgumentCaptor<String> announcement = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), announcement.capture());
+
+        // When - our own announcement comes back, then another instance completes the request
+        listener.getValue().onMessage(message(announcement.getValue()), null);
+        assertTrue(registry.find(pending.requestId()).isPresent());
+        listener.getValue().onMessage(message("other-instance " + pending.requestId()), null);
+
+        // Then
+        assertTrue(registry.find(pending.requestId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("does not serve in-flight states while unsubscribed from other instances")
+    void bypassesInFlightWhileUnsubscribed() {
+        // Given
+        RedisMessageListenerContainer container = mock(RedisMessageListenerContainer.class);
+        when(container.isListening()).thenReturn(false);
+        beans.addBean("parseStatusListenerContainer", container);
+        InMemoryParseStatusRegistry registry = registry();
+        ParseStatusView pending = view(ParseStatus.PENDING);
+        ParseStatusView failed = view(ParseStatus.FAILED);
+
+        // When
+        registry.put(pending);
+        registry.put(failed);
+
+        // Then
+        assertTrue(registry.find(pending.requestId()).isEmpty());
+        assertTrue(registry.find(failed.requestId()).isPresent());
+        assertEquals(1, lookups("bypass"));
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,115 @@
+package org.homechef.core.adapter.out.index;
+
+import org.homechef.core.application.port.out.RecipeIngredientIndex.Match;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("InvertedIngredientIndex")
+class InvertedIngredientIndexTest {
+
+    private InvertedIngredientIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIngredientIndex();
+        index.put("omelette", List.of("egg", "butter", "salt"));
+        index.put("shakshuka", List.of("egg", "tomato", "onion", "pepper"));
+        index.put("caprese", List.of("tomato", "mozzarella", "basil"));
+        index.put("pancake", List.of("egg", "flour", "milk", "butter", "sugar"));
+    }
+
+    private static List<String> urlHashes(List<Match> matches) {
+        return matches.stream().map(Match::urlHash).toList();
+    }
+
+    @Nested
+    @DisplayName("topMatches()")
+    class TopMatches {
+
+        @Test
+        @DisplayName("ranks by Jaccard similarity, best first")
+        void ranksByJaccard() {
+            // When
+            List<Match> matches = index.topMatches(Set.of("egg", "butter"), 10);
+
+            // Then
+            assertEquals(List.of("omelette", "pancake", "shakshuka"), urlHashes(matches));
+            Match best = matches.get(0);
+            assertEquals(2.0 / 3, best.score(), 1e-9);
+            assertEquals(2, best.matched());
+            assertEquals(3, best.ingredientCount());
+        }
+
+        @Test
+        @DisplayName("keeps only the top K")
+        void keepsTopK() {
+            assertEquals(List.of("omelette"), urlHashes(index.topMatches(Set.of("egg", "butter"), 1)));
+        }
+
+        @Test
+        @DisplayName("orders equal matches by url hash")
+        void breaksTies() {
+            // Given - same ingredients as shakshuka, so equal score and matched count
+            index.put("frittata", List.of("egg", "tomato", "onion", "pepper"));
+
+            // When
+            List<Match> matches = index.topMatches(Set.of("egg", "tomato", "onion", "pepper"), 2);
+
+            // Then
+            assertEquals(List.of("frittata", "shakshuka"), urlHashes(matches));
+        }
+
+        @Test
+        @DisplayName("ignores ingredients no recipe uses")
+        void ignoresUnknownIngredients() {
+            // When
+            List<Match> matches = index.topMatches(Set.of("basil", "saffron"), 10);
+
+            // Then
+            assertEquals(List.of("caprese"), urlHashes(matches));
+            assertEquals(1.0 / 4, matches.get(0).score(), 1e-9);
+        }
+
+        @Test
+        @DisplayName("returns nothing when no ingredient is known")
+        void returnsNothingForUnknownOnly() {
+            assertTrue(index.topMatches(Set.of("saffron"), 10).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("put()")
+    class Put {
+
+        @Test
+        @DisplayName("replaces the ingredients of an indexed recipe")
+        void replacesIngredients() {
+            // When
+            index.put("omelette", List.of("egg", "cheese"));
+
+            // Then
+            assertTrue(index.topMatches(Set.of("butter"), 10).stream().noneMatch(m -> m.urlHash().equals("omelette")));
+            assertEquals(List.of("omelette"), urlHashes(index.topMatches(Set.of("cheese"), 10)));
+            assertEquals(4, index.recipeCount());
+        }
+
+        @Test
+        @DisplayName("counts duplicate and empty names once or not at all")
+        void ignoresDuplicatesAndEmptyNames() {
+            // When
+            index.put("toast", List.of("bread", "bread", ""));
+
+            // Then
+            Match toast = index.topMatches(Set.of("bread"), 10).get(0);
+            assertEquals(1, toast.ingredientCount());
+            assertEquals(1.0, toast.score(), 1e-9);
+        }
+    }
+}
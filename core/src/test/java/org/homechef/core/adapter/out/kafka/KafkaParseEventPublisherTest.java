@@ -0,0 +1,139 @@
+package org.homechef.core.adapter.out.kafka;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.homechef.core.domain.recipe.ParseRequest;
+import org.homechef.core.domain.recipe.UrlHash;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KafkaParseEventPublisher")
+class KafkaParseEventPublisherTest {
+
+    private static final String TOPIC = "parse-requests";
+    private static final String PRIORITY_TOPIC = "parse-requests-priority";
+    private static final String URL = "https://example.com/recipe";
+    private static final UrlHash URL_HASH = UrlHash.fromUrl(URL);
+
+    @Mock
+    private KafkaTemplate<String, ParseRequestEvent> kafkaTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().when(kafkaTemplate.send(anyString(), anyString(), any(ParseRequestEvent.class)))
+                .thenReturn(new CompletableFuture<>());
+    }
+
+    private KafkaParseEventPublisher publisher(boolean priorityLanesEnabled) {
+        return new KafkaParseEventPublisher(kafkaTemplate, TOPIC, PRIORITY_TOPIC, priorityLanesEnabled,
+                false, Runnable::run, meterRegistry);
+    }
+
+    private ParseRequestEvent sentTo(String topic) {
+        ArgumentCaptor<ParseRequestEvent> event = ArgumentCaptor.forClass(ParseRequestEvent.class);
+        verify(kafkaTemplate).send(eq(topic), eq(URL_HASH.value()), event.capture());
+        return event.getValue();
+    }
+
+    @Nested
+    @DisplayName("with priority lanes enabled")
+    class LanesEnabled {
+
+        @Test
+        @DisplayName("publishes authenticated requests to the priority topic")
+        void authenticatedToPriorityTopic() {
+            // Given
+            ParseRequest request = ParseRequest.create(URL_HASH, UUID.randomUUID());
+
+            // When
+            publisher(true).publishParseRequest(request, URL);
+
+            // Then
+            ParseRequestEvent event = sentTo(PRIORITY_TOPIC);
+            assertEquals(request.getId(), event.requestId());
+            assertEquals("priority", event.lane());
+        }
+
+        @Test
+        @DisplayName("publishes guest requests to the standard topic")
+        void guestToStandardTopic() {
+            // Given
+            ParseRequest request = ParseRequest.createForGuest(URL_HASH);
+
+            // When
+            publisher(true).publishParseRequest(request, URL);
+
+            // Then
+            assertEquals("standard", sentTo(TOPIC).lane());
+        }
+    }
+
+    @Nested
+    @DisplayName("with priority lanes disabled")
+    class LanesDisabled {
+
+        @Test
+        @DisplayName("publishes authenticated requests to the standard topic, still tagged priority")
+        void authenticatedToStandardTopic() {
+            // Given
+            ParseRequest request = ParseRequest.create(URL_HASH, UUID.randomUUID());
+
+            // When
+            publisher(false).publishParseRequest(request, URL);
+
+            // Then
+            assertEquals("priority", sentTo(TOPIC).lane());
+            verify(kafkaTemplate, never()).send(eq(PRIORITY_TOPIC), anyString(), any(ParseRequestEvent.class));
+        }
+
+        @Test
+        @DisplayName("publishes guest requests to the standard topic")
+        void guestToStandardTopic() {
+            // Given
+            ParseRequest request = ParseRequest.createForGuest(URL_HASH);
+
+            // When
+            publisher(false).publishParseRequest(request, URL);
+
+            // Then
+            assertEquals("standard", sentTo(TOPIC).lane());
+        }
+    }
+
+    @Test
+    @DisplayName("counts failed sends against the request's lane and topic")
+    void countsFailuresPerLane() {
+        // Given
+        when(kafkaTemplate.send(anyString(), anyString(), any(ParseRequestEvent.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        ParseRequest request = ParseRequest.create(URL_HASH, UUID.randomUUID());
+
+        // When
+        publisher(true).publishParseRequest(request, URL);
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("kafka.publish")
+                .tags("topic", PRIORITY_TOPIC, "lane", "priority", "outcome", "failure").counter().count());
+        assertEquals(0.0, meterRegistry.get("kafka.publish")
+                .tags("topic", TOPIC, "lane", "standard", "outcome", "failure").counter().count());
+    }
+}
@@ -0,0 +1,45 @@
+package org.homechef.core.adapter.out.kafka;
+
+import org.homechef.core.adapter.in.kafka.ParseResultEvent;
+import org.homechef.core.adapter.in.kafka.ParseResultEvent.IngredientEvent;
+import org.homechef.core.domain.recipe.UrlHash;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Representative parse events for the wire format benchmarks: a typical recipe URL and a
+ * successful result with a dozen ingredients.
+ */
+final class ParseEventSamples {
+
+    private static final List<IngredientEvent> INGREDIENTS = List.of(
+            new IngredientEvent("500", "g", "spaghetti"),
+            new IngredientEvent("2", "tbsp", "olive oil"),
+            new IngredientEvent("4", "cloves", "garlic"),
+            new IngredientEvent("1", null, "onion"),
+            new IngredientEvent("400", "g", "canned tomatoes"),
+            new IngredientEvent("250", "g", "ground beef"),
+            new IngredientEvent("1", "tsp", "dried oregano"),
+            new IngredientEvent("0.5", "tsp", "chili flakes"),
+            new IngredientEvent("100", "ml", "red wine"),
+            new IngredientEvent("50", "g", "parmesan"),
+            new IngredientEvent(null, null, "salt"),
+            new IngredientEvent(null, null, "black pepper"));
+
+    private ParseEventSamples() {
+    }
+
+    static ParseRequestEvent request(int i) {
+        String url = "https://www.example-recipes.com/recipes/italian/spaghetti-bolognese-" + i + "?servings=4";
+        return new ParseRequestEvent(UUID.randomUUID(), url, UrlHash.fromUrl(url).value(), Instant.now(),
+                i % 3 == 0 ? "priority" : "standard");
+    }
+
+    static ParseResultEvent result(int i) {
+        long startedAt = System.currentTimeMillis();
+        return new ParseResultEvent(UUID.randomUUID(), request(i).urlHash(), true, null,
+                "Classic Spaghetti Bolognese " + i, INGREDIENTS, startedAt, startedAt + 6_500);
+    }
+}
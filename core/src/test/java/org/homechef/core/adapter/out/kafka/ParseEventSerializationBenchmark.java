@@ -0,0 +1,110 @@
+package org.homechef.core.adapter.out.kafka;
+
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.homechef.core.adapter.in.kafka.ParseResultEvent;
+import org.homechef.core.adapter.in.kafka.ParseResultEventCodec;
+import org.homechef.core.adapter.in.kafka.ParseResultEventDeserializer;
+import org.homechef.core.adapter.kafka.WireFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.kafka.support.serializer.JacksonJsonDeserializer;
+import org.springframework.kafka.support.serializer.JacksonJsonSerializer;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of writing and reading parse events in each {@link WireFormat}, through the same
+ * serializers the producers and the parse-results consumer use. JSON includes the type header
+ * the Spring serde writes and reads.
+ * <p>
+ * Not part of the test suite; run from the IDE or the {@code main} method, which also prints
+ * the encoded size of the sample events.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParseEventSerializationBenchmark {
+
+    private static final String TOPIC = "parse-events";
+
+    @Param({"json", "binary"})
+    public String format;
+
+    private ParseRequestEvent request;
+    private ParseResultEvent result;
+    private ParseRequestEventSerializer requestSerializer;
+    private ParseResultEventDeserializer resultDeserializer;
+    private JacksonJsonSerializer<ParseResultEvent> resultJsonSerializer;
+    private byte[] encodedResult;
+    private RecordHeaders resultHeaders;
+
+    @Setup
+    public void setUp() {
+        Map<String, Object> configs = Map.of(
+                WireFormat.CONFIG, format,
+                JacksonJsonDeserializer.TRUSTED_PACKAGES, "org.homechef.core.adapter.in.kafka");
+        request = ParseEventSamples.request(1);
+        result = ParseEventSamples.result(1);
+        requestSerializer = new ParseRequestEventSerializer();
+        requestSerializer.configure(configs, false);
+        resultDeserializer = new ParseResultEventDeserializer();
+        resultDeserializer.configure(configs, false);
+        resultJsonSerializer = new JacksonJsonSerializer<>();
+
+        resultHeaders = new RecordHeaders();
+        encodedResult = serializeResult(resultHeaders);
+    }
+
+    @Benchmark
+    public byte[] serializeRequest() {
+        return requestSerializer.serialize(TOPIC, new RecordHeaders(), request);
+    }
+
+    @Benchmark
+    public byte[] serializeResult() {
+        return serializeResult(new RecordHeaders());
+    }
+
+    @Benchmark
+    public ParseResultEvent deserializeResult() {
+        return resultDeserializer.deserialize(TOPIC, resultHeaders, encodedResult);
+    }
+
+    /**
+     * Results are written by the parser; this stands in for its serializer.
+     */
+    private byte[] serializeResult(RecordHeaders headers) {
+        return "binary".equals(format)
+                ? ParseResultEventCodec.encode(result)
+                : resultJsonSerializer.serialize(TOPIC, headers, result);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (String format : new String[]{"json", "binary"}) {
+            ParseEventSerializationBenchmark sizes = new ParseEventSerializationBenchmark();
+            sizes.format = format;
+            sizes.setUp();
+            System.out.printf("%-6s request %4d bytes, result %4d bytes%n",
+                    format, sizes.serializeRequest().length, sizes.encodedResult.length);
+        }
+        new Runner(new OptionsBuilder()
+                .include(ParseEventSerializationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,77 @@
+package org.homechef.core.adapter.out.kafka;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.homechef.core.adapter.kafka.BinaryEventReader;
+import org.homechef.core.adapter.kafka.WireFormat;
+import org.homechef.core.domain.recipe.UrlHash;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ParseRequestEventSerializer")
+class ParseRequestEventSerializerTest {
+
+    private static final String URL = "https://example.com/recipe/lasagna";
+    private static final ParseRequestEvent EVENT = new ParseRequestEvent(UUID.randomUUID(), URL,
+            UrlHash.fromUrl(URL).value(), Instant.parse("2026-01-01T12:00:00.123456789Z"), "priority");
+
+    private static ParseRequestEventSerializer serializer(WireFormat format) {
+        ParseRequestEventSerializer serializer = new ParseRequestEventSerializer();
+        serializer.configure(Map.of(WireFormat.CONFIG, format.name().toLowerCase()), false);
+        return serializer;
+    }
+
+    @Test
+    @DisplayName("writes a compact binary record that decodes to the same event")
+    void binaryRoundTrip() {
+        // When
+        byte[] binary = serializer(WireFormat.BINARY).serialize("parse-requests", new RecordHeaders(), EVENT);
+
+        // Then
+        assertTrue(BinaryEventReader.isBinary(binary));
+        assertEquals(EVENT, ParseRequestEventCodec.decode(binary));
+        byte[] json = serializer(WireFormat.JSON).serialize("parse-requests", new RecordHeaders(), EVENT);
+        assertTrue(binary.length < json.length / 2, binary.length + " bytes vs " + json.length + " as JSON");
+    }
+
+    @Test
+    @DisplayName("writes JSON exactly as before in JSON and COMPAT modes")
+    void jsonUnchanged() {
+        // Given - requestedAt as epoch seconds with nanos, as the deprecated JsonSerializer wrote it
+        String expected = "{\"requestId\":\"" + EVENT.requestId() + "\",\"url\":\"" + URL
+                + "\",\"urlHash\":\"" + EVENT.urlHash() + "\",\"requestedAt\":1767268800.123456789"
+                + ",\"lane\":\"priority\"}";
+
+        for (WireFormat format : new WireFormat[]{WireFormat.JSON, WireFormat.COMPAT}) {
+            // When
+            RecordHeaders headers = new RecordHeaders();
+            byte[] json = serializer(format).serialize("parse-requests", headers, EVENT);
+
+            // Then
+            assertEquals(expected, new String(json, StandardCharsets.UTF_8));
+            assertEquals(ParseRequestEvent.class.getName(), new String(
+                    headers.lastHeader("__TypeId__").value(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @DisplayName("keeps absent lanes and rejects what the schema cannot carry")
+    void schemaEdges() {
+        ParseRequestEvent noLane = new ParseRequestEvent(EVENT.requestId(), URL, EVENT.urlHash(), EVENT.requestedAt(), null);
+        assertEquals(noLane, ParseRequestEventCodec.decode(ParseRequestEventCodec.encode(noLane)));
+
+        ParseRequestEvent unknownLane = new ParseRequestEvent(EVENT.requestId(), URL, EVENT.urlHash(), EVENT.requestedAt(), "bulk");
+        assertThrows(SerializationException.class, () -> ParseRequestEventCodec.encode(unknownLane));
+
+        byte[] binary = ParseRequestEventCodec.encode(EVENT);
+        binary[1] = 2;
+        assertThrows(SerializationException.class, () -> ParseRequestEventCodec.decode(binary));
+    }
+}
@@ -0,0 +1,134 @@
+package org.homechef.core.adapter.out.kafka;
+
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.LogDirDescription;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.homechef.core.adapter.in.kafka.ParseResultEvent;
+import org.homechef.core.adapter.in.kafka.ParseResultEventCodec;
+import org.homechef.core.adapter.kafka.WireFormat;
+import org.springframework.kafka.support.serializer.JacksonJsonSerializer;
+import org.testcontainers.containers.KafkaContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Measures how many bytes each {@link WireFormat} puts on the broker. Publishes the same parse
+ * requests and results once per format to fresh topics, then reads the on-disk log size per topic
+ * from the broker and the bytes each producer sent over the network.
+ * <p>
+ * Kafka runs in Testcontainers unless {@code comparison.kafka} points at a broker:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.homechef.core.adapter.out.kafka.WireFormatBrokerComparison \
+ *     -Dcomparison.records=20000 -Dcomparison.compression=lz4
+ * </pre>
+ * Byte rates are projected for {@code comparison.rate} events per second. Not part of the test suite.
+ */
+public final class WireFormatBrokerComparison {
+
+    private WireFormatBrokerComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int records = Integer.getInteger("comparison.records", 10_000);
+        String compression = System.getProperty("comparison.compression", "none");
+        double rate = Double.parseDouble(System.getProperty("comparison.rate", "50"));
+        String bootstrapServers = System.getProperty("comparison.kafka");
+
+        if (bootstrapServers != null) {
+            run(bootstrapServers, records, compression, rate);
+            return;
+        }
+        try (KafkaContainer kafka = new KafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:7.6.0"))) {
+            kafka.start();
+            run(kafka.getBootstrapServers(), records, compression, rate);
+        }
+    }
+
+    private static void run(String bootstrapServers, int records, String compression, double rate) throws Exception {
+        String run = Long.toString(System.currentTimeMillis(), 36);
+        System.out.printf("%d records per topic, compression=%s, projected at %.0f events/s%n%n",
+                records, compression, rate);
+        System.out.printf("%-8s %-7s %12s %10s %12s %14s %9s%n",
+                "event", "format", "log bytes", "B/record", "sent bytes", "log bytes/s", "saving");
+
+        try (AdminClient admin = AdminClient.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers))) {
+            Serializer<ParseRequestEvent> binaryRequests = (topic, event) -> ParseRequestEventCodec.encode(event);
+            Serializer<ParseResultEvent> binaryResults = (topic, event) -> ParseResultEventCodec.encode(event);
+
+            long jsonRequests = measure(admin, bootstrapServers, "request", "json", run, records, compression, rate,
+                    new ParseRequestEventSerializer(), ParseEventSamples::request, -1);
+            measure(admin, bootstrapServers, "request", "binary", run, records, compression, rate,
+                    binaryRequests, ParseEventSamples::request, jsonRequests);
+            long jsonResults = measure(admin, bootstrapServers, "result", "json", run, records, compression, rate,
+                    new JacksonJsonSerializer<>(), ParseEventSamples::result, -1);
+            measure(admin, bootstrapServers, "result", "binary", run, records, compression, rate,
+                    binaryResults, ParseEventSamples::result, jsonResults);
+        }
+    }
+
+    /**
+     * @return on-disk log bytes of the topic
+     */
+    private static <T> long measure(AdminClient admin, String bootstrapServers, String event, String format,
+                                    String run, int records, String compression, double rate,
+                                    Serializer<T> serializer, IntFunction<T> sample, long baseline) throws Exception {
+        String topic = "wire-format-" + run + "-" + event + "-" + format;
+        admin.createTopics(List.of(new NewTopic(topic, 1, (short) 1))).all().get();
+
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configs.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compression);
+        configs.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+        double sentBytes;
+        try (KafkaProducer<String, T> producer = new KafkaProducer<>(configs, new StringSerializer(), serializer)) {
+            for (int i = 0; i < records; i++) {
+                producer.send(new ProducerRecord<>(topic, Integer.toString(i % 64), sample.apply(i)));
+            }
+            producer.flush();
+            sentBytes = metric(producer.metrics(), "outgoing-byte-total");
+        }
+
+        long logBytes = logSize(admin, topic);
+        double perRecord = (double) logBytes / records;
+        String saving = baseline > 0 ? String.format("%.1f%%", 100.0 * (baseline - logBytes) / baseline) : "-";
+        System.out.printf("%-8s %-7s %12d %10.1f %12.0f %14.0f %9s%n",
+                event, format, logBytes, perRecord, sentBytes, perRecord * rate, saving);
+        return logBytes;
+    }
+
+    private static long logSize(AdminClient admin, String topic) throws Exception {
+        List<Integer> brokers = admin.describeCluster().nodes().get().stream().map(Node::id).toList();
+        long size = 0;
+        for (Map<String, LogDirDescription> dirs : admin.describeLogDirs(brokers).allDescriptions().get().values()) {
+            for (LogDirDescription dir : dirs.values()) {
+                size += dir.replicaInfos().entrySet().stream()
+                        .filter(e -> e.getKey().topic().equals(topic))
+                        .mapToLong(e -> e.getValue().size())
+                        .sum();
+            }
+        }
+        return size;
+    }
+
+    private static double metric(Map<MetricName, ? extends Metric> metrics, String name) {
+        return metrics.entrySet().stream()
+                .filter(e -> e.getKey().name().equals(name) && e.getKey().group().equals("producer-metrics"))
+                .mapToDouble(e -> ((Number) e.getValue().metricValue()).doubleValue())
+                .findFirst()
+                .orElse(Double.NaN);
+    }
+}
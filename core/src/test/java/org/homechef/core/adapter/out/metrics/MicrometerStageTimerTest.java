@@ -0,0 +1,68 @@
+package org.homechef.core.adapter.out.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MicrometerStageTimer")
+class MicrometerStageTimerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("tags Optional results as present or empty")
+    void tagsOptionalOutcome() {
+        // Given
+        MicrometerStageTimer timer = new MicrometerStageTimer(registry, true);
+
+        // When
+        timer.time("submit_url", "find_in_flight", () -> Optional.of("request"));
+        timer.time("submit_url", "find_in_flight", Optional::empty);
+        timer.time("submit_url", "find_in_flight", Optional::empty);
+
+        // Then
+        assertEquals(1, count("find_in_flight", "present"));
+        assertEquals(2, count("find_in_flight", "empty"));
+    }
+
+    @Test
+    @DisplayName("records failures as error and rethrows")
+    void recordsErrors() {
+        // Given
+        MicrometerStageTimer timer = new MicrometerStageTimer(registry, true);
+        IllegalStateException failure = new IllegalStateException("db down");
+
+        // When
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> timer.run("submit_url", "save_parse_request", () -> { throw failure; }));
+
+        // Then
+        assertSame(failure, thrown);
+        assertEquals(1, count("save_parse_request", "error"));
+    }
+
+    @Test
+    @DisplayName("records nothing when disabled")
+    void disabledRecordsNothing() {
+        // Given
+        MicrometerStageTimer timer = new MicrometerStageTimer(registry, false);
+
+        // When
+        String result = timer.time("submit_url", "publish_event", () -> "done");
+
+        // Then
+        assertEquals("done", result);
+        assertTrue(registry.find(MicrometerStageTimer.METRIC).timers().isEmpty());
+    }
+
+    private long count(String stage, String outcome) {
+        return registry.get(MicrometerStageTimer.METRIC)
+                .tags("usecase", "submit_url", "stage", stage, "outcome", outcome)
+                .timer()
+                .count();
+    }
+}
@@ -0,0 +1,103 @@
+package org.homechef.core.adapter.out.persistence;
+
+import org.homechef.core.IntegrationTestBase;
+import org.homechef.core.application.port.out.ParseHistoryRepository;
+import org.homechef.core.application.port.out.ParseRequestRepository;
+import org.homechef.core.application.port.out.RecipeRepository;
+import org.homechef.core.application.port.out.ResourceRepository;
+import org.homechef.core.domain.recipe.Ingredient;
+import org.homechef.core.domain.recipe.ParseRequest;
+import org.homechef.core.domain.recipe.ParseStatus;
+import org.homechef.core.domain.recipe.Recipe;
+import org.homechef.core.domain.recipe.Resource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ParseHistoryRepositoryAdapter Integration")
+class ParseHistoryRepositoryAdapterIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private ParseHistoryRepository parseHistoryRepository;
+
+    @Autowired
+    private ParseRequestRepository parseRequestRepository;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private ResourceRepository resourceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DELETE FROM parse_request");
+        jdbcTemplate.execute("DELETE FROM recipe");
+        jdbcTemplate.execute("DELETE FROM resource");
+    }
+
+    private ParseRequest save(String url, UUID owner, ParseStatus status, Instant createdAt) {
+        Resource resource = resourceRepository.save(Resource.create(url));
+        return parseRequestRepository.save(ParseRequest.reconstitute(
+                UUID.randomUUID(), owner, resource.getUrlHash().value(), status, null, createdAt, createdAt));
+    }
+
+    @Test
+    @DisplayName("returns only the user's requests, newest first, with recipe titles")
+    void returnsUserHistory() {
+        // Given
+        ParseRequest lasagna = save("https://example.com/lasagna", userId, ParseStatus.COMPLETED, now.minusSeconds(20));
+        recipeRepository.save(Recipe.reconstitute(lasagna.getUrlHash().value(), "Lasagna",
+                List.of(Ingredient.of("ricotta")), now.minusSeconds(19)));
+        save("https://example.com/pending", userId, ParseStatus.PENDING, now.minusSeconds(10));
+        save("https://example.com/other", UUID.randomUUID(), ParseStatus.PENDING, now);
+
+        // When
+        List<ParseHistoryRepository.Entry> entries = parseHistoryRepository.findByUser(userId, null, null, 10);
+
+        // Then
+        assertEquals(2, entries.size());
+        assertEquals(ParseStatus.PENDING, entries.get(0).status());
+        assertNull(entries.get(0).recipeTitle());
+        assertEquals(lasagna.getId(), entries.get(1).requestId());
+        assertEquals("Lasagna", entries.get(1).recipeTitle());
+    }
+
+    @Test
+    @DisplayName("pages through requests created at the same instant without skipping any")
+    void pagesThroughTies() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            save("https://example.com/recipe/" + i, userId, ParseStatus.PENDING, now);
+        }
+
+        // When
+        List<UUID> seen = new ArrayList<>();
+        List<ParseHistoryRepository.Entry> page = parseHistoryRepository.findByUser(userId, null, null, 2);
+        while (!page.isEmpty()) {
+            page.forEach(entry -> seen.add(entry.requestId()));
+            ParseHistoryRepository.Entry last = page.get(page.size() - 1);
+            page = parseHistoryRepository.findByUser(userId, last.createdAt(), last.requestId(), 2);
+        }
+
+        // Then
+        assertEquals(5, seen.size());
+        assertEquals(5, seen.stream().distinct().count());
+    }
+}
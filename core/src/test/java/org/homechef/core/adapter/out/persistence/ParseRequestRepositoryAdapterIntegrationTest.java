@@ -14,8 +14,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -44,6 +47,29 @@ class ParseRequestRepositoryAdapterIntegrationTest extends IntegrationTestBase {
         return resourceRepository.save(Resource.create(url));
     }
 
+    @Nested
+    @DisplayName("findAllById()")
+    class FindAllById {
+
+        @Test
+        @DisplayName("finds every known request in one call and skips unknown IDs")
+        void findsKnownRequests() {
+            // Given
+            ParseRequest first = parseRequestRepository.save(
+                    ParseRequest.createForGuest(createResource(BASE_URL + "-all-1").getUrlHash()));
+            ParseRequest second = parseRequestRepository.save(
+                    ParseRequest.createForGuest(createResource(BASE_URL + "-all-2").getUrlHash()));
+
+            // When
+            List<ParseRequest> found = parseRequestRepository.findAllById(
+                    List.of(first.getId(), second.getId(), UUID.randomUUID()));
+
+            // Then
+            assertEquals(Set.of(first.getId(), second.getId()),
+                    found.stream().map(ParseRequest::getId).collect(Collectors.toSet()));
+        }
+    }
+
     @Nested
     @DisplayName("save()")
     class Save {
@@ -263,6 +289,27 @@ class ParseRequestRepositoryAdapterIntegrationTest extends IntegrationTestBase {
             assertEquals(ParseStatus.COMPLETED, found.get().getStatus());
             assertNull(found.get().getErrorMessage());
         }
+
+        @Test
+        @DisplayName("returns the updated request, or empty if it does not exist")
+        void returnsUpdatedRequest() {
+            // Given
+            Resource resource = createResource(BASE_URL + "-update-returning");
+            UUID userId = UUID.randomUUID();
+            ParseRequest saved = parseRequestRepository.save(ParseRequest.create(resource.getUrlHash(), userId));
+
+            // When
+            Optional<ParseRequest> updated = parseRequestRepository.updateStatus(saved.getId(), "FAILED", "boom");
+            Optional<ParseRequest> missing = parseRequestRepository.updateStatus(UUID.randomUUID(), "FAILED", "boom");
+
+            // Then
+            assertTrue(updated.isPresent());
+            assertEquals(ParseStatus.FAILED, updated.get().getStatus());
+            assertEquals("boom", updated.get().getErrorMessage());
+            assertEquals(userId, updated.get().getUserId());
+            assertEquals(saved.getCreatedAt().toEpochMilli(), updated.get().getCreatedAt().toEpochMilli());
+            assertTrue(missing.isEmpty());
+        }
     }
 
     @Nested
@@ -0,0 +1,131 @@
+package org.homechef.core.adapter.out.persistence;
+
+import org.homechef.core.IntegrationTestBase;
+import org.homechef.core.application.port.in.dto.ParseStatusResult;
+import org.homechef.core.application.port.in.dto.ParseStatusView;
+import org.homechef.core.application.port.out.ParseRequestRepository;
+import org.homechef.core.application.port.out.ParseStatusProjection;
+import org.homechef.core.application.port.out.ParseStatusProjection.StoredStatus;
+import org.homechef.core.application.port.out.ResourceRepository;
+import org.homechef.core.domain.recipe.Ingredient;
+import org.homechef.core.domain.recipe.ParseRequest;
+import org.homechef.core.domain.recipe.ParseStatus;
+import org.homechef.core.domain.recipe.Resource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ParseStatusProjectionAdapter Integration")
+class ParseStatusProjectionAdapterIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private ParseStatusProjection parseStatusProjection;
+
+    @Autowired
+    private ParseRequestRepository parseRequestRepository;
+
+    @Autowired
+    private ResourceRepository resourceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    private ParseRequest request;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DELETE FROM parse_status_view");
+        jdbcTemplate.execute("DELETE FROM parse_request");
+        jdbcTemplate.execute("DELETE FROM recipe");
+        jdbcTemplate.execute("DELETE FROM resource");
+
+        Resource resource = resourceRepository.save(Resource.create("https://example.com/pasta"));
+        request = parseRequestRepository.save(ParseRequest.create(resource.getUrlHash(), null));
+    }
+
+    @Test
+    @DisplayName("stores the rendered poll response and replaces it on status change")
+    void storesAndReplacesView() {
+        // Given
+        Instant parsedAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        parseStatusProjection.save(ParseStatusResult.pending(request.getId()));
+
+        // When
+        parseStatusProjection.save(ParseStatusResult.completed(request.getId(), request.getUrlHash().value(),
+                "Pasta", List.of(Ingredient.of(new BigDecimal("500"), "g", "pasta")), parsedAt));
+
+        // Then
+        ParseStatusView view = parseStatusProjection.findById(request.getId()).orElseThrow();
+        assertEquals(ParseStatus.COMPLETED, view.status());
+        JsonNode body = jsonMapper.readTree(view.body());
+        assertEquals(request.getId().toString(), body.path("requestId").asString());
+        assertEquals("COMPLETED", body.path("status").asString());
+        assertFalse(body.has("error"));
+        assertEquals("Pasta", body.path("recipe").path("title").asString());
+        assertEquals("pasta", body.path("recipe").path("ingredients").get(0).path("name").asString());
+        assertArrayEquals(parseStatusProjection.render(ParseStatusResult.completed(request.getId(),
+                        request.getUrlHash().value(), "Pasta",
+                        List.of(Ingredient.of(new BigDecimal("500"), "g", "pasta")), parsedAt)).body(),
+                view.body());
+    }
+
+    @Test
+    @DisplayName("writes nothing for an unknown parse request")
+    void ignoresUnknownRequest() {
+        // Given
+        UUID unknown = UUID.randomUUID();
+
+        // When
+        parseStatusProjection.saveAll(List.of(
+                ParseStatusResult.failed(unknown, "boom"),
+                ParseStatusResult.failed(request.getId(), "boom")));
+
+        // Then
+        assertEquals(Optional.empty(), parseStatusProjection.findById(unknown));
+        assertEquals(ParseStatus.FAILED, parseStatusProjection.findById(request.getId()).orElseThrow().status());
+    }
+
+    @Test
+    @DisplayName("looks up several views at once and sends bodies only for those updated after the watermark")
+    void findsAllById() {
+        // Given
+        Resource other = resourceRepository.save(Resource.create("https://example.com/soup"));
+        ParseRequest unchanged = parseRequestRepository.save(ParseRequest.create(other.getUrlHash(), null));
+        parseStatusProjection.saveAll(List.of(
+                ParseStatusResult.processing(request.getId()),
+                ParseStatusResult.pending(unchanged.getId())));
+        jdbcTemplate.update("UPDATE parse_status_view SET updated_at = now() - interval '1 hour' WHERE request_id = ?",
+                unchanged.getId());
+
+        // When
+        List<StoredStatus> found = parseStatusProjection.findAllById(
+                Set.of(request.getId(), unchanged.getId(), UUID.randomUUID()),
+                Instant.now().minus(10, ChronoUnit.MINUTES));
+
+        // Then
+        assertEquals(2, found.size());
+        StoredStatus changed = found.stream().filter(s -> s.requestId().equals(request.getId())).findFirst().orElseThrow();
+        StoredStatus stale = found.stream().filter(s -> s.requestId().equals(unchanged.getId())).findFirst().orElseThrow();
+        assertEquals(ParseStatus.PROCESSING, changed.status());
+        assertNotNull(changed.body());
+        assertEquals(ParseStatus.PENDING, stale.status());
+        assertNull(stale.body());
+    }
+}
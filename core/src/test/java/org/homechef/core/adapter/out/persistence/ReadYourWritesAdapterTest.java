@@ -0,0 +1,118 @@
+package org.homechef.core.adapter.out.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReadYourWritesAdapter")
+class ReadYourWritesAdapterTest {
+
+    private static final UUID REQUEST_ID = UUID.randomUUID();
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ReadYourWritesAdapter adapter(boolean replicasEnabled) {
+        return new ReadYourWritesAdapter(transactionManager, replicasEnabled, Duration.ofSeconds(10), 100);
+    }
+
+    @Nested
+    @DisplayName("without replicas")
+    class WithoutReplicas {
+
+        @Test
+        @DisplayName("never reports a recent write")
+        void noRecentWrites() {
+            // Given
+            ReadYourWritesAdapter adapter = adapter(false);
+
+            // When
+            adapter.recordWrite(REQUEST_ID);
+
+            // Then
+            assertFalse(adapter.isRecentWrite(REQUEST_ID));
+        }
+
+        @Test
+        @DisplayName("runs primary reads in the caller's transaction")
+        void passesReadsThrough() {
+            // When
+            String result = adapter(false).readFromPrimary(() -> "read");
+
+            // Then
+            assertEquals("read", result);
+            verifyNoInteractions(transactionManager);
+        }
+    }
+
+    @Nested
+    @DisplayName("with replicas")
+    class WithReplicas {
+
+        @Test
+        @DisplayName("reports recorded writes as recent")
+        void remembersWrites() {
+            // Given
+            ReadYourWritesAdapter adapter = adapter(true);
+
+            // When
+            adapter.recordWrite(REQUEST_ID);
+
+            // Then
+            assertTrue(adapter.isRecentWrite(REQUEST_ID));
+            assertFalse(adapter.isRecentWrite(UUID.randomUUID()));
+        }
+
+        @Test
+        @DisplayName("reads from the primary in a new read-only transaction")
+        void readsFromPrimary() throws SQLException {
+            // Given
+            DataSource primary = mock(DataSource.class);
+            Connection primaryConnection = mock(Connection.class);
+            when(primary.getConnection()).thenReturn(primaryConnection);
+            HikariDataSource replica = mock(HikariDataSource.class);
+            when(replica.getPoolName()).thenReturn("replica-0");
+            ReplicaRoutingDataSource router = new ReplicaRoutingDataSource(primary, List.of(replica),
+                    Duration.ofSeconds(5), new SimpleMeterRegistry());
+            when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+            // When
+            Connection connection = adapter(true).readFromPrimary(() -> {
+                try {
+                    return router.getConnection();
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            // Then
+            assertSame(primaryConnection, connection);
+            verify(replica, never()).getConnection();
+            ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+            verify(transactionManager).getTransaction(definition.capture());
+            assertEquals(TransactionDefinition.PROPAGATION_REQUIRES_NEW, definition.getValue().getPropagationBehavior());
+            assertTrue(definition.getValue().isReadOnly());
+            verify(transactionManager).commit(any());
+        }
+    }
+}
@@ -277,4 +277,30 @@ class RecipeRepositoryAdapterIntegrationTest extends IntegrationTestBase {
             assertTrue(found.get().getIngredients().isEmpty());
         }
     }
+
+    @Nested
+    @DisplayName("estimateCount()")
+    class EstimateCount {
+
+        @Test
+        @DisplayName("reports the analyzed row counts of recipes and resources")
+        void reportsAnalyzedRowCounts() {
+            // Given
+            for (int i = 0; i < 3; i++) {
+                Resource resource = createResource(SAMPLE_URL + "-count-" + i);
+                if (i < 2) {
+                    recipeRepository.save(Recipe.create(resource.getUrlHash(), "Recipe " + i, List.of()));
+                }
+            }
+            jdbcTemplate.execute("ANALYZE recipe, resource");
+
+            // When
+            long recipes = recipeRepository.estimateCount();
+            long resources = resourceRepository.estimateCount();
+
+            // Then
+            assertEquals(2, recipes);
+            assertEquals(3, resources);
+        }
+    }
 }
@@ -0,0 +1,93 @@
+package org.homechef.core.adapter.out.persistence;
+
+import org.homechef.core.IntegrationTestBase;
+import org.homechef.core.application.port.out.RecipeRepository;
+import org.homechef.core.application.port.out.RecipeSearchRepository;
+import org.homechef.core.application.port.out.ResourceRepository;
+import org.homechef.core.domain.recipe.Ingredient;
+import org.homechef.core.domain.recipe.Recipe;
+import org.homechef.core.domain.recipe.Resource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RecipeSearchRepositoryAdapter Integration")
+class RecipeSearchRepositoryAdapterIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private RecipeSearchRepository recipeSearchRepository;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private ResourceRepository resourceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DELETE FROM parse_request");
+        jdbcTemplate.execute("DELETE FROM recipe");
+        jdbcTemplate.execute("DELETE FROM resource");
+
+        save("https://example.com/lasagna", "World's Best Lasagna", now.minusSeconds(30),
+                Ingredient.of(new BigDecimal("500"), "g", "Ricotta"), Ingredient.of("basil"));
+        save("https://example.com/pesto", "Basil Pesto Pasta", now.minusSeconds(20),
+                Ingredient.of("basil"), Ingredient.of("garlic"));
+        save("https://example.com/soup", "Roasted Tomato Soups", now.minusSeconds(10),
+                Ingredient.of("tomatoes"), Ingredient.of("garlic"));
+    }
+
+    private void save(String url, String title, Instant parsedAt, Ingredient... ingredients) {
+        Resource resource = resourceRepository.save(Resource.create(url));
+        recipeRepository.save(Recipe.reconstitute(resource.getUrlHash().value(), title, List.of(ingredients), parsedAt));
+    }
+
+    private List<String> titles(RecipeSearchRepository.Criteria criteria) {
+        return recipeSearchRepository.search(criteria).stream().map(Recipe::getTitle).toList();
+    }
+
+    @Test
+    @DisplayName("matches title words with English stemming")
+    void matchesTitleText() {
+        assertEquals(List.of("Roasted Tomato Soups"),
+                titles(new RecipeSearchRepository.Criteria("tomato soup", List.of(), null, null, 10)));
+    }
+
+    @Test
+    @DisplayName("requires every ingredient, ignoring case")
+    void matchesAllIngredients() {
+        assertEquals(List.of("World's Best Lasagna"),
+                titles(new RecipeSearchRepository.Criteria(null, List.of("ricotta", "basil"), null, null, 10)));
+    }
+
+    @Test
+    @DisplayName("pages newest first using the keyset")
+    void pagesWithKeyset() {
+        // Given
+        List<Recipe> firstPage = recipeSearchRepository.search(
+                new RecipeSearchRepository.Criteria(null, List.of("garlic"), null, null, 1));
+        Recipe last = firstPage.get(0);
+
+        // When
+        List<Recipe> secondPage = recipeSearchRepository.search(new RecipeSearchRepository.Criteria(
+                null, List.of("garlic"), last.getParsedAt(), last.getUrlHash().value(), 1));
+
+        // Then
+        assertEquals("Roasted Tomato Soups", last.getTitle());
+        assertEquals("Basil Pesto Pasta", secondPage.get(0).getTitle());
+    }
+}
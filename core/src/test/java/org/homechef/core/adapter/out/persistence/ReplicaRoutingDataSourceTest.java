@@ -0,0 +1,220 @@
+package org.homechef.core.adapter.out.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplicaRoutingDataSource")
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+    @Mock
+    private HikariDataSource replicaA;
+    @Mock
+    private HikariDataSource replicaB;
+    @Mock
+    private Connection primaryConnection;
+    @Mock
+    private Connection connectionA;
+    @Mock
+    private Connection connectionB;
+
+    private ReplicaRoutingDataSource router;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(replicaA.getPoolName()).thenReturn("replica-0");
+        lenient().when(replicaB.getPoolName()).thenReturn("replica-1");
+        lenient().when(primary.getConnection()).thenReturn(primaryConnection);
+        lenient().when(replicaA.getConnection()).thenReturn(connectionA);
+        lenient().when(replicaB.getConnection()).thenReturn(connectionB);
+        router = new ReplicaRoutingDataSource(primary, List.of(replicaA, replicaB), Duration.ofSeconds(5),
+                new SimpleMeterRegistry());
+    }
+
+    /**
+     * Makes the replica's health check read the given recovery flag and lag, null for SQL NULL.
+     */
+    private static void healthCheckReturns(Connection connection, boolean inRecovery, Double lagSeconds)
+            throws SQLException {
+        Statement statement = mock(Statement.class);
+        ResultSet rs = mock(ResultSet.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(ReplicaRoutingDataSource.LAG_QUERY)).thenReturn(rs);
+        when(rs.next()).thenReturn(true);
+        when(rs.getBoolean(1)).thenReturn(inRecovery);
+        lenient().when(rs.getDouble(2)).thenReturn(lagSeconds != null ? lagSeconds : 0d);
+        lenient().when(rs.wasNull()).thenReturn(lagSeconds == null);
+    }
+
+    @Nested
+    @DisplayName("getConnection")
+    class GetConnection {
+
+        @Test
+        @DisplayName("round-robins over healthy replicas")
+        void roundRobins() throws SQLException {
+            // When
+            Connection first = router.getConnection();
+            Connection second = router.getConnection();
+            Connection third = router.getConnection();
+
+            // Then
+            assertSame(connectionA, first);
+            assertSame(connectionB, second);
+            assertSame(connectionA, third);
+            verify(primary, never()).getConnection();
+        }
+
+        @Test
+        @DisplayName("fails over to the next replica and ejects the one that failed")
+        void failsOverToNextReplica() throws SQLException {
+            // Given
+            when(replicaA.getConnection()).thenThrow(new SQLException("connection refused"));
+
+            // When
+            Connection first = router.getConnection();
+            Connection second = router.getConnection();
+
+            // Then
+            assertSame(connectionB, first);
+            assertSame(connectionB, second);
+            verify(replicaA, times(1)).getConnection();
+        }
+
+        @Test
+        @DisplayName("falls back to the primary when no replica is healthy")
+        void fallsBackToPrimary() throws SQLException {
+            // Given
+            when(replicaA.getConnection()).thenThrow(new SQLException("connection refused"));
+            when(replicaB.getConnection()).thenThrow(new SQLException("connection refused"));
+
+            // When
+            Connection connection = router.getConnection();
+
+            // Then
+            assertSame(primaryConnection, connection);
+        }
+
+        @Test
+        @DisplayName("uses the primary inside onPrimary")
+        void onPrimary() throws SQLException {
+            // When
+            Connection connection = ReplicaRoutingDataSource.onPrimary(() -> {
+                try {
+                    return router.getConnection();
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            // Then
+            assertSame(primaryConnection, connection);
+            assertSame(connectionA, router.getConnection());
+        }
+
+        @Test
+        @DisplayName("does not support per-call credentials")
+        void rejectsCredentials() {
+            assertThrows(SQLFeatureNotSupportedException.class, () -> router.getConnection("user", "secret"));
+        }
+    }
+
+    @Nested
+    @DisplayName("checkHealth")
+    class CheckHealth {
+
+        @Test
+        @DisplayName("keeps a caught-up replica in rotation however old its last replayed transaction is")
+        void caughtUpIsHealthy() throws SQLException {
+            // Given
+            healthCheckReturns(connectionA, true, 0d);
+            healthCheckReturns(connectionB, true, null);
+
+            // When
+            router.checkHealth();
+
+            // Then
+            assertSame(connectionA, router.getConnection());
+            assertSame(connectionB, router.getConnection());
+        }
+
+        @Test
+        @DisplayName("ejects a replica lagging more than max lag")
+        void ejectsLaggingReplica() throws SQLException {
+            // Given
+            healthCheckReturns(connectionA, true, 7.5);
+            healthCheckReturns(connectionB, true, 0d);
+
+            // When
+            router.checkHealth();
+
+            // Then
+            assertSame(connectionB, router.getConnection());
+            assertSame(connectionB, router.getConnection());
+        }
+
+        @Test
+        @DisplayName("ejects a replica that is not in recovery")
+        void ejectsPromotedReplica() throws SQLException {
+            // Given
+            healthCheckReturns(connectionA, false, null);
+            healthCheckReturns(connectionB, true, 0d);
+
+            // When
+            router.checkHealth();
+
+            // Then
+            assertSame(connectionB, router.getConnection());
+            assertSame(connectionB, router.getConnection());
+        }
+
+        @Test
+        @DisplayName("brings an ejected replica back once it has caught up")
+        void readmitsRecoveredReplica() throws SQLException {
+            // Given
+            healthCheckReturns(connectionA, true, 30d);
+            healthCheckReturns(connectionB, true, 0d);
+            router.checkHealth();
+            healthCheckReturns(connectionA, true, 0d);
+
+            // When
+            router.checkHealth();
+
+            // Then
+            assertSame(connectionA, router.getConnection());
+            assertSame(connectionB, router.getConnection());
+        }
+    }
+
+    @Test
+    @DisplayName("closes the replica pools on close")
+    void closesReplicaPools() {
+        // When
+        router.close();
+
+        // Then
+        verify(replicaA).close();
+        verify(replicaB).close();
+    }
+}
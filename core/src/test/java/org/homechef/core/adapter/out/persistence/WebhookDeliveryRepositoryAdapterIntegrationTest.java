@@ -0,0 +1,117 @@
+package org.homechef.core.adapter.out.persistence;
+
+import org.homechef.core.IntegrationTestBase;
+import org.homechef.core.application.port.in.dto.ParseStatusResult;
+import org.homechef.core.application.port.out.ParseRequestRepository;
+import org.homechef.core.application.port.out.ParseStatusProjection;
+import org.homechef.core.application.port.out.ResourceRepository;
+import org.homechef.core.application.port.out.WebhookDeliveryRepository;
+import org.homechef.core.application.port.out.WebhookDeliveryRepository.DueDelivery;
+import org.homechef.core.domain.recipe.ParseRequest;
+import org.homechef.core.domain.recipe.ParseStatus;
+import org.homechef.core.domain.recipe.Resource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("WebhookDeliveryRepositoryAdapter Integration")
+class WebhookDeliveryRepositoryAdapterIntegrationTest extends IntegrationTestBase {
+
+    private static final String CALLBACK = "https://partner.example.com/hooks";
+
+    @Autowired
+    private WebhookDeliveryRepository webhookDeliveryRepository;
+
+    @Autowired
+    private ParseRequestRepository parseRequestRepository;
+
+    @Autowired
+    private ParseStatusProjection parseStatusProjection;
+
+    @Autowired
+    private ResourceRepository resourceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ParseRequest request;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DELETE FROM webhook_delivery");
+        jdbcTemplate.execute("DELETE FROM parse_status_view");
+        jdbcTemplate.execute("DELETE FROM parse_request");
+        jdbcTemplate.execute("DELETE FROM recipe");
+        jdbcTemplate.execute("DELETE FROM resource");
+
+        Resource resource = resourceRepository.save(Resource.create("https://example.com/pasta"));
+        request = parseRequestRepository.save(ParseRequest.create(resource.getUrlHash(), null));
+    }
+
+    private String status() {
+        return jdbcTemplate.queryForObject("SELECT status FROM webhook_delivery WHERE request_id = ?",
+                String.class, request.getId());
+    }
+
+    @Test
+    @DisplayName("holds a callback until the result is ready, then claims it once with the status body")
+    void awaitsResultThenClaims() {
+        // Given
+        webhookDeliveryRepository.register(request.getId(), CALLBACK);
+        webhookDeliveryRepository.register(request.getId(), CALLBACK);
+        assertTrue(webhookDeliveryRepository.claimDue(10, Duration.ofMinutes(5)).isEmpty());
+
+        // When
+        parseRequestRepository.updateStatus(request.getId(), ParseStatus.FAILED.name(), "boom");
+        parseStatusProjection.save(ParseStatusResult.failed(request.getId(), "boom"));
+        webhookDeliveryRepository.markResultReady(List.of(request.getId()));
+
+        // Then
+        List<DueDelivery> claimed = webhookDeliveryRepository.claimDue(10, Duration.ofMinutes(5));
+        assertEquals(1, claimed.size());
+        assertEquals(CALLBACK, claimed.get(0).callbackUrl());
+        assertArrayEquals(parseStatusProjection.findById(request.getId()).orElseThrow().body(), claimed.get(0).payload());
+        assertTrue(webhookDeliveryRepository.claimDue(10, Duration.ofMinutes(5)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("makes a callback registered on a finished request due right away")
+    void registersOnFinishedRequest() {
+        // Given
+        parseRequestRepository.updateStatus(request.getId(), ParseStatus.COMPLETED.name(), null);
+
+        // When
+        webhookDeliveryRepository.register(request.getId(), CALLBACK);
+
+        // Then
+        assertEquals("PENDING", status());
+        assertEquals(1, webhookDeliveryRepository.claimDue(10, Duration.ofMinutes(5)).size());
+    }
+
+    @Test
+    @DisplayName("records retries and final outcomes")
+    void recordsOutcomes() {
+        // Given
+        parseRequestRepository.updateStatus(request.getId(), ParseStatus.COMPLETED.name(), null);
+        webhookDeliveryRepository.register(request.getId(), CALLBACK);
+        DueDelivery delivery = webhookDeliveryRepository.claimDue(10, Duration.ofMinutes(5)).get(0);
+
+        // When - retry is due immediately
+        webhookDeliveryRepository.markRetry(delivery.id(), 1, Instant.now().minusSeconds(1), "HTTP 503");
+
+        // Then
+        DueDelivery retried = webhookDeliveryRepository.claimDue(10, Duration.ofMinutes(5)).get(0);
+        assertEquals(1, retried.attempts());
+        webhookDeliveryRepository.markDelivered(retried.id());
+        assertEquals("DELIVERED", status());
+        assertTrue(webhookDeliveryRepository.claimDue(10, Duration.ofMinutes(5)).isEmpty());
+    }
+}
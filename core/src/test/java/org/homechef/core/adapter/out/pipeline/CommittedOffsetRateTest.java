@@ -0,0 +1,75 @@
+package org.homechef.core.adapter.out.pipeline;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CommittedOffsetRate")
+class CommittedOffsetRateTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-01T12:00:00Z");
+
+    private CommittedOffsetRate rate;
+
+    @BeforeEach
+    void setUp() {
+        rate = new CommittedOffsetRate(Duration.ofSeconds(60));
+    }
+
+    @Test
+    @DisplayName("is unknown until two samples are apart in time")
+    void unknownUntilTwoSamples() {
+        assertEquals(-1, rate.perSecond());
+
+        rate.add(T0, Map.of(0, 100L));
+
+        assertEquals(-1, rate.perSecond());
+    }
+
+    @Test
+    @DisplayName("sums the progress of all partitions")
+    void sumsPartitions() {
+        // Given
+        rate.add(T0, Map.of(0, 100L, 1, 200L));
+
+        // When - 30 + 20 offsets in 10s
+        rate.add(T0.plusSeconds(10), Map.of(0, 130L, 1, 220L));
+
+        // Then
+        assertEquals(5.0, rate.perSecond(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("ignores a partition's first commit and offsets moving backwards")
+    void ignoresNewAndResetPartitions() {
+        // Given
+        rate.add(T0, Map.of(0, 100L));
+
+        // When - partition 1 commits for the first time, partition 0 was reset
+        rate.add(T0.plusSeconds(10), Map.of(0, 50L, 1, 10_000L));
+        rate.add(T0.plusSeconds(20), Map.of(0, 70L, 1, 10_020L));
+
+        // Then - only the last 40 offsets count, over 20s
+        assertEquals(2.0, rate.perSecond(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("forgets progress older than the window")
+    void slidesWindow() {
+        // Given - a burst, then a steady 1/s
+        rate.add(T0, Map.of(0, 0L));
+        rate.add(T0.plusSeconds(10), Map.of(0, 1_000L));
+        for (int s = 20; s <= 100; s += 10) {
+            rate.add(T0.plusSeconds(s), Map.of(0, 1_000L + (s - 10)));
+        }
+
+        // When / Then - the window from 40s to 100s only holds the steady part
+        assertEquals(1.0, rate.perSecond(), 1e-9);
+    }
+}
@@ -0,0 +1,179 @@
+package org.homechef.core.adapter.out.pipeline;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.homechef.core.application.port.in.dto.CompletionEstimate;
+import org.homechef.core.domain.recipe.ParseLane;
+import org.homechef.core.domain.recipe.ParseStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SlidingWindowCompletionEstimator")
+class SlidingWindowCompletionEstimatorTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+    @Mock
+    private ParsePipelineSampler sampler;
+
+    private SlidingWindowCompletionEstimator estimator;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(sampler.current()).thenReturn(snapshot(0, -1, NOW));
+        estimator = newEstimator();
+    }
+
+    private SlidingWindowCompletionEstimator newEstimator() {
+        return new SlidingWindowCompletionEstimator(sampler, new SimpleMeterRegistry(),
+                100, Duration.ofMinutes(10), 3, 0.5,
+                Duration.ofSeconds(1), Duration.ofSeconds(30), Duration.ofSeconds(2));
+    }
+
+    private static PipelineSnapshot snapshot(long pending, double resultsPerSecond, Instant sampledAt) {
+        return new PipelineSnapshot(pending, 0, Map.of(), Duration.ZERO, resultsPerSecond, sampledAt);
+    }
+
+    private void record(ParseLane lane, int count, long queueSeconds, long parseSeconds, Instant at) {
+        record(estimator, lane, count, queueSeconds, parseSeconds, at);
+    }
+
+    private static void record(SlidingWindowCompletionEstimator estimator, ParseLane lane, int count,
+                               long queueSeconds, long parseSeconds, Instant at) {
+        for (int i = 0; i < count; i++) {
+            estimator.recordCompletion(lane, Duration.ofSeconds(queueSeconds), Duration.ofSeconds(parseSeconds), at);
+        }
+    }
+
+    @Test
+    @DisplayName("has no estimate and suggests the cold retry until enough parses completed")
+    void coldStart() {
+        // Given
+        record(ParseLane.STANDARD, 2, 5, 10, NOW);
+
+        // When
+        CompletionEstimate estimate = estimator.estimate(ParseStatus.PENDING, ParseLane.STANDARD, NOW);
+
+        // Then
+        assertNull(estimate.estimatedCompletionAt());
+        assertEquals(Duration.ofSeconds(2), estimate.retryAfter());
+    }
+
+    @Test
+    @DisplayName("expects pending requests to queue and then parse, processing ones only to parse")
+    void pendingAndProcessing() {
+        // Given
+        record(ParseLane.STANDARD, 5, 4, 6, NOW.minusSeconds(60));
+
+        // When
+        CompletionEstimate pending = estimator.estimate(ParseStatus.PENDING, ParseLane.STANDARD, NOW);
+        CompletionEstimate processing = estimator.estimate(ParseStatus.PROCESSING, null, NOW);
+
+        // Then
+        assertEquals(NOW.plusSeconds(10), pending.estimatedCompletionAt());
+        assertEquals(Duration.ofSeconds(10), pending.retryAfter());
+        assertEquals(NOW.plusSeconds(6), processing.estimatedCompletionAt());
+    }
+
+    @Test
+    @DisplayName("waits longer when the backlog drains slower than recent queue times suggest")
+    void backlogDrain() {
+        // Given - all instances together complete 0.1/s, so 20 pending take 200s
+        record(ParseLane.STANDARD, 10, 5, 10, NOW.minusSeconds(100));
+        when(sampler.current()).thenReturn(snapshot(20, 0.1, NOW));
+
+        // When
+        CompletionEstimate standard = estimator.estimate(ParseStatus.PENDING, ParseLane.STANDARD, NOW);
+        CompletionEstimate priority = estimator.estimate(ParseStatus.PENDING, ParseLane.PRIORITY, NOW);
+
+        // Then
+        assertEquals(NOW.plusSeconds(210), standard.estimatedCompletionAt());
+        assertEquals(Duration.ofSeconds(30), standard.retryAfter());
+        assertEquals(NOW.plusSeconds(15), priority.estimatedCompletionAt());
+    }
+
+    @Test
+    @DisplayName("drains the backlog at the group-wide rate, however results are spread over instances")
+    void backlogDrainAcrossInstances() {
+        // Given - three instances each consume a third of 30 results over the last 100s (0.3/s together)
+        List<SlidingWindowCompletionEstimator> instances = List.of(estimator, newEstimator(), newEstimator());
+        for (SlidingWindowCompletionEstimator instance : instances) {
+            record(instance, ParseLane.STANDARD, 10, 5, 10, NOW.minusSeconds(100));
+        }
+        when(sampler.current()).thenReturn(snapshot(60, 0.3, NOW));
+
+        // When
+        List<Instant> estimates = instances.stream()
+                .map(instance -> instance.estimate(ParseStatus.PENDING, ParseLane.STANDARD, NOW).estimatedCompletionAt())
+                .toList();
+
+        // Then - 60 pending at 0.3/s is 200s of queue, plus 10s of parse, on every instance
+        assertEquals(List.of(NOW.plusSeconds(210), NOW.plusSeconds(210), NOW.plusSeconds(210)), estimates);
+    }
+
+    @Test
+    @DisplayName("falls back to recent queue times while the group-wide rate is unknown")
+    void backlogDrainWithoutRate() {
+        // Given
+        record(ParseLane.STANDARD, 10, 5, 10, NOW.minusSeconds(100));
+        when(sampler.current()).thenReturn(snapshot(20, -1, NOW));
+
+        // When
+        CompletionEstimate estimate = estimator.estimate(ParseStatus.PENDING, ParseLane.STANDARD, NOW);
+
+        // Then
+        assertEquals(NOW.plusSeconds(15), estimate.estimatedCompletionAt());
+    }
+
+    @Test
+    @DisplayName("prefers the lane's own history once it has enough samples")
+    void perLane() {
+        // Given
+        record(ParseLane.STANDARD, 5, 60, 10, NOW);
+        record(ParseLane.PRIORITY, 5, 2, 10, NOW);
+
+        // When
+        CompletionEstimate priority = estimator.estimate(ParseStatus.PENDING, ParseLane.PRIORITY, NOW);
+
+        // Then
+        assertEquals(NOW.plusSeconds(12), priority.estimatedCompletionAt());
+    }
+
+    @Test
+    @DisplayName("forgets parses that left the window")
+    void expiresOldSamples() {
+        // Given
+        record(ParseLane.STANDARD, 5, 4, 6, NOW.minus(Duration.ofMinutes(11)));
+
+        // When
+        CompletionEstimate estimate = estimator.estimate(ParseStatus.PENDING, ParseLane.STANDARD, NOW);
+
+        // Then
+        assertNull(estimate.estimatedCompletionAt());
+    }
+
+    @Test
+    @DisplayName("never asks pollers to come back sooner than the minimum")
+    void clampsRetryAfter() {
+        // Given
+        record(ParseLane.STANDARD, 5, 0, 0, NOW);
+
+        // When
+        CompletionEstimate estimate = estimator.estimate(ParseStatus.PROCESSING, ParseLane.STANDARD, NOW);
+
+        // Then
+        assertEquals(Duration.ofSeconds(1), estimate.retryAfter());
+    }
+}
@@ -0,0 +1,72 @@
+package org.homechef.core.adapter.out.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LocalTokenBucket")
+class LocalTokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    @DisplayName("allows a burst up to capacity, then rejects")
+    void allowsBurstUpToCapacity() {
+        LocalTokenBucket bucket = new LocalTokenBucket(3, 1, 0);
+
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(0, bucket.tryConsume(0));
+        assertTrue(bucket.tryConsume(0) > 0);
+    }
+
+    @Test
+    @DisplayName("reports wait time until the next token")
+    void reportsWaitTime() {
+        LocalTokenBucket bucket = new LocalTokenBucket(1, 2, 0);
+        bucket.tryConsume(0);
+
+        long waitNanos = bucket.tryConsume(0);
+
+        assertEquals(SECOND / 2, waitNanos, SECOND / 100);
+    }
+
+    @Test
+    @DisplayName("refills over time without exceeding capacity")
+    void refillsOverTime() {
+        LocalTokenBucket bucket = new LocalTokenBucket(2, 1, 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        // 10 seconds later only capacity (2) tokens are available
+        assertEquals(0, bucket.tryConsume(10 * SECOND));
+        assertEquals(0, bucket.tryConsume(10 * SECOND));
+        assertTrue(bucket.tryConsume(10 * SECOND) > 0);
+    }
+
+    @Test
+    @DisplayName("never hands out more tokens than capacity under contention")
+    void neverOverGrantsUnderContention() throws InterruptedException {
+        LocalTokenBucket bucket = new LocalTokenBucket(100, 0.000001, 0);
+        AtomicInteger granted = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+
+        for (int i = 0; i < 1000; i++) {
+            pool.submit(() -> {
+                if (bucket.tryConsume(0) == 0) {
+                    granted.incrementAndGet();
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(100, granted.get());
+    }
+}
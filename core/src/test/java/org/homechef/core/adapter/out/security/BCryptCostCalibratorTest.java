@@ -0,0 +1,42 @@
+package org.homechef.core.adapter.out.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BCryptCostCalibrator")
+class BCryptCostCalibratorTest {
+
+    private static final Duration TARGET = Duration.ofMillis(250);
+
+    @Test
+    @DisplayName("picks the highest cost whose estimate fits the target")
+    void picksHighestFittingCost() {
+        // 50ms at cost 10 -> 100ms at 11, 200ms at 12, 400ms at 13
+        assertEquals(12, BCryptCostCalibrator.chooseStrength(Duration.ofMillis(50), 10, TARGET));
+    }
+
+    @Test
+    @DisplayName("never goes below the minimum cost on slow hardware")
+    void neverBelowMinimum() {
+        assertEquals(BCryptCostCalibrator.MIN_STRENGTH,
+                BCryptCostCalibrator.chooseStrength(Duration.ofSeconds(1), 10, TARGET));
+    }
+
+    @Test
+    @DisplayName("is capped at the maximum cost on fast hardware")
+    void cappedAtMaximum() {
+        assertEquals(BCryptCostCalibrator.MAX_STRENGTH,
+                BCryptCostCalibrator.chooseStrength(Duration.ofMillis(1), 10, TARGET));
+    }
+
+    @Test
+    @DisplayName("scales down from a measurement taken at a higher cost")
+    void scalesFromHigherMeasuredCost() {
+        // 400ms at cost 12 -> 200ms at 11
+        assertEquals(11, BCryptCostCalibrator.chooseStrength(Duration.ofMillis(400), 12, TARGET));
+    }
+}
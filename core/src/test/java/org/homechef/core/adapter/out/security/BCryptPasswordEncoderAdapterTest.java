@@ -0,0 +1,145 @@
+package org.homechef.core.adapter.out.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.homechef.core.application.exception.PasswordHashingBusyException;
+import org.homechef.core.domain.user.HashedPassword;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BCryptPasswordEncoderAdapter")
+class BCryptPasswordEncoderAdapterTest {
+
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(3);
+    private static final Duration SHORT_WAIT = Duration.ofMillis(50);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private SimpleMeterRegistry meterRegistry;
+    private BCryptPasswordEncoderAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (adapter != null) {
+            adapter.shutdown();
+        }
+    }
+
+    /**
+     * One hashing thread and one queue slot.
+     */
+    private BCryptPasswordEncoderAdapter adapter(Duration maxWait) {
+        adapter = new BCryptPasswordEncoderAdapter(meterRegistry, 4, false, Duration.ofMillis(250),
+                1, 1, maxWait, RETRY_AFTER);
+        return adapter;
+    }
+
+    /**
+     * Submits work that holds its slot until {@link #release} opens, and waits for the caller to give up.
+     */
+    private void abandonBlockedHash() {
+        assertThrows(PasswordHashingBusyException.class, () -> adapter.runBounded(() -> {
+            release.await(10, TimeUnit.SECONDS);
+            return null;
+        }));
+    }
+
+    private double rejected() {
+        return meterRegistry.get("auth.password_hashing").tag("outcome", "rejected").counter().count();
+    }
+
+    @Test
+    @DisplayName("hashes and verifies passwords while capacity is free")
+    void hashesWithinCapacity() {
+        // Given
+        adapter(Duration.ofSeconds(10));
+
+        // When
+        HashedPassword hashed = adapter.encode("correct horse");
+
+        // Then
+        assertTrue(adapter.matches("correct horse", hashed));
+        assertFalse(adapter.matches("wrong horse", hashed));
+        assertEquals(0, rejected());
+    }
+
+    @Nested
+    @DisplayName("when the pool is full")
+    class PoolFull {
+
+        @BeforeEach
+        void setUp() {
+            adapter(SHORT_WAIT);
+        }
+
+        @Test
+        @DisplayName("tells a caller that waited past max-wait to retry later")
+        void timesOut() {
+            // When
+            PasswordHashingBusyException e = assertThrows(PasswordHashingBusyException.class,
+                    () -> adapter.runBounded(() -> {
+                        release.await(10, TimeUnit.SECONDS);
+                        return null;
+                    }));
+
+            // Then
+            assertEquals(RETRY_AFTER, e.getRetryAfter());
+            assertEquals(1, rejected());
+        }
+
+        @Test
+        @DisplayName("rejects new work at once while abandoned hashes still hold the pool and queue")
+        void rejectsWhileAbandonedWorkRuns() {
+            // Given - both callers gave up, but their hashes still occupy the thread and the queue slot
+            abandonBlockedHash();
+            abandonBlockedHash();
+
+            // When
+            long started = System.nanoTime();
+            PasswordHashingBusyException e = assertThrows(PasswordHashingBusyException.class,
+                    () -> adapter.encode("correct horse"));
+            Duration waited = Duration.ofNanos(System.nanoTime() - started);
+
+            // Then - rejected without queueing behind the abandoned work or waiting out max-wait
+            assertEquals(RETRY_AFTER, e.getRetryAfter());
+            assertTrue(waited.compareTo(SHORT_WAIT) < 0, "waited " + waited);
+            assertEquals(3, rejected());
+        }
+
+        @Test
+        @DisplayName("accepts work again once the abandoned hashes finish")
+        void recoversAfterAbandonedWorkFinishes() {
+            // Given
+            abandonBlockedHash();
+            abandonBlockedHash();
+
+            // When
+            release.countDown();
+
+            // Then
+            HashedPassword hashed = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                while (true) {
+                    try {
+                        return adapter.encode("correct horse");
+                    } catch (PasswordHashingBusyException e) {
+                        Thread.sleep(10);
+                    }
+                }
+            });
+            assertTrue(adapter.matches("correct horse", hashed));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.homechef.core.adapter.out.security;
+
+import org.homechef.core.domain.user.User;
+import org.homechef.core.domain.user.UserId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JwtTokenProvider")
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-unit-tests-min-32-chars";
+    private static final User USER = User.reconstitute(
+            UUID.randomUUID(), "cook@example.com", "$2a$10$hash", Instant.parse("2026-01-01T00:00:00Z"));
+
+    @Nested
+    @DisplayName("with validation cache")
+    class WithCache {
+
+        private final JwtTokenProvider provider = new JwtTokenProvider(SECRET, 3600, 100);
+
+        @Test
+        @DisplayName("returns the subject for a valid token, including repeated lookups")
+        void validTokenIsAcceptedRepeatedly() {
+            // Given
+            String token = provider.generateToken(USER);
+
+            // When
+            Optional<UserId> first = provider.validateToken(token);
+            Optional<UserId> second = provider.validateToken(token);
+
+            // Then
+            assertEquals(Optional.of(USER.getId()), first);
+            assertEquals(first, second);
+        }
+
+        @Test
+        @DisplayName("rejects a token with a tampered signature")
+        void tamperedTokenIsRejected() {
+            // Given
+            String token = provider.generateToken(USER);
+            provider.validateToken(token);
+            String tampered = token.substring(0, token.length() - 2)
+                    + (token.endsWith("AA") ? "BB" : "AA");
+
+            // When / Then
+            assertTrue(provider.validateToken(tampered).isEmpty());
+        }
+
+        @Test
+        @DisplayName("rejects a token signed with another key")
+        void foreignTokenIsRejected() {
+            // Given
+            JwtTokenProvider other = new JwtTokenProvider(SECRET + "-other", 3600, 100);
+            String token = other.generateToken(USER);
+
+            // When / Then
+            assertTrue(provider.validateToken(token).isEmpty());
+        }
+
+        @Test
+        @DisplayName("rejects an expired token")
+        void expiredTokenIsRejected() {
+            // Given
+            JwtTokenProvider expiring = new JwtTokenProvider(SECRET, -60, 100);
+            String token = expiring.generateToken(USER);
+
+            // When / Then
+            assertTrue(expiring.validateToken(token).isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("validates tokens when the cache is disabled")
+    void validatesWithoutCache() {
+        // Given
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, 3600, 0);
+        String token = provider.generateToken(USER);
+
+        // When / Then
+        assertEquals(Optional.of(USER.getId()), provider.validateToken(token));
+        assertTrue(provider.validateToken("not-a-jwt").isEmpty());
+    }
+}
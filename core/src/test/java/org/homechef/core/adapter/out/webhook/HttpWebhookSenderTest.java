@@ -0,0 +1,174 @@
+package org.homechef.core.adapter.out.webhook;
+
+import com.sun.net.httpserver.HttpServer;
+import org.homechef.core.application.exception.WebhookDeliveryException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HttpWebhookSender")
+class HttpWebhookSenderTest {
+
+    private static final String SECRET = "test-webhook-secret";
+    private static final byte[] PAYLOAD = "{\"status\":\"COMPLETED\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final AtomicInteger responseStatus = new AtomicInteger(204);
+    private final AtomicReference<Received> received = new AtomicReference<>();
+    private HttpServer stub;
+    private String callbackUrl;
+    private HttpWebhookSender sender;
+
+    private record Received(String signature, String timestamp, String deliveryId, byte[] body) {
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.createContext("/hooks", exchange -> {
+            received.set(new Received(
+                    exchange.getRequestHeaders().getFirst(HttpWebhookSender.SIGNATURE_HEADER),
+                    exchange.getRequestHeaders().getFirst(HttpWebhookSender.TIMESTAMP_HEADER),
+                    exchange.getRequestHeaders().getFirst(HttpWebhookSender.DELIVERY_HEADER),
+                    exchange.getRequestBody().readAllBytes()));
+            exchange.sendResponseHeaders(responseStatus.get(), -1);
+            exchange.close();
+        });
+        stub.start();
+        callbackUrl = "http://127.0.0.1:" + stub.getAddress().getPort() + "/hooks";
+        // The stub listens on loopback
+        sender = new HttpWebhookSender(true, SECRET, Duration.ofSeconds(2), true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.stop(0);
+    }
+
+    @Test
+    @DisplayName("POSTs the payload signed with HMAC-SHA256 over timestamp and body")
+    void postsSignedPayload() throws Exception {
+        // Given
+        UUID deliveryId = UUID.randomUUID();
+        long before = Instant.now().getEpochSecond();
+
+        // When
+        sender.send(deliveryId, callbackUrl, PAYLOAD);
+
+        // Then
+        Received request = received.get();
+        assertArrayEquals(PAYLOAD, request.body());
+        assertTrue(Long.parseLong(request.timestamp()) >= before);
+        assertEquals(deliveryId.toString(), request.deliveryId());
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        byte[] expected = mac.doFinal((request.timestamp() + "." + new String(PAYLOAD, StandardCharsets.UTF_8))
+                .getBytes(StandardCharsets.UTF_8));
+        assertEquals("sha256=" + HexFormat.of().formatHex(expected), request.signature());
+    }
+
+    @Test
+    @DisplayName("treats server errors and throttling as retryable and other rejections as final")
+    void classifiesRejections() {
+        responseStatus.set(503);
+        assertTrue(assertThrows(WebhookDeliveryException.class,
+                () -> sender.send(UUID.randomUUID(), callbackUrl, PAYLOAD)).isRetryable());
+
+        responseStatus.set(429);
+        assertTrue(assertThrows(WebhookDeliveryException.class,
+                () -> sender.send(UUID.randomUUID(), callbackUrl, PAYLOAD)).isRetryable());
+
+        responseStatus.set(410);
+        assertFalse(assertThrows(WebhookDeliveryException.class,
+                () -> sender.send(UUID.randomUUID(), callbackUrl, PAYLOAD)).isRetryable());
+    }
+
+    @Test
+    @DisplayName("treats an unreachable host as retryable")
+    void unreachableIsRetryable() {
+        // Given
+        stub.stop(0);
+
+        // When / Then
+        assertTrue(assertThrows(WebhookDeliveryException.class,
+                () -> sender.send(UUID.randomUUID(), callbackUrl, PAYLOAD)).isRetryable());
+    }
+
+    @Test
+    @DisplayName("refuses to start enabled without a secret")
+    void requiresSecretWhenEnabled() {
+        assertThrows(IllegalStateException.class, () -> new HttpWebhookSender(true, " ", Duration.ofSeconds(1), false));
+    }
+
+    @Nested
+    @DisplayName("callback address check")
+    class AddressCheck {
+
+        @Test
+        @DisplayName("gives up on a host resolving to loopback without sending anything")
+        void refusesLoopback() {
+            // Given
+            HttpWebhookSender strict = new HttpWebhookSender(true, SECRET, Duration.ofSeconds(2), false);
+
+            // When
+            WebhookDeliveryException e = assertThrows(WebhookDeliveryException.class,
+                    () -> strict.send(UUID.randomUUID(), callbackUrl, PAYLOAD));
+
+            // Then
+            assertFalse(e.isRetryable());
+            assertNull(received.get());
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "https://localhost/hooks",
+                "https://127.0.0.1/hooks",
+                "https://10.1.2.3/hooks",
+                "https://172.16.0.1/hooks",
+                "https://192.168.1.1/hooks",
+                "https://169.254.169.254/latest/meta-data",
+                "https://100.64.0.1/hooks",
+                "https://0.0.0.0/hooks",
+                "https://[::1]/hooks",
+                "https://[fe80::1]/hooks",
+                "https://[fd00::1]/hooks",
+                "https://[::ffff:127.0.0.1]/hooks",
+                "https://[64:ff9b::a00:1]/hooks"
+        })
+        @DisplayName("refuses non-public addresses as final")
+        void refusesNonPublic(String url) {
+            // Given
+            HttpWebhookSender strict = new HttpWebhookSender(true, SECRET, Duration.ofSeconds(2), false);
+
+            // When / Then
+            assertFalse(assertThrows(WebhookDeliveryException.class,
+                    () -> strict.send(UUID.randomUUID(), url, PAYLOAD)).isRetryable());
+        }
+
+        @Test
+        @DisplayName("accepts public addresses")
+        void acceptsPublic() throws Exception {
+            assertTrue(HttpWebhookSender.isPublic(InetAddress.getByName("93.184.215.14")));
+            assertTrue(HttpWebhookSender.isPublic(InetAddress.getByName("2606:2800:21f:cb07:6820:80da:af6b:8b2c")));
+            assertTrue(HttpWebhookSender.isPublic(InetAddress.getByName("64:ff9b::5db8:d70e")));
+        }
+    }
+}
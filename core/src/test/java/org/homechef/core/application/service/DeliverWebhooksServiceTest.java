@@ -0,0 +1,135 @@
+package org.homechef.core.application.service;
+
+import org.homechef.core.application.exception.WebhookDeliveryException;
+import org.homechef.core.application.port.in.dto.WebhookDeliveryResult;
+import org.homechef.core.application.port.out.StageTimer;
+import org.homechef.core.application.port.out.WebhookDeliveryRepository;
+import org.homechef.core.application.port.out.WebhookDeliveryRepository.DueDelivery;
+import org.homechef.core.application.port.out.WebhookSender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeliverWebhooksService")
+class DeliverWebhooksServiceTest {
+
+    private static final byte[] PAYLOAD = "{\"status\":\"COMPLETED\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private WebhookDeliveryRepository webhookDeliveryRepository;
+
+    @Mock
+    private WebhookSender webhookSender;
+
+    private DeliverWebhooksService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new DeliverWebhooksService(webhookDeliveryRepository, webhookSender, StageTimer.untimed(),
+                2, 100, Duration.ofMinutes(5), 3, Duration.ofSeconds(10), Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    private static DueDelivery due(String callbackUrl, int attempts) {
+        return new DueDelivery(UUID.randomUUID(), UUID.randomUUID(), callbackUrl, PAYLOAD, attempts);
+    }
+
+    @Test
+    @DisplayName("marks acknowledged deliveries delivered")
+    void marksDelivered() {
+        // Given
+        DueDelivery first = due("https://a.example.com/hook", 0);
+        DueDelivery second = due("https://b.example.com/hook", 0);
+        when(webhookDeliveryRepository.claimDue(100, Duration.ofMinutes(5))).thenReturn(List.of(first, second));
+
+        // When
+        WebhookDeliveryResult result = service.execute();
+
+        // Then
+        assertEquals(new WebhookDeliveryResult(2, 0, 0, 0), result);
+        verify(webhookSender).send(first.id(), first.callbackUrl(), PAYLOAD);
+        verify(webhookDeliveryRepository).markDelivered(first.id());
+        verify(webhookDeliveryRepository).markDelivered(second.id());
+    }
+
+    @Test
+    @DisplayName("retries with backoff and defers the rest of the host's batch without charging an attempt")
+    void retriesAndDefersHost() {
+        // Given
+        DueDelivery failing = due("https://down.example.com/a", 1);
+        DueDelivery queued = due("https://DOWN.example.com/b", 0);
+        DueDelivery otherHost = due("https://up.example.com/hook", 0);
+        when(webhookDeliveryRepository.claimDue(anyInt(), any())).thenReturn(List.of(failing, queued, otherHost));
+        lenient().doThrow(new WebhookDeliveryException("Callback answered HTTP 503", true))
+                .when(webhookSender).send(eq(failing.id()), anyString(), any());
+        Instant before = Instant.now();
+
+        // When
+        WebhookDeliveryResult result = service.execute();
+
+        // Then
+        assertEquals(new WebhookDeliveryResult(1, 1, 0, 1), result);
+        ArgumentCaptor<Instant> retryAt = ArgumentCaptor.forClass(Instant.class);
+        verify(webhookDeliveryRepository).markRetry(eq(failing.id()), eq(2), retryAt.capture(),
+                eq("Callback answered HTTP 503"));
+        assertFalse(retryAt.getValue().isBefore(before.plusSeconds(20)));
+        verify(webhookDeliveryRepository).markRetry(eq(queued.id()), eq(0), any(), anyString());
+        verify(webhookSender, never()).send(eq(queued.id()), anyString(), any());
+        verify(webhookDeliveryRepository).markDelivered(otherHost.id());
+    }
+
+    @Test
+    @DisplayName("gives up on rejected payloads and after the last attempt")
+    void givesUp() {
+        // Given
+        DueDelivery rejected = due("https://a.example.com/hook", 0);
+        DueDelivery exhausted = due("https://b.example.com/hook", 2);
+        DueDelivery orphaned = new DueDelivery(UUID.randomUUID(), UUID.randomUUID(), "https://c.example.com/hook", null, 0);
+        when(webhookDeliveryRepository.claimDue(anyInt(), any())).thenReturn(List.of(rejected, exhausted, orphaned));
+        lenient().doThrow(new WebhookDeliveryException("Callback answered HTTP 410", false))
+                .when(webhookSender).send(eq(rejected.id()), anyString(), any());
+        lenient().doThrow(new WebhookDeliveryException("Callback answered HTTP 500", true))
+                .when(webhookSender).send(eq(exhausted.id()), anyString(), any());
+
+        // When
+        WebhookDeliveryResult result = service.execute();
+
+        // Then
+        assertEquals(new WebhookDeliveryResult(0, 0, 3, 0), result);
+        verify(webhookDeliveryRepository).markFailed(rejected.id(), 1, "Callback answered HTTP 410");
+        verify(webhookDeliveryRepository).markFailed(exhausted.id(), 3, "Callback answered HTTP 500");
+        verify(webhookDeliveryRepository).markFailed(eq(orphaned.id()), eq(0), anyString());
+        verify(webhookSender, never()).send(eq(orphaned.id()), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("doubles the backoff per attempt up to the maximum")
+    void backoffDoublesUpToMax() {
+        assertEquals(Duration.ofSeconds(10), service.backoff(1));
+        assertEquals(Duration.ofSeconds(40), service.backoff(3));
+        assertEquals(Duration.ofMinutes(1), service.backoff(10));
+    }
+}
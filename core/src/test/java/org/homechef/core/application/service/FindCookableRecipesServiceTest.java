@@ -0,0 +1,154 @@
+package org.homechef.core.application.service;
+
+import org.homechef.core.application.port.in.dto.CookableRecipe;
+import org.homechef.core.application.port.in.dto.CookableRecipesQuery;
+import org.homechef.core.application.port.out.RecipeIngredientIndex;
+import org.homechef.core.application.port.out.RecipeRepository;
+import org.homechef.core.application.port.out.StageTimer;
+import org.homechef.core.domain.recipe.Ingredient;
+import org.homechef.core.domain.recipe.Recipe;
+import org.homechef.core.domain.recipe.UrlHash;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FindCookableRecipesService")
+class FindCookableRecipesServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-19T12:00:00Z");
+
+    @Mock
+    private RecipeIngredientIndex recipeIngredientIndex;
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    private FindCookableRecipesService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new FindCookableRecipesService(recipeIngredientIndex, recipeRepository, StageTimer.untimed(), 20, 50);
+    }
+
+    private static Recipe recipe(String url, String title, String... ingredientNames) {
+        return Recipe.reconstitute(
+                UrlHash.fromUrl(url).value(),
+                title,
+                Arrays.stream(ingredientNames).map(Ingredient::of).toList(),
+                NOW);
+    }
+
+    @Nested
+    @DisplayName("query normalization")
+    class Normalization {
+
+        @Test
+        @DisplayName("normalizes and de-duplicates ingredient names")
+        void normalizesIngredients() {
+            // Given
+            when(recipeIngredientIndex.topMatches(any(), anyInt())).thenReturn(List.of());
+
+            // When
+            service.execute(new CookableRecipesQuery(List.of("Eggs", " egg ", "Tomatoes (ripe)", ""), null));
+
+            // Then
+            verify(recipeIngredientIndex).topMatches(Set.of("egg", "tomato"), 20);
+            verifyNoInteractions(recipeRepository);
+        }
+
+        @Test
+        @DisplayName("clamps limit to the maximum")
+        void clampsLimit() {
+            // Given
+            when(recipeIngredientIndex.topMatches(any(), anyInt())).thenReturn(List.of());
+
+            // When
+            service.execute(new CookableRecipesQuery(List.of("egg"), 500));
+
+            // Then
+            verify(recipeIngredientIndex).topMatches(any(), eq(50));
+        }
+
+        @Test
+        @DisplayName("rejects a query without ingredients")
+        void rejectsEmptyQuery() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> service.execute(new CookableRecipesQuery(List.of(" ", "(optional)"), null)));
+            verifyNoInteractions(recipeIngredientIndex);
+        }
+
+        @Test
+        @DisplayName("rejects too many ingredients")
+        void rejectsTooManyIngredients() {
+            // Given
+            List<String> ingredients = IntStream.range(0, 31).mapToObj(i -> "ingredient " + (char) ('a' + i % 26) + (char) ('a' + i / 26)).toList();
+
+            // When / Then
+            assertThrows(IllegalArgumentException.class,
+                    () -> service.execute(new CookableRecipesQuery(ingredients, null)));
+            verifyNoInteractions(recipeIngredientIndex);
+        }
+    }
+
+    @Nested
+    @DisplayName("results")
+    class Results {
+
+        @Test
+        @DisplayName("keeps the index ranking and splits matched from missing ingredients")
+        void keepsRankingAndSplitsIngredients() {
+            // Given
+            Recipe omelette = recipe("https://example.com/omelette", "Omelette", "Eggs", "Butter");
+            Recipe shakshuka = recipe("https://example.com/shakshuka", "Shakshuka", "eggs", "Tomatoes", "Onion");
+            when(recipeIngredientIndex.topMatches(any(), anyInt())).thenReturn(List.of(
+                    new RecipeIngredientIndex.Match(shakshuka.getUrlHash().value(), 0.67, 2, 3),
+                    new RecipeIngredientIndex.Match(omelette.getUrlHash().value(), 0.25, 1, 2)));
+            when(recipeRepository.findAllByUrlHash(any())).thenReturn(List.of(omelette, shakshuka));
+
+            // When
+            List<CookableRecipe> result = service.execute(new CookableRecipesQuery(List.of("egg", "tomato", "basil"), null));
+
+            // Then
+            assertEquals(List.of("Shakshuka", "Omelette"), result.stream().map(r -> r.recipe().title()).toList());
+            CookableRecipe best = result.get(0);
+            assertEquals(0.67, best.score());
+            assertEquals(List.of("egg", "tomato"), best.matchedIngredients());
+            assertEquals(List.of("onion"), best.missingIngredients());
+        }
+
+        @Test
+        @DisplayName("skips recipes that are no longer stored")
+        void skipsMissingRecipes() {
+            // Given
+            Recipe omelette = recipe("https://example.com/omelette", "Omelette", "Eggs");
+            when(recipeIngredientIndex.topMatches(any(), anyInt())).thenReturn(List.of(
+                    new RecipeIngredientIndex.Match(UrlHash.fromUrl("https://example.com/deleted").value(), 1.0, 1, 1),
+                    new RecipeIngredientIndex.Match(omelette.getUrlHash().value(), 1.0, 1, 1)));
+            when(recipeRepository.findAllByUrlHash(any())).thenReturn(List.of(omelette));
+
+            // When
+            List<CookableRecipe> result = service.execute(new CookableRecipesQuery(List.of("egg"), null));
+
+            // Then
+            assertEquals(1, result.size());
+            assertEquals("Omelette", result.get(0).recipe().title());
+        }
+    }
+}
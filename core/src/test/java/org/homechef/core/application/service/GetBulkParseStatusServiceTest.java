@@ -0,0 +1,235 @@
+package org.homechef.core.application.service;
+
+import org.homechef.core.application.port.in.dto.BulkParseStatusQuery;
+import org.homechef.core.application.port.in.dto.BulkParseStatusResult;
+import org.homechef.core.application.port.in.dto.ParseStatusResult;
+import org.homechef.core.application.port.in.dto.ParseStatusView;
+import org.homechef.core.application.port.out.ParseRequestRepository;
+import org.homechef.core.application.port.out.ParseStatusProjection;
+import org.homechef.core.application.port.out.ParseStatusProjection.StoredStatus;
+import org.homechef.core.application.port.out.ReadYourWrites;
+import org.homechef.core.application.port.out.RecipeRepository;
+import org.homechef.core.application.port.out.StageTimer;
+import org.homechef.core.domain.recipe.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetBulkParseStatusService")
+class GetBulkParseStatusServiceTest {
+
+    private static final Duration OVERLAP = Duration.ofSeconds(5);
+    private static final Instant SINCE = Instant.parse("2026-01-01T12:00:00Z");
+    private static final UrlHash SAMPLE_URL_HASH = UrlHash.fromUrl("https://example.com/recipe");
+
+    @Mock
+    private ParseStatusProjection parseStatusProjection;
+
+    @Mock
+    private ParseRequestRepository parseRequestRepository;
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @Mock
+    private ReadYourWrites readYourWrites;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private GetBulkParseStatusService service;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(readYourWrites.readFromPrimary(any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        lenient().when(parseStatusProjection.render(any())).thenAnswer(invocation -> {
+            ParseStatusResult status = invocation.getArgument(0);
+            return new ParseStatusView(status.requestId(), status.status(),
+                status.status().name().getBytes(StandardCharsets.UTF_8));
+        });
+        service = new GetBulkParseStatusService(parseStatusProjection, parseRequestRepository, recipeRepository,
+            readYourWrites, transactionManager, StageTimer.untimed(), 3, OVERLAP);
+    }
+
+    private static StoredStatus stored(UUID requestId, ParseStatus status, Instant updatedAt, boolean changed) {
+        return new StoredStatus(requestId, status, updatedAt,
+            changed ? status.name().getBytes(StandardCharsets.UTF_8) : null);
+    }
+
+    private static ParseRequest request(UUID requestId, ParseStatus status, Instant updatedAt) {
+        return ParseRequest.reconstitute(requestId, null, SAMPLE_URL_HASH.value(), status, null,
+            updatedAt.minusSeconds(60), updatedAt);
+    }
+
+    @Nested
+    @DisplayName("status view")
+    class StatusView {
+
+        @Test
+        @DisplayName("returns only changed statuses and advances the watermark to the latest change")
+        void returnsChangedStatuses() {
+            // Given
+            UUID unchanged = UUID.randomUUID();
+            UUID completed = UUID.randomUUID();
+            UUID failed = UUID.randomUUID();
+            Set<UUID> ids = new LinkedHashSet<>(List.of(unchanged, completed, failed));
+            when(parseStatusProjection.findAllById(ids, SINCE.minus(OVERLAP))).thenReturn(List.of(
+                stored(unchanged, ParseStatus.PROCESSING, SINCE.minusSeconds(30), false),
+                stored(completed, ParseStatus.COMPLETED, SINCE.plusSeconds(4), true),
+                stored(failed, ParseStatus.FAILED, SINCE.plusSeconds(2), true)));
+
+            // When
+            BulkParseStatusResult result = service.execute(new BulkParseStatusQuery(ids, SINCE));
+
+            // Then
+            assertEquals(List.of(completed, failed), result.changed().stream().map(ParseStatusView::requestId).toList());
+            assertEquals(SINCE.plusSeconds(4), result.watermark());
+            verifyNoInteractions(parseRequestRepository, recipeRepository);
+        }
+
+        @Test
+        @DisplayName("keeps the client's watermark when nothing changed")
+        void keepsWatermarkWhenUnchanged() {
+            // Given
+            UUID requestId = UUID.randomUUID();
+            when(parseStatusProjection.findAllById(Set.of(requestId), SINCE.minus(OVERLAP))).thenReturn(List.of(
+                stored(requestId, ParseStatus.PENDING, SINCE.minusSeconds(30), false)));
+
+            // When
+            BulkParseStatusResult result = service.execute(new BulkParseStatusQuery(Set.of(requestId), SINCE));
+
+            // Then
+            assertTrue(result.changed().isEmpty());
+            assertEquals(SINCE, result.watermark());
+        }
+
+        @Test
+        @DisplayName("returns every status when no watermark is given")
+        void returnsEverythingWithoutWatermark() {
+            // Given
+            UUID requestId = UUID.randomUUID();
+            when(parseStatusProjection.findAllById(Set.of(requestId), Instant.EPOCH)).thenReturn(List.of(
+                stored(requestId, ParseStatus.PENDING, SINCE, true)));
+
+            // When
+            BulkParseStatusResult result = service.execute(new BulkParseStatusQuery(Set.of(requestId), null));
+
+            // Then
+            assertEquals(1, result.changed().size());
+            assertEquals(SINCE, result.watermark());
+        }
+    }
+
+    @Nested
+    @DisplayName("requests without a view row")
+    class SourceTables {
+
+        @Test
+        @DisplayName("builds them with one request query and one recipe query")
+        void buildsFromSourceTables() {
+            // Given
+            UUID completed = UUID.randomUUID();
+            UUID pending = UUID.randomUUID();
+            UUID unknown = UUID.randomUUID();
+            UUID stale = UUID.randomUUID();
+            Set<UUID> ids = Set.of(completed, pending, unknown);
+            when(parseStatusProjection.findAllById(eq(ids), any())).thenReturn(List.of());
+            when(parseRequestRepository.findAllById(ids)).thenReturn(List.of(
+                request(completed, ParseStatus.COMPLETED, SINCE.plusSeconds(1)),
+                request(pending, ParseStatus.PENDING, SINCE.plusSeconds(2)),
+                request(stale, ParseStatus.PENDING, SINCE.minusSeconds(30))));
+            when(recipeRepository.findAllByUrlHash(Set.of(SAMPLE_URL_HASH))).thenReturn(List.of(
+                Recipe.reconstitute(SAMPLE_URL_HASH.value(), "Cake",
+                    List.of(Ingredient.of(BigDecimal.ONE, "cup", "flour")), SINCE)));
+
+            // When
+            BulkParseStatusResult result = service.execute(new BulkParseStatusQuery(ids, SINCE));
+
+            // Then
+            assertEquals(Set.of(completed, pending),
+                result.changed().stream().map(ParseStatusView::requestId).collect(Collectors.toSet()));
+            assertTrue(result.changed().stream()
+                .allMatch(view -> view.status() == (view.requestId().equals(completed)
+                    ? ParseStatus.COMPLETED : ParseStatus.PENDING)));
+            assertEquals(SINCE.plusSeconds(2), result.watermark());
+            verify(parseRequestRepository, times(1)).findAllById(anyCollection());
+            verify(recipeRepository, times(1)).findAllByUrlHash(anyCollection());
+        }
+
+        @Test
+        @DisplayName("reports a COMPLETED request without a recipe as failed")
+        void completedWithoutRecipeIsFailed() {
+            // Given
+            UUID requestId = UUID.randomUUID();
+            when(parseStatusProjection.findAllById(eq(Set.of(requestId)), any())).thenReturn(List.of());
+            when(parseRequestRepository.findAllById(Set.of(requestId))).thenReturn(List.of(
+                request(requestId, ParseStatus.COMPLETED, SINCE)));
+            when(recipeRepository.findAllByUrlHash(Set.of(SAMPLE_URL_HASH))).thenReturn(List.of());
+
+            // When
+            BulkParseStatusResult result = service.execute(new BulkParseStatusQuery(Set.of(requestId), null));
+
+            // Then
+            assertEquals(ParseStatus.FAILED, result.changed().get(0).status());
+        }
+    }
+
+    @Nested
+    @DisplayName("validation and routing")
+    class ValidationAndRouting {
+
+        @Test
+        @DisplayName("rejects an empty or oversized set of IDs")
+        void rejectsBadIdSets() {
+            Set<UUID> tooMany = IntStream.range(0, 4).mapToObj(i -> UUID.randomUUID()).collect(Collectors.toSet());
+
+            assertThrows(IllegalArgumentException.class,
+                () -> service.execute(new BulkParseStatusQuery(Set.of(), null)));
+            assertThrows(IllegalArgumentException.class,
+                () -> service.execute(new BulkParseStatusQuery(tooMany, null)));
+            verifyNoInteractions(parseStatusProjection);
+        }
+
+        @Test
+        @DisplayName("reads from the primary when any request was written recently")
+        void readsFromPrimaryAfterRecentWrite() {
+            // Given
+            UUID requestId = UUID.randomUUID();
+            when(readYourWrites.isRecentWrite(requestId)).thenReturn(true);
+            when(parseStatusProjection.findAllById(eq(Set.of(requestId)), any())).thenReturn(List.of(
+                stored(requestId, ParseStatus.PENDING, SINCE, true)));
+
+            // When
+            service.execute(new BulkParseStatusQuery(Set.of(requestId), null));
+
+            // Then
+            verify(readYourWrites).readFromPrimary(any());
+            verifyNoInteractions(transactionManager);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.homechef.core.application.service;
+
+import org.homechef.core.application.port.in.dto.ParseHistoryQuery;
+import org.homechef.core.application.port.in.dto.ParseHistoryResult;
+import org.homechef.core.application.port.out.ParseHistoryRepository;
+import org.homechef.core.application.port.out.StageTimer;
+import org.homechef.core.domain.recipe.ParseStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetParseHistoryService")
+class GetParseHistoryServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-19T12:00:00.123456Z");
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    @Mock
+    private ParseHistoryRepository parseHistoryRepository;
+
+    private GetParseHistoryService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new GetParseHistoryService(parseHistoryRepository, StageTimer.untimed(), 20, 100);
+    }
+
+    private static List<ParseHistoryRepository.Entry> entries(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new ParseHistoryRepository.Entry(
+                        UUID.randomUUID(), "hash" + i, ParseStatus.COMPLETED, "Recipe " + i,
+                        NOW.minusSeconds(i), NOW.minusSeconds(i)))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("fetches one extra row and clamps the limit")
+    void clampsLimit() {
+        // Given
+        when(parseHistoryRepository.findByUser(any(), any(), any(), anyInt())).thenReturn(List.of());
+
+        // When
+        service.execute(new ParseHistoryQuery(USER_ID, null, 1000));
+
+        // Then
+        verify(parseHistoryRepository).findByUser(eq(USER_ID), isNull(), isNull(), eq(101));
+    }
+
+    @Test
+    @DisplayName("returns a cursor only when more entries exist")
+    void returnsCursorWhenMoreEntries() {
+        // Given
+        when(parseHistoryRepository.findByUser(any(), any(), any(), anyInt()))
+                .thenReturn(entries(3))
+                .thenReturn(entries(2));
+
+        // When
+        ParseHistoryResult first = service.execute(new ParseHistoryQuery(USER_ID, null, 2));
+        ParseHistoryResult last = service.execute(new ParseHistoryQuery(USER_ID, null, 2));
+
+        // Then
+        assertEquals(2, first.entries().size());
+        assertNotNull(first.nextCursor());
+        assertEquals(2, last.entries().size());
+        assertNull(last.nextCursor());
+    }
+
+    @Test
+    @DisplayName("continues after the last entry of the previous page")
+    void cursorRoundTrip() {
+        // Given
+        List<ParseHistoryRepository.Entry> found = entries(3);
+        when(parseHistoryRepository.findByUser(any(), any(), any(), anyInt())).thenReturn(found).thenReturn(List.of());
+        String cursor = service.execute(new ParseHistoryQuery(USER_ID, null, 2)).nextCursor();
+
+        // When
+        service.execute(new ParseHistoryQuery(USER_ID, cursor, 2));
+
+        // Then
+        verify(parseHistoryRepository).findByUser(USER_ID, found.get(1).createdAt(), found.get(1).requestId(), 3);
+    }
+
+    @Test
+    @DisplayName("rejects a cursor whose tie-breaker is not a request id")
+    void rejectsForeignCursor() {
+        // Given - a search cursor carries a url hash, not a UUID
+        String searchCursor = new KeysetCursor(NOW, "a1b2c3").encode();
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class,
+                () -> service.execute(new ParseHistoryQuery(USER_ID, searchCursor, null)));
+        verifyNoInteractions(parseHistoryRepository);
+    }
+}
@@ -1,22 +1,33 @@
 package org.homechef.core.application.service;
 
+import org.homechef.core.application.port.in.dto.CompletionEstimate;
 import org.homechef.core.application.port.in.dto.ParseStatusResult;
+import org.homechef.core.application.port.in.dto.ParseStatusView;
+import org.homechef.core.application.port.out.ParseCompletionEstimator;
 import org.homechef.core.application.port.out.ParseRequestRepository;
+import org.homechef.core.application.port.out.ParseStatusProjection;
+import org.homechef.core.application.port.out.ParseStatusRegistry;
+import org.homechef.core.application.port.out.ReadYourWrites;
 import org.homechef.core.application.port.out.RecipeRepository;
+import org.homechef.core.application.port.out.StageTimer;
 import org.homechef.core.domain.recipe.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -29,17 +40,119 @@ class GetParseStatusServiceTest {
     private static final UUID REQUEST_ID = UUID.randomUUID();
     private static final UrlHash SAMPLE_URL_HASH = UrlHash.fromUrl("https://example.com/recipe");
 
+    @Mock
+    private ParseStatusRegistry parseStatusRegistry;
+
+    @Mock
+    private ParseStatusProjection parseStatusProjection;
+
     @Mock
     private ParseRequestRepository parseRequestRepository;
 
     @Mock
     private RecipeRepository recipeRepository;
 
+    @Mock
+    private ReadYourWrites readYourWrites;
+
+    @Mock
+    private ParseCompletionEstimator completionEstimator;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private GetParseStatusService service;
 
     @BeforeEach
     void setUp() {
-        service = new GetParseStatusService(parseRequestRepository, recipeRepository);
+        lenient().when(readYourWrites.readFromPrimary(any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        lenient().when(parseStatusProjection.render(any())).thenAnswer(invocation -> {
+            ParseStatusResult status = invocation.getArgument(0);
+            return new ParseStatusView(status.requestId(), status.status(), new byte[0]);
+        });
+        service = new GetParseStatusService(parseStatusRegistry, parseStatusProjection, parseRequestRepository,
+            recipeRepository, readYourWrites, completionEstimator, transactionManager, StageTimer.untimed());
+    }
+
+    /**
+     * Polls a request that has no status view row and returns the status the service rendered for it.
+     */
+    private Optional<ParseStatusResult> pollFromSourceTables(UUID requestId) {
+        Optional<ParseStatusView> view = service.execute(requestId);
+        if (view.isEmpty()) {
+            return Optional.empty();
+        }
+        ArgumentCaptor<ParseStatusResult> rendered = ArgumentCaptor.forClass(ParseStatusResult.class);
+        verify(parseStatusProjection).render(rendered.capture());
+        return Optional.of(rendered.getValue());
+    }
+
+    @Nested
+    @DisplayName("in-memory registry")
+    class InMemoryRegistry {
+
+        @Test
+        @DisplayName("answers from memory without a transaction or database lookup")
+        void answersFromMemory() {
+            // Given
+            ParseStatusView recent = new ParseStatusView(REQUEST_ID, ParseStatus.COMPLETED, new byte[0]);
+            when(parseStatusRegistry.find(REQUEST_ID)).thenReturn(Optional.of(recent));
+
+            // When
+            Optional<ParseStatusView> result = service.execute(REQUEST_ID);
+
+            // Then
+            assertSame(recent, result.orElseThrow());
+            verifyNoInteractions(completionEstimator, transactionManager, parseStatusProjection, parseRequestRepository, recipeRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("completion estimate")
+    class Estimate {
+
+        @Test
+        @DisplayName("attaches a fresh estimate to unfinished requests without storing it")
+        void estimatesUnfinished() {
+            // Given
+            ParseStatusView recent = new ParseStatusView(REQUEST_ID, ParseStatus.PROCESSING, new byte[0]);
+            CompletionEstimate estimate = new CompletionEstimate(Instant.now().plusSeconds(8), Duration.ofSeconds(8));
+            when(parseStatusRegistry.find(REQUEST_ID)).thenReturn(Optional.of(recent));
+            when(completionEstimator.estimate(ParseStatus.PROCESSING, null)).thenReturn(estimate);
+
+            // When
+            ParseStatusView result = service.execute(REQUEST_ID).orElseThrow();
+
+            // Then
+            assertEquals(estimate, result.estimate());
+            assertSame(recent.body(), result.body());
+            assertNull(recent.estimate());
+        }
+    }
+
+    @Nested
+    @DisplayName("status view")
+    class StatusView {
+
+        @Test
+        @DisplayName("serves the stored view without reading the source tables")
+        void servesStoredView() {
+            // Given
+            byte[] body = "{\"requestId\":\"...\",\"status\":\"COMPLETED\"}".getBytes();
+            when(parseStatusProjection.findById(REQUEST_ID))
+                .thenReturn(Optional.of(new ParseStatusView(REQUEST_ID, ParseStatus.COMPLETED, body)));
+
+            // When
+            Optional<ParseStatusView> result = service.execute(REQUEST_ID);
+
+            // Then
+            assertTrue(result.isPresent());
+            assertEquals(ParseStatus.COMPLETED, result.get().status());
+            assertSame(body, result.get().body());
+            verify(parseStatusProjection, never()).render(any());
+            verifyNoInteractions(parseRequestRepository, recipeRepository);
+        }
     }
 
     @Nested
@@ -53,14 +166,77 @@ class GetParseStatusServiceTest {
             when(parseRequestRepository.findById(REQUEST_ID)).thenReturn(Optional.empty());
 
             // When
-            Optional<ParseStatusResult> result = service.execute(REQUEST_ID);
+            Optional<ParseStatusResult> result = pollFromSourceTables(REQUEST_ID);
 
             // Then
             assertTrue(result.isEmpty());
+            verify(readYourWrites).readFromPrimary(any());
             verifyNoInteractions(recipeRepository);
         }
     }
 
+    @Nested
+    @DisplayName("read-your-writes")
+    class ReadYourWritesRouting {
+
+        private final ParseRequest pendingRequest = ParseRequest.reconstitute(
+            REQUEST_ID,
+            UUID.randomUUID(),
+            SAMPLE_URL_HASH.value(),
+            ParseStatus.PENDING,
+            null,
+            Instant.now(),
+            Instant.now()
+        );
+
+        @Test
+        @DisplayName("reads a recently written request from the primary only")
+        void readsRecentWriteFromPrimary() {
+            // Given
+            when(readYourWrites.isRecentWrite(REQUEST_ID)).thenReturn(true);
+            when(parseRequestRepository.findById(REQUEST_ID)).thenReturn(Optional.of(pendingRequest));
+
+            // When
+            Optional<ParseStatusResult> result = pollFromSourceTables(REQUEST_ID);
+
+            // Then
+            assertEquals(ParseStatus.PENDING, result.orElseThrow().status());
+            verify(readYourWrites).readFromPrimary(any());
+            verify(parseRequestRepository, times(1)).findById(REQUEST_ID);
+        }
+
+        @Test
+        @DisplayName("does not touch the primary when the replica has the request")
+        void servesFromReplica() {
+            // Given
+            when(parseRequestRepository.findById(REQUEST_ID)).thenReturn(Optional.of(pendingRequest));
+
+            // When
+            Optional<ParseStatusResult> result = pollFromSourceTables(REQUEST_ID);
+
+            // Then
+            assertTrue(result.isPresent());
+            verify(readYourWrites, never()).readFromPrimary(any());
+        }
+
+        @Test
+        @DisplayName("falls back to the primary when the replica has not seen the request yet")
+        void fallsBackToPrimaryOnReplicaMiss() {
+            // Given
+            when(parseRequestRepository.findById(REQUEST_ID))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(pendingRequest));
+
+            // When
+            Optional<ParseStatusResult> result = pollFromSourceTables(REQUEST_ID);
+
+            // Then
+            assertEquals(ParseStatus.PENDING, result.orElseThrow().status());
+            verify(readYourWrites).readFromPrimary(any());
+            verify(parseRequestRepository, times(2)).findById(REQUEST_ID);
+        }
+    }
+
     @Nested
     @DisplayName("PENDING status")
     class PendingStatus {
@@ -83,7 +259,7 @@ class GetParseStatusServiceTest {
                 .thenReturn(Optional.of(pendingRequest));
 
             // When
-            Optional<ParseStatusResult> result = service.execute(REQUEST_ID);
+            Optional<ParseStatusResult> result = pollFromSourceTables(REQUEST_ID);
 
             // Then
             assertTrue(result.isPresent());
@@ -119,7 +295,7 @@ class GetParseStatusServiceTest {
                 .thenReturn(Optional.of(processingRequest));
 
             // When
-            Optional<ParseStatusResult> result = service.execute(REQUEST_ID);
+            Optional<ParseStatusResult> result = pollFromSourceTables(REQUEST_ID);
 
             // Then
             assertTrue(result.isPresent());
@@ -153,7 +329,7 @@ class GetParseStatusServiceTest {
                 .thenReturn(Optional.of(failedRequest));
 
             // When
-            Optional<ParseStatusResult> result = service.execute(REQUEST_ID);
+            Optional<ParseStatusResult> result = pollFromSourceTables(REQUEST_ID);
 
             // Then
             assertTrue(result.isPresent());
@@ -198,7 +374,7 @@ class GetParseStatusServiceTest {
                 .thenReturn(Optional.of(recipe));
 
             // When
-            Optional<ParseStatusResult> result = service.execute(REQUEST_ID);
+            Optional<ParseStatusResult> result = pollFromSourceTables(REQUEST_ID);
 
             // Then
             assertTrue(result.isPresent());
@@ -229,7 +405,7 @@ class GetParseStatusServiceTest {
                 .thenReturn(Optional.empty());
 
             // When
-            Optional<ParseStatusResult> result = service.execute(REQUEST_ID);
+            Optional<ParseStatusResult> result = pollFromSourceTables(REQUEST_ID);
 
             // Then - should handle gracefully by returning failed
             assertTrue(result.isPresent());
@@ -267,7 +443,7 @@ class GetParseStatusServiceTest {
                 .thenReturn(Optional.of(recipe));
 
             // When
-            Optional<ParseStatusResult> result = service.execute(REQUEST_ID);
+            Optional<ParseStatusResult> result = pollFromSourceTables(REQUEST_ID);
 
             // Then
             assertTrue(result.isPresent());
@@ -0,0 +1,158 @@
+package org.homechef.core.application.service;
+
+import org.homechef.core.application.port.in.dto.PartitionMaintenanceResult;
+import org.homechef.core.application.port.out.JobLock;
+import org.homechef.core.application.port.out.ParseRequestPartitions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MaintainParseRequestPartitionsService")
+class MaintainParseRequestPartitionsServiceTest {
+
+    private static final YearMonth NOW = YearMonth.now(ZoneOffset.UTC);
+
+    @Mock
+    private ParseRequestPartitions parseRequestPartitions;
+
+    @Mock
+    private JobLock jobLock;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MaintainParseRequestPartitionsService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new MaintainParseRequestPartitionsService(parseRequestPartitions, jobLock, transactionManager,
+                2, 6, 100);
+    }
+
+    @Test
+    @DisplayName("does nothing when another replica holds the lock")
+    void skipsWithoutLock() {
+        // Given
+        when(jobLock.tryLockForTransaction(any())).thenReturn(false);
+
+        // When
+        PartitionMaintenanceResult result = service.execute();
+
+        // Then
+        assertFalse(result.leader());
+        verifyNoInteractions(parseRequestPartitions);
+    }
+
+    @Test
+    @DisplayName("creates the current and upcoming months")
+    void createsUpcomingMonths() {
+        // Given
+        when(jobLock.tryLockForTransaction(any())).thenReturn(true);
+        when(parseRequestPartitions.ensure(any())).thenReturn(false);
+        when(parseRequestPartitions.ensure(NOW.plusMonths(2))).thenReturn(true);
+        when(parseRequestPartitions.list()).thenReturn(List.of(NOW, NOW.plusMonths(1), NOW.plusMonths(2)));
+
+        // When
+        PartitionMaintenanceResult result = service.execute();
+
+        // Then
+        verify(parseRequestPartitions).ensure(NOW);
+        verify(parseRequestPartitions).ensure(NOW.plusMonths(1));
+        assertEquals(List.of(NOW.plusMonths(2)), result.created());
+        assertTrue(result.dropped().isEmpty());
+    }
+
+    @Test
+    @DisplayName("drops only months older than retention without in-flight requests")
+    void dropsExpiredMonths() {
+        // Given
+        YearMonth expired = NOW.minusMonths(8);
+        YearMonth expiredInFlight = NOW.minusMonths(7);
+        YearMonth oldestKept = NOW.minusMonths(6);
+        when(jobLock.tryLockForTransaction(any())).thenReturn(true);
+        when(parseRequestPartitions.list()).thenReturn(List.of(expired, expiredInFlight, oldestKept, NOW));
+        when(parseRequestPartitions.hasInFlight(expired)).thenReturn(false);
+        when(parseRequestPartitions.hasInFlight(expiredInFlight)).thenReturn(true);
+
+        // When
+        PartitionMaintenanceResult result = service.execute();
+
+        // Then
+        assertEquals(List.of(expired), result.dropped());
+        assertEquals(List.of(expiredInFlight), result.retained());
+        verify(parseRequestPartitions).drop(expired);
+        verify(parseRequestPartitions, never()).drop(expiredInFlight);
+        verify(parseRequestPartitions, never()).hasInFlight(oldestKept);
+    }
+
+    @Test
+    @DisplayName("purges rows of partition-less expired months in batches after the drop commits")
+    void purgesAfterDropCommits() {
+        // Given - a crashed earlier run left rows of a month whose partition is already gone
+        YearMonth leftOver = NOW.minusMonths(9);
+        YearMonth expired = NOW.minusMonths(8);
+        YearMonth expiredInFlight = NOW.minusMonths(7);
+        when(jobLock.tryLockForTransaction(any())).thenReturn(true);
+        when(parseRequestPartitions.list())
+                .thenReturn(List.of(expired, expiredInFlight, NOW))
+                .thenReturn(List.of(expiredInFlight, NOW));
+        when(parseRequestPartitions.hasInFlight(expired)).thenReturn(false);
+        when(parseRequestPartitions.hasInFlight(expiredInFlight)).thenReturn(true);
+        when(parseRequestPartitions.oldestDerived()).thenReturn(Optional.of(leftOver));
+        when(parseRequestPartitions.purgeDerived(leftOver, 100)).thenReturn(40, 0);
+        when(parseRequestPartitions.purgeDerived(expired, 100)).thenReturn(100, 100, 7, 0);
+
+        // When
+        PartitionMaintenanceResult result = service.execute();
+
+        // Then
+        assertEquals(247, result.purged());
+        verify(parseRequestPartitions, never()).purgeDerived(eq(expiredInFlight), anyInt());
+        verify(parseRequestPartitions, never()).purgeDerived(eq(NOW.minusMonths(6)), anyInt());
+        InOrder order = inOrder(parseRequestPartitions, transactionManager);
+        order.verify(parseRequestPartitions).drop(expired);
+        order.verify(transactionManager).commit(any());
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(parseRequestPartitions).purgeDerived(leftOver, 100);
+        verify(transactionManager, times(1 + 6)).commit(any());
+    }
+
+    @Test
+    @DisplayName("purges nothing when there are no status views or webhook deliveries")
+    void purgesNothingWhenEmpty() {
+        // Given
+        when(jobLock.tryLockForTransaction(any())).thenReturn(true);
+        when(parseRequestPartitions.list()).thenReturn(List.of(NOW));
+        when(parseRequestPartitions.oldestDerived()).thenReturn(Optional.empty());
+
+        // When
+        PartitionMaintenanceResult result = service.execute();
+
+        // Then
+        assertEquals(0, result.purged());
+        verify(parseRequestPartitions, never()).purgeDerived(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("rejects retention below one month")
+    void rejectsZeroRetention() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new MaintainParseRequestPartitionsService(parseRequestPartitions, jobLock, transactionManager,
+                        2, 0, 100));
+    }
+}
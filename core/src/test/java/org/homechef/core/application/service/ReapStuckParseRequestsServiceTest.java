@@ -0,0 +1,166 @@
+package org.homechef.core.application.service;
+
+import org.homechef.core.application.port.in.dto.ParseStatusResult;
+import org.homechef.core.application.port.in.dto.ParseStatusView;
+import org.homechef.core.application.port.in.dto.ReapResult;
+import org.homechef.core.application.port.out.JobLock;
+import org.homechef.core.application.port.out.ParseEventPublisher;
+import org.homechef.core.application.port.out.ParseFailureCache;
+import org.homechef.core.application.port.out.ParseStatusProjection;
+import org.homechef.core.application.port.out.ParseStatusRegistry;
+import org.homechef.core.application.port.out.StageTimer;
+import org.homechef.core.application.port.out.StuckParseRequestRepository;
+import org.homechef.core.application.port.out.StuckParseRequestRepository.StuckParseRequest;
+import org.homechef.core.application.port.out.WebhookDeliveryRepository;
+import org.homechef.core.domain.recipe.ParseRequest;
+import org.homechef.core.domain.recipe.ParseStatus;
+import org.homechef.core.domain.recipe.UrlHash;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReapStuckParseRequestsService")
+class ReapStuckParseRequestsServiceTest {
+
+    @Mock
+    private StuckParseRequestRepository stuckParseRequestRepository;
+
+    @Mock
+    private ParseStatusProjection parseStatusProjection;
+
+    @Mock
+    private ParseStatusRegistry parseStatusRegistry;
+
+    @Mock
+    private ParseEventPublisher parseEventPublisher;
+
+    @Mock
+    private ParseFailureCache parseFailureCache;
+
+    @Mock
+    private WebhookDeliveryRepository webhookDeliveryRepository;
+
+    @Mock
+    private JobLock jobLock;
+
+    private ReapStuckParseRequestsService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ReapStuckParseRequestsService(stuckParseRequestRepository, parseStatusProjection,
+                parseStatusRegistry, parseEventPublisher, parseFailureCache, webhookDeliveryRepository, jobLock,
+                StageTimer.untimed(),
+                Duration.ofMinutes(10), 2, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static StuckParseRequest stuck(String url, int attempts) {
+        return new StuckParseRequest(ParseRequest.createForGuest(UrlHash.fromUrl(url)), url, attempts);
+    }
+
+    @Test
+    @DisplayName("does nothing when another replica holds the lock")
+    void skipsWithoutLock() {
+        // Given
+        when(jobLock.tryLockForTransaction(any())).thenReturn(false);
+
+        // When
+        ReapResult result = service.execute();
+
+        // Then
+        assertFalse(result.leader());
+        verifyNoInteractions(stuckParseRequestRepository, parseEventPublisher, parseFailureCache);
+    }
+
+    @Test
+    @DisplayName("looks for requests older than the deadline")
+    void usesDeadline() {
+        // Given
+        when(jobLock.tryLockForTransaction(any())).thenReturn(true);
+        when(stuckParseRequestRepository.lockStuck(any(), anyInt())).thenReturn(List.of());
+        Instant before = Instant.now();
+
+        // When
+        ReapResult result = service.execute();
+
+        // Then
+        ArgumentCaptor<Instant> cutoff = ArgumentCaptor.forClass(Instant.class);
+        verify(stuckParseRequestRepository).lockStuck(cutoff.capture(), eq(100));
+        assertFalse(cutoff.getValue().isBefore(before.minus(Duration.ofMinutes(10))));
+        assertTrue(cutoff.getValue().isBefore(Instant.now().minus(Duration.ofMinutes(9))));
+        assertEquals(0, result.total());
+    }
+
+    @Test
+    @DisplayName("republishes requests with retries left and fails the rest")
+    void republishesOrFails() {
+        // Given
+        StuckParseRequest retry = stuck("https://example.com/retry", 1);
+        StuckParseRequest exhausted = stuck("https://example.com/exhausted", 2);
+        when(jobLock.tryLockForTransaction(any())).thenReturn(true);
+        when(stuckParseRequestRepository.lockStuck(any(), anyInt())).thenReturn(List.of(retry, exhausted));
+        ParseStatusView failedView = new ParseStatusView(exhausted.request().getId(), ParseStatus.FAILED, new byte[0]);
+        when(parseStatusProjection.saveAll(any())).thenReturn(List.of(failedView));
+
+        // When
+        ReapResult result = service.execute();
+
+        // Then
+        assertEquals(new ReapResult(true, 1, 1), result);
+        verify(stuckParseRequestRepository).markRepublished(List.of(retry));
+        verify(parseEventPublisher).publishParseRequest(retry.request(), "https://example.com/retry");
+        verify(stuckParseRequestRepository).markFailed(List.of(exhausted),
+                ReapStuckParseRequestsService.TIMEOUT_MESSAGE);
+        verify(parseStatusProjection).saveAll(List.of(ParseStatusResult.failed(exhausted.request().getId(),
+                ReapStuckParseRequestsService.TIMEOUT_MESSAGE)));
+        verify(parseStatusRegistry).put(failedView);
+        verify(webhookDeliveryRepository).markResultReady(List.of(exhausted.request().getId()));
+        verify(parseFailureCache).recordFailure(exhausted.request().getUrlHash(),
+                ReapStuckParseRequestsService.TIMEOUT_MESSAGE);
+        verifyNoMoreInteractions(parseEventPublisher);
+    }
+
+    @Test
+    @DisplayName("backs timed-out URLs off only once the reap has committed")
+    void recordsFailuresAfterCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        StuckParseRequest exhausted = stuck("https://example.com/exhausted", 2);
+        when(jobLock.tryLockForTransaction(any())).thenReturn(true);
+        when(stuckParseRequestRepository.lockStuck(any(), anyInt())).thenReturn(List.of(exhausted));
+        when(parseStatusProjection.saveAll(any())).thenReturn(List.of());
+
+        // When
+        service.execute();
+
+        // Then
+        verifyNoInteractions(parseFailureCache);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(parseFailureCache).recordFailure(exhausted.request().getUrlHash(),
+                ReapStuckParseRequestsService.TIMEOUT_MESSAGE);
+    }
+}
@@ -0,0 +1,176 @@
+package org.homechef.core.application.service;
+
+import org.homechef.core.application.port.in.dto.RecipeSearchResult;
+import org.homechef.core.application.port.in.dto.SearchRecipesQuery;
+import org.homechef.core.application.port.out.RecipeSearchRepository;
+import org.homechef.core.application.port.out.StageTimer;
+import org.homechef.core.domain.recipe.Ingredient;
+import org.homechef.core.domain.recipe.Recipe;
+import org.homechef.core.domain.recipe.UrlHash;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchRecipesService")
+class SearchRecipesServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-19T12:00:00.123456Z");
+
+    @Mock
+    private RecipeSearchRepository recipeSearchRepository;
+
+    private SearchRecipesService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SearchRecipesService(recipeSearchRepository, StageTimer.untimed(), 20, 50);
+    }
+
+    private static List<Recipe> recipes(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Recipe.reconstitute(
+                        UrlHash.fromUrl("https://example.com/recipe/" + i).value(),
+                        "Recipe " + i,
+                        List.of(Ingredient.of("garlic")),
+                        NOW.minusSeconds(i)))
+                .toList();
+    }
+
+    private RecipeSearchRepository.Criteria capturedCriteria() {
+        ArgumentCaptor<RecipeSearchRepository.Criteria> captor = ArgumentCaptor.forClass(RecipeSearchRepository.Criteria.class);
+        verify(recipeSearchRepository).search(captor.capture());
+        return captor.getValue();
+    }
+
+    @Nested
+    @DisplayName("query normalization")
+    class Normalization {
+
+        @Test
+        @DisplayName("trims text and lower-cases, de-duplicates ingredient names")
+        void normalizesFilters() {
+            // Given
+            when(recipeSearchRepository.search(any())).thenReturn(List.of());
+
+            // When
+            service.execute(new SearchRecipesQuery("  lasagna ", List.of("Garlic", " garlic", "", "Basil"), null, null));
+
+            // Then
+            RecipeSearchRepository.Criteria criteria = capturedCriteria();
+            assertEquals("lasagna", criteria.text());
+            assertEquals(List.of("garlic", "basil"), criteria.ingredients());
+        }
+
+        @Test
+        @DisplayName("treats blank text as no text filter")
+        void blankTextIsIgnored() {
+            // Given
+            when(recipeSearchRepository.search(any())).thenReturn(List.of());
+
+            // When
+            service.execute(new SearchRecipesQuery("   ", null, null, null));
+
+            // Then
+            assertNull(capturedCriteria().text());
+        }
+
+        @Test
+        @DisplayName("clamps limit and fetches one extra row")
+        void clampsLimit() {
+            // Given
+            when(recipeSearchRepository.search(any())).thenReturn(List.of());
+
+            // When
+            service.execute(new SearchRecipesQuery("soup", null, null, 500));
+
+            // Then
+            assertEquals(51, capturedCriteria().limit());
+        }
+
+        @Test
+        @DisplayName("rejects too many ingredients")
+        void rejectsTooManyIngredients() {
+            // Given
+            List<String> ingredients = IntStream.range(0, 11).mapToObj(i -> "ingredient" + i).toList();
+
+            // When / Then
+            assertThrows(IllegalArgumentException.class,
+                    () -> service.execute(new SearchRecipesQuery(null, ingredients, null, null)));
+            verifyNoInteractions(recipeSearchRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("keyset pagination")
+    class Pagination {
+
+        @Test
+        @DisplayName("returns a cursor when more results exist")
+        void returnsCursorWhenMoreResults() {
+            // Given
+            List<Recipe> found = recipes(3);
+            when(recipeSearchRepository.search(any())).thenReturn(found);
+
+            // When
+            RecipeSearchResult result = service.execute(new SearchRecipesQuery("soup", null, null, 2));
+
+            // Then
+            assertEquals(2, result.recipes().size());
+            assertNotNull(result.nextCursor());
+        }
+
+        @Test
+        @DisplayName("returns no cursor on the last page")
+        void noCursorOnLastPage() {
+            // Given
+            when(recipeSearchRepository.search(any())).thenReturn(recipes(2));
+
+            // When
+            RecipeSearchResult result = service.execute(new SearchRecipesQuery("soup", null, null, 2));
+
+            // Then
+            assertEquals(2, result.recipes().size());
+            assertNull(result.nextCursor());
+        }
+
+        @Test
+        @DisplayName("continues after the last recipe of the previous page")
+        void cursorRoundTrip() {
+            // Given
+            List<Recipe> found = recipes(3);
+            when(recipeSearchRepository.search(any())).thenReturn(found).thenReturn(List.of());
+            String cursor = service.execute(new SearchRecipesQuery("soup", null, null, 2)).nextCursor();
+
+            // When
+            service.execute(new SearchRecipesQuery("soup", null, cursor, 2));
+
+            // Then
+            ArgumentCaptor<RecipeSearchRepository.Criteria> captor = ArgumentCaptor.forClass(RecipeSearchRepository.Criteria.class);
+            verify(recipeSearchRepository, times(2)).search(captor.capture());
+            RecipeSearchRepository.Criteria second = captor.getAllValues().get(1);
+            assertEquals(found.get(1).getParsedAt(), second.afterParsedAt());
+            assertEquals(found.get(1).getUrlHash().value(), second.afterUrlHash());
+        }
+
+        @Test
+        @DisplayName("rejects a malformed cursor")
+        void rejectsMalformedCursor() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> service.execute(new SearchRecipesQuery("soup", null, "not-a-cursor!", null)));
+        }
+    }
+}
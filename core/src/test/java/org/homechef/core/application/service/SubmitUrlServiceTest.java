@@ -1,11 +1,25 @@
 package org.homechef.core.application.service;
 
+import org.homechef.core.application.exception.PipelineOverloadedException;
+import org.homechef.core.application.exception.RateLimitExceededException;
+import org.homechef.core.application.port.in.dto.CompletionEstimate;
+import org.homechef.core.application.port.in.dto.ParseStatusResult;
+import org.homechef.core.application.port.in.dto.ParseStatusView;
 import org.homechef.core.application.port.in.dto.SubmitUrlCommand;
 import org.homechef.core.application.port.in.dto.SubmitUrlResult;
+import org.homechef.core.application.port.out.ParseAdmissionControl;
+import org.homechef.core.application.port.out.ParseCompletionEstimator;
 import org.homechef.core.application.port.out.ParseEventPublisher;
+import org.homechef.core.application.port.out.ParseFailureCache;
 import org.homechef.core.application.port.out.ParseRequestRepository;
+import org.homechef.core.application.port.out.ParseStatusProjection;
+import org.homechef.core.application.port.out.ParseStatusRegistry;
+import org.homechef.core.application.port.out.ReadYourWrites;
 import org.homechef.core.application.port.out.RecipeRepository;
 import org.homechef.core.application.port.out.ResourceRepository;
+import org.homechef.core.application.port.out.StageTimer;
+import org.homechef.core.application.port.out.SubmitRateLimiter;
+import org.homechef.core.application.port.out.WebhookDeliveryRepository;
 import org.homechef.core.domain.recipe.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,6 +32,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
@@ -43,9 +58,33 @@ class SubmitUrlServiceTest {
     @Mock
     private ParseRequestRepository parseRequestRepository;
 
+    @Mock
+    private ParseStatusProjection parseStatusProjection;
+
+    @Mock
+    private ParseStatusRegistry parseStatusRegistry;
+
     @Mock
     private ParseEventPublisher parseEventPublisher;
 
+    @Mock
+    private ParseFailureCache parseFailureCache;
+
+    @Mock
+    private SubmitRateLimiter submitRateLimiter;
+
+    @Mock
+    private ParseAdmissionControl parseAdmissionControl;
+
+    @Mock
+    private ReadYourWrites readYourWrites;
+
+    @Mock
+    private WebhookDeliveryRepository webhookDeliveryRepository;
+
+    @Mock
+    private ParseCompletionEstimator completionEstimator;
+
     @Captor
     private ArgumentCaptor<ParseRequest> parseRequestCaptor;
 
@@ -60,7 +99,17 @@ class SubmitUrlServiceTest {
             resourceRepository,
             recipeRepository,
             parseRequestRepository,
-            parseEventPublisher
+            parseStatusProjection,
+            parseStatusRegistry,
+            parseEventPublisher,
+            parseFailureCache,
+            submitRateLimiter,
+            parseAdmissionControl,
+            readYourWrites,
+            webhookDeliveryRepository,
+            completionEstimator,
+            StageTimer.untimed(),
+            true
         );
     }
 
@@ -104,6 +153,46 @@ class SubmitUrlServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("negative cache path")
+    class NegativeCachePath {
+
+        @Test
+        @DisplayName("returns FAILED with last error when URL failed recently")
+        void returnsFailedWhenRecentlyFailed() {
+            // Given
+            UrlHash urlHash = UrlHash.fromUrl(SAMPLE_URL);
+            ParseFailure failure = new ParseFailure(
+                urlHash,
+                "Page does not contain a recipe",
+                3,
+                Instant.now().plusSeconds(600)
+            );
+
+            when(recipeRepository.findFreshByUrlHash(any(UrlHash.class)))
+                .thenReturn(Optional.empty());
+            when(parseFailureCache.findBlocked(any(UrlHash.class)))
+                .thenReturn(Optional.of(failure));
+
+            SubmitUrlCommand command = SubmitUrlCommand.forGuest(SAMPLE_URL);
+
+            // When
+            SubmitUrlResult result = service.execute(command);
+
+            // Then
+            assertEquals(SubmitUrlResult.ResultType.FAILED, result.type());
+            assertEquals(ParseStatus.FAILED, result.status());
+            assertEquals("Page does not contain a recipe", result.errorMessage());
+            assertNull(result.requestId());
+            assertNull(result.recipe());
+
+            // Should not create a request or trigger another parse
+            verifyNoInteractions(parseRequestRepository);
+            verifyNoInteractions(resourceRepository);
+            verifyNoInteractions(parseEventPublisher);
+        }
+    }
+
     @Nested
     @DisplayName("dedup path")
     class DedupPath {
@@ -143,6 +232,32 @@ class SubmitUrlServiceTest {
             // Should not create new resources or publish events
             verify(resourceRepository, never()).save(any());
             verifyNoInteractions(parseEventPublisher);
+            verifyNoInteractions(webhookDeliveryRepository);
+        }
+
+        @Test
+        @DisplayName("registers the callback on the existing request")
+        void registersCallbackOnExistingRequest() {
+            // Given
+            ParseRequest existingRequest = ParseRequest.reconstitute(
+                UUID.randomUUID(),
+                null,
+                UrlHash.fromUrl(SAMPLE_URL).value(),
+                ParseStatus.PROCESSING,
+                null,
+                Instant.now(),
+                Instant.now()
+            );
+            when(recipeRepository.findFreshByUrlHash(any(UrlHash.class)))
+                .thenReturn(Optional.empty());
+            when(parseRequestRepository.findInFlightByUrlHash(any(UrlHash.class)))
+                .thenReturn(Optional.of(existingRequest));
+
+            // When
+            service.execute(new SubmitUrlCommand(SAMPLE_URL, SAMPLE_USER_ID, null, "https://partner.example.com/hooks"));
+
+            // Then
+            verify(webhookDeliveryRepository).register(existingRequest.getId(), "https://partner.example.com/hooks");
         }
 
         @Test
@@ -197,6 +312,12 @@ class SubmitUrlServiceTest {
             when(parseRequestRepository.save(any(ParseRequest.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
+            ParseStatusView view = new ParseStatusView(UUID.randomUUID(), ParseStatus.PENDING, new byte[0]);
+            when(parseStatusProjection.save(any(ParseStatusResult.class))).thenReturn(view);
+
+            CompletionEstimate estimate = new CompletionEstimate(Instant.now().plusSeconds(20), Duration.ofSeconds(20));
+            when(completionEstimator.estimate(ParseStatus.PENDING, ParseLane.PRIORITY)).thenReturn(estimate);
+
             SubmitUrlCommand command = SubmitUrlCommand.forUser(SAMPLE_URL, SAMPLE_USER_ID);
 
             // When
@@ -207,6 +328,7 @@ class SubmitUrlServiceTest {
             assertNotNull(result.requestId());
             assertEquals(ParseStatus.PENDING, result.status());
             assertNull(result.recipe());
+            assertEquals(estimate, result.estimate());
 
             // Verify resource was created
             verify(resourceRepository).save(resourceCaptor.capture());
@@ -220,6 +342,67 @@ class SubmitUrlServiceTest {
 
             // Verify event was published
             verify(parseEventPublisher).publishParseRequest(any(ParseRequest.class), eq(SAMPLE_URL));
+
+            // Verify the status view was written with the request and kept in memory
+            verify(parseStatusProjection).save(ParseStatusResult.pending(savedRequest.getId()));
+            verify(parseStatusRegistry).put(view);
+
+            // Verify the write is tracked for read-your-writes
+            verify(readYourWrites).recordWrite(savedRequest.getId());
+        }
+
+        @Test
+        @DisplayName("registers the callback on the new request")
+        void registersCallbackOnNewRequest() {
+            // Given
+            when(recipeRepository.findFreshByUrlHash(any(UrlHash.class)))
+                .thenReturn(Optional.empty());
+            when(parseRequestRepository.findInFlightByUrlHash(any(UrlHash.class)))
+                .thenReturn(Optional.empty());
+            when(resourceRepository.findByUrlHash(any(UrlHash.class)))
+                .thenReturn(Optional.of(Resource.create(SAMPLE_URL)));
+            when(parseRequestRepository.save(any(ParseRequest.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            SubmitUrlResult result = service.execute(
+                new SubmitUrlCommand(SAMPLE_URL, SAMPLE_USER_ID, null, "https://partner.example.com/hooks"));
+
+            // Then
+            verify(webhookDeliveryRepository).register(result.requestId(), "https://partner.example.com/hooks");
+        }
+
+        @Test
+        @DisplayName("rejects a callback when webhooks are disabled")
+        void rejectsCallbackWhenDisabled() {
+            // Given
+            SubmitUrlService withoutWebhooks = new SubmitUrlService(resourceRepository, recipeRepository,
+                parseRequestRepository, parseStatusProjection, parseStatusRegistry, parseEventPublisher,
+                parseFailureCache, submitRateLimiter, parseAdmissionControl, readYourWrites,
+                webhookDeliveryRepository, completionEstimator, StageTimer.untimed(), false);
+            SubmitUrlCommand command = new SubmitUrlCommand(SAMPLE_URL, SAMPLE_USER_ID, null, "https://partner.example.com/hooks");
+
+            // When / Then
+            assertThrows(IllegalArgumentException.class, () -> withoutWebhooks.execute(command));
+            verifyNoInteractions(parseRequestRepository, webhookDeliveryRepository);
+        }
+
+        @Test
+        @DisplayName("rejects a callback from a guest")
+        void rejectsGuestCallback() {
+            // Given
+            SubmitUrlCommand command = new SubmitUrlCommand(SAMPLE_URL, null, null, "https://partner.example.com/hooks");
+
+            // When / Then
+            assertThrows(IllegalArgumentException.class, () -> service.execute(command));
+            verifyNoInteractions(parseRequestRepository, webhookDeliveryRepository);
+        }
+
+        @Test
+        @DisplayName("rejects a callback that is not https")
+        void rejectsPlainHttpCallback() {
+            assertThrows(IllegalArgumentException.class,
+                () -> new SubmitUrlCommand(SAMPLE_URL, SAMPLE_USER_ID, null, "http://partner.example.com/hooks"));
         }
 
         @Test
@@ -271,6 +454,94 @@ class SubmitUrlServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("admission control path")
+    class AdmissionControlPath {
+
+        @Test
+        @DisplayName("sheds new parse request when pipeline is overloaded")
+        void shedsWhenOverloaded() {
+            // Given
+            when(recipeRepository.findFreshByUrlHash(any(UrlHash.class)))
+                .thenReturn(Optional.empty());
+            when(parseRequestRepository.findInFlightByUrlHash(any(UrlHash.class)))
+                .thenReturn(Optional.empty());
+            when(parseAdmissionControl.checkAdmission(SAMPLE_USER_ID))
+                .thenReturn(Optional.of(Duration.ofSeconds(30)));
+
+            SubmitUrlCommand command = SubmitUrlCommand.forUser(SAMPLE_URL, SAMPLE_USER_ID);
+
+            // When / Then
+            PipelineOverloadedException e = assertThrows(PipelineOverloadedException.class,
+                () -> service.execute(command));
+            assertEquals(Duration.ofSeconds(30), e.getRetryAfter());
+
+            // Shed requests do not consume quota or create work
+            verifyNoInteractions(submitRateLimiter);
+            verify(parseRequestRepository, never()).save(any());
+            verifyNoInteractions(parseEventPublisher);
+        }
+
+        @Test
+        @DisplayName("serves cache hits even when pipeline is overloaded")
+        void servesCacheHits() {
+            // Given
+            Recipe freshRecipe = Recipe.create(UrlHash.fromUrl(SAMPLE_URL), "Lasagna", List.of());
+            when(recipeRepository.findFreshByUrlHash(any(UrlHash.class)))
+                .thenReturn(Optional.of(freshRecipe));
+
+            // When
+            SubmitUrlResult result = service.execute(SubmitUrlCommand.forGuest(SAMPLE_URL));
+
+            // Then
+            assertEquals(SubmitUrlResult.ResultType.CACHED, result.type());
+            verifyNoInteractions(parseAdmissionControl);
+        }
+    }
+
+    @Nested
+    @DisplayName("rate limit path")
+    class RateLimitPath {
+
+        @Test
+        @DisplayName("rejects new parse request when quota is exhausted")
+        void rejectsWhenQuotaExhausted() {
+            // Given
+            when(recipeRepository.findFreshByUrlHash(any(UrlHash.class)))
+                .thenReturn(Optional.empty());
+            when(parseRequestRepository.findInFlightByUrlHash(any(UrlHash.class)))
+                .thenReturn(Optional.empty());
+            when(submitRateLimiter.tryAcquire(isNull(), eq("203.0.113.7")))
+                .thenReturn(Optional.of(Duration.ofSeconds(6)));
+
+            SubmitUrlCommand command = new SubmitUrlCommand(SAMPLE_URL, null, "203.0.113.7", null);
+
+            // When / Then
+            RateLimitExceededException e = assertThrows(RateLimitExceededException.class,
+                () -> service.execute(command));
+            assertEquals(Duration.ofSeconds(6), e.getRetryAfter());
+
+            verify(parseRequestRepository, never()).save(any());
+            verifyNoInteractions(resourceRepository);
+            verifyNoInteractions(parseEventPublisher);
+        }
+
+        @Test
+        @DisplayName("does not charge quota for cache hits")
+        void cacheHitIsExempt() {
+            // Given
+            Recipe freshRecipe = Recipe.create(UrlHash.fromUrl(SAMPLE_URL), "Lasagna", List.of());
+            when(recipeRepository.findFreshByUrlHash(any(UrlHash.class)))
+                .thenReturn(Optional.of(freshRecipe));
+
+            // When
+            service.execute(SubmitUrlCommand.forGuest(SAMPLE_URL));
+
+            // Then
+            verifyNoInteractions(submitRateLimiter);
+        }
+    }
+
     @Nested
     @DisplayName("URL hash consistency")
     class UrlHashConsistency {
@@ -0,0 +1,170 @@
+package org.homechef.core.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+import java.util.stream.IntStream;
+
+import static org.homechef.core.config.logging.LogMarkers.SAMPLED;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SamplingTurboFilter")
+class SamplingTurboFilterTest {
+
+    private static final String SAMPLED_LOGGER = "org.homechef.core.application.service.GetParseStatusService";
+
+    private LoggerContext context;
+    private SamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.DEBUG);
+        filter = new SamplingTurboFilter();
+        filter.setContext(context);
+        filter.setMaxLevel("INFO");
+        filter.setMarker("SAMPLED");
+        filter.addSample(SAMPLED_LOGGER + "=10");
+        filter.start();
+    }
+
+    private FilterReply decide(Marker marker, Logger logger, Level level) {
+        return filter.decide(marker, logger, level, "message", null, null);
+    }
+
+    private long kept(Marker marker, Logger logger, Level level, int events) {
+        return IntStream.range(0, events)
+                .mapToObj(i -> decide(marker, logger, level))
+                .filter(reply -> reply == FilterReply.NEUTRAL)
+                .count();
+    }
+
+    @Nested
+    @DisplayName("marked events")
+    class MarkedEvents {
+
+        @Test
+        @DisplayName("keeps one in N INFO events for a sampled logger")
+        void keepsOneInN() {
+            // Given
+            Logger logger = context.getLogger(SAMPLED_LOGGER);
+
+            // When
+            long kept = kept(SAMPLED, logger, Level.INFO, 100);
+
+            // Then
+            assertEquals(10, kept);
+        }
+
+        @Test
+        @DisplayName("samples events whose marker references the configured one")
+        void matchesReferencedMarker() {
+            // Given
+            Logger logger = context.getLogger(SAMPLED_LOGGER);
+            Marker outer = MarkerFactory.getDetachedMarker("POLL");
+            outer.add(SAMPLED);
+
+            // When
+            long kept = kept(outer, logger, Level.INFO, 100);
+
+            // Then
+            assertEquals(10, kept);
+        }
+
+        @Test
+        @DisplayName("never samples events above maxLevel")
+        void keepsWarnings() {
+            // Given
+            Logger logger = context.getLogger(SAMPLED_LOGGER);
+
+            // When
+            long kept = kept(SAMPLED, logger, Level.WARN, 20);
+
+            // Then
+            assertEquals(20, kept);
+        }
+
+        @Test
+        @DisplayName("leaves loggers without a rule untouched")
+        void ignoresUnmatchedLoggers() {
+            // Given
+            Logger logger = context.getLogger("org.homechef.core.application.service.GetParseStatusServiceImpl");
+
+            // When
+            long kept = kept(SAMPLED, logger, Level.INFO, 20);
+
+            // Then
+            assertEquals(20, kept);
+        }
+
+        @Test
+        @DisplayName("applies a rule to child loggers")
+        void matchesChildLoggers() {
+            // Given
+            Logger child = context.getLogger(SAMPLED_LOGGER + ".Inner");
+
+            // When
+            FilterReply first = decide(SAMPLED, child, Level.INFO);
+            FilterReply second = decide(SAMPLED, child, Level.INFO);
+
+            // Then
+            assertEquals(FilterReply.NEUTRAL, first);
+            assertEquals(FilterReply.DENY, second);
+        }
+    }
+
+    @Nested
+    @DisplayName("unmarked events")
+    class UnmarkedEvents {
+
+        @Test
+        @DisplayName("keeps every event of a sampled logger logged without a marker")
+        void keepsUnmarked() {
+            // Given
+            Logger logger = context.getLogger(SAMPLED_LOGGER);
+
+            // When
+            long kept = kept(null, logger, Level.INFO, 20);
+
+            // Then
+            assertEquals(20, kept);
+        }
+
+        @Test
+        @DisplayName("keeps every event logged with a different marker")
+        void keepsOtherMarkers() {
+            // Given
+            Logger logger = context.getLogger(SAMPLED_LOGGER);
+
+            // When
+            long kept = kept(MarkerFactory.getMarker("AUDIT"), logger, Level.INFO, 20);
+
+            // Then
+            assertEquals(20, kept);
+        }
+
+        @Test
+        @DisplayName("does not advance the sample counter")
+        void doesNotShiftSampling() {
+            // Given
+            Logger logger = context.getLogger(SAMPLED_LOGGER);
+            kept(null, logger, Level.INFO, 5);
+
+            // When
+            FilterReply first = decide(SAMPLED, logger, Level.INFO);
+            FilterReply second = decide(SAMPLED, logger, Level.INFO);
+
+            // Then
+            assertEquals(FilterReply.NEUTRAL, first);
+            assertEquals(FilterReply.DENY, second);
+        }
+    }
+}
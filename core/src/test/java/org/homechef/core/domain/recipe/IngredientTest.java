@@ -4,6 +4,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -165,6 +166,44 @@ class IngredientTest {
         }
     }
 
+    @Nested
+    @DisplayName("normalizeName()")
+    class NormalizeName {
+
+        @ParameterizedTest(name = "\"{0}\" -> \"{1}\"")
+        @CsvSource({
+                "Tomatoes, tomato",
+                "'Tomatoes (ripe), diced', tomato",
+                "Cherry Tomatoes, cherry tomato",
+                "Salt to taste, salt",
+                "parsley for garnish, parsley",
+                "Berries, berry",
+                "Potatoes, potato",
+                "Eggs, egg",
+                "Couscous, couscous",
+                "Hummus, hummus",
+                "'  Extra-Virgin   Olive Oil ', extra-virgin olive oil"
+        })
+        @DisplayName("maps spelling variants to one name")
+        void normalizesVariants(String raw, String expected) {
+            assertEquals(expected, Ingredient.normalizeName(raw));
+        }
+
+        @ParameterizedTest
+        @NullAndEmptySource
+        @ValueSource(strings = {"(optional)", "123 !"})
+        @DisplayName("returns empty when nothing is left")
+        void returnsEmptyWhenNothingLeft(String raw) {
+            assertEquals("", Ingredient.normalizeName(raw));
+        }
+
+        @Test
+        @DisplayName("normalizedName() normalizes the ingredient's name")
+        void normalizedNameUsesName() {
+            assertEquals("onion", Ingredient.of(new BigDecimal("2"), null, "Onions, chopped").normalizedName());
+        }
+    }
+
     @Nested
     @DisplayName("equality (record)")
     class Equality {
@@ -0,0 +1,80 @@
+package org.homechef.core.domain.recipe;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ParseFailure")
+class ParseFailureTest {
+
+    private static final UrlHash URL_HASH = UrlHash.fromUrl("https://example.com/not-a-recipe");
+    private static final Duration BASE = Duration.ofMinutes(5);
+    private static final Duration MAX = Duration.ofHours(1);
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+    @Nested
+    @DisplayName("backoff")
+    class Backoff {
+
+        @Test
+        @DisplayName("first failure blocks for the base backoff")
+        void firstFailureUsesBaseBackoff() {
+            ParseFailure failure = ParseFailure.first(URL_HASH, "Not a recipe", BASE, MAX, NOW);
+
+            assertEquals(1, failure.attempts());
+            assertEquals(NOW.plus(BASE), failure.blockedUntil());
+            assertEquals("Not a recipe", failure.errorMessage());
+        }
+
+        @Test
+        @DisplayName("each consecutive failure doubles the backoff")
+        void consecutiveFailuresDoubleBackoff() {
+            ParseFailure failure = ParseFailure.first(URL_HASH, "Not a recipe", BASE, MAX, NOW)
+                    .next("Still not a recipe", BASE, MAX, NOW);
+
+            assertEquals(2, failure.attempts());
+            assertEquals(NOW.plus(Duration.ofMinutes(10)), failure.blockedUntil());
+            assertEquals("Still not a recipe", failure.errorMessage());
+        }
+
+        @Test
+        @DisplayName("backoff is capped at the maximum")
+        void backoffIsCapped() {
+            assertEquals(MAX, ParseFailure.backoffFor(10, BASE, MAX));
+            assertEquals(MAX, ParseFailure.backoffFor(Integer.MAX_VALUE, BASE, MAX));
+        }
+    }
+
+    @Nested
+    @DisplayName("isBlocked()")
+    class IsBlocked {
+
+        @Test
+        @DisplayName("is blocked inside the backoff window")
+        void blockedInsideWindow() {
+            ParseFailure failure = ParseFailure.first(URL_HASH, null, BASE, MAX, NOW);
+
+            assertTrue(failure.isBlocked(NOW.plusSeconds(60)));
+        }
+
+        @Test
+        @DisplayName("is not blocked once the backoff has elapsed")
+        void notBlockedAfterWindow() {
+            ParseFailure failure = ParseFailure.first(URL_HASH, null, BASE, MAX, NOW);
+
+            assertFalse(failure.isBlocked(NOW.plus(BASE)));
+        }
+    }
+
+    @Test
+    @DisplayName("rejects non-positive attempt count")
+    void rejectsNonPositiveAttempts() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParseFailure(URL_HASH, null, 0, NOW));
+    }
+}
@@ -0,0 +1,65 @@
+package org.homechef.core.domain.recipe;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ParseLane")
+class ParseLaneTest {
+
+    private static final UrlHash URL_HASH = UrlHash.fromUrl("https://example.com/recipe");
+
+    @Nested
+    @DisplayName("forUser()")
+    class ForUser {
+
+        @Test
+        @DisplayName("authenticated users go to the priority lane")
+        void authenticatedIsPriority() {
+            assertEquals(ParseLane.PRIORITY, ParseLane.forUser(UUID.randomUUID()));
+        }
+
+        @Test
+        @DisplayName("guests go to the standard lane")
+        void guestIsStandard() {
+            assertEquals(ParseLane.STANDARD, ParseLane.forUser(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("of()")
+    class Of {
+
+        @Test
+        @DisplayName("a request with a user is in the priority lane")
+        void userRequestIsPriority() {
+            ParseRequest request = ParseRequest.create(URL_HASH, UUID.randomUUID());
+
+            assertEquals(ParseLane.PRIORITY, ParseLane.of(request));
+        }
+
+        @Test
+        @DisplayName("a guest request is in the standard lane")
+        void guestRequestIsStandard() {
+            ParseRequest request = ParseRequest.createForGuest(URL_HASH);
+
+            assertEquals(ParseLane.STANDARD, ParseLane.of(request));
+        }
+    }
+
+    @Nested
+    @DisplayName("tag()")
+    class Tag {
+
+        @Test
+        @DisplayName("is the lowercase name")
+        void lowercaseName() {
+            assertEquals("priority", ParseLane.PRIORITY.tag());
+            assertEquals("standard", ParseLane.STANDARD.tag());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.homechef.core.loadtest;
+
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+
+/**
+ * Simulated parser latency: log-normal with the given median and p99, plus a failure rate.
+ * LLM response times are right-skewed, so a log-normal tail is closer to reality than a fixed delay.
+ */
+record LatencyProfile(Duration median, Duration p99, double failureRate) {
+
+    /** z-score of the 99th percentile of a standard normal distribution. */
+    private static final double Z_99 = 2.326;
+
+    LatencyProfile {
+        if (median.isNegative() || median.isZero()) {
+            throw new IllegalArgumentException("median must be positive");
+        }
+        if (p99.compareTo(median) < 0) {
+            throw new IllegalArgumentException("p99 must not be below the median");
+        }
+        if (failureRate < 0 || failureRate > 1) {
+            throw new IllegalArgumentException("failureRate must be between 0 and 1");
+        }
+    }
+
+    Duration sampleLatency(RandomGenerator random) {
+        double sigma = Math.log((double) p99.toNanos() / median.toNanos()) / Z_99;
+        double nanos = median.toNanos() * Math.exp(sigma * random.nextGaussian());
+        return Duration.ofNanos((long) nanos);
+    }
+
+    boolean sampleFailure(RandomGenerator random) {
+        return random.nextDouble() < failureRate;
+    }
+}
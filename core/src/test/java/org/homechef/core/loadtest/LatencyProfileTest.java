@@ -0,0 +1,105 @@
+package org.homechef.core.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LatencyProfile")
+class LatencyProfileTest {
+
+    @Nested
+    @DisplayName("sampleLatency()")
+    class SampleLatency {
+
+        @Test
+        @DisplayName("centres on the configured median with the configured p99")
+        void matchesMedianAndP99() {
+            // Given
+            LatencyProfile profile = new LatencyProfile(Duration.ofSeconds(2), Duration.ofSeconds(10), 0);
+            Random random = new Random(7);
+
+            // When
+            long[] millis = IntStream.range(0, 20_001)
+                    .mapToLong(i -> profile.sampleLatency(random).toMillis())
+                    .sorted()
+                    .toArray();
+
+            // Then
+            assertEquals(2000L, millis[10_000], 100L);
+            assertEquals(10_000L, millis[19_800], 1000L);
+        }
+
+        @Test
+        @DisplayName("is constant when p99 equals the median")
+        void constantWithoutSpread() {
+            // Given
+            LatencyProfile profile = new LatencyProfile(Duration.ofSeconds(1), Duration.ofSeconds(1), 0);
+
+            // When
+            Duration latency = profile.sampleLatency(new Random(5));
+
+            // Then
+            assertEquals(Duration.ofSeconds(1), latency);
+        }
+    }
+
+    @Nested
+    @DisplayName("sampleFailure()")
+    class SampleFailure {
+
+        @Test
+        @DisplayName("fails at roughly the configured rate")
+        void failsAtConfiguredRate() {
+            // Given
+            LatencyProfile profile = new LatencyProfile(Duration.ofSeconds(1), Duration.ofSeconds(1), 0.1);
+            Random random = new Random(3);
+
+            // When
+            long failures = IntStream.range(0, 10_000).filter(i -> profile.sampleFailure(random)).count();
+
+            // Then
+            assertEquals(1000L, failures, 100L);
+        }
+
+        @Test
+        @DisplayName("never fails with a zero rate")
+        void neverFailsAtZero() {
+            LatencyProfile profile = new LatencyProfile(Duration.ofSeconds(1), Duration.ofSeconds(1), 0);
+            Random random = new Random(3);
+
+            assertTrue(IntStream.range(0, 1000).noneMatch(i -> profile.sampleFailure(random)));
+        }
+    }
+
+    @Nested
+    @DisplayName("validation")
+    class Validation {
+
+        @Test
+        @DisplayName("rejects a p99 below the median")
+        void rejectsP99BelowMedian() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new LatencyProfile(Duration.ofSeconds(5), Duration.ofSeconds(1), 0));
+        }
+
+        @Test
+        @DisplayName("rejects a zero median")
+        void rejectsZeroMedian() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new LatencyProfile(Duration.ZERO, Duration.ofSeconds(1), 0));
+        }
+
+        @Test
+        @DisplayName("rejects a failure rate outside 0..1")
+        void rejectsFailureRateOutOfRange() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new LatencyProfile(Duration.ofSeconds(1), Duration.ofSeconds(1), 1.5));
+        }
+    }
+}
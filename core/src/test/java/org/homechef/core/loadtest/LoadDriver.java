@@ -0,0 +1,206 @@
+package org.homechef.core.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop HTTP driver: submits URLs drawn from {@link ZipfianUrls} at a fixed rate and
+ * polls accepted requests until they finish, the way the frontend does.
+ * <p>
+ * Submissions are issued on schedule regardless of how slowly earlier ones complete, and submit
+ * latency is measured from the scheduled start, so a stalled server shows up as latency rather
+ * than as a lower request rate (coordinated omission).
+ */
+final class LoadDriver {
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ScheduledExecutorService pollScheduler = Executors.newScheduledThreadPool(2);
+    private final LoadStats stats = new LoadStats();
+    private final Set<Integer> requestedRanks = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final String baseUrl;
+    private final ZipfianUrls urls;
+    private final Settings settings;
+    private final List<String> tokens = new ArrayList<>();
+
+    /**
+     * @param submitsPerSecond  target arrival rate of POST /parse
+     * @param duration          how long to keep submitting
+     * @param users             registered users to spread submissions over (per-user rate limits)
+     * @param pollInterval      delay between status polls of an accepted request
+     * @param completionTimeout give up polling a request after this long
+     */
+    record Settings(double submitsPerSecond, Duration duration, int users,
+                    Duration pollInterval, Duration completionTimeout) {
+    }
+
+    LoadDriver(String baseUrl, ZipfianUrls urls, Settings settings) {
+        this.baseUrl = baseUrl;
+        this.urls = urls;
+        this.settings = settings;
+    }
+
+    LoadReport run() throws IOException, InterruptedException {
+        registerUsers();
+
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / settings.submitsPerSecond());
+        long start = System.nanoTime();
+        long end = start + settings.duration().toNanos();
+        for (long i = 0, scheduled = start; scheduled < end; i++, scheduled = start + i * intervalNanos) {
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            submit(scheduled, tokens.get((int) (i % tokens.size())));
+        }
+
+        Duration submitWindow = Duration.ofNanos(System.nanoTime() - start);
+        awaitInFlight();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        pollScheduler.shutdownNow();
+        return stats.toReport(submitWindow, elapsed, requestedRanks.size());
+    }
+
+    private void registerUsers() throws IOException, InterruptedException {
+        for (int i = 0; i < settings.users(); i++) {
+            String body = "{\"email\":\"loadtest-" + UUID.randomUUID() + "@example.com\",\"password\":\"loadtest-password\"}";
+            HttpResponse<String> response = httpClient.send(post("/auth/register", body, null),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException("Could not register load-test user: HTTP " + response.statusCode());
+            }
+            tokens.add(objectMapper.readTree(response.body()).get("accessToken").asText());
+        }
+    }
+
+    private void submit(long scheduledNanos, String token) {
+        int rank = urls.sampleRank(ThreadLocalRandom.current());
+        requestedRanks.add(rank);
+        String body = "{\"url\":\"" + urls.url(rank) + "\"}";
+
+        inFlight.incrementAndGet();
+        httpClient.sendAsync(post("/api/v1/recipes/parse", body, token), HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, error) -> {
+                    stats.recordSubmit(Duration.ofNanos(System.nanoTime() - scheduledNanos));
+                    if (error != null) {
+                        stats.error();
+                        inFlight.decrementAndGet();
+                        return;
+                    }
+                    handleSubmitResponse(response, scheduledNanos, token);
+                });
+    }
+
+    private void handleSubmitResponse(HttpResponse<String> response, long scheduledNanos, String token) {
+        try {
+            switch (response.statusCode()) {
+                case 200 -> {
+                    String status = readTree(response).path("status").asText();
+                    if ("COMPLETED".equals(status)) {
+                        stats.cacheHit();
+                    } else {
+                        stats.negativeCacheHit();
+                    }
+                }
+                case 202 -> {
+                    stats.accepted();
+                    UUID requestId = UUID.fromString(readTree(response).get("requestId").asText());
+                    schedulePoll(requestId, scheduledNanos, token);
+                    return;
+                }
+                case 429, 503 -> stats.rejected();
+                default -> stats.error();
+            }
+        } catch (RuntimeException e) {
+            stats.error();
+        }
+        inFlight.decrementAndGet();
+    }
+
+    private void schedulePoll(UUID requestId, long scheduledNanos, String token) {
+        pollScheduler.schedule(() -> poll(requestId, scheduledNanos, token),
+                settings.pollInterval().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void poll(UUID requestId, long scheduledNanos, String token) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/recipes/parse-requests/" + requestId))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, error) -> {
+                    if (error != null || response.statusCode() != 200) {
+                        stats.pollError();
+                        inFlight.decrementAndGet();
+                        return;
+                    }
+                    handlePollResponse(response, requestId, scheduledNanos, token);
+                });
+    }
+
+    private void handlePollResponse(HttpResponse<String> response, UUID requestId, long scheduledNanos, String token) {
+        Duration sinceSubmit = Duration.ofNanos(System.nanoTime() - scheduledNanos);
+        try {
+            String status = readTree(response).path("status").asText();
+            if ("COMPLETED".equals(status) || "FAILED".equals(status)) {
+                stats.recordCompletion(sinceSubmit, "COMPLETED".equals(status));
+            } else if (sinceSubmit.compareTo(settings.completionTimeout()) > 0) {
+                stats.timedOut();
+            } else {
+                schedulePoll(requestId, scheduledNanos, token);
+                return;
+            }
+        } catch (RuntimeException e) {
+            stats.pollError();
+        }
+        inFlight.decrementAndGet();
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + settings.completionTimeout().plusSeconds(10).toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+    }
+
+    private HttpRequest post(String path, String body, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(10))
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private JsonNode readTree(HttpResponse<String> response) {
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            throw new IllegalStateException("Unreadable response body", e);
+        }
+    }
+}
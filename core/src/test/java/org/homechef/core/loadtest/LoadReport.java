@@ -0,0 +1,64 @@
+package org.homechef.core.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Result of a load-test run. Latencies are in milliseconds.
+ *
+ * @param submitsPerSecond     POST /parse calls per second, including rejected ones
+ * @param completionsPerSecond parse requests observed reaching COMPLETED or FAILED per second
+ * @param cacheHitRatio        share of answered submissions served from the recipe cache
+ * @param submitLatency        POST /parse response time
+ * @param completionLatency    time from an accepted submission until polling saw a final status
+ */
+record LoadReport(
+        long durationSeconds,
+        long submissions,
+        double submitsPerSecond,
+        double completionsPerSecond,
+        double cacheHitRatio,
+        int uniqueUrls,
+        long cacheHits,
+        long negativeCacheHits,
+        long accepted,
+        long rejected,
+        long errors,
+        long pollErrors,
+        long completed,
+        long failed,
+        long timedOut,
+        Percentiles submitLatency,
+        Percentiles completionLatency
+) {
+
+    record Percentiles(long count, double p50, double p95, double p99, double max) {
+
+        static Percentiles of(Histogram micros) {
+            return new Percentiles(
+                    micros.getTotalCount(),
+                    micros.getValueAtPercentile(50) / 1000d,
+                    micros.getValueAtPercentile(95) / 1000d,
+                    micros.getValueAtPercentile(99) / 1000d,
+                    micros.getMaxValue() / 1000d);
+        }
+    }
+
+    String toText() {
+        return String.format("""
+                Duration            %d s
+                Submissions         %d (%.1f/s), %d unique URLs
+                Completions         %.1f/s (%d completed, %d failed, %d timed out)
+                Cache hit ratio     %.1f%% (%d hits, %d negative hits, %d accepted)
+                Rejected / errors   %d / %d (poll errors %d)
+                Submit latency      p50 %.1f ms  p95 %.1f ms  p99 %.1f ms  max %.1f ms
+                Completion latency  p50 %.1f ms  p95 %.1f ms  p99 %.1f ms  max %.1f ms
+                """,
+                durationSeconds,
+                submissions, submitsPerSecond, uniqueUrls,
+                completionsPerSecond, completed, failed, timedOut,
+                cacheHitRatio * 100, cacheHits, negativeCacheHits, accepted,
+                rejected, errors, pollErrors,
+                submitLatency.p50(), submitLatency.p95(), submitLatency.p99(), submitLatency.max(),
+                completionLatency.p50(), completionLatency.p95(), completionLatency.p99(), completionLatency.max());
+    }
+}
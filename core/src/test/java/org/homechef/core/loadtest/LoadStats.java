@@ -0,0 +1,95 @@
+package org.homechef.core.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe counters and latency histograms collected by the {@link LoadDriver}.
+ */
+final class LoadStats {
+
+    private static final long MAX_TRACKED_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final Histogram submitLatency = new ConcurrentHistogram(MAX_TRACKED_MICROS, 3);
+    private final Histogram completionLatency = new ConcurrentHistogram(MAX_TRACKED_MICROS, 3);
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder negativeCacheHits = new LongAdder();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder pollErrors = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    void recordSubmit(Duration latency) {
+        submitLatency.recordValue(Math.min(latency.toNanos() / 1_000, MAX_TRACKED_MICROS));
+    }
+
+    void recordCompletion(Duration latency, boolean success) {
+        completionLatency.recordValue(Math.min(latency.toNanos() / 1_000, MAX_TRACKED_MICROS));
+        (success ? completed : failed).increment();
+    }
+
+    void cacheHit() {
+        cacheHits.increment();
+    }
+
+    void negativeCacheHit() {
+        negativeCacheHits.increment();
+    }
+
+    void accepted() {
+        accepted.increment();
+    }
+
+    void rejected() {
+        rejected.increment();
+    }
+
+    void error() {
+        errors.increment();
+    }
+
+    void pollError() {
+        pollErrors.increment();
+    }
+
+    void timedOut() {
+        timedOut.increment();
+    }
+
+    /**
+     * @param submitWindow time spent issuing submissions
+     * @param elapsed      submit window plus the time taken for in-flight requests to finish
+     */
+    LoadReport toReport(Duration submitWindow, Duration elapsed, int uniqueUrls) {
+        long hits = cacheHits.sum();
+        long answered = hits + negativeCacheHits.sum() + accepted.sum();
+        long submissions = answered + rejected.sum() + errors.sum();
+        double submitSeconds = Math.max(submitWindow.toMillis(), 1) / 1000d;
+        double seconds = Math.max(elapsed.toMillis(), 1) / 1000d;
+        return new LoadReport(
+                elapsed.toSeconds(),
+                submissions,
+                submissions / submitSeconds,
+                (completed.sum() + failed.sum()) / seconds,
+                answered == 0 ? 0 : (double) hits / answered,
+                uniqueUrls,
+                hits,
+                negativeCacheHits.sum(),
+                accepted.sum(),
+                rejected.sum(),
+                errors.sum(),
+                pollErrors.sum(),
+                completed.sum(),
+                failed.sum(),
+                timedOut.sum(),
+                LoadReport.Percentiles.of(submitLatency),
+                LoadReport.Percentiles.of(completionLatency));
+    }
+}
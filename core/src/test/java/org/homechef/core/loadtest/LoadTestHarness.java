@@ -0,0 +1,126 @@
+package org.homechef.core.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.homechef.core.CoreApplication;
+import org.homechef.core.adapter.kafka.WireFormat;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.KafkaContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * End-to-end load test of submit &rarr; Kafka &rarr; parse &rarr; result &rarr; poll, with the LLM parser
+ * replaced by {@link StubParser}.
+ * <p>
+ * By default everything runs locally: Postgres and Kafka in Testcontainers, core in-process
+ * with the {@code test} profile and rate limiting off, and the stub parser on the same Kafka.
+ * Set {@code loadtest.base-url} to drive an already running stack instead; the stub parser
+ * is then only started when {@code loadtest.kafka} is also set.
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.homechef.core.loadtest.LoadTestHarness \
+ *     -Dloadtest.rate=50 -Dloadtest.duration=PT2M -Dloadtest.parser-median=PT3S
+ * </pre>
+ * Not part of the test suite. Prints a summary and writes it as JSON to {@code target/loadtest/}.
+ */
+public final class LoadTestHarness {
+
+    private LoadTestHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadDriver.Settings settings = new LoadDriver.Settings(
+                Double.parseDouble(System.getProperty("loadtest.rate", "20")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT1M")),
+                Integer.getInteger("loadtest.users", 10),
+                Duration.parse(System.getProperty("loadtest.poll-interval", "PT1S")),
+                Duration.parse(System.getProperty("loadtest.completion-timeout", "PT2M")));
+        ZipfianUrls urls = new ZipfianUrls(
+                System.getProperty("loadtest.url-prefix", "https://example.com/loadtest/recipe-"),
+                Integer.getInteger("loadtest.catalog-size", 10_000),
+                Double.parseDouble(System.getProperty("loadtest.zipf-exponent", "1.0")));
+        LatencyProfile latency = new LatencyProfile(
+                Duration.parse(System.getProperty("loadtest.parser-median", "PT2S")),
+                Duration.parse(System.getProperty("loadtest.parser-p99", "PT15S")),
+                Double.parseDouble(System.getProperty("loadtest.parser-failure-rate", "0.02")));
+        int parserConcurrency = Integer.getInteger("loadtest.parser-concurrency", 32);
+        List<String> requestTopics = Arrays.asList(
+                System.getProperty("loadtest.request-topics", "parse-requests,parse-requests-priority").split(","));
+        String resultTopic = System.getProperty("loadtest.result-topic", "parse-results");
+        // Applies to both topics; the stub parser reads either request format
+        WireFormat wireFormat = WireFormat.valueOf(System.getProperty("loadtest.wire-format", "json").toUpperCase());
+
+        String externalBaseUrl = System.getProperty("loadtest.base-url");
+        if (externalBaseUrl != null) {
+            String kafka = System.getProperty("loadtest.kafka");
+            StubParser parser = kafka != null
+                    ? new StubParser(kafka, requestTopics, resultTopic, latency, parserConcurrency, wireFormat)
+                    : null;
+            run(externalBaseUrl, urls, settings, parser);
+            return;
+        }
+
+        try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16"));
+             KafkaContainer kafka = new KafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:7.6.0"))) {
+            postgres.start();
+            kafka.start();
+
+            Map<String, Object> properties = new HashMap<>();
+            properties.put("server.port", "0");
+            properties.put("spring.datasource.url", postgres.getJdbcUrl());
+            properties.put("spring.datasource.username", postgres.getUsername());
+            properties.put("spring.datasource.password", postgres.getPassword());
+            properties.put("spring.kafka.bootstrap-servers", kafka.getBootstrapServers());
+            properties.put("homechef.kafka.topic.parse-request", requestTopics.get(0));
+            properties.put("homechef.kafka.topic.parse-result", resultTopic);
+            properties.put("homechef.kafka.wire-format.parse-request", wireFormat.name());
+            properties.put("homechef.kafka.wire-format.parse-result",
+                    wireFormat.writesBinary() ? WireFormat.BINARY.name() : WireFormat.COMPAT.name());
+            properties.put("homechef.rate-limit.enabled", "false");
+            properties.put("homechef.import.enabled", "false");
+            properties.put("logging.level.org.homechef", "WARN");
+
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CoreApplication.class)
+                    .profiles("test")
+                    .properties(properties)
+                    .run()) {
+                String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+                run(baseUrl, urls, settings,
+                        new StubParser(kafka.getBootstrapServers(), requestTopics, resultTopic, latency,
+                                parserConcurrency, wireFormat));
+            }
+        }
+    }
+
+    private static void run(String baseUrl, ZipfianUrls urls, LoadDriver.Settings settings, StubParser parser)
+            throws Exception {
+        LoadReport report;
+        if (parser != null) {
+            parser.start();
+        }
+        try {
+            report = new LoadDriver(baseUrl, urls, settings).run();
+        } finally {
+            if (parser != null) {
+                parser.close();
+            }
+        }
+
+        System.out.println(report.toText());
+        Path output = Path.of("target", "loadtest", "report-" + Instant.now().getEpochSecond() + ".json");
+        Files.createDirectories(output.getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output.toFile(), report);
+        System.out.println("Report written to " + output.toAbsolutePath());
+    }
+}
@@ -0,0 +1,155 @@
+package org.homechef.core.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.homechef.core.adapter.in.kafka.ParseResultEvent;
+import org.homechef.core.adapter.in.kafka.ParseResultEventCodec;
+import org.homechef.core.adapter.kafka.BinaryEventReader;
+import org.homechef.core.adapter.out.kafka.ParseRequestEvent;
+import org.homechef.core.adapter.out.kafka.ParseRequestEventCodec;
+import org.homechef.core.adapter.kafka.WireFormat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.support.serializer.JacksonJsonSerializer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stand-in for the LLM parser service. Consumes parse requests and, after a latency drawn
+ * from a {@link LatencyProfile}, publishes a parse result the same way the real parser does.
+ * A fixed pool of workers models the parser's limited concurrency, so a backlog builds up
+ * in Kafka when submissions outpace it.
+ * Requests are read in either wire format; results are written in the configured one.
+ */
+final class StubParser implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(StubParser.class);
+
+    private final KafkaConsumer<String, byte[]> consumer;
+    private final KafkaProducer<String, ParseResultEvent> producer;
+    private final String resultTopic;
+    private final LatencyProfile profile;
+    private final ExecutorService workers;
+    private final Thread pollThread;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong succeeded = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile boolean running = true;
+
+    StubParser(String bootstrapServers, List<String> requestTopics, String resultTopic,
+               LatencyProfile profile, int concurrency, WireFormat resultFormat) {
+        this.consumer = new KafkaConsumer<>(Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+                ConsumerConfig.GROUP_ID_CONFIG, "homechef-stub-parser",
+                ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest",
+                ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class));
+        Serializer<ParseResultEvent> resultSerializer = resultFormat.writesBinary()
+                ? (topic, event) -> ParseResultEventCodec.encode(event)
+                : new JacksonJsonSerializer<>();
+        this.producer = new KafkaProducer<>(
+                Map.of(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers),
+                new StringSerializer(),
+                resultSerializer);
+        this.resultTopic = resultTopic;
+        this.profile = profile;
+        this.workers = Executors.newFixedThreadPool(concurrency);
+        this.consumer.subscribe(requestTopics);
+        this.pollThread = new Thread(this::pollLoop, "stub-parser-poll");
+    }
+
+    void start() {
+        pollThread.start();
+    }
+
+    long succeeded() {
+        return succeeded.get();
+    }
+
+    long failed() {
+        return failed.get();
+    }
+
+    private void pollLoop() {
+        try {
+            while (running) {
+                for (ConsumerRecord<String, byte[]> record : consumer.poll(Duration.ofMillis(200))) {
+                    workers.execute(() -> parse(record.value()));
+                }
+            }
+        } catch (WakeupException e) {
+            // Shutting down
+        } finally {
+            consumer.close();
+        }
+    }
+
+    private void parse(byte[] payload) {
+        try {
+            UUID requestId;
+            String urlHash;
+            if (BinaryEventReader.isBinary(payload)) {
+                ParseRequestEvent request = ParseRequestEventCodec.decode(payload);
+                requestId = request.requestId();
+                urlHash = request.urlHash();
+            } else {
+                JsonNode request = objectMapper.readTree(payload);
+                requestId = UUID.fromString(request.get("requestId").asText());
+                urlHash = request.get("urlHash").asText();
+            }
+            long startedAt = System.currentTimeMillis();
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Thread.sleep(profile.sampleLatency(random).toMillis());
+
+            ParseResultEvent result = profile.sampleFailure(random)
+                    ? new ParseResultEvent(requestId, urlHash, false, "Stub parser failure",
+                            null, null, startedAt, System.currentTimeMillis())
+                    : new ParseResultEvent(requestId, urlHash, true, null,
+                            "Load test recipe " + urlHash.substring(0, 8), sampleIngredients(),
+                            startedAt, System.currentTimeMillis());
+            producer.send(new ProducerRecord<>(resultTopic, urlHash, result));
+            (result.success() ? succeeded : failed).incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Stub parser could not handle request: {}", e.getMessage());
+        }
+    }
+
+    private static List<ParseResultEvent.IngredientEvent> sampleIngredients() {
+        return List.of(
+                new ParseResultEvent.IngredientEvent("200", "g", "flour"),
+                new ParseResultEvent.IngredientEvent("2", null, "eggs"),
+                new ParseResultEvent.IngredientEvent("250", "ml", "milk"));
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        consumer.wakeup();
+        pollThread.join(TimeUnit.SECONDS.toMillis(5));
+        workers.shutdownNow();
+        workers.awaitTermination(5, TimeUnit.SECONDS);
+        producer.close(Duration.ofSeconds(5));
+    }
+}
@@ -0,0 +1,52 @@
+package org.homechef.core.loadtest;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * A fixed catalogue of recipe URLs whose popularity follows a Zipf distribution:
+ * the URL of rank k is requested with probability proportional to 1 / k^exponent.
+ * A small head of popular recipes dominates traffic, as with shared links in practice.
+ */
+final class ZipfianUrls {
+
+    private final String urlPrefix;
+    private final double[] cumulative;
+
+    ZipfianUrls(String urlPrefix, int size, double exponent) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be at least 1");
+        }
+        this.urlPrefix = urlPrefix;
+        this.cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 1; rank <= size; rank++) {
+            sum += 1d / Math.pow(rank, exponent);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    /**
+     * @return a 1-based rank drawn from the distribution
+     */
+    int sampleRank(RandomGenerator random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int insertion = index >= 0 ? index : -index - 1;
+        return Math.min(insertion, cumulative.length - 1) + 1;
+    }
+
+    String sample(RandomGenerator random) {
+        return url(sampleRank(random));
+    }
+
+    String url(int rank) {
+        return urlPrefix + rank;
+    }
+
+    int size() {
+        return cumulative.length;
+    }
+}
@@ -0,0 +1,79 @@
+package org.homechef.core.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ZipfianUrls")
+class ZipfianUrlsTest {
+
+    private static final String PREFIX = "https://example.com/r-";
+
+    @Nested
+    @DisplayName("sampleRank()")
+    class SampleRank {
+
+        @Test
+        @DisplayName("favours low ranks roughly in proportion to 1/k")
+        void followsZipfDistribution() {
+            // Given
+            ZipfianUrls urls = new ZipfianUrls(PREFIX, 1000, 1.0);
+            Random random = new Random(42);
+            int[] counts = new int[urls.size() + 1];
+
+            // When
+            IntStream.range(0, 200_000).forEach(i -> counts[urls.sampleRank(random)]++);
+
+            // Then - H(1000) ~ 7.485, so rank 1 gets ~13.4% and rank 2 half of that
+            assertEquals(0.134, counts[1] / 200_000d, 0.005);
+            assertEquals(0.5, (double) counts[2] / counts[1], 0.05);
+            assertEquals(0, counts[0]);
+        }
+
+        @Test
+        @DisplayName("stays within 1..size")
+        void staysInRange() {
+            // Given
+            ZipfianUrls urls = new ZipfianUrls(PREFIX, 10, 1.2);
+            Random random = new Random(1);
+
+            // When / Then
+            IntStream.range(0, 10_000).forEach(i -> {
+                int rank = urls.sampleRank(random);
+                assertTrue(rank >= 1 && rank <= 10, "rank " + rank);
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("url()")
+    class Url {
+
+        @Test
+        @DisplayName("builds the URL from the prefix and rank")
+        void buildsUrl() {
+            ZipfianUrls urls = new ZipfianUrls(PREFIX, 10, 1.2);
+
+            assertEquals(PREFIX + "7", urls.url(7));
+        }
+
+        @Test
+        @DisplayName("samples URLs with the prefix")
+        void samplesPrefixedUrl() {
+            ZipfianUrls urls = new ZipfianUrls(PREFIX, 10, 1.2);
+
+            assertTrue(urls.sample(new Random(1)).startsWith(PREFIX));
+        }
+    }
+
+    @Test
+    @DisplayName("rejects an empty URL set")
+    void rejectsEmptySet() {
+        assertThrows(IllegalArgumentException.class, () -> new ZipfianUrls(PREFIX, 0, 1.0));
+    }
+}
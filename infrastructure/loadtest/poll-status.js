@@ -0,0 +1,64 @@
+// High-concurrency polling workload for comparing platform vs virtual threads.
+// setup() submits a handful of URLs; every VU then polls one of the resulting parse
+// requests the way the frontend does.
+//
+//   docker run --rm -i --network host -e BASE_URL=http://localhost:8000 \
+//     grafana/k6 run - < infrastructure/loadtest/poll-status.js
+//
+// Run once with the default profile and once with SPRING_PROFILES_ACTIVE=...,virtual-threads
+// (Java 21 image), then compare http_reqs/s and the p(99) of http_req_duration{name:poll}.
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8000';
+const VUS = parseInt(__ENV.VUS || '2000', 10);
+const DURATION = __ENV.DURATION || '3m';
+const POLL_INTERVAL = parseFloat(__ENV.POLL_INTERVAL || '1');
+// Stays within the per-user submit quota
+const SUBMITTED_URLS = parseInt(__ENV.SUBMITTED_URLS || '20', 10);
+
+export const options = {
+  scenarios: {
+    polling: {
+      executor: 'constant-vus',
+      vus: VUS,
+      duration: DURATION,
+    },
+  },
+  thresholds: {
+    'http_req_failed{name:poll}': ['rate<0.01'],
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+  const register = http.post(`${BASE_URL}/auth/register`,
+    JSON.stringify({ email: `loadtest-${Date.now()}@example.com`, password: 'loadtest-password' }),
+    { headers: { 'Content-Type': 'application/json' } });
+  const headers = {
+    'Content-Type': 'application/json',
+    Authorization: `Bearer ${register.json('accessToken')}`,
+  };
+
+  const requestIds = [];
+  for (let i = 0; i < SUBMITTED_URLS; i++) {
+    const submit = http.post(`${BASE_URL}/api/v1/recipes/parse`,
+      JSON.stringify({ url: `https://example.com/loadtest/${Date.now()}/${i}` }),
+      { headers, tags: { name: 'submit' } });
+    if (submit.status === 202) {
+      requestIds.push(submit.json('requestId'));
+    }
+  }
+  if (requestIds.length === 0) {
+    throw new Error('No parse requests accepted; check rate limit and admission settings');
+  }
+  return { headers, requestIds };
+}
+
+export default function (data) {
+  const requestId = data.requestIds[__VU % data.requestIds.length];
+  const poll = http.get(`${BASE_URL}/api/v1/recipes/parse-requests/${requestId}`,
+    { headers: data.headers, tags: { name: 'poll' } });
+  check(poll, { 'poll ok': (r) => r.status === 200 });
+  sleep(POLL_INTERVAL);
+}